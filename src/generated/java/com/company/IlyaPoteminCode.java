@@ -1,24 +1,364 @@
 /* MERGED FROM MULTIPLE SOURCE FILES */
 package com.company;
 /* SUMMARIZED IMPORTS */
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Random;
+import java.util.RandomAccess;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
+import java.util.function.LongToDoubleFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import javax.management.RuntimeOperationsException;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
 
 /* CODE */
 
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/Metrics.java */
+
+class IlyaPoteminPayoffSumMetric extends IlyaPoteminSlidingWindowMetric<Double> {
+    public static final String NAME = "payoff_sum_metric";
+
+    private double payoffSum;
+
+    public IlyaPoteminPayoffSumMetric(int depth) {
+        super(depth);
+    }
+
+    @Override
+    protected void slide(IlyaPoteminRoundRecord entering, IlyaPoteminRoundRecord leaving) {
+        payoffSum += entering.getComputedPlayerPayoff();
+        if (leaving != null) {
+            payoffSum -= leaving.getComputedPlayerPayoff();
+        }
+    }
+
+    @Override
+    protected void clear() {
+        payoffSum = 0.0;
+    }
+
+    @Override
+    protected Double computeValue(int windowSize) {
+        return payoffSum;
+    }
+}
+
+class IlyaPoteminFightPercentMetric extends IlyaPoteminSlidingWindowMetric<Double> {
+    public static final String NAME = "fight_percent_metric";
+
+    private long hitRoundCount;
+
+    public IlyaPoteminFightPercentMetric(int depth) {
+        super(depth);
+    }
+
+    @Override
+    protected void slide(IlyaPoteminRoundRecord entering, IlyaPoteminRoundRecord leaving) {
+        if (entering.isBattle) {
+            hitRoundCount++;
+        }
+        if (leaving != null && leaving.isBattle) {
+            hitRoundCount--;
+        }
+    }
+
+    @Override
+    protected void clear() {
+        hitRoundCount = 0;
+    }
+
+    @Override
+    protected Double computeValue(int windowSize) {
+        return ((double) hitRoundCount) / windowSize;
+    }
+}
+
+class IlyaPoteminOpponentFieldDistributionMetric extends IlyaPoteminSlidingWindowMetric<Double> {
+    public static final String NAME = "opponent_field_distribution_metric";
+    private IlyaPoteminField target;
+    private long fielded;
+
+    public IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField field, int depth) {
+        super(depth);
+        this.target = field;
+    }
+
+    @Override
+    protected void slide(IlyaPoteminRoundRecord entering, IlyaPoteminRoundRecord leaving) {
+        if (entering.opponentMove == target) {
+            fielded++;
+        }
+        if (leaving != null && leaving.opponentMove == target) {
+            fielded--;
+        }
+    }
+
+    @Override
+    protected void clear() {
+        fielded = 0;
+    }
+
+    @Override
+    protected Double computeValue(int windowSize) {
+        return ((double) fielded) / windowSize;
+    }
+}
+
+class IlyaPoteminMostOpponentSelectedFieldMetric extends IlyaPoteminAbstractMetric<IlyaPoteminField> {
+    public static final String NAME = "most_opponent_selected_metric";
+
+    private IlyaPoteminMetric<Double> aMetric;
+    private IlyaPoteminMetric<Double> bMetric;
+    private IlyaPoteminMetric<Double> cMetric;
+
+    public IlyaPoteminMostOpponentSelectedFieldMetric(int historyDepth, IlyaPoteminMetric<Double> aMetric,
+                                                      IlyaPoteminMetric<Double> bMetric, IlyaPoteminMetric<Double> cMetric) {
+        super(historyDepth);
+        this.aMetric = Objects.requireNonNull(aMetric);
+        this.bMetric = Objects.requireNonNull(bMetric);
+        this.cMetric = Objects.requireNonNull(cMetric);
+    }
+
+    @Override
+    public List<IlyaPoteminMetric<?>> getInputs() {
+        return List.of(aMetric, bMetric, cMetric);
+    }
+
+    @Override
+    protected IlyaPoteminField doUpdate(List<IlyaPoteminRoundRecord> recordList) {
+        if (aMetric.get() > bMetric.get()) {      // a > b
+            if (aMetric.get() > cMetric.get()) { // a > b and a > c
+                return IlyaPoteminField.A;
+            } else { // a > b and c > a
+                return IlyaPoteminField.C;
+            }
+        } else { // b > a
+            if (bMetric.get() > cMetric.get()) { // b > a and b > c
+                return IlyaPoteminField.B;
+            } else { // b > a and c > b
+                return IlyaPoteminField.C;
+            }
+        }
+    }
+}
+
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/Events.java */
+
+/**
+ * Flight recorder events of player, all of them are disabled unless enabled in recording settings,
+ * disabled event is neither timed nor committed
+ * Event is created, began and committed by same thread, so its fields are set only when shouldCommit is true
+ */
+@Name("com.company.IlyaPoteminRound")
+@Label("Round")
+@Category({"Moose Game", "Player"})
+@Description("Whole player move from receiving opponent move to returning own move")
+class IlyaPoteminRoundEvent extends Event {
+    @Label("Round")
+    int round;
+
+    @Label("Opponent Last Move")
+    String opponentLastMove;
+
+    @Label("Player Move")
+    String playerMove;
+}
+
+@Name("com.company.IlyaPoteminSimulationUpdate")
+@Label("Simulation Update")
+@Category({"Moose Game", "Player"})
+@Description("Application of completed round to game state simulation")
+class IlyaPoteminSimulationUpdateEvent extends Event {
+    @Label("Round")
+    int round;
+
+    @Label("Battle")
+    boolean battle;
+}
+
+@Name("com.company.IlyaPoteminMetricUpdate")
+@Label("Metric Update")
+@Category({"Moose Game", "Player"})
+@Description("Update of strategy metrics with history")
+class IlyaPoteminMetricUpdateEvent extends Event {
+    @Label("Round")
+    int round;
+}
+
+@Name("com.company.IlyaPoteminDecision")
+@Label("Strategy Decision")
+@Category({"Moose Game", "Player"})
+@Description("Branch of strategy, which decided player move")
+class IlyaPoteminDecisionEvent extends Event {
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Branch")
+    String branch;
+
+    @Label("Field")
+    String field;
+}
+
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/BatchSimulation.java */
+
+/**
+ * BatchSimulation advances N independent games at once, applying the same rules as GameStateSimulation
+ * Vegetation steps are kept in flat arrays per field, so each round is a few tight loops
+ * of branch-free integer arithmetic which JIT is able to vectorize
+ */
+class IlyaPoteminBatchSimulation {
+
+    static final int FIELD_COUNT = IlyaPoteminField.COUNT;
+
+    private final int gameCount;
+    private final int[][] steps;
+    private final double[] playerPayoffs;
+    private final double[] opponentPayoffs;
+    private final double[] vegetationAmounts = IlyaPoteminVegetationTable.SHARED.getFullTable();
+    private final double vegetationAmount0 = vegetationAmounts[0];
+
+    public IlyaPoteminBatchSimulation(int gameCount) {
+        this.gameCount = gameCount;
+        this.steps = new int[FIELD_COUNT][gameCount];
+        this.playerPayoffs = new double[gameCount];
+        this.opponentPayoffs = new double[gameCount];
+        reset(1, 1, 1);
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Starts all games from given vegetation steps and clears accumulated payoffs
+     */
+    public void reset(int stepA, int stepB, int stepC) {
+        Arrays.fill(steps[0], stepA);
+        Arrays.fill(steps[1], stepB);
+        Arrays.fill(steps[2], stepC);
+        Arrays.fill(playerPayoffs, 0.0);
+        Arrays.fill(opponentPayoffs, 0.0);
+    }
+
+    /**
+     * Starts all games from current state of live simulation
+     */
+    public void reset(IlyaPoteminGameStateSimulation simulation) {
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            Arrays.fill(steps[field], (int) Math.min(Integer.MAX_VALUE, simulation.getVegetationStep(field)));
+        }
+        Arrays.fill(playerPayoffs, 0.0);
+        Arrays.fill(opponentPayoffs, 0.0);
+    }
+
+    /**
+     * Applies one round to every game
+     * @param playerMoves field ordinals chosen by player, one per game
+     * @param opponentMoves field ordinals chosen by opponent, one per game
+     */
+    public void advance(int[] playerMoves, int[] opponentMoves) {
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            int[] fieldSteps = steps[field];
+            accumulatePayoffs(field, fieldSteps, playerMoves, opponentMoves);
+            updateSteps(field, fieldSteps, playerMoves, opponentMoves);
+        }
+    }
+
+    /**
+     * @return 1 if move is equal to field, otherwise 0, for values in range 0..3
+     */
+    private static int isField(int move, int field) {
+        return ((move ^ field) - 1) >>> 31;
+    }
+
+    private void accumulatePayoffs(int field, int[] fieldSteps, int[] playerMoves, int[] opponentMoves) {
+        double[] amounts = vegetationAmounts;
+        double amount0 = vegetationAmount0;
+        int lastStep = amounts.length - 1;
+        for (int i = 0; i < gameCount; i++) {
+            int player = isField(playerMoves[i], field);
+            int opponent = isField(opponentMoves[i], field);
+            double payoff = amounts[Math.min(fieldSteps[i], lastStep)] - amount0;
+            // select instead of multiplying by 0 or 1, saturated payoff is not finite
+            playerPayoffs[i] += (player & ~opponent) != 0 ? payoff : 0.0;
+            opponentPayoffs[i] += (opponent & ~player) != 0 ? payoff : 0.0;
+        }
+    }
+
+    /**
+     * Visited field loses one step, but not below zero, not visited field gains one
+     */
+    private void updateSteps(int field, int[] fieldSteps, int[] playerMoves, int[] opponentMoves) {
+        for (int i = 0; i < gameCount; i++) {
+            int visited = isField(playerMoves[i], field) | isField(opponentMoves[i], field);
+            int step = fieldSteps[i] + 1 - (visited << 1);
+            step &= ~(step >> 31);
+            fieldSteps[i] = step;
+        }
+    }
+
+    public int getStep(int field, int game) {
+        return steps[field][game];
+    }
+
+    public double getPlayerPayoff(int game) {
+        return playerPayoffs[game];
+    }
+
+    public double getOpponentPayoff(int game) {
+        return opponentPayoffs[game];
+    }
+}
+
 /* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/IlyaPoteminCode.java */
 /**
  * Player implementation
@@ -26,27 +366,66 @@ import java.util.stream.Collectors;
  */
 public class IlyaPoteminCode implements com.company.Player {
 
+    static final int DEFAULT_METRIC_DEPTH = 1000;
+
+    private final int metricDepth;
+    private IlyaPoteminRandom random;
     private IlyaPoteminHistory history;
     private IlyaPoteminStrategy playerStrategy;
     private IlyaPoteminGameStateSimulation simulation;
 
     public IlyaPoteminCode() {
+        this(DEFAULT_METRIC_DEPTH);
+    }
+
+    IlyaPoteminCode(int metricDepth) {
+        this(metricDepth, IlyaPoteminRandom.create());
+    }
+
+    /**
+     * Each game after reset uses its own stream split from random
+     */
+    IlyaPoteminCode(int metricDepth, IlyaPoteminRandom random) {
+        this.metricDepth = metricDepth;
+        this.random = random;
         reset();
     }
 
+    /**
+     * Seed is applied at next reset, after which player makes same moves given same opponent moves
+     */
+    public void setSeed(long seed) {
+        random = IlyaPoteminRandom.ofSeed(seed);
+    }
+
     public void reset() {
-        history = new IlyaPoteminArrayHistory();
+        history = new IlyaPoteminRingHistory(metricDepth);
         simulation = new IlyaPoteminGameStateSimulationImpl();
-        playerStrategy = new IlyaPoteminMooseStrategy(simulation, 1000);
+        playerStrategy = new IlyaPoteminMooseStrategy(simulation, metricDepth, random.split());
     }
 
     public IlyaPoteminField move(IlyaPoteminField lastOpponentMove) {
+        long nanosStart = IlyaPoteminLatency.ENABLED ? System.nanoTime() : 0;
+        IlyaPoteminRoundEvent roundEvent = new IlyaPoteminRoundEvent();
+        roundEvent.begin();
         if (lastOpponentMove != null) {
             history.writeLastOpponentMove(lastOpponentMove);
             simulation.simulateLastRound(history.getLastAction());
+            if (IlyaPoteminLatency.ENABLED) {
+                IlyaPoteminLatency.SIMULATE_LAST_ROUND.record(System.nanoTime() - nanosStart);
+            }
         }
         IlyaPoteminField moveToField = playerStrategy.move(history, lastOpponentMove);
         history.writeCurrentPlayerMove(moveToField);
+        if (roundEvent.shouldCommit()) {
+            roundEvent.round = history.getCurrentRound();
+            roundEvent.opponentLastMove = lastOpponentMove == null ? null : lastOpponentMove.name();
+            roundEvent.playerMove = moveToField.name();
+            roundEvent.commit();
+        }
+        if (IlyaPoteminLatency.ENABLED) {
+            IlyaPoteminLatency.MOVE.record(System.nanoTime() - nanosStart);
+        }
         return moveToField;
     }
 
@@ -65,6 +444,85 @@ public class IlyaPoteminCode implements com.company.Player {
     }
 }
 
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/IlyaPoteminStrategy.java */
+
+/**
+ * Strategy is a player strategy
+ * It expected to be created at each new round/player swap
+ * Otherwise it is not guaranteed that previous actions history will not affect current round
+ */
+interface IlyaPoteminStrategy {
+    IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove);
+}
+
+abstract class IlyaPoteminAbstractStrategy implements IlyaPoteminStrategy {
+
+    private static final Map<Class<?>, IlyaPoteminMetricInjector<Object>> METRIC_INJECTORS = new ConcurrentHashMap<>();
+
+    int metricDepth = 10;
+    IlyaPoteminMetricFactory metricFactory;
+    IlyaPoteminRandom random;
+
+    private IlyaPoteminAbstractStrategy() {
+        throw new RuntimeException("Should not be called");
+    }
+
+    protected IlyaPoteminAbstractStrategy(int metricDepth) {
+        this(metricDepth, IlyaPoteminRandom.create());
+    }
+
+    /**
+     * Random is shared with all child strategies created with this one as parent
+     */
+    protected IlyaPoteminAbstractStrategy(int metricDepth, IlyaPoteminRandom random) {
+        this.random = random;
+        metricFactory = new IlyaPoteminMetricFactory()
+                .withLazyEvaluation(true)
+                .withRegistered(metricDepth, IlyaPoteminMetricRegistry.DEFAULTS);
+        injectMetrics();
+    }
+
+    protected IlyaPoteminAbstractStrategy(IlyaPoteminAbstractStrategy parent) {
+        metricFactory = parent.metricFactory;
+        metricDepth = parent.metricDepth;
+        random = parent.random;
+        injectMetrics();
+    }
+
+    private void injectMetrics() {
+        METRIC_INJECTORS.computeIfAbsent(getClass(), IlyaPoteminMetricInjector::forClass)
+                .inject(this, metricFactory);
+    }
+
+    protected <T> void setMetric(String name, IlyaPoteminMetric<T> metric) {
+        metricFactory.set(name, metric);
+    }
+
+    protected IlyaPoteminMetric<Double> getDoubleMetric(String name) {
+        return metricFactory.get(name);
+    }
+
+    protected <T> IlyaPoteminMetric<T> getMetric(int handle) {
+        return metricFactory.get(handle);
+    }
+
+    protected void updateMetrics(IlyaPoteminHistory history) {
+        long nanosStart = IlyaPoteminLatency.ENABLED ? System.nanoTime() : 0;
+        IlyaPoteminMetricUpdateEvent event = new IlyaPoteminMetricUpdateEvent();
+        event.begin();
+        metricFactory.update(history);
+        if (event.shouldCommit()) {
+            event.round = history.getCurrentRound();
+            event.commit();
+        }
+        if (IlyaPoteminLatency.ENABLED) {
+            IlyaPoteminLatency.METRIC_UPDATE.record(System.nanoTime() - nanosStart);
+        }
+    }
+
+}
+
+
 /* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/IlyaPoteminField.java */
 
 /**
@@ -76,6 +534,13 @@ enum IlyaPoteminField {
     B(2),
     C(3);
 
+    /**
+     * Number of fields of real game, every strategy and batch simulation derive their counts from it,
+     * only GameStateSimulation may be created with other number of fields
+     */
+    static final int COUNT = 3;
+    private static final IlyaPoteminField[] VALUES = values();
+
     private int value;
 
     IlyaPoteminField(int value) {
@@ -86,17 +551,18 @@ enum IlyaPoteminField {
         return value;
     }
 
+    /**
+     * @return field by value in range 1..COUNT, or null for any other value
+     */
     static IlyaPoteminField ofValue(int value) {
-        switch (value) {
-            case 1:
-                return A;
-            case 2:
-                return B;
-            case 3:
-                return C;
-            default:
-                return null;
-        }
+        return value >= 1 && value <= COUNT ? VALUES[value - 1] : null;
+    }
+
+    /**
+     * @return field by ordinal, which is index of field in game state simulation
+     */
+    static IlyaPoteminField ofIndex(int index) {
+        return VALUES[index];
     }
 }
 
@@ -108,9 +574,9 @@ class IlyaPoteminFieldState {
     private IlyaPoteminField field;
     private long vegetationStep;
     private double vegetationAmount;
-    private Function<Long, Double> vegetationAmountFunc;
+    private LongToDoubleFunction vegetationAmountFunc;
 
-    public IlyaPoteminFieldState(IlyaPoteminField field, Function<Long, Double> vegetationAmountFunc) {
+    public IlyaPoteminFieldState(IlyaPoteminField field, LongToDoubleFunction vegetationAmountFunc) {
         this.vegetationAmountFunc = vegetationAmountFunc;
         this.field = field;
         setVegetationStep(1);
@@ -129,7 +595,7 @@ class IlyaPoteminFieldState {
             vegetationStep = 0;
         }
         this.vegetationStep = vegetationStep;
-        this.vegetationAmount = vegetationAmountFunc.apply(vegetationStep);
+        this.vegetationAmount = vegetationAmountFunc.applyAsDouble(vegetationStep);
     }
 
     public IlyaPoteminField getField() {
@@ -154,60 +620,358 @@ class IlyaPoteminFieldState {
     }
 }
 
-/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/IlyaPoteminHistory.java */
-
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/DecisionCache.java */
 /**
- * Round actions holds both players actions for round,
- * as well as their payoffs for already hold rounds
+ * DecisionCache maps packed game situation to field decided for it, using fixed memory
+ * Cache is set associative: key hash selects set of WAYS slots, slot to replace in full set is chosen by clock,
+ * which skips and clears recently hit slots
+ * Not thread-safe, each player owns its cache
  */
-class IlyaPoteminRoundRecord {
-    int round;
-    IlyaPoteminField playerMove;
-    IlyaPoteminField opponentMove;
-    boolean isBattle;
-    double computedPlayerPayoff;
-    double computedOpponentPayoff;
+class IlyaPoteminDecisionCache {
+
+    static final int WAYS = 4;
+    static final int STEP_BITS = 20;
+    private static final long STEP_MASK = (1L << STEP_BITS) - 1;
+    private static final IlyaPoteminField[] FIELDS = IlyaPoteminField.values();
+
+    private final long[] keys;
+    /**
+     * Field ordinal plus one, zero marks empty slot
+     */
+    private final byte[] values;
+    private final boolean[] referenced;
+    private final byte[] clockHands;
+    private final int setMask;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * @param capacity max number of entries, rounded up to power of two, not less than WAYS
+     */
+    IlyaPoteminDecisionCache(int capacity) {
+        int sets = Integer.highestOneBit(Math.max(WAYS, capacity) - 1) * 2 / WAYS;
+        keys = new long[sets * WAYS];
+        values = new byte[sets * WAYS];
+        referenced = new boolean[sets * WAYS];
+        clockHands = new byte[sets];
+        setMask = sets - 1;
+    }
+
+    /**
+     * Packs vegetation steps, saturated to STEP_BITS each, and opponent last move to single key
+     */
+    static long key(long stepA, long stepB, long stepC, IlyaPoteminField opponentLastMove) {
+        long key = Math.min(stepA, STEP_MASK);
+        key = (key << STEP_BITS) | Math.min(stepB, STEP_MASK);
+        key = (key << STEP_BITS) | Math.min(stepC, STEP_MASK);
+        return (key << 2) | (opponentLastMove == null ? 0 : opponentLastMove.getValue());
+    }
+
+    /**
+     * @return cached field or null if key is not cached
+     */
+    IlyaPoteminField get(long key) {
+        int offset = setOffset(key);
+        for (int slot = offset; slot < offset + WAYS; slot++) {
+            if (values[slot] != 0 && keys[slot] == key) {
+                referenced[slot] = true;
+                hitCount++;
+                return FIELDS[values[slot] - 1];
+            }
+        }
+        missCount++;
+        return null;
+    }
 
-    public double getComputedPlayerPayoff() {
-        return computedPlayerPayoff;
+    void put(long key, IlyaPoteminField field) {
+        int set = setIndex(key);
+        int offset = set * WAYS;
+        for (int slot = offset; slot < offset + WAYS; slot++) {
+            if (values[slot] == 0 || keys[slot] == key) {
+                store(slot, key, field);
+                return;
+            }
+        }
+        int hand = clockHands[set];
+        while (referenced[offset + hand]) {
+            referenced[offset + hand] = false;
+            hand = (hand + 1) & (WAYS - 1);
+        }
+        clockHands[set] = (byte) ((hand + 1) & (WAYS - 1));
+        evictionCount++;
+        store(offset + hand, key, field);
     }
-}
 
-/**
- * History is an interface to access last players' actions
- */
-interface IlyaPoteminHistory {
-    void writeLastOpponentMove(IlyaPoteminField field);
+    private void store(int slot, long key, IlyaPoteminField field) {
+        keys[slot] = key;
+        values[slot] = (byte) (field.ordinal() + 1);
+        referenced[slot] = false;
+    }
 
-    void writeCurrentPlayerMove(IlyaPoteminField field);
+    private int setIndex(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & setMask;
+    }
 
-    List<IlyaPoteminRoundRecord> getLastActions(int depth);
+    private int setOffset(long key) {
+        return setIndex(key) * WAYS;
+    }
 
-    default IlyaPoteminRoundRecord getLastAction() {
-        List<IlyaPoteminRoundRecord> actions = getLastActions(1);
-        if (actions.size() == 0) {
-            return null;
-        } else {
-            return actions.get(0);
-        }
+    int getCapacity() {
+        return keys.length;
     }
-}
 
-class IlyaPoteminArrayHistory implements IlyaPoteminHistory {
+    long getHitCount() {
+        return hitCount;
+    }
 
-    private List<IlyaPoteminRoundRecord> historyList = new LinkedList<>();
-    private int roundCounter = 1;
+    long getMissCount() {
+        return missCount;
+    }
 
-    @Override
-    public void writeLastOpponentMove(IlyaPoteminField field) {
-        IlyaPoteminRoundRecord previousRecord = historyList.get(historyList.size() - 1);
-        previousRecord.opponentMove = field;
-        previousRecord.isBattle = (previousRecord.playerMove == previousRecord.opponentMove);
+    long getEvictionCount() {
+        return evictionCount;
     }
 
-    @Override
-    public void writeCurrentPlayerMove(IlyaPoteminField field) {
-        IlyaPoteminRoundRecord currentRecord = new IlyaPoteminRoundRecord();
+    public String toString() {
+        return "DecisionCache(capacity=" + keys.length + ", hits=" + hitCount + ", misses=" + missCount
+                + ", evictions=" + evictionCount + ")";
+    }
+}
+
+/**
+ * CachingStrategy asks delegate only for situations not seen before, so it is suitable for strategies,
+ * which decision depends only on vegetation steps and opponent last move
+ * Randomized delegate decides once per situation, its choice is then repeated
+ */
+class IlyaPoteminCachingStrategy implements IlyaPoteminStrategy {
+
+    private final IlyaPoteminStrategy delegate;
+    private final IlyaPoteminGameStateSimulation gameState;
+    private final IlyaPoteminDecisionCache cache;
+
+    IlyaPoteminCachingStrategy(IlyaPoteminStrategy delegate, IlyaPoteminGameStateSimulation gameState, int capacity) {
+        this.delegate = delegate;
+        this.gameState = gameState;
+        this.cache = new IlyaPoteminDecisionCache(capacity);
+    }
+
+    @Override
+    public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
+        long key = IlyaPoteminDecisionCache.key(gameState.getVegetationStep(0), gameState.getVegetationStep(1),
+                gameState.getVegetationStep(2), opponentLastMove);
+        IlyaPoteminField field = cache.get(key);
+        if (field == null) {
+            field = delegate.move(history, opponentLastMove);
+            cache.put(key, field);
+        }
+        return field;
+    }
+
+    IlyaPoteminDecisionCache getCache() {
+        return cache;
+    }
+
+    public String toString() {
+        return "CachingStrategy(delegate=" + delegate + ", cache=" + cache + ")";
+    }
+}
+
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/Strategies.java */
+
+/**
+ * Default base strategy
+ * This strategy is directly called by IlyaPoteminCode a.k.a. Player implementation
+ * Is utilizes most profitable strategy taking into account all opponent actions in past
+ */
+class IlyaPoteminMooseStrategy extends IlyaPoteminAbstractStrategy {
+
+    private IlyaPoteminLogger logger = IlyaPoteminLogger.getLogger("MooseStrategy");
+    private IlyaPoteminGameStateSimulation gameState;
+    private IlyaPoteminStrategy mostPayoffStrategy;
+
+    @IlyaPoteminInjectedMetric(IlyaPoteminFightPercentMetric.NAME)
+    protected IlyaPoteminMetric<Double> fightPercentMetric;
+
+    public IlyaPoteminMooseStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth) {
+        this(gameState, metricDepth, IlyaPoteminRandom.create());
+    }
+
+    public IlyaPoteminMooseStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth,
+                                    IlyaPoteminRandom random) {
+        super(metricDepth, random);
+        this.gameState = gameState;
+        mostPayoffStrategy = new IlyaPoteminMostPayoffStrategy(this, gameState);
+    }
+
+    public IlyaPoteminMooseStrategy(IlyaPoteminAbstractStrategy parent) {
+        super(parent);
+    }
+
+    @Override
+    public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
+        if (opponentLastMove == null) {
+            return decided("first move", mostPayoffStrategy.move(history, null));
+        }
+        super.updateMetrics(history);
+        Collection<IlyaPoteminFieldState> fieldStates = gameState.getFieldStates();
+        List<IlyaPoteminFieldState> nonZeroStepFieldStates = fieldStates.stream()
+                .filter(state -> state.getVegetationStep() > 0)
+                .collect(Collectors.toList());
+        if (nonZeroStepFieldStates.size() == 1) {
+            // there is only one field with non-zero step and non-zero available payoff
+            // if opponent is not stupid enough, it will this move and get an advantage in payoffs
+            // we have one choice - select it and either win or neglect both payoffs\
+            logger.info("Using no other choice strategy");
+            return decided("no other choice", nonZeroStepFieldStates.get(0).getField());
+        }
+        // there is not only one field with non-zero step and non-zero available payoff
+        return decided("most payoff", mostPayoffStrategy.move(history, opponentLastMove));
+    }
+
+    private IlyaPoteminField decided(String branch, IlyaPoteminField field) {
+        IlyaPoteminDecisionEvent event = new IlyaPoteminDecisionEvent();
+        if (event.shouldCommit()) {
+            event.strategy = "MooseStrategy";
+            event.branch = branch;
+            event.field = field.name();
+            event.commit();
+        }
+        return field;
+    }
+
+    public String toString() {
+        String gameStateStr = gameState.getFieldStates().stream()
+                .map(Object::toString)
+                .collect(Collectors.joining(" "));
+        return "MooseStrategy(" +
+                "gameState=" + gameStateStr +
+                ", fightPercentMetric=" + fightPercentMetric.toString() +
+                ")";
+    }
+}
+
+/**
+ * This strategy selects fields which give player most payoff
+ * It uses GameStateSimulation to fetch current state of fields based on round actions
+ */
+class IlyaPoteminMostPayoffStrategy extends IlyaPoteminAbstractStrategy {
+
+    private IlyaPoteminGameStateSimulation gameState;
+    private IlyaPoteminRandomStrategy randomStrategy;
+
+    private IlyaPoteminMostPayoffStrategy(int metricDepth) {
+        super(metricDepth);
+    }
+
+    protected IlyaPoteminMostPayoffStrategy(IlyaPoteminAbstractStrategy parent, IlyaPoteminGameStateSimulation gameState) {
+        super(parent);
+        this.gameState = gameState;
+        randomStrategy = new IlyaPoteminRandomStrategy(this);
+    }
+
+    @Override
+    public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
+        long maxFieldVegetationStep = gameState.getFieldStates().stream()
+                .max(Comparator.comparing(IlyaPoteminFieldState::getVegetationAmount))
+                .orElseThrow().getVegetationStep();
+        List<IlyaPoteminField> maxPayoffFields = gameState.getFieldStates().stream()
+                .filter(state -> state.getVegetationStep() == maxFieldVegetationStep)
+                .map(IlyaPoteminFieldState::getField)
+                .collect(Collectors.toList());
+        return randomStrategy.move(maxPayoffFields);
+    }
+}
+
+/**
+ * RandomStrategy - selects random field
+ */
+class IlyaPoteminRandomStrategy extends IlyaPoteminAbstractStrategy {
+
+    public IlyaPoteminRandomStrategy(int metricDepth) {
+        super(metricDepth);
+    }
+
+    public IlyaPoteminRandomStrategy(IlyaPoteminAbstractStrategy parent) {
+        super(parent);
+    }
+
+    @Override
+    public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
+        return IlyaPoteminField.ofValue(random.nextInt(3) + 1);
+    }
+
+    public IlyaPoteminField move(List<IlyaPoteminField> fromList) {
+        return fromList.get(random.nextInt(fromList.size()));
+    }
+}
+
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/IlyaPoteminHistory.java */
+
+/**
+ * Round actions holds both players actions for round,
+ * as well as their payoffs for already hold rounds
+ */
+class IlyaPoteminRoundRecord {
+    int round;
+    IlyaPoteminField playerMove;
+    IlyaPoteminField opponentMove;
+    boolean isBattle;
+    double computedPlayerPayoff;
+    double computedOpponentPayoff;
+
+    public double getComputedPlayerPayoff() {
+        return computedPlayerPayoff;
+    }
+}
+
+/**
+ * History is an interface to access last players' actions
+ * Only completed rounds, for which opponent move is already known, are visible through it
+ */
+interface IlyaPoteminHistory {
+    void writeLastOpponentMove(IlyaPoteminField field);
+
+    void writeCurrentPlayerMove(IlyaPoteminField field);
+
+    List<IlyaPoteminRoundRecord> getLastActions(int depth);
+
+    default IlyaPoteminRoundRecord getLastAction() {
+        List<IlyaPoteminRoundRecord> actions = getLastActions(1);
+        if (actions.size() == 0) {
+            return null;
+        } else {
+            return actions.get(0);
+        }
+    }
+
+    /**
+     * @return round number of last record, or 0 if nothing was written yet
+     */
+    default int getCurrentRound() {
+        IlyaPoteminRoundRecord lastRecord = getLastAction();
+        return lastRecord == null ? 0 : lastRecord.round;
+    }
+}
+
+class IlyaPoteminArrayHistory implements IlyaPoteminHistory {
+
+    private List<IlyaPoteminRoundRecord> historyList = new LinkedList<>();
+    private int roundCounter = 1;
+    private int completedCount = 0;
+
+    @Override
+    public void writeLastOpponentMove(IlyaPoteminField field) {
+        IlyaPoteminRoundRecord previousRecord = historyList.get(historyList.size() - 1);
+        previousRecord.opponentMove = field;
+        previousRecord.isBattle = (previousRecord.playerMove == previousRecord.opponentMove);
+        completedCount = historyList.size();
+    }
+
+    @Override
+    public void writeCurrentPlayerMove(IlyaPoteminField field) {
+        IlyaPoteminRoundRecord currentRecord = new IlyaPoteminRoundRecord();
         currentRecord.round = roundCounter++;
         currentRecord.opponentMove = null;
         currentRecord.playerMove = field;
@@ -216,8 +980,395 @@ class IlyaPoteminArrayHistory implements IlyaPoteminHistory {
 
     @Override
     public List<IlyaPoteminRoundRecord> getLastActions(int depth) {
-        int currentSize = historyList.size();
-        return historyList.subList(Math.max(0, currentSize - depth), currentSize);
+        return historyList.subList(Math.max(0, completedCount - depth), completedCount);
+    }
+}
+
+/**
+ * RingHistory keeps only last records in preallocated ring sized to the largest metric depth in use,
+ * plus record which has just left the deepest window and record of current round, waiting for opponent move
+ * Records are reused, so record obtained from history stays valid only for capacity rounds,
+ * and views returned by getLastActions are live: they always show last depth records
+ */
+class IlyaPoteminRingHistory implements IlyaPoteminHistory {
+
+    private final IlyaPoteminRoundRecord[] ring;
+    private final int mask;
+    private int writtenCount = 0;
+    private int completedCount = 0;
+    private IlyaPoteminRingHistoryWindow[] windows = new IlyaPoteminRingHistoryWindow[0];
+
+    public IlyaPoteminRingHistory(int maxDepth) {
+        int capacity = Integer.highestOneBit(Math.max(1, maxDepth) + 1) << 1;
+        ring = new IlyaPoteminRoundRecord[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new IlyaPoteminRoundRecord();
+        }
+        mask = capacity - 1;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    int getCompletedCount() {
+        return completedCount;
+    }
+
+    IlyaPoteminRoundRecord getRecord(int index) {
+        return ring[index & mask];
+    }
+
+    @Override
+    public void writeLastOpponentMove(IlyaPoteminField field) {
+        IlyaPoteminRoundRecord previousRecord = ring[(writtenCount - 1) & mask];
+        previousRecord.opponentMove = field;
+        previousRecord.isBattle = (previousRecord.playerMove == previousRecord.opponentMove);
+        completedCount = writtenCount;
+    }
+
+    @Override
+    public void writeCurrentPlayerMove(IlyaPoteminField field) {
+        IlyaPoteminRoundRecord currentRecord = ring[writtenCount & mask];
+        currentRecord.round = ++writtenCount;
+        currentRecord.playerMove = field;
+        currentRecord.opponentMove = null;
+        currentRecord.isBattle = false;
+        currentRecord.computedPlayerPayoff = 0.0;
+        currentRecord.computedOpponentPayoff = 0.0;
+    }
+
+    /**
+     * @param depth is limited by ring capacity without slot of current round
+     */
+    @Override
+    public List<IlyaPoteminRoundRecord> getLastActions(int depth) {
+        depth = Math.min(depth, ring.length - 1);
+        for (IlyaPoteminRingHistoryWindow window : windows) {
+            if (window.depth == depth) {
+                return window;
+            }
+        }
+        IlyaPoteminRingHistoryWindow window = new IlyaPoteminRingHistoryWindow(this, depth);
+        windows = Arrays.copyOf(windows, windows.length + 1);
+        windows[windows.length - 1] = window;
+        return window;
+    }
+
+    @Override
+    public IlyaPoteminRoundRecord getLastAction() {
+        return completedCount == 0 ? null : ring[(completedCount - 1) & mask];
+    }
+
+    @Override
+    public int getCurrentRound() {
+        return completedCount;
+    }
+}
+
+/**
+ * Live view of last depth records of RingHistory, created once per depth
+ */
+class IlyaPoteminRingHistoryWindow extends AbstractList<IlyaPoteminRoundRecord> implements RandomAccess {
+
+    final int depth;
+    private final IlyaPoteminRingHistory history;
+
+    IlyaPoteminRingHistoryWindow(IlyaPoteminRingHistory history, int depth) {
+        this.history = history;
+        this.depth = depth;
+    }
+
+    @Override
+    public IlyaPoteminRoundRecord get(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return history.getRecord(history.getCompletedCount() - size + index);
+    }
+
+    @Override
+    public int size() {
+        return Math.min(depth, history.getCompletedCount());
+    }
+}
+
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/Equilibrium.java */
+
+/**
+ * EquilibriumSolver enumerates vegetation states (stepA, stepB, stepC) reachable from game start
+ * without any step exceeding bound, and solves stage game of each state for symmetric mixed equilibrium
+ * Stage game: player gets amount of chosen field minus amount at step 0, if opponent has not chosen same field
+ * Usage: IlyaPoteminEquilibriumSolver [output file] [bound]
+ */
+class IlyaPoteminEquilibriumSolver {
+
+    static final int DEFAULT_BOUND = 40;
+    static final int FIELD_COUNT = IlyaPoteminField.COUNT;
+
+    public static void main(String[] args) throws IOException {
+        Path output = Paths.get(args.length > 0 ? args[0] : "IlyaPoteminEquilibrium.bin");
+        int bound = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BOUND;
+        long nanosStart = System.nanoTime();
+        IlyaPoteminEquilibriumTable table = solve(bound);
+        long nanos = System.nanoTime() - nanosStart;
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream outputStream = Files.newOutputStream(output)) {
+            table.write(outputStream);
+        }
+        System.out.printf("Solved %d reachable states of bound %d in %d ms, table written to %s (%d bytes)\n",
+                table.getSolvedCount(), bound, nanos / 1_000_000, output, Files.size(output));
+    }
+
+    static IlyaPoteminEquilibriumTable solve(int bound) {
+        IlyaPoteminEquilibriumTable table = new IlyaPoteminEquilibriumTable(bound);
+        boolean[] reachable = enumerateReachable(table);
+        double[] amounts = IlyaPoteminVegetationTable.SHARED.getFullTable();
+        IntStream.range(0, reachable.length)
+                .parallel()
+                .filter(index -> reachable[index])
+                .forEach(index -> {
+                    double[] values = new double[FIELD_COUNT];
+                    for (int field = 0; field < FIELD_COUNT; field++) {
+                        values[field] = amounts[table.step(index, field)] - amounts[0];
+                    }
+                    table.set(index, solveStage(values));
+                });
+        return table;
+    }
+
+    /**
+     * Breadth-first search over all joint moves starting from initial state (1, 1, 1)
+     */
+    static boolean[] enumerateReachable(IlyaPoteminEquilibriumTable table) {
+        boolean[] reachable = new boolean[table.getStateCount()];
+        int[] queue = new int[reachable.length];
+        int head = 0;
+        int tail = 0;
+        int[] steps = new int[FIELD_COUNT];
+        queue[tail++] = table.index(1, 1, 1);
+        reachable[queue[0]] = true;
+        while (head < tail) {
+            int index = queue[head++];
+            for (int playerMove = 0; playerMove < FIELD_COUNT; playerMove++) {
+                for (int opponentMove = 0; opponentMove < FIELD_COUNT; opponentMove++) {
+                    boolean inBound = true;
+                    for (int field = 0; field < FIELD_COUNT; field++) {
+                        int step = table.step(index, field);
+                        steps[field] = field == playerMove || field == opponentMove ? Math.max(0, step - 1) : step + 1;
+                        inBound &= steps[field] <= table.getBound();
+                    }
+                    if (!inBound) {
+                        continue;
+                    }
+                    int next = table.index(steps[0], steps[1], steps[2]);
+                    if (!reachable[next]) {
+                        reachable[next] = true;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Against opponent mixing by q, field i pays values[i] * (1 - q[i]), so equilibrium support is some number
+     * of most valuable fields, paying same c = (k - 1) / sum(1 / values[i]) and not less than any field outside
+     * @return probabilities of fields in symmetric equilibrium
+     */
+    static double[] solveStage(double[] values) {
+        Integer[] order = {0, 1, 2};
+        Arrays.sort(order, (first, second) -> Double.compare(values[second], values[first]));
+        double[] probabilities = new double[FIELD_COUNT];
+        for (int supportSize = FIELD_COUNT; supportSize > 1; supportSize--) {
+            double lowest = values[order[supportSize - 1]];
+            if (lowest <= 0) {
+                continue;
+            }
+            double inverseSum = 0;
+            for (int i = 0; i < supportSize; i++) {
+                inverseSum += 1.0 / values[order[i]];
+            }
+            double payoff = (supportSize - 1) / inverseSum;
+            boolean outsideIsWorse = supportSize == FIELD_COUNT || values[order[supportSize]] <= payoff;
+            if (payoff <= lowest && outsideIsWorse) {
+                for (int i = 0; i < supportSize; i++) {
+                    probabilities[order[i]] = 1.0 - payoff / values[order[i]];
+                }
+                return probabilities;
+            }
+        }
+        probabilities[order[0]] = 1.0;
+        return probabilities;
+    }
+}
+
+/**
+ * EquilibriumTable keeps mixed strategy of each state as two cumulative thresholds out of SCALE,
+ * so move is one array lookup and one random number
+ * Binary format: MAGIC, bound, then thresholds of all states, two chars each
+ * Steps above bound are looked up as bound, states not solved have no strategy
+ */
+class IlyaPoteminEquilibriumTable {
+
+    static final int MAGIC = 0x49504551;
+    static final int SCALE = 0xFFFF;
+    static final String PATH_PROPERTY = "ilya.potemin.equilibrium";
+
+    private static final IlyaPoteminField[] FIELDS = IlyaPoteminField.values();
+
+    private final int bound;
+    private final int side;
+    private final char[] thresholds;
+    private int solvedCount;
+
+    IlyaPoteminEquilibriumTable(int bound) {
+        if (bound < 1 || bound >= IlyaPoteminVegetationTable.SATURATION_STEP) {
+            throw new IllegalArgumentException("Bound should be in range [1, "
+                    + IlyaPoteminVegetationTable.SATURATION_STEP + "), got " + bound);
+        }
+        this.bound = bound;
+        this.side = bound + 1;
+        this.thresholds = new char[side * side * side * 2];
+        for (int index = 0; index < side * side * side; index++) {
+            thresholds[index * 2] = (char) SCALE;
+        }
+    }
+
+    /**
+     * Default table is read from file given by PATH_PROPERTY, or solved in-process if property is not set
+     */
+    static IlyaPoteminEquilibriumTable getDefault() {
+        return DefaultHolder.TABLE;
+    }
+
+    private static class DefaultHolder {
+        private static final IlyaPoteminEquilibriumTable TABLE = load();
+
+        private static IlyaPoteminEquilibriumTable load() {
+            String path = System.getProperty(PATH_PROPERTY);
+            if (path == null) {
+                return IlyaPoteminEquilibriumSolver.solve(IlyaPoteminEquilibriumSolver.DEFAULT_BOUND);
+            }
+            try (InputStream inputStream = Files.newInputStream(Paths.get(path))) {
+                return read(inputStream);
+            } catch (IOException exception) {
+                throw new IllegalStateException("Unable to read equilibrium table from " + path, exception);
+            }
+        }
+    }
+
+    int getBound() {
+        return bound;
+    }
+
+    int getStateCount() {
+        return side * side * side;
+    }
+
+    int getSolvedCount() {
+        return solvedCount;
+    }
+
+    int index(long stepA, long stepB, long stepC) {
+        return ((int) Math.min(stepA, bound) * side + (int) Math.min(stepB, bound)) * side
+                + (int) Math.min(stepC, bound);
+    }
+
+    int step(int index, int field) {
+        switch (field) {
+            case 0:
+                return index / (side * side);
+            case 1:
+                return index / side % side;
+            default:
+                return index % side;
+        }
+    }
+
+    synchronized void set(int index, double[] probabilities) {
+        int thresholdA = (int) Math.round(probabilities[0] * SCALE);
+        int thresholdB = (int) Math.round((probabilities[0] + probabilities[1]) * SCALE);
+        thresholds[index * 2] = (char) thresholdA;
+        thresholds[index * 2 + 1] = (char) Math.max(thresholdA, Math.min(SCALE, thresholdB));
+        solvedCount++;
+    }
+
+    boolean isSolved(int index) {
+        return thresholds[index * 2] <= thresholds[index * 2 + 1];
+    }
+
+    /**
+     * @return field sampled from equilibrium of state, or null if state was not solved
+     */
+    IlyaPoteminField sample(int index, IlyaPoteminRandom random) {
+        int thresholdA = thresholds[index * 2];
+        int thresholdB = thresholds[index * 2 + 1];
+        if (thresholdA > thresholdB) {
+            return null;
+        }
+        int value = random.nextInt(SCALE);
+        return value < thresholdA ? FIELDS[0] : value < thresholdB ? FIELDS[1] : FIELDS[2];
+    }
+
+    void write(OutputStream outputStream) throws IOException {
+        DataOutputStream dataStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        dataStream.writeInt(MAGIC);
+        dataStream.writeInt(bound);
+        for (char threshold : thresholds) {
+            dataStream.writeChar(threshold);
+        }
+        dataStream.flush();
+    }
+
+    static IlyaPoteminEquilibriumTable read(InputStream inputStream) throws IOException {
+        DataInputStream dataStream = new DataInputStream(new BufferedInputStream(inputStream));
+        if (dataStream.readInt() != MAGIC) {
+            throw new IOException("Not an equilibrium table");
+        }
+        IlyaPoteminEquilibriumTable table = new IlyaPoteminEquilibriumTable(dataStream.readInt());
+        for (int i = 0; i < table.thresholds.length; i++) {
+            table.thresholds[i] = dataStream.readChar();
+        }
+        for (int index = 0; index < table.getStateCount(); index++) {
+            if (table.isSolved(index)) {
+                table.solvedCount++;
+            }
+        }
+        return table;
+    }
+}
+
+/**
+ * EquilibriumStrategy plays mixed equilibrium of current stage game from precomputed table
+ * Greedy most payoff move is used for states missing in table
+ */
+class IlyaPoteminEquilibriumStrategy extends IlyaPoteminAbstractStrategy {
+
+    private IlyaPoteminGameStateSimulation gameState;
+    private IlyaPoteminEquilibriumTable table;
+    private IlyaPoteminStrategy greedyStrategy;
+
+    public IlyaPoteminEquilibriumStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth,
+                                          IlyaPoteminRandom random) {
+        this(gameState, metricDepth, random, IlyaPoteminEquilibriumTable.getDefault());
+    }
+
+    public IlyaPoteminEquilibriumStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth,
+                                          IlyaPoteminRandom random, IlyaPoteminEquilibriumTable table) {
+        super(metricDepth, random);
+        this.gameState = gameState;
+        this.table = table;
+        greedyStrategy = new IlyaPoteminMostPayoffStrategy(this, gameState);
+    }
+
+    @Override
+    public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
+        IlyaPoteminField field = table.sample(table.index(gameState.getVegetationStep(0),
+                gameState.getVegetationStep(1), gameState.getVegetationStep(2)), random);
+        return field != null ? field : greedyStrategy.move(history, opponentLastMove);
     }
 }
 
@@ -230,6 +1381,23 @@ interface IlyaPoteminMetric<T> {
     T update(IlyaPoteminHistory history);
 
     T get();
+
+    /**
+     * Metric declaring inputs is derived: it is computed only from values of its inputs,
+     * so it is updated after them and only when some of them changed
+     * @return metrics this metric reads
+     */
+    default List<IlyaPoteminMetric<?>> getInputs() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Binds metric to history for lazy evaluation: get() computes value on demand, cached by round number
+     * @return false if metric does not support lazy evaluation and has to be updated every round
+     */
+    default boolean bind(IlyaPoteminHistory history) {
+        return false;
+    }
 }
 
 @Target(ElementType.FIELD)
@@ -238,34 +1406,270 @@ interface IlyaPoteminMetric<T> {
     String value();
 }
 
+/**
+ * MetricInjector assigns metrics from factory to strategy fields annotated with InjectedMetric
+ * Injectors named [StrategyClass]MetricInjector are generated at build time by build.MetricInjectorProcessor,
+ * reflective injector is used only if generated one is absent, e.g. in merged single-file player
+ */
+interface IlyaPoteminMetricInjector<S> {
+    String GENERATED_SUFFIX = "MetricInjector";
+
+    void inject(S strategy, IlyaPoteminMetricFactory metricFactory);
+
+    @SuppressWarnings(value = {"unchecked"})
+    static IlyaPoteminMetricInjector<Object> forClass(Class<?> strategyClass) {
+        try {
+            Class<?> injectorClass = Class.forName(strategyClass.getName() + GENERATED_SUFFIX,
+                    true, strategyClass.getClassLoader());
+            return (IlyaPoteminMetricInjector<Object>) injectorClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException exception) {
+            return new IlyaPoteminReflectiveMetricInjector(strategyClass);
+        }
+    }
+}
+
+/**
+ * Fallback injector, resolves annotated fields and their metric handles once per strategy class
+ */
+class IlyaPoteminReflectiveMetricInjector implements IlyaPoteminMetricInjector<Object> {
+    private final java.lang.reflect.Field[] fields;
+    private final int[] handles;
+
+    IlyaPoteminReflectiveMetricInjector(Class<?> strategyClass) {
+        List<java.lang.reflect.Field> fieldList = new ArrayList<>();
+        for (java.lang.reflect.Field f : strategyClass.getDeclaredFields()) {
+            if (f.getType() == IlyaPoteminMetric.class && f.isAnnotationPresent(IlyaPoteminInjectedMetric.class)) {
+                fieldList.add(f);
+            }
+        }
+        fields = fieldList.toArray(new java.lang.reflect.Field[0]);
+        handles = new int[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            String name = fields[i].getAnnotation(IlyaPoteminInjectedMetric.class).value();
+            handles[i] = IlyaPoteminMetricRegistry.resolve(name);
+        }
+    }
+
+    @Override
+    public void inject(Object strategy, IlyaPoteminMetricFactory metricFactory) {
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                fields[i].set(strategy, metricFactory.get(handles[i]));
+            }
+        } catch (IllegalAccessException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
+
 abstract class IlyaPoteminAbstractMetric<T> implements IlyaPoteminMetric<T> {
     protected T value;
     protected int historyDepth;
+    private IlyaPoteminHistory boundHistory;
+    private int valueRound = -1;
+
+    protected IlyaPoteminAbstractMetric(int historyDepth) {
+        this.historyDepth = historyDepth;
+    }
+
+    protected abstract T doUpdate(List<IlyaPoteminRoundRecord> recordList);
+
+    /**
+     * @return amount of last records passed to doUpdate
+     */
+    protected int getRequestedDepth() {
+        return historyDepth;
+    }
+
+    public final T update(IlyaPoteminHistory history) {
+        value = Optional.ofNullable(history.getLastActions(getRequestedDepth()))
+                .map(this::doUpdate)
+                .orElseThrow(NullPointerException::new);
+        valueRound = history.getCurrentRound();
+        return value;
+    }
+
+    public final T get() {
+        if (boundHistory != null && valueRound != boundHistory.getCurrentRound()) {
+            update(boundHistory);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean bind(IlyaPoteminHistory history) {
+        boundHistory = history;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "Metric(value=" + get() + ")";
+    }
+}
+
+/**
+ * SlidingWindowMetric is updated incrementally by records entering and leaving history window,
+ * so each round costs O(1) instead of full window rescan
+ * Window is rescanned only if rounds were skipped and once per historyDepth rounds to drop accumulated rounding error
+ */
+abstract class IlyaPoteminSlidingWindowMetric<T> extends IlyaPoteminAbstractMetric<T> {
+    private int lastRound = 0;
+    private int windowSize = 0;
+    private int slidesSinceRescan = 0;
+
+    protected IlyaPoteminSlidingWindowMetric(int historyDepth) {
+        super(historyDepth);
+    }
+
+    /**
+     * @param leaving record which left the window, or null if window is not full yet
+     */
+    protected abstract void slide(IlyaPoteminRoundRecord entering, IlyaPoteminRoundRecord leaving);
+
+    protected abstract void clear();
+
+    protected abstract T computeValue(int windowSize);
+
+    /**
+     * One more record is requested, it is the one leaving the window
+     */
+    @Override
+    protected final int getRequestedDepth() {
+        return historyDepth + 1;
+    }
+
+    @Override
+    protected final T doUpdate(List<IlyaPoteminRoundRecord> recordList) {
+        int size = recordList.size();
+        if (size == 0) {
+            return value != null ? value : computeValue(0);
+        }
+        int newestRound = recordList.get(size - 1).round;
+        if (newestRound == lastRound && value != null) {
+            return value;
+        }
+        if (newestRound == lastRound + 1 && slidesSinceRescan < historyDepth) {
+            IlyaPoteminRoundRecord leaving = size > historyDepth ? recordList.get(0) : null;
+            slide(recordList.get(size - 1), leaving);
+            if (leaving == null) {
+                windowSize++;
+            }
+            slidesSinceRescan++;
+        } else {
+            rescan(recordList);
+        }
+        lastRound = newestRound;
+        return computeValue(windowSize);
+    }
+
+    private void rescan(List<IlyaPoteminRoundRecord> recordList) {
+        clear();
+        int size = recordList.size();
+        windowSize = Math.min(size, historyDepth);
+        for (int i = size - windowSize; i < size; i++) {
+            slide(recordList.get(i), null);
+        }
+        slidesSinceRescan = 0;
+    }
+}
+
+/**
+ * MetricRegistry resolves metric names to integer handles once per JVM, handles index metric arrays of players
+ * Definition creates metric instance of player, it may read its inputs from player factory by their handles,
+ * so inputs are registered before metrics reading them
+ */
+final class IlyaPoteminMetricRegistry {
+
+    interface Definition {
+        IlyaPoteminMetric<?> create(IlyaPoteminMetricFactory factory, int metricDepth);
+    }
+
+    private static final Map<String, Integer> handles = new HashMap<>();
+    private static String[] names = new String[16];
+    private static Definition[] definitions = new Definition[16];
+    private static int size;
+
+    static final int PAYOFF_SUM = register(IlyaPoteminPayoffSumMetric.NAME,
+            (factory, depth) -> new IlyaPoteminPayoffSumMetric(depth));
+    static final int FIGHT_PERCENT = register(IlyaPoteminFightPercentMetric.NAME,
+            (factory, depth) -> new IlyaPoteminFightPercentMetric(depth));
+    static final int OPPONENT_FIELD_DISTRIBUTION_A = register(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".A",
+            (factory, depth) -> new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.A, depth));
+    static final int OPPONENT_FIELD_DISTRIBUTION_B = register(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".B",
+            (factory, depth) -> new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.B, depth));
+    static final int OPPONENT_FIELD_DISTRIBUTION_C = register(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".C",
+            (factory, depth) -> new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.C, depth));
+    static final int MOST_OPPONENT_SELECTED_FIELD = register(IlyaPoteminMostOpponentSelectedFieldMetric.NAME,
+            (factory, depth) -> new IlyaPoteminMostOpponentSelectedFieldMetric(depth,
+                    factory.get(OPPONENT_FIELD_DISTRIBUTION_A),
+                    factory.get(OPPONENT_FIELD_DISTRIBUTION_B),
+                    factory.get(OPPONENT_FIELD_DISTRIBUTION_C)));
+
+    /**
+     * Metrics every strategy starts with, in registration order
+     */
+    static final int[] DEFAULTS = {PAYOFF_SUM, FIGHT_PERCENT, OPPONENT_FIELD_DISTRIBUTION_A,
+            OPPONENT_FIELD_DISTRIBUTION_B, OPPONENT_FIELD_DISTRIBUTION_C, MOST_OPPONENT_SELECTED_FIELD};
+
+    private IlyaPoteminMetricRegistry() {
+    }
+
+    /**
+     * @param definition may be null for metrics, which are created by player itself
+     * @return handle of name, same for repeated registrations, definition of first registration is kept
+     */
+    static synchronized int register(String name, Definition definition) {
+        Integer handle = handles.get(name);
+        if (handle != null) {
+            if (definitions[handle] == null) {
+                definitions[handle] = definition;
+            }
+            return handle;
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            definitions = Arrays.copyOf(definitions, size * 2);
+        }
+        names[size] = name;
+        definitions[size] = definition;
+        handles.put(name, size);
+        return size++;
+    }
 
-    protected IlyaPoteminAbstractMetric(int historyDepth) {
-        this.historyDepth = historyDepth;
+    /**
+     * @return handle of name, registering it without definition if needed
+     */
+    static int resolve(String name) {
+        return register(name, null);
     }
 
-    protected abstract T doUpdate(List<IlyaPoteminRoundRecord> recordList);
+    /**
+     * @return handle of name or -1 if name is not registered
+     */
+    static synchronized int handleOf(String name) {
+        return handles.getOrDefault(name, -1);
+    }
 
-    public final T update(IlyaPoteminHistory history) {
-        value = Optional.ofNullable(history.getLastActions(historyDepth))
-                .map(this::doUpdate)
-                .orElseThrow(NullPointerException::new);
-        return value;
+    static synchronized String nameOf(int handle) {
+        return names[handle];
     }
 
-    public final T get() {
-        return value;
+    static synchronized Definition definitionOf(int handle) {
+        return definitions[handle];
     }
 
-    @Override
-    public String toString() {
-        return "Metric(value=" + value + ")";
+    static synchronized int size() {
+        return size;
     }
 }
 
-
+/**
+ * MetricFactory holds metrics of player in flat array indexed by registry handles,
+ * so metric lookup by handle is array load, names are resolved to handles only by name based methods
+ * Array holds metric objects, not their values: sliding window metrics keep per-player window state
+ * and lazy metrics cache their value by round, so they are created once per player and reused every round
+ */
 class IlyaPoteminMetricFactory {
 
     private IlyaPoteminLogger logger = IlyaPoteminLogger.getLogger("MetricFactory");
@@ -279,24 +1683,44 @@ class IlyaPoteminMetricFactory {
     }
 
     private String factoryName = "metricFactory@" + hashCode();
-    private List<Map.Entry<String, IlyaPoteminMetric<?>>> metricList;
-    private Map<String, IlyaPoteminMetric<?>> metricMap;
+    private IlyaPoteminMetric<?>[] metrics;
+    /**
+     * Handles of set metrics in order of their first registration
+     */
+    private int[] handles = new int[8];
+    private int handleCount;
+    private IlyaPoteminMetricPlan plan;
+    private boolean lazy = false;
 
     public IlyaPoteminMetricFactory() {
-        metricMap = new HashMap<>();
-        metricList = new ArrayList<>();
+        metrics = new IlyaPoteminMetric<?>[IlyaPoteminMetricRegistry.size()];
     }
 
-    public <T> void set(String name, IlyaPoteminMetric<T> metric) {
-        metricMap.put(name, metric);
-        if (!metricList.contains(new HashMap.SimpleEntry<String, IlyaPoteminMetric<?>>(name, metric))) {
-            metricList.add(new HashMap.SimpleEntry<>(name, metric));
+    public <T> void set(int handle, IlyaPoteminMetric<T> metric) {
+        if (handle >= metrics.length) {
+            metrics = Arrays.copyOf(metrics, Math.max(handle + 1, IlyaPoteminMetricRegistry.size()));
+        }
+        if (metrics[handle] == null) {
+            if (handleCount == handles.length) {
+                handles = Arrays.copyOf(handles, handleCount * 2);
+            }
+            handles[handleCount++] = handle;
         }
+        metrics[handle] = metric;
+        plan = null;
+    }
+
+    public <T> void set(String name, IlyaPoteminMetric<T> metric) {
+        set(IlyaPoteminMetricRegistry.resolve(name), metric);
     }
 
     @SuppressWarnings(value = {"unchecked"})
+    public <T> IlyaPoteminMetric<T> get(int handle) {
+        return handle >= 0 && handle < metrics.length ? (IlyaPoteminMetric<T>) metrics[handle] : null;
+    }
+
     public <T> IlyaPoteminMetric<T> get(String name) {
-        return (IlyaPoteminMetric<T>) metricMap.getOrDefault(name, null);
+        return get(IlyaPoteminMetricRegistry.handleOf(name));
     }
 
     @SuppressWarnings(value = {"unchecked"})
@@ -306,394 +1730,1367 @@ class IlyaPoteminMetricFactory {
     }
 
     public <T> IlyaPoteminMetricFactory with(String name, Supplier<IlyaPoteminMetric<T>> metricSupplier) {
-        if (metricMap.getOrDefault(name, null) == null) {
-            set(name, Objects.requireNonNull(metricSupplier.get()));
+        int handle = IlyaPoteminMetricRegistry.resolve(name);
+        if (get(handle) == null) {
+            set(handle, Objects.requireNonNull(metricSupplier.get()));
+        }
+        return this;
+    }
+
+    /**
+     * Creates not yet set metrics by their registry definitions, inputs should precede metrics reading them
+     */
+    public IlyaPoteminMetricFactory withRegistered(int metricDepth, int... registeredHandles) {
+        for (int handle : registeredHandles) {
+            if (get(handle) == null) {
+                IlyaPoteminMetricRegistry.Definition definition = IlyaPoteminMetricRegistry.definitionOf(handle);
+                if (definition == null) {
+                    throw new IllegalArgumentException("Metric " + IlyaPoteminMetricRegistry.nameOf(handle)
+                            + " has no registered definition");
+                }
+                set(handle, Objects.requireNonNull(definition.create(this, metricDepth)));
+            }
         }
         return this;
     }
 
+    /**
+     * In lazy mode update only binds metrics to history, and metrics are computed when someone reads them
+     */
+    public IlyaPoteminMetricFactory withLazyEvaluation(boolean lazy) {
+        this.lazy = lazy;
+        return this;
+    }
+
+    /**
+     * Evaluation plan is built once after last metric registration
+     * @throws IllegalStateException if metric dependencies contain cycle or unregistered metric
+     */
+    public IlyaPoteminMetricPlan getPlan() {
+        if (plan == null) {
+            List<Map.Entry<String, IlyaPoteminMetric<?>>> currentMetrics = new ArrayList<>(handleCount);
+            for (int i = 0; i < handleCount; i++) {
+                currentMetrics.add(new AbstractMap.SimpleEntry<>(
+                        IlyaPoteminMetricRegistry.nameOf(handles[i]), metrics[handles[i]]));
+            }
+            plan = new IlyaPoteminMetricPlan(currentMetrics);
+        }
+        return plan;
+    }
+
+    public void update(IlyaPoteminHistory history) {
+        if (lazy) {
+            getPlan().updateLazily(history);
+        } else {
+            getPlan().update(history);
+        }
+    }
+
+    /**
+     * Walks metrics in evaluation order, so inputs are visited before metrics reading them
+     */
     public void forEach(BiConsumer<String, IlyaPoteminMetric<?>> consumer) {
-        for (Map.Entry<String, IlyaPoteminMetric<?>> entry : metricList) {
-            String name = entry.getKey();
-            IlyaPoteminMetric<?> metric = entry.getValue();
+        IlyaPoteminMetricPlan currentPlan = getPlan();
+        for (int i = 0; i < currentPlan.size(); i++) {
+            String name = currentPlan.getName(i);
+            IlyaPoteminMetric<?> metric = currentPlan.getMetric(i);
             consumer.accept(name, metric);
-            logger.info("" + factoryName + ":" + name + " = " + metric.get());
+            logger.info(() -> factoryName + ":" + name + " = " + metric.get());
         }
     }
 }
 
-
-/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/IlyaPoteminStrategy.java */
 /**
- * Strategy is a player strategy
- * It expected to be created at each new round/player swap
- * Otherwise it is not guaranteed that previous actions history will not affect current round
+ * MetricPlan holds metrics in topological order of their inputs
+ * Each metric is updated at most once per round, derived metrics are skipped if none of their inputs changed
  */
-interface IlyaPoteminStrategy {
-    IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove);
+class IlyaPoteminMetricPlan {
+
+    private final String[] names;
+    private final IlyaPoteminMetric<?>[] metrics;
+    private final int[][] inputIndices;
+    private final boolean[] changed;
+    private final boolean[] evaluated;
+    private int lastRound = -1;
+    private IlyaPoteminHistory boundHistory;
+    private boolean[] eager;
+
+    IlyaPoteminMetricPlan(List<Map.Entry<String, IlyaPoteminMetric<?>>> entries) {
+        int size = entries.size();
+        Map<IlyaPoteminMetric<?>, Integer> entryIndices = new IdentityHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            entryIndices.put(entries.get(i).getValue(), i);
+        }
+        int[] order = new int[size];
+        int[] orderSize = {0};
+        byte[] states = new byte[size];
+        for (int i = 0; i < size; i++) {
+            visit(i, entries, entryIndices, states, order, orderSize, new ArrayDeque<>());
+        }
+        names = new String[size];
+        metrics = new IlyaPoteminMetric<?>[size];
+        int[] planIndices = new int[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = entries.get(order[i]).getKey();
+            metrics[i] = entries.get(order[i]).getValue();
+            planIndices[order[i]] = i;
+        }
+        inputIndices = new int[size][];
+        for (int i = 0; i < size; i++) {
+            List<IlyaPoteminMetric<?>> inputs = metrics[i].getInputs();
+            inputIndices[i] = new int[inputs.size()];
+            for (int j = 0; j < inputs.size(); j++) {
+                inputIndices[i][j] = planIndices[entryIndices.get(inputs.get(j))];
+            }
+        }
+        changed = new boolean[size];
+        evaluated = new boolean[size];
+    }
+
+    private static void visit(int index, List<Map.Entry<String, IlyaPoteminMetric<?>>> entries,
+                              Map<IlyaPoteminMetric<?>, Integer> entryIndices, byte[] states,
+                              int[] order, int[] orderSize, Deque<String> path) {
+        if (states[index] == 2) {
+            return;
+        }
+        String name = entries.get(index).getKey();
+        path.addLast(name);
+        if (states[index] == 1) {
+            throw new IllegalStateException("Metric dependency cycle: " + String.join(" -> ", path));
+        }
+        states[index] = 1;
+        for (IlyaPoteminMetric<?> input : entries.get(index).getValue().getInputs()) {
+            Integer inputIndex = entryIndices.get(input);
+            if (inputIndex == null) {
+                throw new IllegalStateException("Input " + input + " of metric " + name + " is not registered");
+            }
+            visit(inputIndex, entries, entryIndices, states, order, orderSize, path);
+        }
+        states[index] = 2;
+        path.removeLast();
+        order[orderSize[0]++] = index;
+    }
+
+    public int size() {
+        return metrics.length;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public IlyaPoteminMetric<?> getMetric(int index) {
+        return metrics[index];
+    }
+
+    public void update(IlyaPoteminHistory history) {
+        int round = history.getCurrentRound();
+        if (round == lastRound) {
+            return;
+        }
+        lastRound = round;
+        for (int i = 0; i < metrics.length; i++) {
+            int[] inputs = inputIndices[i];
+            if (evaluated[i] && inputs.length > 0 && !anyChanged(inputs)) {
+                changed[i] = false;
+                continue;
+            }
+            Object previousValue = metrics[i].get();
+            Object value = metrics[i].update(history);
+            changed[i] = !evaluated[i] || !Objects.equals(previousValue, value);
+            evaluated[i] = true;
+        }
+    }
+
+    /**
+     * Binds metrics to history once, afterwards only metrics not supporting lazy evaluation are updated
+     */
+    public void updateLazily(IlyaPoteminHistory history) {
+        if (boundHistory != history) {
+            boundHistory = history;
+            eager = new boolean[metrics.length];
+            for (int i = 0; i < metrics.length; i++) {
+                eager[i] = !metrics[i].bind(history);
+            }
+        }
+        int round = history.getCurrentRound();
+        if (round == lastRound) {
+            return;
+        }
+        lastRound = round;
+        for (int i = 0; i < metrics.length; i++) {
+            if (eager[i]) {
+                metrics[i].update(history);
+            }
+        }
+    }
+
+    private boolean anyChanged(int[] inputs) {
+        for (int input : inputs) {
+            if (changed[input]) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
 
-abstract class IlyaPoteminAbstractStrategy implements IlyaPoteminStrategy {
 
-    int metricDepth = 10;
-    IlyaPoteminMetricFactory metricFactory;
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/Log.java */
 
-    private IlyaPoteminAbstractStrategy() {
-        throw new RuntimeException("Should not be called");
+/**
+ * Logger does no work while logging is disabled: messages are passed as suppliers or format with arguments,
+ * which are evaluated only if logging is enabled
+ * Enabled logger puts records to bounded ring buffer, which is printed by background thread,
+ * so format arguments should be immutable values
+ */
+class IlyaPoteminLogger {
+
+    public static boolean IS_LOGGING_ENABLED = false;
+
+    public static IlyaPoteminLogger getLogger(String name) {
+        return new IlyaPoteminLogger(name);
     }
 
-    protected IlyaPoteminAbstractStrategy(int metricDepth) {
-        metricFactory = new IlyaPoteminMetricFactory();
-        metricFactory
-                .with(IlyaPoteminPayoffSumMetric.NAME,
-                        () -> new IlyaPoteminPayoffSumMetric(metricDepth))
-                .with(IlyaPoteminFightPercentMetric.NAME,
-                        () -> new IlyaPoteminFightPercentMetric(metricDepth))
-                .with(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".A",
-                        () -> new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.A, metricDepth))
-                .with(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".B",
-                        () -> new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.B, metricDepth))
-                .with(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".C",
-                        () -> new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.C, metricDepth))
-                .with(IlyaPoteminMostOpponentSelectedFieldMetric.NAME,
-                        () -> new IlyaPoteminMostOpponentSelectedFieldMetric(metricDepth,
-                                metricFactory.get(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".A"),
-                                metricFactory.get(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".B"),
-                                metricFactory.get(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".C")));
-        injectMetrics();
+    private String name;
+
+    public IlyaPoteminLogger(String name) {
+        this.name = name;
     }
 
-    protected IlyaPoteminAbstractStrategy(IlyaPoteminAbstractStrategy parent) {
-        metricFactory = parent.metricFactory;
-        metricDepth = parent.metricDepth;
-        injectMetrics();
+    public boolean isEnabled() {
+        return IS_LOGGING_ENABLED;
     }
 
-    private void injectMetric(java.lang.reflect.Field field) {
-        String name = field.getAnnotation(IlyaPoteminInjectedMetric.class).value();
-        try {
-            field.set(this, metricFactory.get(name));
-        } catch (IllegalAccessException exception) {
-            throw new RuntimeException(exception);
+    public void info(String msg) {
+        if (IS_LOGGING_ENABLED) {
+            IlyaPoteminLogWriter.write(new IlyaPoteminLogRecord(name, msg, null, null, null, 0));
         }
     }
 
-    private void injectMetrics() {
-        for (java.lang.reflect.Field f : getClass().getDeclaredFields()) {
-            if (f.getType() == IlyaPoteminMetric.class) {
-                if (f.isAnnotationPresent(IlyaPoteminInjectedMetric.class)) {
-                    injectMetric(f);
+    public void info(Supplier<String> msgSupplier) {
+        if (IS_LOGGING_ENABLED) {
+            IlyaPoteminLogWriter.write(new IlyaPoteminLogRecord(name, msgSupplier.get(), null, null, null, 0));
+        }
+    }
+
+    public void info(String format, long arg) {
+        if (IS_LOGGING_ENABLED) {
+            IlyaPoteminLogWriter.write(new IlyaPoteminLogRecord(name, format, arg, null, null, 1));
+        }
+    }
+
+    public void info(String format, Object arg) {
+        if (IS_LOGGING_ENABLED) {
+            IlyaPoteminLogWriter.write(new IlyaPoteminLogRecord(name, format, arg, null, null, 1));
+        }
+    }
+
+    public void info(String format, Object arg1, Object arg2) {
+        if (IS_LOGGING_ENABLED) {
+            IlyaPoteminLogWriter.write(new IlyaPoteminLogRecord(name, format, arg1, arg2, null, 2));
+        }
+    }
+
+    public void info(String format, Object arg1, Object arg2, Object arg3) {
+        if (IS_LOGGING_ENABLED) {
+            IlyaPoteminLogWriter.write(new IlyaPoteminLogRecord(name, format, arg1, arg2, arg3, 3));
+        }
+    }
+}
+
+/**
+ * LogRecord is formatted only by log writer thread
+ */
+class IlyaPoteminLogRecord {
+    final String loggerName;
+    final String format;
+    final Object arg1;
+    final Object arg2;
+    final Object arg3;
+    final int argCount;
+
+    IlyaPoteminLogRecord(String loggerName, String format, Object arg1, Object arg2, Object arg3, int argCount) {
+        this.loggerName = loggerName;
+        this.format = format;
+        this.arg1 = arg1;
+        this.arg2 = arg2;
+        this.arg3 = arg3;
+        this.argCount = argCount;
+    }
+
+    String getMessage() {
+        switch (argCount) {
+            case 0:
+                return format;
+            case 1:
+                return String.format(format, arg1);
+            case 2:
+                return String.format(format, arg1, arg2);
+            default:
+                return String.format(format, arg1, arg2, arg3);
+        }
+    }
+}
+
+/**
+ * LogWriter owns bounded multi-producer single-consumer ring buffer and daemon thread draining it to System.out
+ * Records are dropped instead of blocking game threads if ring is full, dropped count is printed later
+ */
+class IlyaPoteminLogWriter {
+
+    static final int CAPACITY = 1 << 14;
+    private static final int MASK = CAPACITY - 1;
+    private static final long IDLE_PARK_NANOS = 1_000_000L;
+
+    private static final IlyaPoteminLogRecord[] records = new IlyaPoteminLogRecord[CAPACITY];
+    private static final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+    private static final AtomicLong tail = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static volatile long head = 0;
+    private static volatile Thread writerThread;
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    static void write(IlyaPoteminLogRecord record) {
+        if (writerThread == null) {
+            startWriter();
+        }
+        long position;
+        while (true) {
+            position = tail.get();
+            long sequence = sequences.get((int) position & MASK);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
                 }
+            } else if (sequence < position) {
+                dropped.incrementAndGet();
+                return;
             }
         }
+        records[(int) position & MASK] = record;
+        sequences.lazySet((int) position & MASK, position + 1);
     }
 
-    protected <T> void setMetric(String name, IlyaPoteminMetric<T> metric) {
-        metricFactory.set(name, metric);
+    /**
+     * Waits until all records written before the call are printed
+     */
+    static void flush() {
+        long target = tail.get();
+        while (head < target && writerThread != null && writerThread.isAlive()) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+        System.out.flush();
+    }
+
+    private static synchronized void startWriter() {
+        if (writerThread != null) {
+            return;
+        }
+        Thread thread = new Thread(IlyaPoteminLogWriter::drain, "IlyaPoteminLogWriter");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(IlyaPoteminLogWriter::flush));
+        writerThread = thread;
+    }
+
+    private static void drain() {
+        while (true) {
+            long position = head;
+            int index = (int) position & MASK;
+            if (sequences.get(index) != position + 1) {
+                long droppedCount = dropped.getAndSet(0);
+                if (droppedCount > 0) {
+                    System.out.printf("[%20.20s] %d records dropped\n", "LogWriter", droppedCount);
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            IlyaPoteminLogRecord record = records[index];
+            records[index] = null;
+            sequences.lazySet(index, position + CAPACITY);
+            try {
+                System.out.printf("[%20.20s] %s\n", record.loggerName, record.getMessage());
+            } catch (RuntimeException exception) {
+                System.out.printf("[%20.20s] %s\n", record.loggerName, record.format);
+            }
+            head = position + 1;
+        }
+    }
+}
+
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/Simulation.java */
+
+/**
+ * GameStateSimulation provides simulated game state based on previous player and opponent actions
+ */
+interface IlyaPoteminGameStateSimulation {
+    double vegetationAmountFunction(long vegetationStep);
+
+    void simulateLastRound(IlyaPoteminRoundRecord lastRoundRecord);
+
+    /**
+     * @return states of fields, which have IlyaPoteminField constant, in order of ordinals
+     */
+    Collection<IlyaPoteminFieldState> getFieldStates();
+
+    void dumpFieldStates();
+
+    /**
+     * @return number of fields, fields are indexed from zero and first IlyaPoteminField.COUNT of them
+     * are indexed by IlyaPoteminField ordinals
+     */
+    int getFieldCount();
+
+    long getVegetationStep(int field);
+
+    double getVegetationAmount(int field);
+
+    /**
+     * Applies hypothetical round, which can be reverted by undo, without allocation
+     */
+    void apply(IlyaPoteminField playerMove, IlyaPoteminField opponentMove);
+
+    /**
+     * Same as apply by fields, but moves are field indices in range [0, getFieldCount())
+     */
+    void apply(int playerField, int opponentField);
+
+    /**
+     * Reverts last round made by apply
+     */
+    void undo();
+
+    /**
+     * @return snapshot token, which is valid while rounds applied before it are not undone
+     */
+    int snapshot();
+
+    /**
+     * Undoes all rounds applied after snapshot was taken
+     */
+    void restore(int snapshot);
+
+    /**
+     * @return total payoff of player since simulation creation
+     */
+    double getPlayerPayoff();
+
+    /**
+     * @return total payoff of opponent since simulation creation
+     */
+    double getOpponentPayoff();
+}
+
+/**
+ * GameStateSimulationImpl keeps vegetation steps and amounts in dense arrays indexed by field,
+ * so round costs single loop over fields without lookups and allocation for any number of fields
+ */
+class IlyaPoteminGameStateSimulationImpl implements IlyaPoteminGameStateSimulation {
+
+    static final int INITIAL_STEP = 1;
+    private static final int INITIAL_UNDO_CAPACITY = 16;
+
+    private IlyaPoteminLogger logger = IlyaPoteminLogger.getLogger("GameStateSimulation");
+    private final IlyaPoteminVegetationTable table = IlyaPoteminVegetationTable.SHARED;
+    private final int fieldCount;
+    private final long[] steps;
+    private final double[] amounts;
+    /**
+     * Views of fields, which have IlyaPoteminField constant, refreshed from arrays by getFieldStates
+     */
+    private final IlyaPoteminFieldState[] fieldStates;
+    private final List<IlyaPoteminFieldState> fieldStateList;
+    private double vegetationAmount0;
+    private double playerPayoff;
+    private double opponentPayoff;
+    private double lastPlayerPayoff;
+    private double lastOpponentPayoff;
+
+    /**
+     * Undo frame is field steps and total payoffs before applied round
+     */
+    private long[] undoSteps;
+    private double[] undoPayoffs = new double[INITIAL_UNDO_CAPACITY * 2];
+    private int undoDepth;
+
+    public IlyaPoteminGameStateSimulationImpl() {
+        this(IlyaPoteminField.COUNT);
+    }
+
+    /**
+     * Creates simulation of game variant with given number of fields, each starting from INITIAL_STEP
+     */
+    public IlyaPoteminGameStateSimulationImpl(int fieldCount) {
+        if (fieldCount < 1) {
+            throw new IllegalArgumentException("Field count should be positive, got " + fieldCount);
+        }
+        this.fieldCount = fieldCount;
+        steps = new long[fieldCount];
+        amounts = new double[fieldCount];
+        vegetationAmount0 = vegetationAmountFunction(0);
+        for (int field = 0; field < fieldCount; field++) {
+            setStep(field, INITIAL_STEP);
+        }
+        fieldStates = new IlyaPoteminFieldState[Math.min(fieldCount, IlyaPoteminField.COUNT)];
+        for (int field = 0; field < fieldStates.length; field++) {
+            fieldStates[field] = new IlyaPoteminFieldState(IlyaPoteminField.ofIndex(field), table);
+        }
+        fieldStateList = Collections.unmodifiableList(Arrays.asList(fieldStates));
+        undoSteps = new long[INITIAL_UNDO_CAPACITY * fieldCount];
+    }
+
+    /**
+     * Creates independent simulation starting from current field steps of source, payoffs start from zero
+     */
+    public IlyaPoteminGameStateSimulationImpl(IlyaPoteminGameStateSimulation source) {
+        this(source.getFieldCount());
+        for (int field = 0; field < fieldCount; field++) {
+            setStep(field, source.getVegetationStep(field));
+        }
+    }
+
+    public double vegetationAmountFunction(long vegetationStep) {
+        return table.applyAsDouble(vegetationStep);
+    }
+
+    public void simulateLastRound(IlyaPoteminRoundRecord lastRoundRecord) {
+        logger.info("Applying round %d to simulation", lastRoundRecord.round);
+        Objects.requireNonNull(lastRoundRecord);
+        IlyaPoteminSimulationUpdateEvent event = new IlyaPoteminSimulationUpdateEvent();
+        event.begin();
+        advance(lastRoundRecord.playerMove.ordinal(), lastRoundRecord.opponentMove.ordinal());
+        if (!lastRoundRecord.isBattle) {
+            lastRoundRecord.computedPlayerPayoff = lastPlayerPayoff;
+            lastRoundRecord.computedOpponentPayoff = lastOpponentPayoff;
+        }
+        if (event.shouldCommit()) {
+            event.round = lastRoundRecord.round;
+            event.battle = lastRoundRecord.isBattle;
+            event.commit();
+        }
+        dumpFieldStates();
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    public long getVegetationStep(int field) {
+        return steps[field];
+    }
+
+    public double getVegetationAmount(int field) {
+        return amounts[field];
+    }
+
+    public void apply(IlyaPoteminField playerMove, IlyaPoteminField opponentMove) {
+        apply(playerMove.ordinal(), opponentMove.ordinal());
+    }
+
+    public void apply(int playerField, int opponentField) {
+        if (undoDepth * 2 == undoPayoffs.length) {
+            undoSteps = Arrays.copyOf(undoSteps, undoSteps.length * 2);
+            undoPayoffs = Arrays.copyOf(undoPayoffs, undoPayoffs.length * 2);
+        }
+        System.arraycopy(steps, 0, undoSteps, undoDepth * fieldCount, fieldCount);
+        undoPayoffs[undoDepth * 2] = playerPayoff;
+        undoPayoffs[undoDepth * 2 + 1] = opponentPayoff;
+        undoDepth++;
+        advance(playerField, opponentField);
+    }
+
+    public void undo() {
+        if (undoDepth == 0) {
+            throw new IllegalStateException("No applied rounds to undo");
+        }
+        undoDepth--;
+        for (int field = 0; field < fieldCount; field++) {
+            setStep(field, undoSteps[undoDepth * fieldCount + field]);
+        }
+        playerPayoff = undoPayoffs[undoDepth * 2];
+        opponentPayoff = undoPayoffs[undoDepth * 2 + 1];
+    }
+
+    public int snapshot() {
+        return undoDepth;
+    }
+
+    public void restore(int snapshot) {
+        if (snapshot < 0 || snapshot > undoDepth) {
+            throw new IllegalArgumentException("Snapshot " + snapshot + " is already undone, depth " + undoDepth);
+        }
+        while (undoDepth > snapshot) {
+            undo();
+        }
+    }
+
+    public double getPlayerPayoff() {
+        return playerPayoff;
+    }
+
+    public double getOpponentPayoff() {
+        return opponentPayoff;
+    }
+
+    /**
+     * Moves fields to next round, battle ground loses vegetation without payoff to anyone
+     */
+    private void advance(int playerField, int opponentField) {
+        boolean battle = playerField == opponentField;
+        lastPlayerPayoff = battle ? 0 : amounts[playerField] - vegetationAmount0;
+        lastOpponentPayoff = battle ? 0 : amounts[opponentField] - vegetationAmount0;
+        playerPayoff += lastPlayerPayoff;
+        opponentPayoff += lastOpponentPayoff;
+        for (int field = 0; field < fieldCount; field++) {
+            boolean visited = field == playerField || field == opponentField;
+            setStep(field, visited ? steps[field] - 1 : steps[field] + 1);
+        }
+    }
+
+    private void setStep(int field, long step) {
+        step = Math.max(step, 0);
+        steps[field] = step;
+        amounts[field] = table.applyAsDouble(step);
+    }
+
+    public Collection<IlyaPoteminFieldState> getFieldStates() {
+        for (int field = 0; field < fieldStates.length; field++) {
+            if (fieldStates[field].getVegetationStep() != steps[field]) {
+                fieldStates[field].setVegetationStep(steps[field]);
+            }
+        }
+        return fieldStateList;
+    }
+
+    public void dumpFieldStates() {
+        if (!logger.isEnabled()) {
+            return;
+        }
+        for (int field = 0; field < fieldCount; field++) {
+            String name = field < IlyaPoteminField.COUNT ? IlyaPoteminField.ofIndex(field).name() : "#" + field;
+            logger.info("Field %s : vegetationStep=%s, vegetationAmount=%s", name, steps[field], amounts[field]);
+        }
+    }
+}
+
+/**
+ * VegetationTable holds precomputed vegetation amounts by step, shared by all players in JVM
+ * Table grows lazily up to MAX_TABLE_SIZE, amounts for steps outside of it are computed exactly
+ * Exact amount is NaN for every step starting from SATURATION_STEP (exp overflows), so full table
+ * covers all distinct values: amount of any larger step equals to the last table entry
+ */
+class IlyaPoteminVegetationTable implements LongToDoubleFunction {
+
+    static final IlyaPoteminVegetationTable SHARED = new IlyaPoteminVegetationTable();
+    static final int INITIAL_TABLE_SIZE = 64;
+    static final int SATURATION_STEP = 710;
+    static final int MAX_TABLE_SIZE = SATURATION_STEP + 1;
+
+    private volatile double[] table = new double[0];
+
+    static double exactVegetationAmount(long vegetationStep) {
+        return (10.0 * Math.exp(vegetationStep)) / (1.0 + Math.exp(vegetationStep));
     }
 
-    protected IlyaPoteminMetric<Double> getDoubleMetric(String name) {
-        return metricFactory.get(name);
+    @Override
+    public double applyAsDouble(long vegetationStep) {
+        double[] currentTable = table;
+        if (vegetationStep >= 0 && vegetationStep < currentTable.length) {
+            return currentTable[(int) vegetationStep];
+        }
+        if (vegetationStep >= 0 && vegetationStep < MAX_TABLE_SIZE) {
+            return grow((int) vegetationStep)[(int) vegetationStep];
+        }
+        return exactVegetationAmount(vegetationStep);
     }
 
-    protected void updateMetrics(IlyaPoteminHistory history) {
-        metricFactory.forEach((name, metric) -> metric.update(history));
+    /**
+     * @return table grown to MAX_TABLE_SIZE, which should not be modified,
+     * amount of step larger than table is amount of its last entry
+     */
+    double[] getFullTable() {
+        return grow(MAX_TABLE_SIZE - 1);
     }
 
+    /**
+     * Table is replaced by filled copy, so readers never see partially computed values
+     */
+    private synchronized double[] grow(int vegetationStep) {
+        double[] currentTable = table;
+        if (vegetationStep < currentTable.length) {
+            return currentTable;
+        }
+        int size = Math.max(INITIAL_TABLE_SIZE, currentTable.length);
+        while (size <= vegetationStep) {
+            size <<= 1;
+        }
+        size = Math.min(size, MAX_TABLE_SIZE);
+        double[] grownTable = Arrays.copyOf(currentTable, size);
+        for (int step = currentTable.length; step < size; step++) {
+            grownTable[step] = exactVegetationAmount(step);
+        }
+        table = grownTable;
+        return grownTable;
+    }
 }
 
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/Latency.java */
 
-/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/Log.java */
-class IlyaPoteminLogger {
-
-    public static final boolean IS_LOGGING_ENABLED = false;
+/**
+ * LatencyHistogram counts nanosecond latencies in log-linear buckets: each power of two range
+ * is split into SUB_BUCKETS linear buckets, so percentiles are reported with at most 1/SUB_BUCKETS relative error
+ * Recording is lock-free, readers may see a snapshot, which is only approximately consistent
+ */
+class IlyaPoteminLatencyHistogram {
 
-    public static IlyaPoteminLogger getLogger(String name) {
-        return new IlyaPoteminLogger(name);
-    }
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
 
-    private String name;
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
 
-    public IlyaPoteminLogger(String name) {
+    IlyaPoteminLatencyHistogram(String name) {
         this.name = name;
     }
 
-    public void info(String msg) {
-        if (IS_LOGGING_ENABLED) {
-            System.out.printf("[%20.20s] %s\n", this.name, msg);
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
         }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
     }
-}
 
-/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/Metrics.java */
+    /**
+     * @return largest value counted in bucket
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
 
-class IlyaPoteminPayoffSumMetric extends IlyaPoteminAbstractMetric<Double> {
-    public static final String NAME = "payoff_sum_metric";
+    void record(long nanos) {
+        counts.incrementAndGet(bucketOf(nanos));
+        totalCount.incrementAndGet();
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
 
-    public IlyaPoteminPayoffSumMetric(int depth) {
-        super(depth);
+    String getName() {
+        return name;
     }
 
-    @Override
-    protected Double doUpdate(List<IlyaPoteminRoundRecord> recordList) {
-        return recordList.stream()
-                .map(IlyaPoteminRoundRecord::getComputedPlayerPayoff)
-                .reduce(Double::sum)
-                .orElse(0.0);
+    long getCount() {
+        return totalCount.get();
     }
-}
 
-class IlyaPoteminFightPercentMetric extends IlyaPoteminAbstractMetric<Double> {
-    public static final String NAME = "fight_percent_metric";
+    long getMaxNanos() {
+        return maxNanos.get();
+    }
 
-    public IlyaPoteminFightPercentMetric(int depth) {
-        super(depth);
+    /**
+     * @return upper bound of bucket containing requested percentile, but not more than max, 0 if empty
+     */
+    long getPercentileNanos(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long cumulative = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            cumulative += counts.get(bucket);
+            if (cumulative >= target) {
+                return Math.min(upperBoundOf(bucket), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
     }
 
-    @Override
-    protected Double doUpdate(List<IlyaPoteminRoundRecord> recordList) {
-        long totalRoundCount = recordList.size();
-        long hitRoundCount = recordList.stream()
-                .filter(record -> record.isBattle)
-                .count();
-        return ((double) hitRoundCount) / totalRoundCount;
+    void reset() {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts.set(bucket, 0);
+        }
+        totalCount.set(0);
+        maxNanos.set(0);
     }
 }
 
-class IlyaPoteminOpponentFieldDistributionMetric extends IlyaPoteminAbstractMetric<Double> {
-    public static final String NAME = "opponent_field_distribution_metric";
-    private IlyaPoteminField target;
+/**
+ * Latency holds histograms of player hot paths, it is enabled by system property ilya.potemin.latency=true
+ * ENABLED is constant, so disabled instrumentation is removed by JIT
+ * Enabled histograms are published as MBean OBJECT_NAME with attributes [histogram][Count|P50|P99|Max]Nanos
+ */
+class IlyaPoteminLatency implements DynamicMBean {
 
-    public IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField field, int depth) {
-        super(depth);
-        this.target = field;
+    static final boolean ENABLED = Boolean.getBoolean("ilya.potemin.latency");
+    static final String OBJECT_NAME = "com.company:type=IlyaPoteminLatency";
+
+    static final IlyaPoteminLatencyHistogram MOVE = new IlyaPoteminLatencyHistogram("Move");
+    static final IlyaPoteminLatencyHistogram SIMULATE_LAST_ROUND =
+            new IlyaPoteminLatencyHistogram("SimulateLastRound");
+    static final IlyaPoteminLatencyHistogram METRIC_UPDATE = new IlyaPoteminLatencyHistogram("MetricUpdate");
+
+    private static final IlyaPoteminLatencyHistogram[] HISTOGRAMS = {MOVE, SIMULATE_LAST_ROUND, METRIC_UPDATE};
+    private static final String[] STATISTICS = {"Count", "P50Nanos", "P99Nanos", "MaxNanos"};
+
+    static {
+        if (ENABLED) {
+            register();
+        }
+    }
+
+    /**
+     * @return true if MBean is registered by this call or was registered before
+     */
+    static boolean register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(new IlyaPoteminLatency(), objectName);
+            }
+            return true;
+        } catch (InstanceAlreadyExistsException exception) {
+            return true;
+        } catch (JMException exception) {
+            return false;
+        }
     }
 
     @Override
-    protected Double doUpdate(List<IlyaPoteminRoundRecord> recordList) {
-        long all = recordList.size();
-        long fielded = recordList.stream()
-                .filter(record -> record.opponentMove == target)
-                .count();
-        return ((double) fielded) / all;
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        for (IlyaPoteminLatencyHistogram histogram : HISTOGRAMS) {
+            if (attribute.startsWith(histogram.getName())) {
+                switch (attribute.substring(histogram.getName().length())) {
+                    case "Count":
+                        return histogram.getCount();
+                    case "P50Nanos":
+                        return histogram.getPercentileNanos(50);
+                    case "P99Nanos":
+                        return histogram.getPercentileNanos(99);
+                    case "MaxNanos":
+                        return histogram.getMaxNanos();
+                    default:
+                        break;
+                }
+            }
+        }
+        throw new AttributeNotFoundException(attribute);
     }
-}
 
-class IlyaPoteminMostOpponentSelectedFieldMetric extends IlyaPoteminAbstractMetric<IlyaPoteminField> {
-    public static final String NAME = "most_opponent_selected_metric";
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Latency attributes are read-only: " + attribute.getName());
+    }
 
-    private IlyaPoteminMetric<Double> aMetric;
-    private IlyaPoteminMetric<Double> bMetric;
-    private IlyaPoteminMetric<Double> cMetric;
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes) {
+            try {
+                list.add(new Attribute(attribute, getAttribute(attribute)));
+            } catch (AttributeNotFoundException exception) {
+                // unknown attributes are omitted as MBeanServer expects
+            }
+        }
+        return list;
+    }
 
-    public IlyaPoteminMostOpponentSelectedFieldMetric(int historyDepth, IlyaPoteminMetric<Double> aMetric,
-                                                      IlyaPoteminMetric<Double> bMetric, IlyaPoteminMetric<Double> cMetric) {
-        super(historyDepth);
-        this.aMetric = Objects.requireNonNull(aMetric);
-        this.bMetric = Objects.requireNonNull(bMetric);
-        this.cMetric = Objects.requireNonNull(cMetric);
+    /**
+     * @throws RuntimeOperationsException if any attribute is given, all of them are read-only
+     */
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        if (!attributes.isEmpty()) {
+            throw new RuntimeOperationsException(new IllegalArgumentException(
+                    "Latency attributes are read-only: " + attributes.asList()));
+        }
+        return new AttributeList();
     }
 
+    /**
+     * Supports single operation "reset", which clears all histograms
+     */
     @Override
-    protected IlyaPoteminField doUpdate(List<IlyaPoteminRoundRecord> recordList) {
-        if (aMetric.get() > bMetric.get()) {      // a > b
-            if (aMetric.get() > cMetric.get()) { // a > b and a > c
-                return IlyaPoteminField.A;
-            } else { // a > b and c > a
-                return IlyaPoteminField.C;
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        if ("reset".equals(actionName)) {
+            for (IlyaPoteminLatencyHistogram histogram : HISTOGRAMS) {
+                histogram.reset();
             }
-        } else { // b > a
-            if (bMetric.get() > cMetric.get()) { // b > a and b > c
-                return IlyaPoteminField.B;
-            } else { // b > a and c > b
-                return IlyaPoteminField.C;
+            return null;
+        }
+        throw new ReflectionException(new NoSuchMethodException(actionName), "Unknown latency operation " + actionName);
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[HISTOGRAMS.length * STATISTICS.length];
+        int i = 0;
+        for (IlyaPoteminLatencyHistogram histogram : HISTOGRAMS) {
+            for (String statistic : STATISTICS) {
+                attributes[i++] = new MBeanAttributeInfo(histogram.getName() + statistic, "long",
+                        statistic + " of " + histogram.getName() + " latency", true, false, false);
             }
         }
+        MBeanOperationInfo reset = new MBeanOperationInfo("reset", "Clears all histograms",
+                null, "void", MBeanOperationInfo.ACTION);
+        return new MBeanInfo(getClass().getName(), "Latencies of player hot paths", attributes,
+                null, new MBeanOperationInfo[]{reset}, null);
     }
 }
 
-/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/Simulation.java */
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/IlyaPoteminRandom.java */
 
 /**
- * GameStateSimulation provides simulated game state based on previous player and opponent actions
+ * Random is source of randomness for strategies, it is not thread-safe and is owned by single player,
+ * so there is no contention on shared seed
+ * Random created from seed gives same sequence on each run, split gives independent stream for other owner
  */
-interface IlyaPoteminGameStateSimulation {
-    double vegetationAmountFunction(long vegetationStep);
-
-    void simulateLastRound(IlyaPoteminRoundRecord lastRoundRecord);
+class IlyaPoteminRandom {
 
-    Collection<IlyaPoteminFieldState> getFieldStates();
-
-    void dumpFieldStates();
-}
+    private final SplittableRandom random;
 
-class IlyaPoteminGameStateSimulationImpl implements IlyaPoteminGameStateSimulation {
-
-    private IlyaPoteminLogger logger = IlyaPoteminLogger.getLogger("GameStateSimulation");
-    private Map<IlyaPoteminField, IlyaPoteminFieldState> fieldStateMap;
-    private double vegetationAmount0;
+    private IlyaPoteminRandom(SplittableRandom random) {
+        this.random = random;
+    }
 
-    public IlyaPoteminGameStateSimulationImpl() {
-        fieldStateMap = new HashMap<>(8);
-        vegetationAmount0 = vegetationAmountFunction(0);
-        for (IlyaPoteminField f : IlyaPoteminField.values()) {
-            fieldStateMap.put(f, new IlyaPoteminFieldState(f, this::vegetationAmountFunction));
-        }
+    static IlyaPoteminRandom ofSeed(long seed) {
+        return new IlyaPoteminRandom(new SplittableRandom(seed));
     }
 
-    public double vegetationAmountFunction(long vegetationStep) {
-        return (10.0 * Math.exp(vegetationStep)) / (1.0 + Math.exp(vegetationStep));
+    /**
+     * @return random with unpredictable seed
+     */
+    static IlyaPoteminRandom create() {
+        return new IlyaPoteminRandom(new SplittableRandom());
     }
 
-    public void simulateLastRound(IlyaPoteminRoundRecord lastRoundRecord) {
-        logger.info("Applying round " + lastRoundRecord.round + " to simulation");
-        Objects.requireNonNull(lastRoundRecord);
-        if (lastRoundRecord.isBattle) {
-            IlyaPoteminField battleGround = lastRoundRecord.playerMove;
-            IlyaPoteminFieldState fieldState = fieldStateMap.get(battleGround);
-            fieldState.decrementVegetationStep();
-        } else {
-            IlyaPoteminFieldState playerFieldState = fieldStateMap.get(lastRoundRecord.playerMove);
-            lastRoundRecord.computedPlayerPayoff = playerFieldState.getVegetationAmount() - vegetationAmount0;
-            playerFieldState.decrementVegetationStep();
-
-            IlyaPoteminFieldState opponentFieldState = fieldStateMap.get(lastRoundRecord.opponentMove);
-            lastRoundRecord.computedOpponentPayoff = opponentFieldState.getVegetationAmount() - vegetationAmount0;
-            opponentFieldState.decrementVegetationStep();
-        }
-        fieldStateMap.entrySet().stream()
-                .filter(entry -> entry.getKey() != lastRoundRecord.playerMove)
-                .filter(entry -> entry.getKey() != lastRoundRecord.opponentMove)
-                .forEach(entry -> entry.getValue().incrementVegetationStep());
-        dumpFieldStates();
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
     }
 
-    public Collection<IlyaPoteminFieldState> getFieldStates() {
-        return fieldStateMap.values();
+    public long nextLong() {
+        return random.nextLong();
     }
 
-    public void dumpFieldStates() {
-        fieldStateMap.entrySet()
-                .stream()
-                .sorted(Comparator.comparing(e -> e.getKey().name()))
-                .forEach((entry) -> {
-                    logger.info("Field " + entry.getKey().name() +
-                            " : vegetationStep=" + entry.getValue().getVegetationStep() +
-                            ", vegetationAmount=" + entry.getValue().getVegetationAmount());
-                });
+    public IlyaPoteminRandom split() {
+        return new IlyaPoteminRandom(random.split());
     }
 }
 
-/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/Strategies.java */
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/MonteCarlo.java */
 
 /**
- * Default base strategy
- * This strategy is directly called by IlyaPoteminCode a.k.a. Player implementation
- * Is utilizes most profitable strategy taking into account all opponent actions in past
+ * MonteCarloStrategy searches tree of simultaneous rounds using game state simulation rules
+ * Player and opponent select their moves at each node independently by UCB1 (decoupled UCT),
+ * leaves are evaluated by random playout up to fixed horizon
+ * Search is root parallel: each fork-join task grows its own tree from copy of game state until per-move deadline,
+ * then root statistics are merged and most visited player move is selected
+ * Tasks, which did not get pool thread before calling thread finished its own one, are cancelled, not awaited,
+ * so busy pool does not stretch move beyond budget
+ * Greedy most payoff move is used if budget was too small to try every player move
  */
-class IlyaPoteminMooseStrategy extends IlyaPoteminAbstractStrategy {
+class IlyaPoteminMonteCarloStrategy extends IlyaPoteminAbstractStrategy {
 
-    private IlyaPoteminLogger logger = IlyaPoteminLogger.getLogger("MooseStrategy");
-    private IlyaPoteminGameStateSimulation gameState;
-    private IlyaPoteminStrategy mostPayoffStrategy;
+    static final long DEFAULT_BUDGET_NANOS = 10_000_000L;
+    static final int DEFAULT_HORIZON = 16;
+    static final int FIELD_COUNT = IlyaPoteminField.COUNT;
 
-    @IlyaPoteminInjectedMetric(IlyaPoteminFightPercentMetric.NAME)
-    protected IlyaPoteminMetric<Double> fightPercentMetric;
+    private static final IlyaPoteminField[] FIELDS = IlyaPoteminField.values();
+    private static final double EXPLORATION = Math.sqrt(2);
+    /**
+     * Max vegetation amount minus amount at step 0
+     */
+    private static final double MAX_ROUND_PAYOFF = 5.0;
 
-    public IlyaPoteminMooseStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth) {
-        super(metricDepth);
+    private IlyaPoteminLogger logger = IlyaPoteminLogger.getLogger("MonteCarloStrategy");
+    private IlyaPoteminGameStateSimulation gameState;
+    private IlyaPoteminStrategy greedyStrategy;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long budgetNanos = DEFAULT_BUDGET_NANOS;
+    private int horizon = DEFAULT_HORIZON;
+
+    private long playoutCount;
+    private long searchNanos;
+    private int fallbackCount;
+
+    public IlyaPoteminMonteCarloStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth) {
+        this(gameState, metricDepth, IlyaPoteminRandom.create());
+    }
+
+    /**
+     * Each search task gets its own stream split from random
+     */
+    public IlyaPoteminMonteCarloStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth,
+                                         IlyaPoteminRandom random) {
+        super(metricDepth, random);
         this.gameState = gameState;
-        mostPayoffStrategy = new IlyaPoteminMostPayoffStrategy(this, gameState);
+        greedyStrategy = new IlyaPoteminMostPayoffStrategy(this, gameState);
     }
 
-    public IlyaPoteminMooseStrategy(IlyaPoteminAbstractStrategy parent) {
-        super(parent);
+    public IlyaPoteminMonteCarloStrategy withBudgetNanos(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+        return this;
+    }
+
+    public IlyaPoteminMonteCarloStrategy withHorizon(int horizon) {
+        this.horizon = Math.max(1, horizon);
+        return this;
+    }
+
+    /**
+     * One of search tasks is run by calling thread, others are submitted to pool
+     */
+    public IlyaPoteminMonteCarloStrategy withPool(ForkJoinPool pool, int parallelism) {
+        this.pool = pool;
+        this.parallelism = Math.max(1, parallelism);
+        return this;
     }
 
     @Override
     public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
-        if (opponentLastMove == null) {
-            return mostPayoffStrategy.move(history, null);
+        if (budgetNanos <= 0) {
+            fallbackCount++;
+            return greedyStrategy.move(history, opponentLastMove);
         }
-        super.updateMetrics(history);
-        Collection<IlyaPoteminFieldState> fieldStates = gameState.getFieldStates();
-        List<IlyaPoteminFieldState> nonZeroStepFieldStates = fieldStates.stream()
-                .filter(state -> state.getVegetationStep() > 0)
-                .collect(Collectors.toList());
-        if (nonZeroStepFieldStates.size() == 1) {
-            // there is only one field with non-zero step and non-zero available payoff
-            // if opponent is not stupid enough, it will this move and get an advantage in payoffs
-            // we have one choice - select it and either win or neglect both payoffs\
-            logger.info("Using no other choice strategy");
-            return nonZeroStepFieldStates.get(0).getField();
+        long nanosStart = System.nanoTime();
+        long deadline = nanosStart + budgetNanos;
+        List<SearchTask> tasks = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            tasks.add(new SearchTask(new IlyaPoteminGameStateSimulationImpl(gameState), random.split(), deadline));
         }
-        // there is not only one field with non-zero step and non-zero available payoff
-        return mostPayoffStrategy.move(history, opponentLastMove);
+        for (int i = 1; i < tasks.size(); i++) {
+            pool.execute(tasks.get(i));
+        }
+        int[] visits = new int[FIELD_COUNT];
+        long playouts = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            SearchTask task = tasks.get(i);
+            Node root;
+            if (i == 0) {
+                root = task.invoke();
+            } else if (task.tryUnfork() || task.cancelIfNotStarted()) {
+                continue;
+            } else {
+                root = task.join();
+            }
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                visits[field] += root.playerVisits[field];
+            }
+            playouts += root.visits;
+        }
+        long nanos = System.nanoTime() - nanosStart;
+        playoutCount += playouts;
+        searchNanos += nanos;
+        if (logger.isEnabled()) {
+            logger.info("Searched %d playouts in %d us, %d playouts/s", playouts, nanos / 1000,
+                    (long) getPlayoutsPerSecond());
+        }
+        int bestField = 0;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            if (visits[field] == 0) {
+                fallbackCount++;
+                return greedyStrategy.move(history, opponentLastMove);
+            }
+            if (visits[field] > visits[bestField]) {
+                bestField = field;
+            }
+        }
+        return FIELDS[bestField];
     }
 
-    public String toString() {
-        String gameStateStr = gameState.getFieldStates().stream()
-                .map(Object::toString)
-                .collect(Collectors.joining(" "));
-        return "MooseStrategy(" +
-                "gameState=" + gameStateStr +
-                ", fightPercentMetric=" + fightPercentMetric.toString() +
-                ")";
+    public long getPlayoutCount() {
+        return playoutCount;
+    }
+
+    /**
+     * @return playouts per second of wall time spent in search since strategy creation, summed over all tasks
+     */
+    public double getPlayoutsPerSecond() {
+        return searchNanos == 0 ? 0.0 : playoutCount * 1e9 / searchNanos;
+    }
+
+    /**
+     * @return number of moves taken by greedy strategy instead of search
+     */
+    public int getFallbackCount() {
+        return fallbackCount;
+    }
+
+    /**
+     * Node holds decoupled statistics of player and opponent moves and children by joint move
+     */
+    private static class Node {
+        private final Node[] children = new Node[FIELD_COUNT * FIELD_COUNT];
+        private final int[] playerVisits = new int[FIELD_COUNT];
+        private final double[] playerValues = new double[FIELD_COUNT];
+        private final int[] opponentVisits = new int[FIELD_COUNT];
+        private final double[] opponentValues = new double[FIELD_COUNT];
+        private int visits;
+    }
+
+    /**
+     * SearchTask is confined to single thread, it owns its tree, simulation and random
+     */
+    private class SearchTask extends RecursiveTask<Node> {
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final IlyaPoteminGameStateSimulation simulation;
+        private final IlyaPoteminRandom taskRandom;
+        private final long deadline;
+        private final Node[] path = new Node[horizon];
+        private final int[] playerMoves = new int[horizon];
+        private final int[] opponentMoves = new int[horizon];
+
+        SearchTask(IlyaPoteminGameStateSimulation simulation, IlyaPoteminRandom taskRandom, long deadline) {
+            this.simulation = simulation;
+            this.taskRandom = taskRandom;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true if task did not start yet, then it will not search when pool gets to it
+         */
+        boolean cancelIfNotStarted() {
+            return started.compareAndSet(false, true);
+        }
+
+        @Override
+        protected Node compute() {
+            Node root = new Node();
+            if (!started.compareAndSet(false, true)) {
+                return root;
+            }
+            int snapshot = simulation.snapshot();
+            while (System.nanoTime() < deadline) {
+                playout(root);
+                simulation.restore(snapshot);
+            }
+            return root;
+        }
+
+        private void playout(Node root) {
+            Node node = root;
+            int treeDepth = 0;
+            while (treeDepth < horizon) {
+                int playerMove = select(node.playerVisits, node.playerValues, node.visits);
+                int opponentMove = select(node.opponentVisits, node.opponentValues, node.visits);
+                path[treeDepth] = node;
+                playerMoves[treeDepth] = playerMove;
+                opponentMoves[treeDepth] = opponentMove;
+                simulation.apply(playerMove, opponentMove);
+                treeDepth++;
+                int child = playerMove * FIELD_COUNT + opponentMove;
+                if (node.children[child] == null) {
+                    node.children[child] = new Node();
+                    break;
+                }
+                node = node.children[child];
+            }
+            for (int depth = treeDepth; depth < horizon; depth++) {
+                simulation.apply(taskRandom.nextInt(FIELD_COUNT), taskRandom.nextInt(FIELD_COUNT));
+            }
+            double playerReward = normalize(simulation.getPlayerPayoff());
+            double opponentReward = normalize(simulation.getOpponentPayoff());
+            for (int depth = 0; depth < treeDepth; depth++) {
+                Node pathNode = path[depth];
+                pathNode.visits++;
+                pathNode.playerVisits[playerMoves[depth]]++;
+                pathNode.playerValues[playerMoves[depth]] += playerReward;
+                pathNode.opponentVisits[opponentMoves[depth]]++;
+                pathNode.opponentValues[opponentMoves[depth]] += opponentReward;
+            }
+        }
+
+        /**
+         * @return not yet tried move or move with max UCB1
+         */
+        private int select(int[] visits, double[] values, int totalVisits) {
+            double logVisits = Math.log(Math.max(1, totalVisits));
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int move = 0; move < FIELD_COUNT; move++) {
+                if (visits[move] == 0) {
+                    return move;
+                }
+                double score = values[move] / visits[move] + EXPLORATION * Math.sqrt(logVisits / visits[move]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = move;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Saturated vegetation gives infinite or NaN payoff, it is counted as max reward
+         */
+        private double normalize(double payoff) {
+            double reward = payoff / (horizon * MAX_ROUND_PAYOFF);
+            return reward <= 1.0 ? reward : 1.0;
+        }
     }
 }
 
+/* FROM https://github.com/potemin1999/gt-mooses-game/blob/master/src/main/java/Markov.java */
 /**
- * This strategy selects fields which give player most payoff
- * It uses GameStateSimulation to fetch current state of fields based on round actions
+ * MarkovPredictor predicts opponent next move by counts of moves which followed same context
+ * Context of order k is k last rounds, each encoded as 2 bits of opponent move and 2 bits of player move,
+ * so counts of each order are flat int table indexed by context and move
+ * Prediction uses highest order, which context was already seen, update and prediction cost only depends on order
  */
-class IlyaPoteminMostPayoffStrategy extends IlyaPoteminAbstractStrategy {
-
-    private IlyaPoteminGameStateSimulation gameState;
-    private IlyaPoteminRandomStrategy randomStrategy;
+class IlyaPoteminMarkovPredictor {
+
+    static final int MAX_ORDER = 5;
+    static final int FIELD_COUNT = IlyaPoteminField.COUNT;
+    private static final int ROUND_BITS = 4;
+
+    private final int maxOrder;
+    /**
+     * counts[order][context * FIELD_COUNT + opponentMove], order 0 has single empty context
+     */
+    private final int[][] counts;
+    private long context;
+    private int roundCount;
+
+    IlyaPoteminMarkovPredictor(int maxOrder) {
+        if (maxOrder < 0 || maxOrder > MAX_ORDER) {
+            throw new IllegalArgumentException("Order should be in range [0, " + MAX_ORDER + "], got " + maxOrder);
+        }
+        this.maxOrder = maxOrder;
+        this.counts = new int[maxOrder + 1][];
+        for (int order = 0; order <= maxOrder; order++) {
+            counts[order] = new int[(1 << (order * ROUND_BITS)) * FIELD_COUNT];
+        }
+    }
 
-    private IlyaPoteminMostPayoffStrategy(int metricDepth) {
-        super(metricDepth);
+    /**
+     * Counts opponent move after current contexts of all orders, then appends round to context
+     */
+    void update(IlyaPoteminField playerMove, IlyaPoteminField opponentMove) {
+        int opponent = opponentMove.ordinal();
+        int availableOrder = Math.min(maxOrder, roundCount);
+        for (int order = 0; order <= availableOrder; order++) {
+            counts[order][contextOf(order) * FIELD_COUNT + opponent]++;
+        }
+        context = (context << ROUND_BITS) | (opponent << 2) | playerMove.ordinal();
+        roundCount++;
+    }
+
+    /**
+     * @param probabilities filled with predicted probabilities of opponent moves, uniform if nothing is known
+     * @return order of context used for prediction or -1 if there is no observations
+     */
+    int predict(double[] probabilities) {
+        for (int order = Math.min(maxOrder, roundCount); order >= 0; order--) {
+            int offset = contextOf(order) * FIELD_COUNT;
+            int[] orderCounts = counts[order];
+            int total = orderCounts[offset] + orderCounts[offset + 1] + orderCounts[offset + 2];
+            if (total > 0) {
+                for (int move = 0; move < FIELD_COUNT; move++) {
+                    probabilities[move] = (double) orderCounts[offset + move] / total;
+                }
+                return order;
+            }
+        }
+        for (int move = 0; move < FIELD_COUNT; move++) {
+            probabilities[move] = 1.0 / FIELD_COUNT;
+        }
+        return -1;
     }
 
-    protected IlyaPoteminMostPayoffStrategy(IlyaPoteminAbstractStrategy parent, IlyaPoteminGameStateSimulation gameState) {
-        super(parent);
-        this.gameState = gameState;
-        randomStrategy = new IlyaPoteminRandomStrategy(this);
+    private int contextOf(int order) {
+        return (int) (context & ((1L << (order * ROUND_BITS)) - 1));
     }
 
-    @Override
-    public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
-        long maxFieldVegetationStep = gameState.getFieldStates().stream()
-                .max(Comparator.comparing(IlyaPoteminFieldState::getVegetationAmount))
-                .orElseThrow().getVegetationStep();
-        List<IlyaPoteminField> maxPayoffFields = gameState.getFieldStates().stream()
-                .filter(state -> state.getVegetationStep() == maxFieldVegetationStep)
-                .map(IlyaPoteminFieldState::getField)
-                .collect(Collectors.toList());
-        return randomStrategy.move(maxPayoffFields);
+    int getRoundCount() {
+        return roundCount;
     }
 }
 
 /**
- * RandomStrategy - selects random field
+ * MarkovStrategy best responds to predicted opponent move: field payoff is weighted by probability
+ * of opponent not selecting it, ties are broken randomly
  */
-class IlyaPoteminRandomStrategy extends IlyaPoteminAbstractStrategy {
-    private Random randomEngine = new Random();
+class IlyaPoteminMarkovStrategy extends IlyaPoteminAbstractStrategy {
 
-    public IlyaPoteminRandomStrategy(int metricDepth) {
-        super(metricDepth);
+    static final int DEFAULT_ORDER = 3;
+    private static final IlyaPoteminField[] FIELDS = IlyaPoteminField.values();
+
+    private IlyaPoteminGameStateSimulation gameState;
+    private IlyaPoteminMarkovPredictor predictor;
+    private final double[] probabilities = new double[IlyaPoteminMarkovPredictor.FIELD_COUNT];
+    private final double[] expectedPayoffs = new double[IlyaPoteminMarkovPredictor.FIELD_COUNT];
+    private int lastRound;
+
+    public IlyaPoteminMarkovStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth,
+                                     IlyaPoteminRandom random) {
+        this(gameState, metricDepth, random, DEFAULT_ORDER);
     }
 
-    public IlyaPoteminRandomStrategy(IlyaPoteminAbstractStrategy parent) {
-        super(parent);
+    public IlyaPoteminMarkovStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth,
+                                     IlyaPoteminRandom random, int order) {
+        super(metricDepth, random);
+        this.gameState = gameState;
+        this.predictor = new IlyaPoteminMarkovPredictor(order);
     }
 
     @Override
     public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
-        return IlyaPoteminField.ofValue(randomEngine.nextInt(3) + 1);
+        IlyaPoteminRoundRecord lastRecord = history.getLastAction();
+        if (lastRecord != null && lastRecord.round != lastRound) {
+            predictor.update(lastRecord.playerMove, lastRecord.opponentMove);
+            lastRound = lastRecord.round;
+        }
+        predictor.predict(probabilities);
+        double amount0 = IlyaPoteminVegetationTable.SHARED.applyAsDouble(0);
+        for (int field = 0; field < expectedPayoffs.length; field++) {
+            expectedPayoffs[field] = (gameState.getVegetationAmount(field) - amount0) * (1.0 - probabilities[field]);
+        }
+        int best = 0;
+        int tieCount = 1;
+        for (int field = 1; field < expectedPayoffs.length; field++) {
+            if (expectedPayoffs[field] > expectedPayoffs[best]) {
+                best = field;
+                tieCount = 1;
+            } else if (expectedPayoffs[field] == expectedPayoffs[best] && random.nextInt(++tieCount) == 0) {
+                best = field;
+            }
+        }
+        return FIELDS[best];
     }
 
-    public IlyaPoteminField move(List<IlyaPoteminField> fromList) {
-        return fromList.get(randomEngine.nextInt(fromList.size()));
+    IlyaPoteminMarkovPredictor getPredictor() {
+        return predictor;
+    }
+}
+
+/* FROM annotation processing of src/main/java: IlyaPoteminMooseStrategyMetricInjector.java */
+/* GENERATED BY build.MetricInjectorProcessor */
+final class IlyaPoteminMooseStrategyMetricInjector implements IlyaPoteminMetricInjector<IlyaPoteminMooseStrategy> {
+    private static final int FIGHT_PERCENT_METRIC_HANDLE = IlyaPoteminMetricRegistry.resolve("fight_percent_metric");
+
+    @Override
+    public void inject(IlyaPoteminMooseStrategy strategy, IlyaPoteminMetricFactory metricFactory) {
+        strategy.fightPercentMetric = metricFactory.get(FIGHT_PERCENT_METRIC_HANDLE);
     }
 }
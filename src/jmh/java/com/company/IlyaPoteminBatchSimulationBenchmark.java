@@ -0,0 +1,49 @@
+package com.company;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one round applied to batch of independent games, compare with simulateLastRound per game
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class IlyaPoteminBatchSimulationBenchmark {
+
+    static final int ROUND_VARIANTS = 64;
+
+    @Param({"16", "1024", "65536"})
+    int gameCount;
+
+    private int[][] playerMoves;
+    private int[][] opponentMoves;
+    private IlyaPoteminBatchSimulation simulation;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        playerMoves = new int[ROUND_VARIANTS][gameCount];
+        opponentMoves = new int[ROUND_VARIANTS][gameCount];
+        int[] moves = IlyaPoteminBenchmarkRounds.moves(IlyaPoteminBenchmarkRounds.SEED);
+        for (int variant = 0; variant < ROUND_VARIANTS; variant++) {
+            for (int game = 0; game < gameCount; game++) {
+                int index = (variant * gameCount + game) * 2;
+                playerMoves[variant][game] = moves[index & IlyaPoteminBenchmarkRounds.MASK] - 1;
+                opponentMoves[variant][game] = moves[(index + 1) & IlyaPoteminBenchmarkRounds.MASK] - 1;
+            }
+        }
+        simulation = new IlyaPoteminBatchSimulation(gameCount);
+    }
+
+    @Benchmark
+    public IlyaPoteminBatchSimulation advance() {
+        int variant = (round++) & (ROUND_VARIANTS - 1);
+        simulation.advance(playerMoves[variant], opponentMoves[variant]);
+        return simulation;
+    }
+}
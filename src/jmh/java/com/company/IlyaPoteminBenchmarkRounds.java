@@ -0,0 +1,36 @@
+package com.company;
+
+import java.util.Random;
+
+/**
+ * Reproducible source of moves for benchmarks, so opponent behaviour is the same in every run
+ */
+class IlyaPoteminBenchmarkRounds {
+
+    static final int SEED = 1999;
+    static final int SIZE = 1 << 16;
+    static final int MASK = SIZE - 1;
+
+    /**
+     * @return field values in range 1..3
+     */
+    static int[] moves(int seed) {
+        Random random = new Random(seed);
+        int[] moves = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            moves[i] = random.nextInt(3) + 1;
+        }
+        return moves;
+    }
+
+    /**
+     * Plays given amount of rounds against opponent moves, so player history has required length
+     */
+    static void play(IlyaPoteminCode player, int[] opponentMoves, int rounds) {
+        int opponentLastMove = 0;
+        for (int round = 0; round < rounds; round++) {
+            player.move(opponentLastMove, 1, 1, 1);
+            opponentLastMove = opponentMoves[round & MASK];
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.company;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures player hot path after game of given length was already played
+ * Single shot batches are used, so every measured batch starts from history of exactly gameLength rounds
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, batchSize = IlyaPoteminCodeBenchmark.BATCH_SIZE)
+@Measurement(iterations = 10, batchSize = IlyaPoteminCodeBenchmark.BATCH_SIZE)
+@Fork(1)
+public class IlyaPoteminCodeBenchmark {
+
+    static final int BATCH_SIZE = 1000;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int gameLength;
+
+    @Param({"10", "100", "1000"})
+    int metricDepth;
+
+    private int[] opponentMoves;
+    private IlyaPoteminCode player;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        opponentMoves = IlyaPoteminBenchmarkRounds.moves(IlyaPoteminBenchmarkRounds.SEED);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        player = new IlyaPoteminCode(metricDepth, IlyaPoteminRandom.ofSeed(IlyaPoteminBenchmarkRounds.SEED));
+        IlyaPoteminBenchmarkRounds.play(player, opponentMoves, gameLength);
+        round = gameLength;
+    }
+
+    @Benchmark
+    public int move() {
+        int opponentLastMove = opponentMoves[(round++) & IlyaPoteminBenchmarkRounds.MASK];
+        return player.move(opponentLastMove, 1, 1, 1);
+    }
+
+    @Benchmark
+    public void reset(Blackhole blackhole) {
+        player.reset();
+        blackhole.consume(player);
+    }
+}
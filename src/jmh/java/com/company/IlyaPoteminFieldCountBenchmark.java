@@ -0,0 +1,46 @@
+package com.company;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures applying and undoing round in game variants with different number of fields,
+ * cost of round should grow only with linear loop over field arrays
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class IlyaPoteminFieldCountBenchmark {
+
+    @Param({"3", "8", "32", "128"})
+    int fieldCount;
+
+    private int[] playerMoves;
+    private int[] opponentMoves;
+    private IlyaPoteminGameStateSimulation simulation;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        playerMoves = IlyaPoteminBenchmarkRounds.moves(IlyaPoteminBenchmarkRounds.SEED);
+        opponentMoves = IlyaPoteminBenchmarkRounds.moves(IlyaPoteminBenchmarkRounds.SEED + 1);
+        for (int i = 0; i < playerMoves.length; i++) {
+            playerMoves[i] = (playerMoves[i] * 7 + i) % fieldCount;
+            opponentMoves[i] = (opponentMoves[i] * 11 + i / 3) % fieldCount;
+        }
+        simulation = new IlyaPoteminGameStateSimulationImpl(fieldCount);
+    }
+
+    @Benchmark
+    public double applyUndo() {
+        int index = (round++) & IlyaPoteminBenchmarkRounds.MASK;
+        simulation.apply(playerMoves[index], opponentMoves[index]);
+        double payoff = simulation.getPlayerPayoff();
+        simulation.undo();
+        return payoff;
+    }
+}
@@ -0,0 +1,60 @@
+package com.company;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures update of all strategy metrics, as done by IlyaPoteminAbstractStrategy.updateMetrics,
+ * after history of gameLength rounds, each invocation plays one more round, so metrics slide their windows
+ * and rescan them once per metricDepth rounds as in real game
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class IlyaPoteminMetricBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int gameLength;
+
+    @Param({"10", "100", "1000"})
+    int metricDepth;
+
+    private int[] playerMoves;
+    private int[] opponentMoves;
+    private IlyaPoteminGameStateSimulation simulation;
+    private IlyaPoteminHistory history;
+    private IlyaPoteminMetricFactory metricFactory;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        playerMoves = IlyaPoteminBenchmarkRounds.moves(IlyaPoteminBenchmarkRounds.SEED);
+        opponentMoves = IlyaPoteminBenchmarkRounds.moves(IlyaPoteminBenchmarkRounds.SEED + 1);
+        simulation = new IlyaPoteminGameStateSimulationImpl();
+        history = new IlyaPoteminRingHistory(metricDepth);
+        for (round = 0; round < gameLength; round++) {
+            playRound();
+        }
+        metricFactory = new IlyaPoteminMooseStrategy(simulation, metricDepth).metricFactory;
+        metricFactory.forEach((name, metric) -> metric.update(history));
+    }
+
+    private void playRound() {
+        int index = round & IlyaPoteminBenchmarkRounds.MASK;
+        history.writeCurrentPlayerMove(IlyaPoteminField.ofValue(playerMoves[index]));
+        history.writeLastOpponentMove(IlyaPoteminField.ofValue(opponentMoves[index]));
+        simulation.simulateLastRound(history.getLastAction());
+    }
+
+    @Benchmark
+    public IlyaPoteminMetricFactory forEach() {
+        playRound();
+        round++;
+        metricFactory.forEach((name, metric) -> metric.update(history));
+        return metricFactory;
+    }
+}
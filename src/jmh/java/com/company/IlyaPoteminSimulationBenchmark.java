@@ -0,0 +1,65 @@
+package com.company;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures single round application to game state simulation, which was already advanced by gameLength rounds
+ * Lookahead measures exploring 3x3 hypothetical rounds by apply/undo, its cost should not depend on gameLength
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class IlyaPoteminSimulationBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int gameLength;
+
+    private IlyaPoteminRoundRecord[] records;
+    private IlyaPoteminGameStateSimulation simulation;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        int[] playerMoves = IlyaPoteminBenchmarkRounds.moves(IlyaPoteminBenchmarkRounds.SEED);
+        int[] opponentMoves = IlyaPoteminBenchmarkRounds.moves(IlyaPoteminBenchmarkRounds.SEED + 1);
+        records = new IlyaPoteminRoundRecord[IlyaPoteminBenchmarkRounds.SIZE];
+        for (int i = 0; i < records.length; i++) {
+            IlyaPoteminRoundRecord record = new IlyaPoteminRoundRecord();
+            record.round = i + 1;
+            record.playerMove = IlyaPoteminField.ofValue(playerMoves[i]);
+            record.opponentMove = IlyaPoteminField.ofValue(opponentMoves[i]);
+            record.isBattle = record.playerMove == record.opponentMove;
+            records[i] = record;
+        }
+        simulation = new IlyaPoteminGameStateSimulationImpl();
+        for (round = 0; round < gameLength; round++) {
+            simulation.simulateLastRound(records[round & IlyaPoteminBenchmarkRounds.MASK]);
+        }
+    }
+
+    @Benchmark
+    public IlyaPoteminGameStateSimulation simulateLastRound() {
+        simulation.simulateLastRound(records[(round++) & IlyaPoteminBenchmarkRounds.MASK]);
+        return simulation;
+    }
+
+    @Benchmark
+    public double lookahead() {
+        double best = Double.NEGATIVE_INFINITY;
+        int snapshot = simulation.snapshot();
+        for (IlyaPoteminField playerMove : IlyaPoteminField.values()) {
+            for (IlyaPoteminField opponentMove : IlyaPoteminField.values()) {
+                simulation.apply(playerMove, opponentMove);
+                best = Math.max(best, simulation.getPlayerPayoff());
+                simulation.undo();
+            }
+        }
+        simulation.restore(snapshot);
+        return best;
+    }
+}
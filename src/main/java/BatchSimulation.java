@@ -0,0 +1,110 @@
+import java.util.Arrays;
+
+/**
+ * BatchSimulation advances N independent games at once, applying the same rules as GameStateSimulation
+ * Vegetation steps are kept in flat arrays per field, so each round is a few tight loops
+ * of branch-free integer arithmetic which JIT is able to vectorize
+ */
+class IlyaPoteminBatchSimulation {
+
+    static final int FIELD_COUNT = IlyaPoteminField.COUNT;
+
+    private final int gameCount;
+    private final int[][] steps;
+    private final double[] playerPayoffs;
+    private final double[] opponentPayoffs;
+    private final double[] vegetationAmounts = IlyaPoteminVegetationTable.SHARED.getFullTable();
+    private final double vegetationAmount0 = vegetationAmounts[0];
+
+    public IlyaPoteminBatchSimulation(int gameCount) {
+        this.gameCount = gameCount;
+        this.steps = new int[FIELD_COUNT][gameCount];
+        this.playerPayoffs = new double[gameCount];
+        this.opponentPayoffs = new double[gameCount];
+        reset(1, 1, 1);
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Starts all games from given vegetation steps and clears accumulated payoffs
+     */
+    public void reset(int stepA, int stepB, int stepC) {
+        Arrays.fill(steps[0], stepA);
+        Arrays.fill(steps[1], stepB);
+        Arrays.fill(steps[2], stepC);
+        Arrays.fill(playerPayoffs, 0.0);
+        Arrays.fill(opponentPayoffs, 0.0);
+    }
+
+    /**
+     * Starts all games from current state of live simulation
+     */
+    public void reset(IlyaPoteminGameStateSimulation simulation) {
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            Arrays.fill(steps[field], (int) Math.min(Integer.MAX_VALUE, simulation.getVegetationStep(field)));
+        }
+        Arrays.fill(playerPayoffs, 0.0);
+        Arrays.fill(opponentPayoffs, 0.0);
+    }
+
+    /**
+     * Applies one round to every game
+     * @param playerMoves field ordinals chosen by player, one per game
+     * @param opponentMoves field ordinals chosen by opponent, one per game
+     */
+    public void advance(int[] playerMoves, int[] opponentMoves) {
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            int[] fieldSteps = steps[field];
+            accumulatePayoffs(field, fieldSteps, playerMoves, opponentMoves);
+            updateSteps(field, fieldSteps, playerMoves, opponentMoves);
+        }
+    }
+
+    /**
+     * @return 1 if move is equal to field, otherwise 0, for values in range 0..3
+     */
+    private static int isField(int move, int field) {
+        return ((move ^ field) - 1) >>> 31;
+    }
+
+    private void accumulatePayoffs(int field, int[] fieldSteps, int[] playerMoves, int[] opponentMoves) {
+        double[] amounts = vegetationAmounts;
+        double amount0 = vegetationAmount0;
+        int lastStep = amounts.length - 1;
+        for (int i = 0; i < gameCount; i++) {
+            int player = isField(playerMoves[i], field);
+            int opponent = isField(opponentMoves[i], field);
+            double payoff = amounts[Math.min(fieldSteps[i], lastStep)] - amount0;
+            // select instead of multiplying by 0 or 1, saturated payoff is not finite
+            playerPayoffs[i] += (player & ~opponent) != 0 ? payoff : 0.0;
+            opponentPayoffs[i] += (opponent & ~player) != 0 ? payoff : 0.0;
+        }
+    }
+
+    /**
+     * Visited field loses one step, but not below zero, not visited field gains one
+     */
+    private void updateSteps(int field, int[] fieldSteps, int[] playerMoves, int[] opponentMoves) {
+        for (int i = 0; i < gameCount; i++) {
+            int visited = isField(playerMoves[i], field) | isField(opponentMoves[i], field);
+            int step = fieldSteps[i] + 1 - (visited << 1);
+            step &= ~(step >> 31);
+            fieldSteps[i] = step;
+        }
+    }
+
+    public int getStep(int field, int game) {
+        return steps[field][game];
+    }
+
+    public double getPlayerPayoff(int game) {
+        return playerPayoffs[game];
+    }
+
+    public double getOpponentPayoff(int game) {
+        return opponentPayoffs[game];
+    }
+}
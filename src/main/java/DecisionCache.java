@@ -0,0 +1,156 @@
+/**
+ * DecisionCache maps packed game situation to field decided for it, using fixed memory
+ * Cache is set associative: key hash selects set of WAYS slots, slot to replace in full set is chosen by clock,
+ * which skips and clears recently hit slots
+ * Not thread-safe, each player owns its cache
+ */
+class IlyaPoteminDecisionCache {
+
+    static final int WAYS = 4;
+    static final int STEP_BITS = 20;
+    private static final long STEP_MASK = (1L << STEP_BITS) - 1;
+    private static final IlyaPoteminField[] FIELDS = IlyaPoteminField.values();
+
+    private final long[] keys;
+    /**
+     * Field ordinal plus one, zero marks empty slot
+     */
+    private final byte[] values;
+    private final boolean[] referenced;
+    private final byte[] clockHands;
+    private final int setMask;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * @param capacity max number of entries, rounded up to power of two, not less than WAYS
+     */
+    IlyaPoteminDecisionCache(int capacity) {
+        int sets = Integer.highestOneBit(Math.max(WAYS, capacity) - 1) * 2 / WAYS;
+        keys = new long[sets * WAYS];
+        values = new byte[sets * WAYS];
+        referenced = new boolean[sets * WAYS];
+        clockHands = new byte[sets];
+        setMask = sets - 1;
+    }
+
+    /**
+     * Packs vegetation steps, saturated to STEP_BITS each, and opponent last move to single key
+     */
+    static long key(long stepA, long stepB, long stepC, IlyaPoteminField opponentLastMove) {
+        long key = Math.min(stepA, STEP_MASK);
+        key = (key << STEP_BITS) | Math.min(stepB, STEP_MASK);
+        key = (key << STEP_BITS) | Math.min(stepC, STEP_MASK);
+        return (key << 2) | (opponentLastMove == null ? 0 : opponentLastMove.getValue());
+    }
+
+    /**
+     * @return cached field or null if key is not cached
+     */
+    IlyaPoteminField get(long key) {
+        int offset = setOffset(key);
+        for (int slot = offset; slot < offset + WAYS; slot++) {
+            if (values[slot] != 0 && keys[slot] == key) {
+                referenced[slot] = true;
+                hitCount++;
+                return FIELDS[values[slot] - 1];
+            }
+        }
+        missCount++;
+        return null;
+    }
+
+    void put(long key, IlyaPoteminField field) {
+        int set = setIndex(key);
+        int offset = set * WAYS;
+        for (int slot = offset; slot < offset + WAYS; slot++) {
+            if (values[slot] == 0 || keys[slot] == key) {
+                store(slot, key, field);
+                return;
+            }
+        }
+        int hand = clockHands[set];
+        while (referenced[offset + hand]) {
+            referenced[offset + hand] = false;
+            hand = (hand + 1) & (WAYS - 1);
+        }
+        clockHands[set] = (byte) ((hand + 1) & (WAYS - 1));
+        evictionCount++;
+        store(offset + hand, key, field);
+    }
+
+    private void store(int slot, long key, IlyaPoteminField field) {
+        keys[slot] = key;
+        values[slot] = (byte) (field.ordinal() + 1);
+        referenced[slot] = false;
+    }
+
+    private int setIndex(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & setMask;
+    }
+
+    private int setOffset(long key) {
+        return setIndex(key) * WAYS;
+    }
+
+    int getCapacity() {
+        return keys.length;
+    }
+
+    long getHitCount() {
+        return hitCount;
+    }
+
+    long getMissCount() {
+        return missCount;
+    }
+
+    long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public String toString() {
+        return "DecisionCache(capacity=" + keys.length + ", hits=" + hitCount + ", misses=" + missCount
+                + ", evictions=" + evictionCount + ")";
+    }
+}
+
+/**
+ * CachingStrategy asks delegate only for situations not seen before, so it is suitable for strategies,
+ * which decision depends only on vegetation steps and opponent last move
+ * Randomized delegate decides once per situation, its choice is then repeated
+ */
+class IlyaPoteminCachingStrategy implements IlyaPoteminStrategy {
+
+    private final IlyaPoteminStrategy delegate;
+    private final IlyaPoteminGameStateSimulation gameState;
+    private final IlyaPoteminDecisionCache cache;
+
+    IlyaPoteminCachingStrategy(IlyaPoteminStrategy delegate, IlyaPoteminGameStateSimulation gameState, int capacity) {
+        this.delegate = delegate;
+        this.gameState = gameState;
+        this.cache = new IlyaPoteminDecisionCache(capacity);
+    }
+
+    @Override
+    public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
+        long key = IlyaPoteminDecisionCache.key(gameState.getVegetationStep(0), gameState.getVegetationStep(1),
+                gameState.getVegetationStep(2), opponentLastMove);
+        IlyaPoteminField field = cache.get(key);
+        if (field == null) {
+            field = delegate.move(history, opponentLastMove);
+            cache.put(key, field);
+        }
+        return field;
+    }
+
+    IlyaPoteminDecisionCache getCache() {
+        return cache;
+    }
+
+    public String toString() {
+        return "CachingStrategy(delegate=" + delegate + ", cache=" + cache + ")";
+    }
+}
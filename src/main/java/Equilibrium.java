@@ -0,0 +1,288 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * EquilibriumSolver enumerates vegetation states (stepA, stepB, stepC) reachable from game start
+ * without any step exceeding bound, and solves stage game of each state for symmetric mixed equilibrium
+ * Stage game: player gets amount of chosen field minus amount at step 0, if opponent has not chosen same field
+ * Usage: IlyaPoteminEquilibriumSolver [output file] [bound]
+ */
+class IlyaPoteminEquilibriumSolver {
+
+    static final int DEFAULT_BOUND = 40;
+    static final int FIELD_COUNT = IlyaPoteminField.COUNT;
+
+    public static void main(String[] args) throws IOException {
+        Path output = Paths.get(args.length > 0 ? args[0] : "IlyaPoteminEquilibrium.bin");
+        int bound = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BOUND;
+        long nanosStart = System.nanoTime();
+        IlyaPoteminEquilibriumTable table = solve(bound);
+        long nanos = System.nanoTime() - nanosStart;
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream outputStream = Files.newOutputStream(output)) {
+            table.write(outputStream);
+        }
+        System.out.printf("Solved %d reachable states of bound %d in %d ms, table written to %s (%d bytes)\n",
+                table.getSolvedCount(), bound, nanos / 1_000_000, output, Files.size(output));
+    }
+
+    static IlyaPoteminEquilibriumTable solve(int bound) {
+        IlyaPoteminEquilibriumTable table = new IlyaPoteminEquilibriumTable(bound);
+        boolean[] reachable = enumerateReachable(table);
+        double[] amounts = IlyaPoteminVegetationTable.SHARED.getFullTable();
+        IntStream.range(0, reachable.length)
+                .parallel()
+                .filter(index -> reachable[index])
+                .forEach(index -> {
+                    double[] values = new double[FIELD_COUNT];
+                    for (int field = 0; field < FIELD_COUNT; field++) {
+                        values[field] = amounts[table.step(index, field)] - amounts[0];
+                    }
+                    table.set(index, solveStage(values));
+                });
+        return table;
+    }
+
+    /**
+     * Breadth-first search over all joint moves starting from initial state (1, 1, 1)
+     */
+    static boolean[] enumerateReachable(IlyaPoteminEquilibriumTable table) {
+        boolean[] reachable = new boolean[table.getStateCount()];
+        int[] queue = new int[reachable.length];
+        int head = 0;
+        int tail = 0;
+        int[] steps = new int[FIELD_COUNT];
+        queue[tail++] = table.index(1, 1, 1);
+        reachable[queue[0]] = true;
+        while (head < tail) {
+            int index = queue[head++];
+            for (int playerMove = 0; playerMove < FIELD_COUNT; playerMove++) {
+                for (int opponentMove = 0; opponentMove < FIELD_COUNT; opponentMove++) {
+                    boolean inBound = true;
+                    for (int field = 0; field < FIELD_COUNT; field++) {
+                        int step = table.step(index, field);
+                        steps[field] = field == playerMove || field == opponentMove ? Math.max(0, step - 1) : step + 1;
+                        inBound &= steps[field] <= table.getBound();
+                    }
+                    if (!inBound) {
+                        continue;
+                    }
+                    int next = table.index(steps[0], steps[1], steps[2]);
+                    if (!reachable[next]) {
+                        reachable[next] = true;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Against opponent mixing by q, field i pays values[i] * (1 - q[i]), so equilibrium support is some number
+     * of most valuable fields, paying same c = (k - 1) / sum(1 / values[i]) and not less than any field outside
+     * @return probabilities of fields in symmetric equilibrium
+     */
+    static double[] solveStage(double[] values) {
+        Integer[] order = {0, 1, 2};
+        Arrays.sort(order, (first, second) -> Double.compare(values[second], values[first]));
+        double[] probabilities = new double[FIELD_COUNT];
+        for (int supportSize = FIELD_COUNT; supportSize > 1; supportSize--) {
+            double lowest = values[order[supportSize - 1]];
+            if (lowest <= 0) {
+                continue;
+            }
+            double inverseSum = 0;
+            for (int i = 0; i < supportSize; i++) {
+                inverseSum += 1.0 / values[order[i]];
+            }
+            double payoff = (supportSize - 1) / inverseSum;
+            boolean outsideIsWorse = supportSize == FIELD_COUNT || values[order[supportSize]] <= payoff;
+            if (payoff <= lowest && outsideIsWorse) {
+                for (int i = 0; i < supportSize; i++) {
+                    probabilities[order[i]] = 1.0 - payoff / values[order[i]];
+                }
+                return probabilities;
+            }
+        }
+        probabilities[order[0]] = 1.0;
+        return probabilities;
+    }
+}
+
+/**
+ * EquilibriumTable keeps mixed strategy of each state as two cumulative thresholds out of SCALE,
+ * so move is one array lookup and one random number
+ * Binary format: MAGIC, bound, then thresholds of all states, two chars each
+ * Steps above bound are looked up as bound, states not solved have no strategy
+ */
+class IlyaPoteminEquilibriumTable {
+
+    static final int MAGIC = 0x49504551;
+    static final int SCALE = 0xFFFF;
+    static final String PATH_PROPERTY = "ilya.potemin.equilibrium";
+
+    private static final IlyaPoteminField[] FIELDS = IlyaPoteminField.values();
+
+    private final int bound;
+    private final int side;
+    private final char[] thresholds;
+    private int solvedCount;
+
+    IlyaPoteminEquilibriumTable(int bound) {
+        if (bound < 1 || bound >= IlyaPoteminVegetationTable.SATURATION_STEP) {
+            throw new IllegalArgumentException("Bound should be in range [1, "
+                    + IlyaPoteminVegetationTable.SATURATION_STEP + "), got " + bound);
+        }
+        this.bound = bound;
+        this.side = bound + 1;
+        this.thresholds = new char[side * side * side * 2];
+        for (int index = 0; index < side * side * side; index++) {
+            thresholds[index * 2] = (char) SCALE;
+        }
+    }
+
+    /**
+     * Default table is read from file given by PATH_PROPERTY, or solved in-process if property is not set
+     */
+    static IlyaPoteminEquilibriumTable getDefault() {
+        return DefaultHolder.TABLE;
+    }
+
+    private static class DefaultHolder {
+        private static final IlyaPoteminEquilibriumTable TABLE = load();
+
+        private static IlyaPoteminEquilibriumTable load() {
+            String path = System.getProperty(PATH_PROPERTY);
+            if (path == null) {
+                return IlyaPoteminEquilibriumSolver.solve(IlyaPoteminEquilibriumSolver.DEFAULT_BOUND);
+            }
+            try (InputStream inputStream = Files.newInputStream(Paths.get(path))) {
+                return read(inputStream);
+            } catch (IOException exception) {
+                throw new IllegalStateException("Unable to read equilibrium table from " + path, exception);
+            }
+        }
+    }
+
+    int getBound() {
+        return bound;
+    }
+
+    int getStateCount() {
+        return side * side * side;
+    }
+
+    int getSolvedCount() {
+        return solvedCount;
+    }
+
+    int index(long stepA, long stepB, long stepC) {
+        return ((int) Math.min(stepA, bound) * side + (int) Math.min(stepB, bound)) * side
+                + (int) Math.min(stepC, bound);
+    }
+
+    int step(int index, int field) {
+        switch (field) {
+            case 0:
+                return index / (side * side);
+            case 1:
+                return index / side % side;
+            default:
+                return index % side;
+        }
+    }
+
+    synchronized void set(int index, double[] probabilities) {
+        int thresholdA = (int) Math.round(probabilities[0] * SCALE);
+        int thresholdB = (int) Math.round((probabilities[0] + probabilities[1]) * SCALE);
+        thresholds[index * 2] = (char) thresholdA;
+        thresholds[index * 2 + 1] = (char) Math.max(thresholdA, Math.min(SCALE, thresholdB));
+        solvedCount++;
+    }
+
+    boolean isSolved(int index) {
+        return thresholds[index * 2] <= thresholds[index * 2 + 1];
+    }
+
+    /**
+     * @return field sampled from equilibrium of state, or null if state was not solved
+     */
+    IlyaPoteminField sample(int index, IlyaPoteminRandom random) {
+        int thresholdA = thresholds[index * 2];
+        int thresholdB = thresholds[index * 2 + 1];
+        if (thresholdA > thresholdB) {
+            return null;
+        }
+        int value = random.nextInt(SCALE);
+        return value < thresholdA ? FIELDS[0] : value < thresholdB ? FIELDS[1] : FIELDS[2];
+    }
+
+    void write(OutputStream outputStream) throws IOException {
+        DataOutputStream dataStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        dataStream.writeInt(MAGIC);
+        dataStream.writeInt(bound);
+        for (char threshold : thresholds) {
+            dataStream.writeChar(threshold);
+        }
+        dataStream.flush();
+    }
+
+    static IlyaPoteminEquilibriumTable read(InputStream inputStream) throws IOException {
+        DataInputStream dataStream = new DataInputStream(new BufferedInputStream(inputStream));
+        if (dataStream.readInt() != MAGIC) {
+            throw new IOException("Not an equilibrium table");
+        }
+        IlyaPoteminEquilibriumTable table = new IlyaPoteminEquilibriumTable(dataStream.readInt());
+        for (int i = 0; i < table.thresholds.length; i++) {
+            table.thresholds[i] = dataStream.readChar();
+        }
+        for (int index = 0; index < table.getStateCount(); index++) {
+            if (table.isSolved(index)) {
+                table.solvedCount++;
+            }
+        }
+        return table;
+    }
+}
+
+/**
+ * EquilibriumStrategy plays mixed equilibrium of current stage game from precomputed table
+ * Greedy most payoff move is used for states missing in table
+ */
+class IlyaPoteminEquilibriumStrategy extends IlyaPoteminAbstractStrategy {
+
+    private IlyaPoteminGameStateSimulation gameState;
+    private IlyaPoteminEquilibriumTable table;
+    private IlyaPoteminStrategy greedyStrategy;
+
+    public IlyaPoteminEquilibriumStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth,
+                                          IlyaPoteminRandom random) {
+        this(gameState, metricDepth, random, IlyaPoteminEquilibriumTable.getDefault());
+    }
+
+    public IlyaPoteminEquilibriumStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth,
+                                          IlyaPoteminRandom random, IlyaPoteminEquilibriumTable table) {
+        super(metricDepth, random);
+        this.gameState = gameState;
+        this.table = table;
+        greedyStrategy = new IlyaPoteminMostPayoffStrategy(this, gameState);
+    }
+
+    @Override
+    public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
+        IlyaPoteminField field = table.sample(table.index(gameState.getVegetationStep(0),
+                gameState.getVegetationStep(1), gameState.getVegetationStep(2)), random);
+        return field != null ? field : greedyStrategy.move(history, opponentLastMove);
+    }
+}
@@ -0,0 +1,61 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder events of player, all of them are disabled unless enabled in recording settings,
+ * disabled event is neither timed nor committed
+ * Event is created, began and committed by same thread, so its fields are set only when shouldCommit is true
+ */
+@Name("com.company.IlyaPoteminRound")
+@Label("Round")
+@Category({"Moose Game", "Player"})
+@Description("Whole player move from receiving opponent move to returning own move")
+class IlyaPoteminRoundEvent extends Event {
+    @Label("Round")
+    int round;
+
+    @Label("Opponent Last Move")
+    String opponentLastMove;
+
+    @Label("Player Move")
+    String playerMove;
+}
+
+@Name("com.company.IlyaPoteminSimulationUpdate")
+@Label("Simulation Update")
+@Category({"Moose Game", "Player"})
+@Description("Application of completed round to game state simulation")
+class IlyaPoteminSimulationUpdateEvent extends Event {
+    @Label("Round")
+    int round;
+
+    @Label("Battle")
+    boolean battle;
+}
+
+@Name("com.company.IlyaPoteminMetricUpdate")
+@Label("Metric Update")
+@Category({"Moose Game", "Player"})
+@Description("Update of strategy metrics with history")
+class IlyaPoteminMetricUpdateEvent extends Event {
+    @Label("Round")
+    int round;
+}
+
+@Name("com.company.IlyaPoteminDecision")
+@Label("Strategy Decision")
+@Category({"Moose Game", "Player"})
+@Description("Branch of strategy, which decided player move")
+class IlyaPoteminDecisionEvent extends Event {
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Branch")
+    String branch;
+
+    @Label("Field")
+    String field;
+}
@@ -4,27 +4,66 @@
  */
 public class IlyaPoteminCode implements com.company.Player {
 
+    static final int DEFAULT_METRIC_DEPTH = 1000;
+
+    private final int metricDepth;
+    private IlyaPoteminRandom random;
     private IlyaPoteminHistory history;
     private IlyaPoteminStrategy playerStrategy;
     private IlyaPoteminGameStateSimulation simulation;
 
     public IlyaPoteminCode() {
+        this(DEFAULT_METRIC_DEPTH);
+    }
+
+    IlyaPoteminCode(int metricDepth) {
+        this(metricDepth, IlyaPoteminRandom.create());
+    }
+
+    /**
+     * Each game after reset uses its own stream split from random
+     */
+    IlyaPoteminCode(int metricDepth, IlyaPoteminRandom random) {
+        this.metricDepth = metricDepth;
+        this.random = random;
         reset();
     }
 
+    /**
+     * Seed is applied at next reset, after which player makes same moves given same opponent moves
+     */
+    public void setSeed(long seed) {
+        random = IlyaPoteminRandom.ofSeed(seed);
+    }
+
     public void reset() {
-        history = new IlyaPoteminArrayHistory();
+        history = new IlyaPoteminRingHistory(metricDepth);
         simulation = new IlyaPoteminGameStateSimulationImpl();
-        playerStrategy = new IlyaPoteminMooseStrategy(simulation, 1000);
+        playerStrategy = new IlyaPoteminMooseStrategy(simulation, metricDepth, random.split());
     }
 
     public IlyaPoteminField move(IlyaPoteminField lastOpponentMove) {
+        long nanosStart = IlyaPoteminLatency.ENABLED ? System.nanoTime() : 0;
+        IlyaPoteminRoundEvent roundEvent = new IlyaPoteminRoundEvent();
+        roundEvent.begin();
         if (lastOpponentMove != null) {
             history.writeLastOpponentMove(lastOpponentMove);
             simulation.simulateLastRound(history.getLastAction());
+            if (IlyaPoteminLatency.ENABLED) {
+                IlyaPoteminLatency.SIMULATE_LAST_ROUND.record(System.nanoTime() - nanosStart);
+            }
         }
         IlyaPoteminField moveToField = playerStrategy.move(history, lastOpponentMove);
         history.writeCurrentPlayerMove(moveToField);
+        if (roundEvent.shouldCommit()) {
+            roundEvent.round = history.getCurrentRound();
+            roundEvent.opponentLastMove = lastOpponentMove == null ? null : lastOpponentMove.name();
+            roundEvent.playerMove = moveToField.name();
+            roundEvent.commit();
+        }
+        if (IlyaPoteminLatency.ENABLED) {
+            IlyaPoteminLatency.MOVE.record(System.nanoTime() - nanosStart);
+        }
         return moveToField;
     }
 
@@ -1,4 +1,4 @@
-import java.util.function.Function;
+import java.util.function.LongToDoubleFunction;
 
 /**
  * Field represents territorial region
@@ -9,6 +9,13 @@ enum IlyaPoteminField {
     B(2),
     C(3);
 
+    /**
+     * Number of fields of real game, every strategy and batch simulation derive their counts from it,
+     * only GameStateSimulation may be created with other number of fields
+     */
+    static final int COUNT = 3;
+    private static final IlyaPoteminField[] VALUES = values();
+
     private int value;
 
     IlyaPoteminField(int value) {
@@ -19,17 +26,18 @@ enum IlyaPoteminField {
         return value;
     }
 
+    /**
+     * @return field by value in range 1..COUNT, or null for any other value
+     */
     static IlyaPoteminField ofValue(int value) {
-        switch (value) {
-            case 1:
-                return A;
-            case 2:
-                return B;
-            case 3:
-                return C;
-            default:
-                return null;
-        }
+        return value >= 1 && value <= COUNT ? VALUES[value - 1] : null;
+    }
+
+    /**
+     * @return field by ordinal, which is index of field in game state simulation
+     */
+    static IlyaPoteminField ofIndex(int index) {
+        return VALUES[index];
     }
 }
 
@@ -41,9 +49,9 @@ class IlyaPoteminFieldState {
     private IlyaPoteminField field;
     private long vegetationStep;
     private double vegetationAmount;
-    private Function<Long, Double> vegetationAmountFunc;
+    private LongToDoubleFunction vegetationAmountFunc;
 
-    public IlyaPoteminFieldState(IlyaPoteminField field, Function<Long, Double> vegetationAmountFunc) {
+    public IlyaPoteminFieldState(IlyaPoteminField field, LongToDoubleFunction vegetationAmountFunc) {
         this.vegetationAmountFunc = vegetationAmountFunc;
         this.field = field;
         setVegetationStep(1);
@@ -62,7 +70,7 @@ class IlyaPoteminFieldState {
             vegetationStep = 0;
         }
         this.vegetationStep = vegetationStep;
-        this.vegetationAmount = vegetationAmountFunc.apply(vegetationStep);
+        this.vegetationAmount = vegetationAmountFunc.applyAsDouble(vegetationStep);
     }
 
     public IlyaPoteminField getField() {
@@ -1,5 +1,8 @@
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Round actions holds both players actions for round,
@@ -20,6 +23,7 @@ class IlyaPoteminRoundRecord {
 
 /**
  * History is an interface to access last players' actions
+ * Only completed rounds, for which opponent move is already known, are visible through it
  */
 interface IlyaPoteminHistory {
     void writeLastOpponentMove(IlyaPoteminField field);
@@ -36,18 +40,28 @@ interface IlyaPoteminHistory {
             return actions.get(0);
         }
     }
+
+    /**
+     * @return round number of last record, or 0 if nothing was written yet
+     */
+    default int getCurrentRound() {
+        IlyaPoteminRoundRecord lastRecord = getLastAction();
+        return lastRecord == null ? 0 : lastRecord.round;
+    }
 }
 
 class IlyaPoteminArrayHistory implements IlyaPoteminHistory {
 
     private List<IlyaPoteminRoundRecord> historyList = new LinkedList<>();
     private int roundCounter = 1;
+    private int completedCount = 0;
 
     @Override
     public void writeLastOpponentMove(IlyaPoteminField field) {
         IlyaPoteminRoundRecord previousRecord = historyList.get(historyList.size() - 1);
         previousRecord.opponentMove = field;
         previousRecord.isBattle = (previousRecord.playerMove == previousRecord.opponentMove);
+        completedCount = historyList.size();
     }
 
     @Override
@@ -61,7 +75,116 @@ class IlyaPoteminArrayHistory implements IlyaPoteminHistory {
 
     @Override
     public List<IlyaPoteminRoundRecord> getLastActions(int depth) {
-        int currentSize = historyList.size();
-        return historyList.subList(Math.max(0, currentSize - depth), currentSize);
+        return historyList.subList(Math.max(0, completedCount - depth), completedCount);
+    }
+}
+
+/**
+ * RingHistory keeps only last records in preallocated ring sized to the largest metric depth in use,
+ * plus record which has just left the deepest window and record of current round, waiting for opponent move
+ * Records are reused, so record obtained from history stays valid only for capacity rounds,
+ * and views returned by getLastActions are live: they always show last depth records
+ */
+class IlyaPoteminRingHistory implements IlyaPoteminHistory {
+
+    private final IlyaPoteminRoundRecord[] ring;
+    private final int mask;
+    private int writtenCount = 0;
+    private int completedCount = 0;
+    private IlyaPoteminRingHistoryWindow[] windows = new IlyaPoteminRingHistoryWindow[0];
+
+    public IlyaPoteminRingHistory(int maxDepth) {
+        int capacity = Integer.highestOneBit(Math.max(1, maxDepth) + 1) << 1;
+        ring = new IlyaPoteminRoundRecord[capacity];
+        for (int i = 0; i < capacity; i++) {
+            ring[i] = new IlyaPoteminRoundRecord();
+        }
+        mask = capacity - 1;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    int getCompletedCount() {
+        return completedCount;
+    }
+
+    IlyaPoteminRoundRecord getRecord(int index) {
+        return ring[index & mask];
+    }
+
+    @Override
+    public void writeLastOpponentMove(IlyaPoteminField field) {
+        IlyaPoteminRoundRecord previousRecord = ring[(writtenCount - 1) & mask];
+        previousRecord.opponentMove = field;
+        previousRecord.isBattle = (previousRecord.playerMove == previousRecord.opponentMove);
+        completedCount = writtenCount;
+    }
+
+    @Override
+    public void writeCurrentPlayerMove(IlyaPoteminField field) {
+        IlyaPoteminRoundRecord currentRecord = ring[writtenCount & mask];
+        currentRecord.round = ++writtenCount;
+        currentRecord.playerMove = field;
+        currentRecord.opponentMove = null;
+        currentRecord.isBattle = false;
+        currentRecord.computedPlayerPayoff = 0.0;
+        currentRecord.computedOpponentPayoff = 0.0;
+    }
+
+    /**
+     * @param depth is limited by ring capacity without slot of current round
+     */
+    @Override
+    public List<IlyaPoteminRoundRecord> getLastActions(int depth) {
+        depth = Math.min(depth, ring.length - 1);
+        for (IlyaPoteminRingHistoryWindow window : windows) {
+            if (window.depth == depth) {
+                return window;
+            }
+        }
+        IlyaPoteminRingHistoryWindow window = new IlyaPoteminRingHistoryWindow(this, depth);
+        windows = Arrays.copyOf(windows, windows.length + 1);
+        windows[windows.length - 1] = window;
+        return window;
+    }
+
+    @Override
+    public IlyaPoteminRoundRecord getLastAction() {
+        return completedCount == 0 ? null : ring[(completedCount - 1) & mask];
+    }
+
+    @Override
+    public int getCurrentRound() {
+        return completedCount;
+    }
+}
+
+/**
+ * Live view of last depth records of RingHistory, created once per depth
+ */
+class IlyaPoteminRingHistoryWindow extends AbstractList<IlyaPoteminRoundRecord> implements RandomAccess {
+
+    final int depth;
+    private final IlyaPoteminRingHistory history;
+
+    IlyaPoteminRingHistoryWindow(IlyaPoteminRingHistory history, int depth) {
+        this.history = history;
+        this.depth = depth;
+    }
+
+    @Override
+    public IlyaPoteminRoundRecord get(int index) {
+        int size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return history.getRecord(history.getCompletedCount() - size + index);
+    }
+
+    @Override
+    public int size() {
+        return Math.min(depth, history.getCompletedCount());
     }
 }
@@ -13,6 +13,23 @@ interface IlyaPoteminMetric<T> {
     T update(IlyaPoteminHistory history);
 
     T get();
+
+    /**
+     * Metric declaring inputs is derived: it is computed only from values of its inputs,
+     * so it is updated after them and only when some of them changed
+     * @return metrics this metric reads
+     */
+    default List<IlyaPoteminMetric<?>> getInputs() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Binds metric to history for lazy evaluation: get() computes value on demand, cached by round number
+     * @return false if metric does not support lazy evaluation and has to be updated every round
+     */
+    default boolean bind(IlyaPoteminHistory history) {
+        return false;
+    }
 }
 
 @Target(ElementType.FIELD)
@@ -21,9 +38,67 @@ interface IlyaPoteminMetric<T> {
     String value();
 }
 
+/**
+ * MetricInjector assigns metrics from factory to strategy fields annotated with InjectedMetric
+ * Injectors named [StrategyClass]MetricInjector are generated at build time by build.MetricInjectorProcessor,
+ * reflective injector is used only if generated one is absent, e.g. in merged single-file player
+ */
+interface IlyaPoteminMetricInjector<S> {
+    String GENERATED_SUFFIX = "MetricInjector";
+
+    void inject(S strategy, IlyaPoteminMetricFactory metricFactory);
+
+    @SuppressWarnings(value = {"unchecked"})
+    static IlyaPoteminMetricInjector<Object> forClass(Class<?> strategyClass) {
+        try {
+            Class<?> injectorClass = Class.forName(strategyClass.getName() + GENERATED_SUFFIX,
+                    true, strategyClass.getClassLoader());
+            return (IlyaPoteminMetricInjector<Object>) injectorClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException exception) {
+            return new IlyaPoteminReflectiveMetricInjector(strategyClass);
+        }
+    }
+}
+
+/**
+ * Fallback injector, resolves annotated fields and their metric handles once per strategy class
+ */
+class IlyaPoteminReflectiveMetricInjector implements IlyaPoteminMetricInjector<Object> {
+    private final java.lang.reflect.Field[] fields;
+    private final int[] handles;
+
+    IlyaPoteminReflectiveMetricInjector(Class<?> strategyClass) {
+        List<java.lang.reflect.Field> fieldList = new ArrayList<>();
+        for (java.lang.reflect.Field f : strategyClass.getDeclaredFields()) {
+            if (f.getType() == IlyaPoteminMetric.class && f.isAnnotationPresent(IlyaPoteminInjectedMetric.class)) {
+                fieldList.add(f);
+            }
+        }
+        fields = fieldList.toArray(new java.lang.reflect.Field[0]);
+        handles = new int[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            String name = fields[i].getAnnotation(IlyaPoteminInjectedMetric.class).value();
+            handles[i] = IlyaPoteminMetricRegistry.resolve(name);
+        }
+    }
+
+    @Override
+    public void inject(Object strategy, IlyaPoteminMetricFactory metricFactory) {
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                fields[i].set(strategy, metricFactory.get(handles[i]));
+            }
+        } catch (IllegalAccessException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
+
 abstract class IlyaPoteminAbstractMetric<T> implements IlyaPoteminMetric<T> {
     protected T value;
     protected int historyDepth;
+    private IlyaPoteminHistory boundHistory;
+    private int valueRound = -1;
 
     protected IlyaPoteminAbstractMetric(int historyDepth) {
         this.historyDepth = historyDepth;
@@ -31,24 +106,202 @@ abstract class IlyaPoteminAbstractMetric<T> implements IlyaPoteminMetric<T> {
 
     protected abstract T doUpdate(List<IlyaPoteminRoundRecord> recordList);
 
+    /**
+     * @return amount of last records passed to doUpdate
+     */
+    protected int getRequestedDepth() {
+        return historyDepth;
+    }
+
     public final T update(IlyaPoteminHistory history) {
-        value = Optional.ofNullable(history.getLastActions(historyDepth))
+        value = Optional.ofNullable(history.getLastActions(getRequestedDepth()))
                 .map(this::doUpdate)
                 .orElseThrow(NullPointerException::new);
+        valueRound = history.getCurrentRound();
         return value;
     }
 
     public final T get() {
+        if (boundHistory != null && valueRound != boundHistory.getCurrentRound()) {
+            update(boundHistory);
+        }
         return value;
     }
 
+    @Override
+    public boolean bind(IlyaPoteminHistory history) {
+        boundHistory = history;
+        return true;
+    }
+
     @Override
     public String toString() {
-        return "Metric(value=" + value + ")";
+        return "Metric(value=" + get() + ")";
+    }
+}
+
+/**
+ * SlidingWindowMetric is updated incrementally by records entering and leaving history window,
+ * so each round costs O(1) instead of full window rescan
+ * Window is rescanned only if rounds were skipped and once per historyDepth rounds to drop accumulated rounding error
+ */
+abstract class IlyaPoteminSlidingWindowMetric<T> extends IlyaPoteminAbstractMetric<T> {
+    private int lastRound = 0;
+    private int windowSize = 0;
+    private int slidesSinceRescan = 0;
+
+    protected IlyaPoteminSlidingWindowMetric(int historyDepth) {
+        super(historyDepth);
+    }
+
+    /**
+     * @param leaving record which left the window, or null if window is not full yet
+     */
+    protected abstract void slide(IlyaPoteminRoundRecord entering, IlyaPoteminRoundRecord leaving);
+
+    protected abstract void clear();
+
+    protected abstract T computeValue(int windowSize);
+
+    /**
+     * One more record is requested, it is the one leaving the window
+     */
+    @Override
+    protected final int getRequestedDepth() {
+        return historyDepth + 1;
+    }
+
+    @Override
+    protected final T doUpdate(List<IlyaPoteminRoundRecord> recordList) {
+        int size = recordList.size();
+        if (size == 0) {
+            return value != null ? value : computeValue(0);
+        }
+        int newestRound = recordList.get(size - 1).round;
+        if (newestRound == lastRound && value != null) {
+            return value;
+        }
+        if (newestRound == lastRound + 1 && slidesSinceRescan < historyDepth) {
+            IlyaPoteminRoundRecord leaving = size > historyDepth ? recordList.get(0) : null;
+            slide(recordList.get(size - 1), leaving);
+            if (leaving == null) {
+                windowSize++;
+            }
+            slidesSinceRescan++;
+        } else {
+            rescan(recordList);
+        }
+        lastRound = newestRound;
+        return computeValue(windowSize);
+    }
+
+    private void rescan(List<IlyaPoteminRoundRecord> recordList) {
+        clear();
+        int size = recordList.size();
+        windowSize = Math.min(size, historyDepth);
+        for (int i = size - windowSize; i < size; i++) {
+            slide(recordList.get(i), null);
+        }
+        slidesSinceRescan = 0;
     }
 }
 
+/**
+ * MetricRegistry resolves metric names to integer handles once per JVM, handles index metric arrays of players
+ * Definition creates metric instance of player, it may read its inputs from player factory by their handles,
+ * so inputs are registered before metrics reading them
+ */
+final class IlyaPoteminMetricRegistry {
+
+    interface Definition {
+        IlyaPoteminMetric<?> create(IlyaPoteminMetricFactory factory, int metricDepth);
+    }
+
+    private static final Map<String, Integer> handles = new HashMap<>();
+    private static String[] names = new String[16];
+    private static Definition[] definitions = new Definition[16];
+    private static int size;
+
+    static final int PAYOFF_SUM = register(IlyaPoteminPayoffSumMetric.NAME,
+            (factory, depth) -> new IlyaPoteminPayoffSumMetric(depth));
+    static final int FIGHT_PERCENT = register(IlyaPoteminFightPercentMetric.NAME,
+            (factory, depth) -> new IlyaPoteminFightPercentMetric(depth));
+    static final int OPPONENT_FIELD_DISTRIBUTION_A = register(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".A",
+            (factory, depth) -> new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.A, depth));
+    static final int OPPONENT_FIELD_DISTRIBUTION_B = register(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".B",
+            (factory, depth) -> new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.B, depth));
+    static final int OPPONENT_FIELD_DISTRIBUTION_C = register(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".C",
+            (factory, depth) -> new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.C, depth));
+    static final int MOST_OPPONENT_SELECTED_FIELD = register(IlyaPoteminMostOpponentSelectedFieldMetric.NAME,
+            (factory, depth) -> new IlyaPoteminMostOpponentSelectedFieldMetric(depth,
+                    factory.get(OPPONENT_FIELD_DISTRIBUTION_A),
+                    factory.get(OPPONENT_FIELD_DISTRIBUTION_B),
+                    factory.get(OPPONENT_FIELD_DISTRIBUTION_C)));
+
+    /**
+     * Metrics every strategy starts with, in registration order
+     */
+    static final int[] DEFAULTS = {PAYOFF_SUM, FIGHT_PERCENT, OPPONENT_FIELD_DISTRIBUTION_A,
+            OPPONENT_FIELD_DISTRIBUTION_B, OPPONENT_FIELD_DISTRIBUTION_C, MOST_OPPONENT_SELECTED_FIELD};
+
+    private IlyaPoteminMetricRegistry() {
+    }
+
+    /**
+     * @param definition may be null for metrics, which are created by player itself
+     * @return handle of name, same for repeated registrations, definition of first registration is kept
+     */
+    static synchronized int register(String name, Definition definition) {
+        Integer handle = handles.get(name);
+        if (handle != null) {
+            if (definitions[handle] == null) {
+                definitions[handle] = definition;
+            }
+            return handle;
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            definitions = Arrays.copyOf(definitions, size * 2);
+        }
+        names[size] = name;
+        definitions[size] = definition;
+        handles.put(name, size);
+        return size++;
+    }
+
+    /**
+     * @return handle of name, registering it without definition if needed
+     */
+    static int resolve(String name) {
+        return register(name, null);
+    }
+
+    /**
+     * @return handle of name or -1 if name is not registered
+     */
+    static synchronized int handleOf(String name) {
+        return handles.getOrDefault(name, -1);
+    }
+
+    static synchronized String nameOf(int handle) {
+        return names[handle];
+    }
 
+    static synchronized Definition definitionOf(int handle) {
+        return definitions[handle];
+    }
+
+    static synchronized int size() {
+        return size;
+    }
+}
+
+/**
+ * MetricFactory holds metrics of player in flat array indexed by registry handles,
+ * so metric lookup by handle is array load, names are resolved to handles only by name based methods
+ * Array holds metric objects, not their values: sliding window metrics keep per-player window state
+ * and lazy metrics cache their value by round, so they are created once per player and reused every round
+ */
 class IlyaPoteminMetricFactory {
 
     private IlyaPoteminLogger logger = IlyaPoteminLogger.getLogger("MetricFactory");
@@ -62,24 +315,44 @@ class IlyaPoteminMetricFactory {
     }
 
     private String factoryName = "metricFactory@" + hashCode();
-    private List<Map.Entry<String, IlyaPoteminMetric<?>>> metricList;
-    private Map<String, IlyaPoteminMetric<?>> metricMap;
+    private IlyaPoteminMetric<?>[] metrics;
+    /**
+     * Handles of set metrics in order of their first registration
+     */
+    private int[] handles = new int[8];
+    private int handleCount;
+    private IlyaPoteminMetricPlan plan;
+    private boolean lazy = false;
 
     public IlyaPoteminMetricFactory() {
-        metricMap = new HashMap<>();
-        metricList = new ArrayList<>();
+        metrics = new IlyaPoteminMetric<?>[IlyaPoteminMetricRegistry.size()];
     }
 
-    public <T> void set(String name, IlyaPoteminMetric<T> metric) {
-        metricMap.put(name, metric);
-        if (!metricList.contains(new HashMap.SimpleEntry<String, IlyaPoteminMetric<?>>(name, metric))) {
-            metricList.add(new HashMap.SimpleEntry<>(name, metric));
+    public <T> void set(int handle, IlyaPoteminMetric<T> metric) {
+        if (handle >= metrics.length) {
+            metrics = Arrays.copyOf(metrics, Math.max(handle + 1, IlyaPoteminMetricRegistry.size()));
         }
+        if (metrics[handle] == null) {
+            if (handleCount == handles.length) {
+                handles = Arrays.copyOf(handles, handleCount * 2);
+            }
+            handles[handleCount++] = handle;
+        }
+        metrics[handle] = metric;
+        plan = null;
+    }
+
+    public <T> void set(String name, IlyaPoteminMetric<T> metric) {
+        set(IlyaPoteminMetricRegistry.resolve(name), metric);
     }
 
     @SuppressWarnings(value = {"unchecked"})
+    public <T> IlyaPoteminMetric<T> get(int handle) {
+        return handle >= 0 && handle < metrics.length ? (IlyaPoteminMetric<T>) metrics[handle] : null;
+    }
+
     public <T> IlyaPoteminMetric<T> get(String name) {
-        return (IlyaPoteminMetric<T>) metricMap.getOrDefault(name, null);
+        return get(IlyaPoteminMetricRegistry.handleOf(name));
     }
 
     @SuppressWarnings(value = {"unchecked"})
@@ -89,19 +362,208 @@ class IlyaPoteminMetricFactory {
     }
 
     public <T> IlyaPoteminMetricFactory with(String name, Supplier<IlyaPoteminMetric<T>> metricSupplier) {
-        if (metricMap.getOrDefault(name, null) == null) {
-            set(name, Objects.requireNonNull(metricSupplier.get()));
+        int handle = IlyaPoteminMetricRegistry.resolve(name);
+        if (get(handle) == null) {
+            set(handle, Objects.requireNonNull(metricSupplier.get()));
+        }
+        return this;
+    }
+
+    /**
+     * Creates not yet set metrics by their registry definitions, inputs should precede metrics reading them
+     */
+    public IlyaPoteminMetricFactory withRegistered(int metricDepth, int... registeredHandles) {
+        for (int handle : registeredHandles) {
+            if (get(handle) == null) {
+                IlyaPoteminMetricRegistry.Definition definition = IlyaPoteminMetricRegistry.definitionOf(handle);
+                if (definition == null) {
+                    throw new IllegalArgumentException("Metric " + IlyaPoteminMetricRegistry.nameOf(handle)
+                            + " has no registered definition");
+                }
+                set(handle, Objects.requireNonNull(definition.create(this, metricDepth)));
+            }
         }
         return this;
     }
 
+    /**
+     * In lazy mode update only binds metrics to history, and metrics are computed when someone reads them
+     */
+    public IlyaPoteminMetricFactory withLazyEvaluation(boolean lazy) {
+        this.lazy = lazy;
+        return this;
+    }
+
+    /**
+     * Evaluation plan is built once after last metric registration
+     * @throws IllegalStateException if metric dependencies contain cycle or unregistered metric
+     */
+    public IlyaPoteminMetricPlan getPlan() {
+        if (plan == null) {
+            List<Map.Entry<String, IlyaPoteminMetric<?>>> currentMetrics = new ArrayList<>(handleCount);
+            for (int i = 0; i < handleCount; i++) {
+                currentMetrics.add(new AbstractMap.SimpleEntry<>(
+                        IlyaPoteminMetricRegistry.nameOf(handles[i]), metrics[handles[i]]));
+            }
+            plan = new IlyaPoteminMetricPlan(currentMetrics);
+        }
+        return plan;
+    }
+
+    public void update(IlyaPoteminHistory history) {
+        if (lazy) {
+            getPlan().updateLazily(history);
+        } else {
+            getPlan().update(history);
+        }
+    }
+
+    /**
+     * Walks metrics in evaluation order, so inputs are visited before metrics reading them
+     */
     public void forEach(BiConsumer<String, IlyaPoteminMetric<?>> consumer) {
-        for (Map.Entry<String, IlyaPoteminMetric<?>> entry : metricList) {
-            String name = entry.getKey();
-            IlyaPoteminMetric<?> metric = entry.getValue();
+        IlyaPoteminMetricPlan currentPlan = getPlan();
+        for (int i = 0; i < currentPlan.size(); i++) {
+            String name = currentPlan.getName(i);
+            IlyaPoteminMetric<?> metric = currentPlan.getMetric(i);
             consumer.accept(name, metric);
-            logger.info("" + factoryName + ":" + name + " = " + metric.get());
+            logger.info(() -> factoryName + ":" + name + " = " + metric.get());
+        }
+    }
+}
+
+/**
+ * MetricPlan holds metrics in topological order of their inputs
+ * Each metric is updated at most once per round, derived metrics are skipped if none of their inputs changed
+ */
+class IlyaPoteminMetricPlan {
+
+    private final String[] names;
+    private final IlyaPoteminMetric<?>[] metrics;
+    private final int[][] inputIndices;
+    private final boolean[] changed;
+    private final boolean[] evaluated;
+    private int lastRound = -1;
+    private IlyaPoteminHistory boundHistory;
+    private boolean[] eager;
+
+    IlyaPoteminMetricPlan(List<Map.Entry<String, IlyaPoteminMetric<?>>> entries) {
+        int size = entries.size();
+        Map<IlyaPoteminMetric<?>, Integer> entryIndices = new IdentityHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            entryIndices.put(entries.get(i).getValue(), i);
+        }
+        int[] order = new int[size];
+        int[] orderSize = {0};
+        byte[] states = new byte[size];
+        for (int i = 0; i < size; i++) {
+            visit(i, entries, entryIndices, states, order, orderSize, new ArrayDeque<>());
+        }
+        names = new String[size];
+        metrics = new IlyaPoteminMetric<?>[size];
+        int[] planIndices = new int[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = entries.get(order[i]).getKey();
+            metrics[i] = entries.get(order[i]).getValue();
+            planIndices[order[i]] = i;
+        }
+        inputIndices = new int[size][];
+        for (int i = 0; i < size; i++) {
+            List<IlyaPoteminMetric<?>> inputs = metrics[i].getInputs();
+            inputIndices[i] = new int[inputs.size()];
+            for (int j = 0; j < inputs.size(); j++) {
+                inputIndices[i][j] = planIndices[entryIndices.get(inputs.get(j))];
+            }
+        }
+        changed = new boolean[size];
+        evaluated = new boolean[size];
+    }
+
+    private static void visit(int index, List<Map.Entry<String, IlyaPoteminMetric<?>>> entries,
+                              Map<IlyaPoteminMetric<?>, Integer> entryIndices, byte[] states,
+                              int[] order, int[] orderSize, Deque<String> path) {
+        if (states[index] == 2) {
+            return;
+        }
+        String name = entries.get(index).getKey();
+        path.addLast(name);
+        if (states[index] == 1) {
+            throw new IllegalStateException("Metric dependency cycle: " + String.join(" -> ", path));
+        }
+        states[index] = 1;
+        for (IlyaPoteminMetric<?> input : entries.get(index).getValue().getInputs()) {
+            Integer inputIndex = entryIndices.get(input);
+            if (inputIndex == null) {
+                throw new IllegalStateException("Input " + input + " of metric " + name + " is not registered");
+            }
+            visit(inputIndex, entries, entryIndices, states, order, orderSize, path);
+        }
+        states[index] = 2;
+        path.removeLast();
+        order[orderSize[0]++] = index;
+    }
+
+    public int size() {
+        return metrics.length;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public IlyaPoteminMetric<?> getMetric(int index) {
+        return metrics[index];
+    }
+
+    public void update(IlyaPoteminHistory history) {
+        int round = history.getCurrentRound();
+        if (round == lastRound) {
+            return;
+        }
+        lastRound = round;
+        for (int i = 0; i < metrics.length; i++) {
+            int[] inputs = inputIndices[i];
+            if (evaluated[i] && inputs.length > 0 && !anyChanged(inputs)) {
+                changed[i] = false;
+                continue;
+            }
+            Object previousValue = metrics[i].get();
+            Object value = metrics[i].update(history);
+            changed[i] = !evaluated[i] || !Objects.equals(previousValue, value);
+            evaluated[i] = true;
+        }
+    }
+
+    /**
+     * Binds metrics to history once, afterwards only metrics not supporting lazy evaluation are updated
+     */
+    public void updateLazily(IlyaPoteminHistory history) {
+        if (boundHistory != history) {
+            boundHistory = history;
+            eager = new boolean[metrics.length];
+            for (int i = 0; i < metrics.length; i++) {
+                eager[i] = !metrics[i].bind(history);
+            }
+        }
+        int round = history.getCurrentRound();
+        if (round == lastRound) {
+            return;
+        }
+        lastRound = round;
+        for (int i = 0; i < metrics.length; i++) {
+            if (eager[i]) {
+                metrics[i].update(history);
+            }
+        }
+    }
+
+    private boolean anyChanged(int[] inputs) {
+        for (int input : inputs) {
+            if (changed[input]) {
+                return true;
+            }
         }
+        return false;
     }
 }
 
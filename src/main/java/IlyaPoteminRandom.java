@@ -0,0 +1,38 @@
+import java.util.SplittableRandom;
+
+/**
+ * Random is source of randomness for strategies, it is not thread-safe and is owned by single player,
+ * so there is no contention on shared seed
+ * Random created from seed gives same sequence on each run, split gives independent stream for other owner
+ */
+class IlyaPoteminRandom {
+
+    private final SplittableRandom random;
+
+    private IlyaPoteminRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    static IlyaPoteminRandom ofSeed(long seed) {
+        return new IlyaPoteminRandom(new SplittableRandom(seed));
+    }
+
+    /**
+     * @return random with unpredictable seed
+     */
+    static IlyaPoteminRandom create() {
+        return new IlyaPoteminRandom(new SplittableRandom());
+    }
+
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    public IlyaPoteminRandom split() {
+        return new IlyaPoteminRandom(random.split());
+    }
+}
@@ -1,3 +1,6 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Strategy is a player strategy
  * It expected to be created at each new round/player swap
@@ -9,57 +12,41 @@ interface IlyaPoteminStrategy {
 
 abstract class IlyaPoteminAbstractStrategy implements IlyaPoteminStrategy {
 
+    private static final Map<Class<?>, IlyaPoteminMetricInjector<Object>> METRIC_INJECTORS = new ConcurrentHashMap<>();
+
     int metricDepth = 10;
     IlyaPoteminMetricFactory metricFactory;
+    IlyaPoteminRandom random;
 
     private IlyaPoteminAbstractStrategy() {
         throw new RuntimeException("Should not be called");
     }
 
     protected IlyaPoteminAbstractStrategy(int metricDepth) {
-        metricFactory = new IlyaPoteminMetricFactory();
-        metricFactory
-                .with(IlyaPoteminPayoffSumMetric.NAME,
-                        () -> new IlyaPoteminPayoffSumMetric(metricDepth))
-                .with(IlyaPoteminFightPercentMetric.NAME,
-                        () -> new IlyaPoteminFightPercentMetric(metricDepth))
-                .with(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".A",
-                        () -> new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.A, metricDepth))
-                .with(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".B",
-                        () -> new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.B, metricDepth))
-                .with(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".C",
-                        () -> new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.C, metricDepth))
-                .with(IlyaPoteminMostOpponentSelectedFieldMetric.NAME,
-                        () -> new IlyaPoteminMostOpponentSelectedFieldMetric(metricDepth,
-                                metricFactory.get(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".A"),
-                                metricFactory.get(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".B"),
-                                metricFactory.get(IlyaPoteminOpponentFieldDistributionMetric.NAME + ".C")));
+        this(metricDepth, IlyaPoteminRandom.create());
+    }
+
+    /**
+     * Random is shared with all child strategies created with this one as parent
+     */
+    protected IlyaPoteminAbstractStrategy(int metricDepth, IlyaPoteminRandom random) {
+        this.random = random;
+        metricFactory = new IlyaPoteminMetricFactory()
+                .withLazyEvaluation(true)
+                .withRegistered(metricDepth, IlyaPoteminMetricRegistry.DEFAULTS);
         injectMetrics();
     }
 
     protected IlyaPoteminAbstractStrategy(IlyaPoteminAbstractStrategy parent) {
         metricFactory = parent.metricFactory;
         metricDepth = parent.metricDepth;
+        random = parent.random;
         injectMetrics();
     }
 
-    private void injectMetric(java.lang.reflect.Field field) {
-        String name = field.getAnnotation(IlyaPoteminInjectedMetric.class).value();
-        try {
-            field.set(this, metricFactory.get(name));
-        } catch (IllegalAccessException exception) {
-            throw new RuntimeException(exception);
-        }
-    }
-
     private void injectMetrics() {
-        for (java.lang.reflect.Field f : getClass().getDeclaredFields()) {
-            if (f.getType() == IlyaPoteminMetric.class) {
-                if (f.isAnnotationPresent(IlyaPoteminInjectedMetric.class)) {
-                    injectMetric(f);
-                }
-            }
-        }
+        METRIC_INJECTORS.computeIfAbsent(getClass(), IlyaPoteminMetricInjector::forClass)
+                .inject(this, metricFactory);
     }
 
     protected <T> void setMetric(String name, IlyaPoteminMetric<T> metric) {
@@ -70,8 +57,22 @@ abstract class IlyaPoteminAbstractStrategy implements IlyaPoteminStrategy {
         return metricFactory.get(name);
     }
 
+    protected <T> IlyaPoteminMetric<T> getMetric(int handle) {
+        return metricFactory.get(handle);
+    }
+
     protected void updateMetrics(IlyaPoteminHistory history) {
-        metricFactory.forEach((name, metric) -> metric.update(history));
+        long nanosStart = IlyaPoteminLatency.ENABLED ? System.nanoTime() : 0;
+        IlyaPoteminMetricUpdateEvent event = new IlyaPoteminMetricUpdateEvent();
+        event.begin();
+        metricFactory.update(history);
+        if (event.shouldCommit()) {
+            event.round = history.getCurrentRound();
+            event.commit();
+        }
+        if (IlyaPoteminLatency.ENABLED) {
+            IlyaPoteminLatency.METRIC_UPDATE.record(System.nanoTime() - nanosStart);
+        }
     }
 
 }
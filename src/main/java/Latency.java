@@ -0,0 +1,230 @@
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import javax.management.RuntimeOperationsException;
+
+/**
+ * LatencyHistogram counts nanosecond latencies in log-linear buckets: each power of two range
+ * is split into SUB_BUCKETS linear buckets, so percentiles are reported with at most 1/SUB_BUCKETS relative error
+ * Recording is lock-free, readers may see a snapshot, which is only approximately consistent
+ */
+class IlyaPoteminLatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    IlyaPoteminLatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return largest value counted in bucket
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    void record(long nanos) {
+        counts.incrementAndGet(bucketOf(nanos));
+        totalCount.incrementAndGet();
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    long getCount() {
+        return totalCount.get();
+    }
+
+    long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * @return upper bound of bucket containing requested percentile, but not more than max, 0 if empty
+     */
+    long getPercentileNanos(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long cumulative = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            cumulative += counts.get(bucket);
+            if (cumulative >= target) {
+                return Math.min(upperBoundOf(bucket), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    void reset() {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts.set(bucket, 0);
+        }
+        totalCount.set(0);
+        maxNanos.set(0);
+    }
+}
+
+/**
+ * Latency holds histograms of player hot paths, it is enabled by system property ilya.potemin.latency=true
+ * ENABLED is constant, so disabled instrumentation is removed by JIT
+ * Enabled histograms are published as MBean OBJECT_NAME with attributes [histogram][Count|P50|P99|Max]Nanos
+ */
+class IlyaPoteminLatency implements DynamicMBean {
+
+    static final boolean ENABLED = Boolean.getBoolean("ilya.potemin.latency");
+    static final String OBJECT_NAME = "com.company:type=IlyaPoteminLatency";
+
+    static final IlyaPoteminLatencyHistogram MOVE = new IlyaPoteminLatencyHistogram("Move");
+    static final IlyaPoteminLatencyHistogram SIMULATE_LAST_ROUND =
+            new IlyaPoteminLatencyHistogram("SimulateLastRound");
+    static final IlyaPoteminLatencyHistogram METRIC_UPDATE = new IlyaPoteminLatencyHistogram("MetricUpdate");
+
+    private static final IlyaPoteminLatencyHistogram[] HISTOGRAMS = {MOVE, SIMULATE_LAST_ROUND, METRIC_UPDATE};
+    private static final String[] STATISTICS = {"Count", "P50Nanos", "P99Nanos", "MaxNanos"};
+
+    static {
+        if (ENABLED) {
+            register();
+        }
+    }
+
+    /**
+     * @return true if MBean is registered by this call or was registered before
+     */
+    static boolean register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(new IlyaPoteminLatency(), objectName);
+            }
+            return true;
+        } catch (InstanceAlreadyExistsException exception) {
+            return true;
+        } catch (JMException exception) {
+            return false;
+        }
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        for (IlyaPoteminLatencyHistogram histogram : HISTOGRAMS) {
+            if (attribute.startsWith(histogram.getName())) {
+                switch (attribute.substring(histogram.getName().length())) {
+                    case "Count":
+                        return histogram.getCount();
+                    case "P50Nanos":
+                        return histogram.getPercentileNanos(50);
+                    case "P99Nanos":
+                        return histogram.getPercentileNanos(99);
+                    case "MaxNanos":
+                        return histogram.getMaxNanos();
+                    default:
+                        break;
+                }
+            }
+        }
+        throw new AttributeNotFoundException(attribute);
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Latency attributes are read-only: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes) {
+            try {
+                list.add(new Attribute(attribute, getAttribute(attribute)));
+            } catch (AttributeNotFoundException exception) {
+                // unknown attributes are omitted as MBeanServer expects
+            }
+        }
+        return list;
+    }
+
+    /**
+     * @throws RuntimeOperationsException if any attribute is given, all of them are read-only
+     */
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        if (!attributes.isEmpty()) {
+            throw new RuntimeOperationsException(new IllegalArgumentException(
+                    "Latency attributes are read-only: " + attributes.asList()));
+        }
+        return new AttributeList();
+    }
+
+    /**
+     * Supports single operation "reset", which clears all histograms
+     */
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        if ("reset".equals(actionName)) {
+            for (IlyaPoteminLatencyHistogram histogram : HISTOGRAMS) {
+                histogram.reset();
+            }
+            return null;
+        }
+        throw new ReflectionException(new NoSuchMethodException(actionName), "Unknown latency operation " + actionName);
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[HISTOGRAMS.length * STATISTICS.length];
+        int i = 0;
+        for (IlyaPoteminLatencyHistogram histogram : HISTOGRAMS) {
+            for (String statistic : STATISTICS) {
+                attributes[i++] = new MBeanAttributeInfo(histogram.getName() + statistic, "long",
+                        statistic + " of " + histogram.getName() + " latency", true, false, false);
+            }
+        }
+        MBeanOperationInfo reset = new MBeanOperationInfo("reset", "Clears all histograms",
+                null, "void", MBeanOperationInfo.ACTION);
+        return new MBeanInfo(getClass().getName(), "Latencies of player hot paths", attributes,
+                null, new MBeanOperationInfo[]{reset}, null);
+    }
+}
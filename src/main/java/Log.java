@@ -1,3 +1,14 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Logger does no work while logging is disabled: messages are passed as suppliers or format with arguments,
+ * which are evaluated only if logging is enabled
+ * Enabled logger puts records to bounded ring buffer, which is printed by background thread,
+ * so format arguments should be immutable values
+ */
 class IlyaPoteminLogger {
 
     public static boolean IS_LOGGING_ENABLED = false;
@@ -12,9 +23,168 @@ class IlyaPoteminLogger {
         this.name = name;
     }
 
+    public boolean isEnabled() {
+        return IS_LOGGING_ENABLED;
+    }
+
     public void info(String msg) {
         if (IS_LOGGING_ENABLED) {
-            System.out.printf("[%20.20s] %s\n", this.name, msg);
+            IlyaPoteminLogWriter.write(new IlyaPoteminLogRecord(name, msg, null, null, null, 0));
+        }
+    }
+
+    public void info(Supplier<String> msgSupplier) {
+        if (IS_LOGGING_ENABLED) {
+            IlyaPoteminLogWriter.write(new IlyaPoteminLogRecord(name, msgSupplier.get(), null, null, null, 0));
+        }
+    }
+
+    public void info(String format, long arg) {
+        if (IS_LOGGING_ENABLED) {
+            IlyaPoteminLogWriter.write(new IlyaPoteminLogRecord(name, format, arg, null, null, 1));
+        }
+    }
+
+    public void info(String format, Object arg) {
+        if (IS_LOGGING_ENABLED) {
+            IlyaPoteminLogWriter.write(new IlyaPoteminLogRecord(name, format, arg, null, null, 1));
+        }
+    }
+
+    public void info(String format, Object arg1, Object arg2) {
+        if (IS_LOGGING_ENABLED) {
+            IlyaPoteminLogWriter.write(new IlyaPoteminLogRecord(name, format, arg1, arg2, null, 2));
+        }
+    }
+
+    public void info(String format, Object arg1, Object arg2, Object arg3) {
+        if (IS_LOGGING_ENABLED) {
+            IlyaPoteminLogWriter.write(new IlyaPoteminLogRecord(name, format, arg1, arg2, arg3, 3));
+        }
+    }
+}
+
+/**
+ * LogRecord is formatted only by log writer thread
+ */
+class IlyaPoteminLogRecord {
+    final String loggerName;
+    final String format;
+    final Object arg1;
+    final Object arg2;
+    final Object arg3;
+    final int argCount;
+
+    IlyaPoteminLogRecord(String loggerName, String format, Object arg1, Object arg2, Object arg3, int argCount) {
+        this.loggerName = loggerName;
+        this.format = format;
+        this.arg1 = arg1;
+        this.arg2 = arg2;
+        this.arg3 = arg3;
+        this.argCount = argCount;
+    }
+
+    String getMessage() {
+        switch (argCount) {
+            case 0:
+                return format;
+            case 1:
+                return String.format(format, arg1);
+            case 2:
+                return String.format(format, arg1, arg2);
+            default:
+                return String.format(format, arg1, arg2, arg3);
+        }
+    }
+}
+
+/**
+ * LogWriter owns bounded multi-producer single-consumer ring buffer and daemon thread draining it to System.out
+ * Records are dropped instead of blocking game threads if ring is full, dropped count is printed later
+ */
+class IlyaPoteminLogWriter {
+
+    static final int CAPACITY = 1 << 14;
+    private static final int MASK = CAPACITY - 1;
+    private static final long IDLE_PARK_NANOS = 1_000_000L;
+
+    private static final IlyaPoteminLogRecord[] records = new IlyaPoteminLogRecord[CAPACITY];
+    private static final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+    private static final AtomicLong tail = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static volatile long head = 0;
+    private static volatile Thread writerThread;
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    static void write(IlyaPoteminLogRecord record) {
+        if (writerThread == null) {
+            startWriter();
+        }
+        long position;
+        while (true) {
+            position = tail.get();
+            long sequence = sequences.get((int) position & MASK);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (sequence < position) {
+                dropped.incrementAndGet();
+                return;
+            }
+        }
+        records[(int) position & MASK] = record;
+        sequences.lazySet((int) position & MASK, position + 1);
+    }
+
+    /**
+     * Waits until all records written before the call are printed
+     */
+    static void flush() {
+        long target = tail.get();
+        while (head < target && writerThread != null && writerThread.isAlive()) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+        System.out.flush();
+    }
+
+    private static synchronized void startWriter() {
+        if (writerThread != null) {
+            return;
+        }
+        Thread thread = new Thread(IlyaPoteminLogWriter::drain, "IlyaPoteminLogWriter");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(IlyaPoteminLogWriter::flush));
+        writerThread = thread;
+    }
+
+    private static void drain() {
+        while (true) {
+            long position = head;
+            int index = (int) position & MASK;
+            if (sequences.get(index) != position + 1) {
+                long droppedCount = dropped.getAndSet(0);
+                if (droppedCount > 0) {
+                    System.out.printf("[%20.20s] %d records dropped\n", "LogWriter", droppedCount);
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            IlyaPoteminLogRecord record = records[index];
+            records[index] = null;
+            sequences.lazySet(index, position + CAPACITY);
+            try {
+                System.out.printf("[%20.20s] %s\n", record.loggerName, record.getMessage());
+            } catch (RuntimeException exception) {
+                System.out.printf("[%20.20s] %s\n", record.loggerName, record.format);
+            }
+            head = position + 1;
         }
     }
 }
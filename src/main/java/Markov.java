@@ -0,0 +1,131 @@
+/**
+ * MarkovPredictor predicts opponent next move by counts of moves which followed same context
+ * Context of order k is k last rounds, each encoded as 2 bits of opponent move and 2 bits of player move,
+ * so counts of each order are flat int table indexed by context and move
+ * Prediction uses highest order, which context was already seen, update and prediction cost only depends on order
+ */
+class IlyaPoteminMarkovPredictor {
+
+    static final int MAX_ORDER = 5;
+    static final int FIELD_COUNT = IlyaPoteminField.COUNT;
+    private static final int ROUND_BITS = 4;
+
+    private final int maxOrder;
+    /**
+     * counts[order][context * FIELD_COUNT + opponentMove], order 0 has single empty context
+     */
+    private final int[][] counts;
+    private long context;
+    private int roundCount;
+
+    IlyaPoteminMarkovPredictor(int maxOrder) {
+        if (maxOrder < 0 || maxOrder > MAX_ORDER) {
+            throw new IllegalArgumentException("Order should be in range [0, " + MAX_ORDER + "], got " + maxOrder);
+        }
+        this.maxOrder = maxOrder;
+        this.counts = new int[maxOrder + 1][];
+        for (int order = 0; order <= maxOrder; order++) {
+            counts[order] = new int[(1 << (order * ROUND_BITS)) * FIELD_COUNT];
+        }
+    }
+
+    /**
+     * Counts opponent move after current contexts of all orders, then appends round to context
+     */
+    void update(IlyaPoteminField playerMove, IlyaPoteminField opponentMove) {
+        int opponent = opponentMove.ordinal();
+        int availableOrder = Math.min(maxOrder, roundCount);
+        for (int order = 0; order <= availableOrder; order++) {
+            counts[order][contextOf(order) * FIELD_COUNT + opponent]++;
+        }
+        context = (context << ROUND_BITS) | (opponent << 2) | playerMove.ordinal();
+        roundCount++;
+    }
+
+    /**
+     * @param probabilities filled with predicted probabilities of opponent moves, uniform if nothing is known
+     * @return order of context used for prediction or -1 if there is no observations
+     */
+    int predict(double[] probabilities) {
+        for (int order = Math.min(maxOrder, roundCount); order >= 0; order--) {
+            int offset = contextOf(order) * FIELD_COUNT;
+            int[] orderCounts = counts[order];
+            int total = orderCounts[offset] + orderCounts[offset + 1] + orderCounts[offset + 2];
+            if (total > 0) {
+                for (int move = 0; move < FIELD_COUNT; move++) {
+                    probabilities[move] = (double) orderCounts[offset + move] / total;
+                }
+                return order;
+            }
+        }
+        for (int move = 0; move < FIELD_COUNT; move++) {
+            probabilities[move] = 1.0 / FIELD_COUNT;
+        }
+        return -1;
+    }
+
+    private int contextOf(int order) {
+        return (int) (context & ((1L << (order * ROUND_BITS)) - 1));
+    }
+
+    int getRoundCount() {
+        return roundCount;
+    }
+}
+
+/**
+ * MarkovStrategy best responds to predicted opponent move: field payoff is weighted by probability
+ * of opponent not selecting it, ties are broken randomly
+ */
+class IlyaPoteminMarkovStrategy extends IlyaPoteminAbstractStrategy {
+
+    static final int DEFAULT_ORDER = 3;
+    private static final IlyaPoteminField[] FIELDS = IlyaPoteminField.values();
+
+    private IlyaPoteminGameStateSimulation gameState;
+    private IlyaPoteminMarkovPredictor predictor;
+    private final double[] probabilities = new double[IlyaPoteminMarkovPredictor.FIELD_COUNT];
+    private final double[] expectedPayoffs = new double[IlyaPoteminMarkovPredictor.FIELD_COUNT];
+    private int lastRound;
+
+    public IlyaPoteminMarkovStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth,
+                                     IlyaPoteminRandom random) {
+        this(gameState, metricDepth, random, DEFAULT_ORDER);
+    }
+
+    public IlyaPoteminMarkovStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth,
+                                     IlyaPoteminRandom random, int order) {
+        super(metricDepth, random);
+        this.gameState = gameState;
+        this.predictor = new IlyaPoteminMarkovPredictor(order);
+    }
+
+    @Override
+    public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
+        IlyaPoteminRoundRecord lastRecord = history.getLastAction();
+        if (lastRecord != null && lastRecord.round != lastRound) {
+            predictor.update(lastRecord.playerMove, lastRecord.opponentMove);
+            lastRound = lastRecord.round;
+        }
+        predictor.predict(probabilities);
+        double amount0 = IlyaPoteminVegetationTable.SHARED.applyAsDouble(0);
+        for (int field = 0; field < expectedPayoffs.length; field++) {
+            expectedPayoffs[field] = (gameState.getVegetationAmount(field) - amount0) * (1.0 - probabilities[field]);
+        }
+        int best = 0;
+        int tieCount = 1;
+        for (int field = 1; field < expectedPayoffs.length; field++) {
+            if (expectedPayoffs[field] > expectedPayoffs[best]) {
+                best = field;
+                tieCount = 1;
+            } else if (expectedPayoffs[field] == expectedPayoffs[best] && random.nextInt(++tieCount) == 0) {
+                best = field;
+            }
+        }
+        return FIELDS[best];
+    }
+
+    IlyaPoteminMarkovPredictor getPredictor() {
+        return predictor;
+    }
+}
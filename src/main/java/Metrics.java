@@ -1,42 +1,68 @@
 import java.util.List;
 import java.util.Objects;
 
-class IlyaPoteminPayoffSumMetric extends IlyaPoteminAbstractMetric<Double> {
+class IlyaPoteminPayoffSumMetric extends IlyaPoteminSlidingWindowMetric<Double> {
     public static final String NAME = "payoff_sum_metric";
 
+    private double payoffSum;
+
     public IlyaPoteminPayoffSumMetric(int depth) {
         super(depth);
     }
 
     @Override
-    protected Double doUpdate(List<IlyaPoteminRoundRecord> recordList) {
-        return recordList.stream()
-                .map(IlyaPoteminRoundRecord::getComputedPlayerPayoff)
-                .reduce(Double::sum)
-                .orElse(0.0);
+    protected void slide(IlyaPoteminRoundRecord entering, IlyaPoteminRoundRecord leaving) {
+        payoffSum += entering.getComputedPlayerPayoff();
+        if (leaving != null) {
+            payoffSum -= leaving.getComputedPlayerPayoff();
+        }
+    }
+
+    @Override
+    protected void clear() {
+        payoffSum = 0.0;
+    }
+
+    @Override
+    protected Double computeValue(int windowSize) {
+        return payoffSum;
     }
 }
 
-class IlyaPoteminFightPercentMetric extends IlyaPoteminAbstractMetric<Double> {
+class IlyaPoteminFightPercentMetric extends IlyaPoteminSlidingWindowMetric<Double> {
     public static final String NAME = "fight_percent_metric";
 
+    private long hitRoundCount;
+
     public IlyaPoteminFightPercentMetric(int depth) {
         super(depth);
     }
 
     @Override
-    protected Double doUpdate(List<IlyaPoteminRoundRecord> recordList) {
-        long totalRoundCount = recordList.size();
-        long hitRoundCount = recordList.stream()
-                .filter(record -> record.isBattle)
-                .count();
-        return ((double) hitRoundCount) / totalRoundCount;
+    protected void slide(IlyaPoteminRoundRecord entering, IlyaPoteminRoundRecord leaving) {
+        if (entering.isBattle) {
+            hitRoundCount++;
+        }
+        if (leaving != null && leaving.isBattle) {
+            hitRoundCount--;
+        }
+    }
+
+    @Override
+    protected void clear() {
+        hitRoundCount = 0;
+    }
+
+    @Override
+    protected Double computeValue(int windowSize) {
+        return ((double) hitRoundCount) / windowSize;
     }
 }
 
-class IlyaPoteminOpponentFieldDistributionMetric extends IlyaPoteminAbstractMetric<Double> {
+class IlyaPoteminOpponentFieldDistributionMetric extends IlyaPoteminSlidingWindowMetric<Double> {
     public static final String NAME = "opponent_field_distribution_metric";
     private IlyaPoteminField target;
+    private long fielded;
 
     public IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField field, int depth) {
         super(depth);
@@ -44,12 +70,23 @@ class IlyaPoteminOpponentFieldDistributionMetric extends IlyaPoteminAbstractMetr
     }
 
     @Override
-    protected Double doUpdate(List<IlyaPoteminRoundRecord> recordList) {
-        long all = recordList.size();
-        long fielded = recordList.stream()
-                .filter(record -> record.opponentMove == target)
-                .count();
-        return ((double) fielded) / all;
+    protected void slide(IlyaPoteminRoundRecord entering, IlyaPoteminRoundRecord leaving) {
+        if (entering.opponentMove == target) {
+            fielded++;
+        }
+        if (leaving != null && leaving.opponentMove == target) {
+            fielded--;
+        }
+    }
+
+    @Override
+    protected void clear() {
+        fielded = 0;
+    }
+
+    @Override
+    protected Double computeValue(int windowSize) {
+        return ((double) fielded) / windowSize;
     }
 }
 
@@ -68,6 +105,11 @@ class IlyaPoteminMostOpponentSelectedFieldMetric extends IlyaPoteminAbstractMetr
         this.cMetric = Objects.requireNonNull(cMetric);
     }
 
+    @Override
+    public List<IlyaPoteminMetric<?>> getInputs() {
+        return List.of(aMetric, bMetric, cMetric);
+    }
+
     @Override
     protected IlyaPoteminField doUpdate(List<IlyaPoteminRoundRecord> recordList) {
         if (aMetric.get() > bMetric.get()) {      // a > b
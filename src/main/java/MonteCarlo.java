@@ -0,0 +1,259 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * MonteCarloStrategy searches tree of simultaneous rounds using game state simulation rules
+ * Player and opponent select their moves at each node independently by UCB1 (decoupled UCT),
+ * leaves are evaluated by random playout up to fixed horizon
+ * Search is root parallel: each fork-join task grows its own tree from copy of game state until per-move deadline,
+ * then root statistics are merged and most visited player move is selected
+ * Tasks, which did not get pool thread before calling thread finished its own one, are cancelled, not awaited,
+ * so busy pool does not stretch move beyond budget
+ * Greedy most payoff move is used if budget was too small to try every player move
+ */
+class IlyaPoteminMonteCarloStrategy extends IlyaPoteminAbstractStrategy {
+
+    static final long DEFAULT_BUDGET_NANOS = 10_000_000L;
+    static final int DEFAULT_HORIZON = 16;
+    static final int FIELD_COUNT = IlyaPoteminField.COUNT;
+
+    private static final IlyaPoteminField[] FIELDS = IlyaPoteminField.values();
+    private static final double EXPLORATION = Math.sqrt(2);
+    /**
+     * Max vegetation amount minus amount at step 0
+     */
+    private static final double MAX_ROUND_PAYOFF = 5.0;
+
+    private IlyaPoteminLogger logger = IlyaPoteminLogger.getLogger("MonteCarloStrategy");
+    private IlyaPoteminGameStateSimulation gameState;
+    private IlyaPoteminStrategy greedyStrategy;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long budgetNanos = DEFAULT_BUDGET_NANOS;
+    private int horizon = DEFAULT_HORIZON;
+
+    private long playoutCount;
+    private long searchNanos;
+    private int fallbackCount;
+
+    public IlyaPoteminMonteCarloStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth) {
+        this(gameState, metricDepth, IlyaPoteminRandom.create());
+    }
+
+    /**
+     * Each search task gets its own stream split from random
+     */
+    public IlyaPoteminMonteCarloStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth,
+                                         IlyaPoteminRandom random) {
+        super(metricDepth, random);
+        this.gameState = gameState;
+        greedyStrategy = new IlyaPoteminMostPayoffStrategy(this, gameState);
+    }
+
+    public IlyaPoteminMonteCarloStrategy withBudgetNanos(long budgetNanos) {
+        this.budgetNanos = budgetNanos;
+        return this;
+    }
+
+    public IlyaPoteminMonteCarloStrategy withHorizon(int horizon) {
+        this.horizon = Math.max(1, horizon);
+        return this;
+    }
+
+    /**
+     * One of search tasks is run by calling thread, others are submitted to pool
+     */
+    public IlyaPoteminMonteCarloStrategy withPool(ForkJoinPool pool, int parallelism) {
+        this.pool = pool;
+        this.parallelism = Math.max(1, parallelism);
+        return this;
+    }
+
+    @Override
+    public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
+        if (budgetNanos <= 0) {
+            fallbackCount++;
+            return greedyStrategy.move(history, opponentLastMove);
+        }
+        long nanosStart = System.nanoTime();
+        long deadline = nanosStart + budgetNanos;
+        List<SearchTask> tasks = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            tasks.add(new SearchTask(new IlyaPoteminGameStateSimulationImpl(gameState), random.split(), deadline));
+        }
+        for (int i = 1; i < tasks.size(); i++) {
+            pool.execute(tasks.get(i));
+        }
+        int[] visits = new int[FIELD_COUNT];
+        long playouts = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            SearchTask task = tasks.get(i);
+            Node root;
+            if (i == 0) {
+                root = task.invoke();
+            } else if (task.tryUnfork() || task.cancelIfNotStarted()) {
+                continue;
+            } else {
+                root = task.join();
+            }
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                visits[field] += root.playerVisits[field];
+            }
+            playouts += root.visits;
+        }
+        long nanos = System.nanoTime() - nanosStart;
+        playoutCount += playouts;
+        searchNanos += nanos;
+        if (logger.isEnabled()) {
+            logger.info("Searched %d playouts in %d us, %d playouts/s", playouts, nanos / 1000,
+                    (long) getPlayoutsPerSecond());
+        }
+        int bestField = 0;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            if (visits[field] == 0) {
+                fallbackCount++;
+                return greedyStrategy.move(history, opponentLastMove);
+            }
+            if (visits[field] > visits[bestField]) {
+                bestField = field;
+            }
+        }
+        return FIELDS[bestField];
+    }
+
+    public long getPlayoutCount() {
+        return playoutCount;
+    }
+
+    /**
+     * @return playouts per second of wall time spent in search since strategy creation, summed over all tasks
+     */
+    public double getPlayoutsPerSecond() {
+        return searchNanos == 0 ? 0.0 : playoutCount * 1e9 / searchNanos;
+    }
+
+    /**
+     * @return number of moves taken by greedy strategy instead of search
+     */
+    public int getFallbackCount() {
+        return fallbackCount;
+    }
+
+    /**
+     * Node holds decoupled statistics of player and opponent moves and children by joint move
+     */
+    private static class Node {
+        private final Node[] children = new Node[FIELD_COUNT * FIELD_COUNT];
+        private final int[] playerVisits = new int[FIELD_COUNT];
+        private final double[] playerValues = new double[FIELD_COUNT];
+        private final int[] opponentVisits = new int[FIELD_COUNT];
+        private final double[] opponentValues = new double[FIELD_COUNT];
+        private int visits;
+    }
+
+    /**
+     * SearchTask is confined to single thread, it owns its tree, simulation and random
+     */
+    private class SearchTask extends RecursiveTask<Node> {
+        private static final long serialVersionUID = 1L;
+
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final IlyaPoteminGameStateSimulation simulation;
+        private final IlyaPoteminRandom taskRandom;
+        private final long deadline;
+        private final Node[] path = new Node[horizon];
+        private final int[] playerMoves = new int[horizon];
+        private final int[] opponentMoves = new int[horizon];
+
+        SearchTask(IlyaPoteminGameStateSimulation simulation, IlyaPoteminRandom taskRandom, long deadline) {
+            this.simulation = simulation;
+            this.taskRandom = taskRandom;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true if task did not start yet, then it will not search when pool gets to it
+         */
+        boolean cancelIfNotStarted() {
+            return started.compareAndSet(false, true);
+        }
+
+        @Override
+        protected Node compute() {
+            Node root = new Node();
+            if (!started.compareAndSet(false, true)) {
+                return root;
+            }
+            int snapshot = simulation.snapshot();
+            while (System.nanoTime() < deadline) {
+                playout(root);
+                simulation.restore(snapshot);
+            }
+            return root;
+        }
+
+        private void playout(Node root) {
+            Node node = root;
+            int treeDepth = 0;
+            while (treeDepth < horizon) {
+                int playerMove = select(node.playerVisits, node.playerValues, node.visits);
+                int opponentMove = select(node.opponentVisits, node.opponentValues, node.visits);
+                path[treeDepth] = node;
+                playerMoves[treeDepth] = playerMove;
+                opponentMoves[treeDepth] = opponentMove;
+                simulation.apply(playerMove, opponentMove);
+                treeDepth++;
+                int child = playerMove * FIELD_COUNT + opponentMove;
+                if (node.children[child] == null) {
+                    node.children[child] = new Node();
+                    break;
+                }
+                node = node.children[child];
+            }
+            for (int depth = treeDepth; depth < horizon; depth++) {
+                simulation.apply(taskRandom.nextInt(FIELD_COUNT), taskRandom.nextInt(FIELD_COUNT));
+            }
+            double playerReward = normalize(simulation.getPlayerPayoff());
+            double opponentReward = normalize(simulation.getOpponentPayoff());
+            for (int depth = 0; depth < treeDepth; depth++) {
+                Node pathNode = path[depth];
+                pathNode.visits++;
+                pathNode.playerVisits[playerMoves[depth]]++;
+                pathNode.playerValues[playerMoves[depth]] += playerReward;
+                pathNode.opponentVisits[opponentMoves[depth]]++;
+                pathNode.opponentValues[opponentMoves[depth]] += opponentReward;
+            }
+        }
+
+        /**
+         * @return not yet tried move or move with max UCB1
+         */
+        private int select(int[] visits, double[] values, int totalVisits) {
+            double logVisits = Math.log(Math.max(1, totalVisits));
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int move = 0; move < FIELD_COUNT; move++) {
+                if (visits[move] == 0) {
+                    return move;
+                }
+                double score = values[move] / visits[move] + EXPLORATION * Math.sqrt(logVisits / visits[move]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = move;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Saturated vegetation gives infinite or NaN payoff, it is counted as max reward
+         */
+        private double normalize(double payoff) {
+            double reward = payoff / (horizon * MAX_ROUND_PAYOFF);
+            return reward <= 1.0 ? reward : 1.0;
+        }
+    }
+}
@@ -1,4 +1,5 @@
 import java.util.*;
+import java.util.function.LongToDoubleFunction;
 
 /**
  * GameStateSimulation provides simulated game state based on previous player and opponent actions
@@ -8,64 +9,308 @@ interface IlyaPoteminGameStateSimulation {
 
     void simulateLastRound(IlyaPoteminRoundRecord lastRoundRecord);
 
+    /**
+     * @return states of fields, which have IlyaPoteminField constant, in order of ordinals
+     */
     Collection<IlyaPoteminFieldState> getFieldStates();
 
     void dumpFieldStates();
+
+    /**
+     * @return number of fields, fields are indexed from zero and first IlyaPoteminField.COUNT of them
+     * are indexed by IlyaPoteminField ordinals
+     */
+    int getFieldCount();
+
+    long getVegetationStep(int field);
+
+    double getVegetationAmount(int field);
+
+    /**
+     * Applies hypothetical round, which can be reverted by undo, without allocation
+     */
+    void apply(IlyaPoteminField playerMove, IlyaPoteminField opponentMove);
+
+    /**
+     * Same as apply by fields, but moves are field indices in range [0, getFieldCount())
+     */
+    void apply(int playerField, int opponentField);
+
+    /**
+     * Reverts last round made by apply
+     */
+    void undo();
+
+    /**
+     * @return snapshot token, which is valid while rounds applied before it are not undone
+     */
+    int snapshot();
+
+    /**
+     * Undoes all rounds applied after snapshot was taken
+     */
+    void restore(int snapshot);
+
+    /**
+     * @return total payoff of player since simulation creation
+     */
+    double getPlayerPayoff();
+
+    /**
+     * @return total payoff of opponent since simulation creation
+     */
+    double getOpponentPayoff();
 }
 
+/**
+ * GameStateSimulationImpl keeps vegetation steps and amounts in dense arrays indexed by field,
+ * so round costs single loop over fields without lookups and allocation for any number of fields
+ */
 class IlyaPoteminGameStateSimulationImpl implements IlyaPoteminGameStateSimulation {
 
+    static final int INITIAL_STEP = 1;
+    private static final int INITIAL_UNDO_CAPACITY = 16;
+
     private IlyaPoteminLogger logger = IlyaPoteminLogger.getLogger("GameStateSimulation");
-    private Map<IlyaPoteminField, IlyaPoteminFieldState> fieldStateMap;
+    private final IlyaPoteminVegetationTable table = IlyaPoteminVegetationTable.SHARED;
+    private final int fieldCount;
+    private final long[] steps;
+    private final double[] amounts;
+    /**
+     * Views of fields, which have IlyaPoteminField constant, refreshed from arrays by getFieldStates
+     */
+    private final IlyaPoteminFieldState[] fieldStates;
+    private final List<IlyaPoteminFieldState> fieldStateList;
     private double vegetationAmount0;
+    private double playerPayoff;
+    private double opponentPayoff;
+    private double lastPlayerPayoff;
+    private double lastOpponentPayoff;
+
+    /**
+     * Undo frame is field steps and total payoffs before applied round
+     */
+    private long[] undoSteps;
+    private double[] undoPayoffs = new double[INITIAL_UNDO_CAPACITY * 2];
+    private int undoDepth;
 
     public IlyaPoteminGameStateSimulationImpl() {
-        fieldStateMap = new HashMap<>(8);
+        this(IlyaPoteminField.COUNT);
+    }
+
+    /**
+     * Creates simulation of game variant with given number of fields, each starting from INITIAL_STEP
+     */
+    public IlyaPoteminGameStateSimulationImpl(int fieldCount) {
+        if (fieldCount < 1) {
+            throw new IllegalArgumentException("Field count should be positive, got " + fieldCount);
+        }
+        this.fieldCount = fieldCount;
+        steps = new long[fieldCount];
+        amounts = new double[fieldCount];
         vegetationAmount0 = vegetationAmountFunction(0);
-        for (IlyaPoteminField f : IlyaPoteminField.values()) {
-            fieldStateMap.put(f, new IlyaPoteminFieldState(f, this::vegetationAmountFunction));
+        for (int field = 0; field < fieldCount; field++) {
+            setStep(field, INITIAL_STEP);
+        }
+        fieldStates = new IlyaPoteminFieldState[Math.min(fieldCount, IlyaPoteminField.COUNT)];
+        for (int field = 0; field < fieldStates.length; field++) {
+            fieldStates[field] = new IlyaPoteminFieldState(IlyaPoteminField.ofIndex(field), table);
+        }
+        fieldStateList = Collections.unmodifiableList(Arrays.asList(fieldStates));
+        undoSteps = new long[INITIAL_UNDO_CAPACITY * fieldCount];
+    }
+
+    /**
+     * Creates independent simulation starting from current field steps of source, payoffs start from zero
+     */
+    public IlyaPoteminGameStateSimulationImpl(IlyaPoteminGameStateSimulation source) {
+        this(source.getFieldCount());
+        for (int field = 0; field < fieldCount; field++) {
+            setStep(field, source.getVegetationStep(field));
         }
     }
 
     public double vegetationAmountFunction(long vegetationStep) {
-        return (10.0 * Math.exp(vegetationStep)) / (1.0 + Math.exp(vegetationStep));
+        return table.applyAsDouble(vegetationStep);
     }
 
     public void simulateLastRound(IlyaPoteminRoundRecord lastRoundRecord) {
-        logger.info("Applying round " + lastRoundRecord.round + " to simulation");
+        logger.info("Applying round %d to simulation", lastRoundRecord.round);
         Objects.requireNonNull(lastRoundRecord);
-        if (lastRoundRecord.isBattle) {
-            IlyaPoteminField battleGround = lastRoundRecord.playerMove;
-            IlyaPoteminFieldState fieldState = fieldStateMap.get(battleGround);
-            fieldState.decrementVegetationStep();
-        } else {
-            IlyaPoteminFieldState playerFieldState = fieldStateMap.get(lastRoundRecord.playerMove);
-            lastRoundRecord.computedPlayerPayoff = playerFieldState.getVegetationAmount() - vegetationAmount0;
-            playerFieldState.decrementVegetationStep();
-
-            IlyaPoteminFieldState opponentFieldState = fieldStateMap.get(lastRoundRecord.opponentMove);
-            lastRoundRecord.computedOpponentPayoff = opponentFieldState.getVegetationAmount() - vegetationAmount0;
-            opponentFieldState.decrementVegetationStep();
-        }
-        fieldStateMap.entrySet().stream()
-                .filter(entry -> entry.getKey() != lastRoundRecord.playerMove)
-                .filter(entry -> entry.getKey() != lastRoundRecord.opponentMove)
-                .forEach(entry -> entry.getValue().incrementVegetationStep());
+        IlyaPoteminSimulationUpdateEvent event = new IlyaPoteminSimulationUpdateEvent();
+        event.begin();
+        advance(lastRoundRecord.playerMove.ordinal(), lastRoundRecord.opponentMove.ordinal());
+        if (!lastRoundRecord.isBattle) {
+            lastRoundRecord.computedPlayerPayoff = lastPlayerPayoff;
+            lastRoundRecord.computedOpponentPayoff = lastOpponentPayoff;
+        }
+        if (event.shouldCommit()) {
+            event.round = lastRoundRecord.round;
+            event.battle = lastRoundRecord.isBattle;
+            event.commit();
+        }
         dumpFieldStates();
     }
 
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    public long getVegetationStep(int field) {
+        return steps[field];
+    }
+
+    public double getVegetationAmount(int field) {
+        return amounts[field];
+    }
+
+    public void apply(IlyaPoteminField playerMove, IlyaPoteminField opponentMove) {
+        apply(playerMove.ordinal(), opponentMove.ordinal());
+    }
+
+    public void apply(int playerField, int opponentField) {
+        if (undoDepth * 2 == undoPayoffs.length) {
+            undoSteps = Arrays.copyOf(undoSteps, undoSteps.length * 2);
+            undoPayoffs = Arrays.copyOf(undoPayoffs, undoPayoffs.length * 2);
+        }
+        System.arraycopy(steps, 0, undoSteps, undoDepth * fieldCount, fieldCount);
+        undoPayoffs[undoDepth * 2] = playerPayoff;
+        undoPayoffs[undoDepth * 2 + 1] = opponentPayoff;
+        undoDepth++;
+        advance(playerField, opponentField);
+    }
+
+    public void undo() {
+        if (undoDepth == 0) {
+            throw new IllegalStateException("No applied rounds to undo");
+        }
+        undoDepth--;
+        for (int field = 0; field < fieldCount; field++) {
+            setStep(field, undoSteps[undoDepth * fieldCount + field]);
+        }
+        playerPayoff = undoPayoffs[undoDepth * 2];
+        opponentPayoff = undoPayoffs[undoDepth * 2 + 1];
+    }
+
+    public int snapshot() {
+        return undoDepth;
+    }
+
+    public void restore(int snapshot) {
+        if (snapshot < 0 || snapshot > undoDepth) {
+            throw new IllegalArgumentException("Snapshot " + snapshot + " is already undone, depth " + undoDepth);
+        }
+        while (undoDepth > snapshot) {
+            undo();
+        }
+    }
+
+    public double getPlayerPayoff() {
+        return playerPayoff;
+    }
+
+    public double getOpponentPayoff() {
+        return opponentPayoff;
+    }
+
+    /**
+     * Moves fields to next round, battle ground loses vegetation without payoff to anyone
+     */
+    private void advance(int playerField, int opponentField) {
+        boolean battle = playerField == opponentField;
+        lastPlayerPayoff = battle ? 0 : amounts[playerField] - vegetationAmount0;
+        lastOpponentPayoff = battle ? 0 : amounts[opponentField] - vegetationAmount0;
+        playerPayoff += lastPlayerPayoff;
+        opponentPayoff += lastOpponentPayoff;
+        for (int field = 0; field < fieldCount; field++) {
+            boolean visited = field == playerField || field == opponentField;
+            setStep(field, visited ? steps[field] - 1 : steps[field] + 1);
+        }
+    }
+
+    private void setStep(int field, long step) {
+        step = Math.max(step, 0);
+        steps[field] = step;
+        amounts[field] = table.applyAsDouble(step);
+    }
+
     public Collection<IlyaPoteminFieldState> getFieldStates() {
-        return fieldStateMap.values();
+        for (int field = 0; field < fieldStates.length; field++) {
+            if (fieldStates[field].getVegetationStep() != steps[field]) {
+                fieldStates[field].setVegetationStep(steps[field]);
+            }
+        }
+        return fieldStateList;
     }
 
     public void dumpFieldStates() {
-        fieldStateMap.entrySet()
-                .stream()
-                .sorted(Comparator.comparing(e -> e.getKey().name()))
-                .forEach((entry) -> {
-                    logger.info("Field " + entry.getKey().name() +
-                            " : vegetationStep=" + entry.getValue().getVegetationStep() +
-                            ", vegetationAmount=" + entry.getValue().getVegetationAmount());
-                });
+        if (!logger.isEnabled()) {
+            return;
+        }
+        for (int field = 0; field < fieldCount; field++) {
+            String name = field < IlyaPoteminField.COUNT ? IlyaPoteminField.ofIndex(field).name() : "#" + field;
+            logger.info("Field %s : vegetationStep=%s, vegetationAmount=%s", name, steps[field], amounts[field]);
+        }
+    }
+}
+
+/**
+ * VegetationTable holds precomputed vegetation amounts by step, shared by all players in JVM
+ * Table grows lazily up to MAX_TABLE_SIZE, amounts for steps outside of it are computed exactly
+ * Exact amount is NaN for every step starting from SATURATION_STEP (exp overflows), so full table
+ * covers all distinct values: amount of any larger step equals to the last table entry
+ */
+class IlyaPoteminVegetationTable implements LongToDoubleFunction {
+
+    static final IlyaPoteminVegetationTable SHARED = new IlyaPoteminVegetationTable();
+    static final int INITIAL_TABLE_SIZE = 64;
+    static final int SATURATION_STEP = 710;
+    static final int MAX_TABLE_SIZE = SATURATION_STEP + 1;
+
+    private volatile double[] table = new double[0];
+
+    static double exactVegetationAmount(long vegetationStep) {
+        return (10.0 * Math.exp(vegetationStep)) / (1.0 + Math.exp(vegetationStep));
+    }
+
+    @Override
+    public double applyAsDouble(long vegetationStep) {
+        double[] currentTable = table;
+        if (vegetationStep >= 0 && vegetationStep < currentTable.length) {
+            return currentTable[(int) vegetationStep];
+        }
+        if (vegetationStep >= 0 && vegetationStep < MAX_TABLE_SIZE) {
+            return grow((int) vegetationStep)[(int) vegetationStep];
+        }
+        return exactVegetationAmount(vegetationStep);
+    }
+
+    /**
+     * @return table grown to MAX_TABLE_SIZE, which should not be modified,
+     * amount of step larger than table is amount of its last entry
+     */
+    double[] getFullTable() {
+        return grow(MAX_TABLE_SIZE - 1);
+    }
+
+    /**
+     * Table is replaced by filled copy, so readers never see partially computed values
+     */
+    private synchronized double[] grow(int vegetationStep) {
+        double[] currentTable = table;
+        if (vegetationStep < currentTable.length) {
+            return currentTable;
+        }
+        int size = Math.max(INITIAL_TABLE_SIZE, currentTable.length);
+        while (size <= vegetationStep) {
+            size <<= 1;
+        }
+        size = Math.min(size, MAX_TABLE_SIZE);
+        double[] grownTable = Arrays.copyOf(currentTable, size);
+        for (int step = currentTable.length; step < size; step++) {
+            grownTable[step] = exactVegetationAmount(step);
+        }
+        table = grownTable;
+        return grownTable;
     }
 }
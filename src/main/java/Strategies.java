@@ -1,7 +1,6 @@
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Random;
 import java.util.stream.Collectors;
 
 /**
@@ -19,7 +18,12 @@ class IlyaPoteminMooseStrategy extends IlyaPoteminAbstractStrategy {
     protected IlyaPoteminMetric<Double> fightPercentMetric;
 
     public IlyaPoteminMooseStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth) {
-        super(metricDepth);
+        this(gameState, metricDepth, IlyaPoteminRandom.create());
+    }
+
+    public IlyaPoteminMooseStrategy(IlyaPoteminGameStateSimulation gameState, int metricDepth,
+                                    IlyaPoteminRandom random) {
+        super(metricDepth, random);
         this.gameState = gameState;
         mostPayoffStrategy = new IlyaPoteminMostPayoffStrategy(this, gameState);
     }
@@ -31,7 +35,7 @@ class IlyaPoteminMooseStrategy extends IlyaPoteminAbstractStrategy {
     @Override
     public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
         if (opponentLastMove == null) {
-            return mostPayoffStrategy.move(history, null);
+            return decided("first move", mostPayoffStrategy.move(history, null));
         }
         super.updateMetrics(history);
         Collection<IlyaPoteminFieldState> fieldStates = gameState.getFieldStates();
@@ -43,10 +47,21 @@ class IlyaPoteminMooseStrategy extends IlyaPoteminAbstractStrategy {
             // if opponent is not stupid enough, it will this move and get an advantage in payoffs
             // we have one choice - select it and either win or neglect both payoffs\
             logger.info("Using no other choice strategy");
-            return nonZeroStepFieldStates.get(0).getField();
+            return decided("no other choice", nonZeroStepFieldStates.get(0).getField());
         }
         // there is not only one field with non-zero step and non-zero available payoff
-        return mostPayoffStrategy.move(history, opponentLastMove);
+        return decided("most payoff", mostPayoffStrategy.move(history, opponentLastMove));
+    }
+
+    private IlyaPoteminField decided(String branch, IlyaPoteminField field) {
+        IlyaPoteminDecisionEvent event = new IlyaPoteminDecisionEvent();
+        if (event.shouldCommit()) {
+            event.strategy = "MooseStrategy";
+            event.branch = branch;
+            event.field = field.name();
+            event.commit();
+        }
+        return field;
     }
 
     public String toString() {
@@ -96,7 +111,6 @@ class IlyaPoteminMostPayoffStrategy extends IlyaPoteminAbstractStrategy {
  * RandomStrategy - selects random field
  */
 class IlyaPoteminRandomStrategy extends IlyaPoteminAbstractStrategy {
-    private Random randomEngine = new Random();
 
     public IlyaPoteminRandomStrategy(int metricDepth) {
         super(metricDepth);
@@ -108,10 +122,10 @@ class IlyaPoteminRandomStrategy extends IlyaPoteminAbstractStrategy {
 
     @Override
     public IlyaPoteminField move(IlyaPoteminHistory history, IlyaPoteminField opponentLastMove) {
-        return IlyaPoteminField.ofValue(randomEngine.nextInt(3) + 1);
+        return IlyaPoteminField.ofValue(random.nextInt(3) + 1);
     }
 
     public IlyaPoteminField move(List<IlyaPoteminField> fromList) {
-        return fromList.get(randomEngine.nextInt(fromList.size()));
+        return fromList.get(random.nextInt(fromList.size()));
     }
 }
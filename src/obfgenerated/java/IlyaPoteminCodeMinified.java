@@ -1,12 +1,11 @@
 import com.company.Player;
 
-import java.lang.annotation.ElementType;
-import java.lang.annotation.Retention;
-import java.lang.annotation.RetentionPolicy;
-import java.lang.annotation.Target;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 
 public class IlyaPoteminCodeMinified implements Player {
 
@@ -35,152 +34,96 @@ public class IlyaPoteminCodeMinified implements Player {
         implementationClassLoaderLoader = new ImplementationClassLoader();
     }
 
+    /**
+     * Defines embedded classes on demand, using class index generated at build time
+     * Loader is parallel capable and its state is not modified after construction, so players can be created
+     * from any thread through cached constructor handle
+     */
     private static class ImplementationClassLoader extends ClassLoader {
-        private Map<String, byte[]> bytecodeMap = new HashMap<>();
-        private Map<String, Class<?>> classMap = new HashMap<>();
+        private static final String PLAYER_CLASS_NAME = "IlyaPoteminCode";
+
+        private final byte[] classBuffer;
+        private final Map<String, Integer> classIndex = new HashMap<>();
+        private final int[] classOffsets = new int[Implementation.CLASS_NAMES.length];
+        private final MethodHandle playerConstructor;
+
+        static {
+            registerAsParallelCapable();
+        }
 
         public ImplementationClassLoader() {
             super();
-            List<Field> classFields = new ArrayList<>(40);
-            for (int i = 0; ; i++) {
-                try {
-                    Class<?> cl = Class.forName("Implementation$Implementation" + i);
-                    classFields.add(cl.getDeclaredFields()[0]);
-                } catch (ClassNotFoundException e) {
-                    break;
-                }
+            int offset = 0;
+            for (int i = 0; i < Implementation.CLASS_NAMES.length; i++) {
+                classIndex.put(Implementation.CLASS_NAMES[i], i);
+                classOffsets[i] = offset;
+                offset += Implementation.CLASS_LENGTHS[i];
+            }
+            try {
+                classBuffer = decodeClassArchive(Implementation.DATA, offset);
+                Class<?> playerClass = loadClass(PLAYER_CLASS_NAME);
+                playerConstructor = MethodHandles.publicLookup()
+                        .findConstructor(playerClass, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Player.class));
+            } catch (DataFormatException | ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Joins chunks and inflates them into single buffer, which holds bytecode of all classes
+         */
+        private static byte[] decodeClassArchive(String[] chunks, int length) throws DataFormatException {
+            StringBuilder builder = new StringBuilder(chunks.length * 60000);
+            for (String chunk : chunks) {
+                builder.append(chunk);
             }
+            byte[] compressed = Base64.getDecoder().decode(builder.toString());
+            byte[] buffer = new byte[length];
+            Inflater inflater = new Inflater();
             try {
-                for (Field field : classFields) {
-                    String className = new String(field.getAnnotation(CompressedClassName.class).value());
-                    byte[] bytes = (byte[]) field.get(null);
-                    bytecodeMap.put(className, bytes);
+                inflater.setInput(compressed);
+                int inflated = 0;
+                while (inflated < length && !inflater.finished()) {
+                    int count = inflater.inflate(buffer, inflated, length - inflated);
+                    if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IllegalStateException("Class archive is truncated at " + inflated + " of " + length + " bytes");
+                    }
+                    inflated += count;
                 }
-                for (String className : bytecodeMap.keySet()) {
-                    loadClass(className);
+                if (inflated < length) {
+                    throw new IllegalStateException("Class archive is truncated at " + inflated + " of " + length + " bytes");
                 }
-            } catch (IllegalAccessException | ClassNotFoundException e) {
-                e.printStackTrace();
+            } finally {
+                inflater.end();
             }
+            return buffer;
         }
 
         @Override
         protected Class<?> findClass(String name) throws ClassNotFoundException {
-            if (bytecodeMap.containsKey(name)) {
-                byte[] classBytes = bytecodeMap.get(name);
-                Class<?> loadedClass = defineClass(name, classBytes, 0, classBytes.length);
-                classMap.put(name, loadedClass);
-                return loadedClass;
+            Integer index = classIndex.get(name);
+            if (index != null) {
+                return defineClass(name, classBuffer, classOffsets[index], Implementation.CLASS_LENGTHS[index]);
             }
             return super.findClass(name);
         }
 
         public Player loadedPlayer() {
             try {
-                Class<?> playerClass = Objects.requireNonNull(classMap.get("IlyaPoteminCode"));
-                return (Player) playerClass.getConstructor().newInstance();
-            } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-                return null;
+                return (Player) playerConstructor.invokeExact();
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
             }
         }
     }
 }
 
-@Target(ElementType.FIELD)
-@Retention(RetentionPolicy.RUNTIME)
-@interface CompressedClassName {
-    byte[] value();
-}
-
 class Implementation {
     //@formatter:off
-    public static class Implementation0 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,111,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,6,60,105,110,105,116,62,1,0,3,40,41,86,9,0,8,0,9,7,0,10,12,0,11,0,12,1,0,25,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99,1,0,12,104,105,115,116,111,114,121,68,101,112,116,104,1,0,1,73,11,0,14,0,15,7,0,16,12,0,17,0,18,1,0,18,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,1,0,14,103,101,116,76,97,115,116,65,99,116,105,111,110,115,1,0,19,40,73,41,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,10,0,20,0,21,7,0,22,12,0,23,0,24,1,0,18,106,97,118,97,47,117,116,105,108,47,79,112,116,105,111,110,97,108,1,0,10,111,102,78,117,108,108,97,98,108,101,1,0,40,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,117,116,105,108,47,79,112,116,105,111,110,97,108,59,18,0,0,0,26,12,0,27,0,28,1,0,5,97,112,112,108,121,1,0,58,40,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99,59,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,10,0,20,0,30,12,0,31,0,32,1,0,3,109,97,112,1,0,51,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,41,76,106,97,118,97,47,117,116,105,108,47,79,112,116,105,111,110,97,108,59,18,0,1,0,34,12,0,35,0,36,1,0,3,103,101,116,1,0,31,40,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,59,10,0,20,0,38,12,0,39,0,40,1,0,11,111,114,69,108,115,101,84,104,114,111,119,1,0,49,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,9,0,8,0,42,12,0,43,0,44,1,0,5,118,97,108,117,101,1,0,18,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,18,0,2,0,46,12,0,47,0,48,1,0,23,109,97,107,101,67,111,110,99,97,116,87,105,116,104,67,111,110,115,116,97,110,116,115,1,0,38,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,7,0,50,1,0,17,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,1,0,9,83,105,103,110,97,116,117,114,101,1,0,3,84,84,59,1,0,4,40,73,41,86,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,27,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99,59,1,0,22,76,111,99,97,108,86,97,114,105,97,98,108,101,84,121,112,101,84,97,98,108,101,1,0,32,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99,60,84,84,59,62,59,1,0,8,100,111,85,112,100,97,116,101,1,0,36,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,1,0,47,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,41,84,84,59,1,0,6,117,112,100,97,116,101,1,0,40,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,1,0,7,104,105,115,116,111,114,121,1,0,20,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,1,0,25,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,41,84,84,59,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,1,0,5,40,41,84,84,59,1,0,8,116,111,83,116,114,105,110,103,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,64,60,84,58,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,62,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,84,84,59,62,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,22,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,46,106,97,118,97,1,0,16,66,111,111,116,115,116,114,97,112,77,101,116,104,111,100,115,15,6,0,78,10,0,79,0,80,7,0,81,12,0,82,0,83,1,0,34,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,76,97,109,98,100,97,77,101,116,97,102,97,99,116,111,114,121,1,0,11,109,101,116,97,102,97,99,116,111,114,121,1,0,-52,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,16,0,85,1,0,38,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,15,5,0,87,10,0,8,0,88,12,0,61,0,62,16,0,62,16,0,69,15,8,0,92,10,0,93,0,3,7,0,94,1,0,30,106,97,118,97,47,108,97,110,103,47,78,117,108,108,80,111,105,110,116,101,114,69,120,99,101,112,116,105,111,110,16,0,96,1,0,34,40,41,76,106,97,118,97,47,108,97,110,103,47,78,117,108,108,80,111,105,110,116,101,114,69,120,99,101,112,116,105,111,110,59,15,6,0,98,10,0,99,0,100,7,0,101,12,0,47,0,102,1,0,36,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,83,116,114,105,110,103,67,111,110,99,97,116,70,97,99,116,111,114,121,1,0,-104,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,91,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,8,0,104,1,0,15,77,101,116,114,105,99,40,118,97,108,117,101,61,1,41,1,0,12,73,110,110,101,114,67,108,97,115,115,101,115,7,0,107,1,0,37,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,7,0,109,1,0,30,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,1,0,6,76,111,111,107,117,112,4,32,0,8,0,2,0,1,0,49,0,2,0,4,0,43,0,44,0,1,0,51,0,0,0,2,0,52,0,4,0,11,0,12,0,0,0,5,0,4,0,5,0,53,0,1,0,54,0,0,0,88,0,2,0,2,0,0,0,10,42,-73,0,1,42,27,-75,0,7,-79,0,0,0,3,0,55,0,0,0,14,0,3,0,0,0,28,0,4,0,29,0,9,0,30,0,56,0,0,0,22,0,2,0,0,0,10,0,57,0,58,0,0,0,0,0,10,0,11,0,12,0,1,0,59,0,0,0,12,0,1,0,0,0,10,0,57,0,60,0,0,4,4,0,61,0,62,0,1,0,51,0,0,0,2,0,63,0,17,0,64,0,65,0,2,0,54,0,0,0,121,0,3,0,2,0,0,0,39,42,43,42,-76,0,7,-71,0,13,2,0,-72,0,19,42,-70,0,25,0,0,-74,0,29,-70,0,33,0,0,-74,0,37,-75,0,41,42,-76,0,41,-80,0,0,0,3,0,55,0,0,0,18,0,4,0,0,0,35,0,20,0,36,0,28,0,37,0,34,0,38,0,56,0,0,0,22,0,2,0,0,0,39,0,57,0,58,0,0,0,0,0,39,0,66,0,67,0,1,0,59,0,0,0,12,0,1,0,0,0,39,0,57,0,60,0,0,0,51,0,0,0,2,0,68,0,17,0,35,0,69,0,2,0,54,0,0,0,65,0,1,0,1,0,0,0,5,42,-76,0,41,-80,0,0,0,3,0,55,0,0,0,6,0,1,0,0,0,42,0,56,0,0,0,12,0,1,0,0,0,5,0,57,0,58,0,0,0,59,0,0,0,12,0,1,0,0,0,5,0,57,0,60,0,0,0,51,0,0,0,2,0,70,0,1,0,71,0,72,0,1,0,54,0,0,0,70,0,1,0,1,0,0,0,10,42,-76,0,41,-70,0,45,0,0,-80,0,0,0,3,0,55,0,0,0,6,0,1,0,0,0,47,0,56,0,0,0,12,0,1,0,0,0,10,0,57,0,58,0,0,0,59,0,0,0,12,0,1,0,0,0,10,0,57,0,60,0,0,0,4,0,51,0,0,0,2,0,73,0,74,0,0,0,2,0,75,0,76,0,0,0,28,0,3,0,77,0,3,0,84,0,86,0,89,0,77,0,3,0,90,0,91,0,95,0,97,0,1,0,103,0,105,0,0,0,10,0,1,0,106,0,108,0,110,0,25};
-    }
-    public static class Implementation1 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,-21,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,6,60,105,110,105,116,62,1,0,3,40,41,86,9,0,8,0,9,7,0,10,12,0,11,0,12,1,0,27,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,1,0,11,109,101,116,114,105,99,68,101,112,116,104,1,0,1,73,7,0,14,1,0,26,106,97,118,97,47,108,97,110,103,47,82,117,110,116,105,109,101,69,120,99,101,112,116,105,111,110,8,0,16,1,0,20,83,104,111,117,108,100,32,110,111,116,32,98,101,32,99,97,108,108,101,100,10,0,13,0,18,12,0,5,0,19,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,86,7,0,21,1,0,24,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,70,97,99,116,111,114,121,10,0,20,0,3,9,0,8,0,24,12,0,25,0,26,1,0,13,109,101,116,114,105,99,70,97,99,116,111,114,121,1,0,26,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,70,97,99,116,111,114,121,59,7,0,28,1,0,26,73,108,121,97,80,111,116,101,109,105,110,80,97,121,111,102,102,83,117,109,77,101,116,114,105,99,8,0,30,1,0,17,112,97,121,111,102,102,95,115,117,109,95,109,101,116,114,105,99,18,0,0,0,32,12,0,33,0,34,1,0,3,103,101,116,1,0,32,40,73,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,59,10,0,20,0,36,12,0,37,0,38,1,0,4,119,105,116,104,1,0,75,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,59,41,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,70,97,99,116,111,114,121,59,7,0,40,1,0,29,73,108,121,97,80,111,116,101,109,105,110,70,105,103,104,116,80,101,114,99,101,110,116,77,101,116,114,105,99,8,0,42,1,0,20,102,105,103,104,116,95,112,101,114,99,101,110,116,95,109,101,116,114,105,99,18,0,1,0,32,7,0,45,1,0,42,73,108,121,97,80,111,116,101,109,105,110,79,112,112,111,110,101,110,116,70,105,101,108,100,68,105,115,116,114,105,98,117,116,105,111,110,77,101,116,114,105,99,8,0,47,1,0,36,111,112,112,111,110,101,110,116,95,102,105,101,108,100,95,100,105,115,116,114,105,98,117,116,105,111,110,95,109,101,116,114,105,99,46,65,18,0,2,0,32,8,0,50,1,0,36,111,112,112,111,110,101,110,116,95,102,105,101,108,100,95,100,105,115,116,114,105,98,117,116,105,111,110,95,109,101,116,114,105,99,46,66,18,0,3,0,32,8,0,53,1,0,36,111,112,112,111,110,101,110,116,95,102,105,101,108,100,95,100,105,115,116,114,105,98,117,116,105,111,110,95,109,101,116,114,105,99,46,67,18,0,4,0,32,7,0,56,1,0,42,73,108,121,97,80,111,116,101,109,105,110,77,111,115,116,79,112,112,111,110,101,110,116,83,101,108,101,99,116,101,100,70,105,101,108,100,77,101,116,114,105,99,8,0,58,1,0,29,109,111,115,116,95,111,112,112,111,110,101,110,116,95,115,101,108,101,99,116,101,100,95,109,101,116,114,105,99,18,0,5,0,60,12,0,33,0,61,1,0,61,40,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,59,73,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,59,10,0,8,0,63,12,0,64,0,6,1,0,13,105,110,106,101,99,116,77,101,116,114,105,99,115,7,0,66,1,0,25,73,108,121,97,80,111,116,101,109,105,110,73,110,106,101,99,116,101,100,77,101,116,114,105,99,10,0,68,0,69,7,0,70,12,0,71,0,72,1,0,23,106,97,118,97,47,108,97,110,103,47,114,101,102,108,101,99,116,47,70,105,101,108,100,1,0,13,103,101,116,65,110,110,111,116,97,116,105,111,110,1,0,52,40,76,106,97,118,97,47,108,97,110,103,47,67,108,97,115,115,59,41,76,106,97,118,97,47,108,97,110,103,47,97,110,110,111,116,97,116,105,111,110,47,65,110,110,111,116,97,116,105,111,110,59,11,0,65,0,74,12,0,75,0,76,1,0,5,118,97,108,117,101,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,10,0,20,0,78,12,0,33,0,79,1,0,39,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,10,0,68,0,81,12,0,82,0,83,1,0,3,115,101,116,1,0,39,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,86,7,0,85,1,0,32,106,97,118,97,47,108,97,110,103,47,73,108,108,101,103,97,108,65,99,99,101,115,115,69,120,99,101,112,116,105,111,110,10,0,13,0,87,12,0,5,0,88,1,0,24,40,76,106,97,118,97,47,108,97,110,103,47,84,104,114,111,119,97,98,108,101,59,41,86,10,0,2,0,90,12,0,91,0,92,1,0,8,103,101,116,67,108,97,115,115,1,0,19,40,41,76,106,97,118,97,47,108,97,110,103,47,67,108,97,115,115,59,10,0,94,0,95,7,0,96,12,0,97,0,98,1,0,15,106,97,118,97,47,108,97,110,103,47,67,108,97,115,115,1,0,17,103,101,116,68,101,99,108,97,114,101,100,70,105,101,108,100,115,1,0,28,40,41,91,76,106,97,118,97,47,108,97,110,103,47,114,101,102,108,101,99,116,47,70,105,101,108,100,59,10,0,68,0,100,12,0,101,0,92,1,0,7,103,101,116,84,121,112,101,7,0,103,1,0,17,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,10,0,68,0,105,12,0,106,0,107,1,0,19,105,115,65,110,110,111,116,97,116,105,111,110,80,114,101,115,101,110,116,1,0,20,40,76,106,97,118,97,47,108,97,110,103,47,67,108,97,115,115,59,41,90,10,0,8,0,109,12,0,110,0,111,1,0,12,105,110,106,101,99,116,77,101,116,114,105,99,1,0,28,40,76,106,97,118,97,47,108,97,110,103,47,114,101,102,108,101,99,116,47,70,105,101,108,100,59,41,86,10,0,20,0,113,12,0,82,0,114,1,0,40,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,41,86,18,0,6,0,116,12,0,117,0,118,1,0,6,97,99,99,101,112,116,1,0,53,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,66,105,67,111,110,115,117,109,101,114,59,10,0,20,0,120,12,0,121,0,122,1,0,7,102,111,114,69,97,99,104,1,0,34,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,66,105,67,111,110,115,117,109,101,114,59,41,86,11,0,102,0,124,12,0,125,0,126,1,0,6,117,112,100,97,116,101,1,0,40,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,10,0,55,0,-128,12,0,5,0,-127,1,0,61,40,73,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,41,86,9,0,-125,0,-124,7,0,-123,12,0,-122,0,-121,1,0,16,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,1,0,1,67,1,0,18,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,10,0,44,0,-119,12,0,5,0,-118,1,0,22,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,73,41,86,9,0,-125,0,-116,12,0,-115,0,-121,1,0,1,66,9,0,-125,0,-113,12,0,-112,0,-121,1,0,1,65,10,0,39,0,-110,12,0,5,0,-109,1,0,4,40,73,41,86,10,0,27,0,-110,7,0,-106,1,0,19,73,108,121,97,80,111,116,101,109,105,110,83,116,114,97,116,101,103,121,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,29,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,59,1,0,32,40,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,59,41,86,1,0,6,112,97,114,101,110,116,1,0,9,101,120,99,101,112,116,105,111,110,1,0,34,76,106,97,118,97,47,108,97,110,103,47,73,108,108,101,103,97,108,65,99,99,101,115,115,69,120,99,101,112,116,105,111,110,59,1,0,5,102,105,101,108,100,1,0,25,76,106,97,118,97,47,108,97,110,103,47,114,101,102,108,101,99,116,47,70,105,101,108,100,59,1,0,4,110,97,109,101,1,0,18,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,13,83,116,97,99,107,77,97,112,84,97,98,108,101,7,0,-90,1,0,16,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,1,0,1,102,7,0,-87,1,0,26,91,76,106,97,118,97,47,108,97,110,103,47,114,101,102,108,101,99,116,47,70,105,101,108,100,59,1,0,9,115,101,116,77,101,116,114,105,99,1,0,6,109,101,116,114,105,99,1,0,19,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,1,0,22,76,111,99,97,108,86,97,114,105,97,98,108,101,84,121,112,101,84,97,98,108,101,1,0,24,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,84,84,59,62,59,1,0,9,83,105,103,110,97,116,117,114,101,1,0,67,60,84,58,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,62,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,84,84,59,62,59,41,86,1,0,15,103,101,116,68,111,117,98,108,101,77,101,116,114,105,99,1,0,59,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,62,59,1,0,13,117,112,100,97,116,101,77,101,116,114,105,99,115,1,0,23,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,41,86,1,0,7,104,105,115,116,111,114,121,1,0,20,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,1,0,22,108,97,109,98,100,97,36,117,112,100,97,116,101,77,101,116,114,105,99,115,36,54,1,0,60,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,41,86,1,0,12,108,97,109,98,100,97,36,110,101,119,36,53,1,0,22,40,73,41,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,1,0,12,108,97,109,98,100,97,36,110,101,119,36,52,1,0,12,108,97,109,98,100,97,36,110,101,119,36,51,1,0,12,108,97,109,98,100,97,36,110,101,119,36,50,1,0,12,108,97,109,98,100,97,36,110,101,119,36,49,1,0,12,108,97,109,98,100,97,36,110,101,119,36,48,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,24,73,108,121,97,80,111,116,101,109,105,110,83,116,114,97,116,101,103,121,46,106,97,118,97,1,0,16,66,111,111,116,115,116,114,97,112,77,101,116,104,111,100,115,15,6,0,-60,10,0,-59,0,-58,7,0,-57,12,0,-56,0,-55,1,0,34,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,76,97,109,98,100,97,77,101,116,97,102,97,99,116,111,114,121,1,0,11,109,101,116,97,102,97,99,116,111,114,121,1,0,-52,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,16,0,-53,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,15,6,0,-51,10,0,8,0,-50,12,0,-65,0,-70,16,0,-48,1,0,21,40,41,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,15,6,0,-46,10,0,8,0,-45,12,0,-66,0,-70,15,6,0,-43,10,0,8,0,-42,12,0,-67,0,-70,15,6,0,-40,10,0,8,0,-39,12,0,-68,0,-70,15,6,0,-37,10,0,8,0,-36,12,0,-69,0,-70,15,7,0,-34,10,0,8,0,-33,12,0,-71,0,-70,16,0,83,15,6,0,-30,10,0,8,0,-29,12,0,-73,0,-72,16,0,114,1,0,12,73,110,110,101,114,67,108,97,115,115,101,115,7,0,-25,1,0,37,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,7,0,-23,1,0,30,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,1,0,6,76,111,111,107,117,112,4,32,0,8,0,2,0,1,0,-107,0,2,0,0,0,11,0,12,0,0,0,0,0,25,0,26,0,0,0,15,0,2,0,5,0,6,0,1,0,-105,0,0,0,70,0,3,0,1,0,0,0,20,42,-73,0,1,42,16,10,-75,0,7,-69,0,13,89,18,15,-73,0,17,-65,0,0,0,2,0,-104,0,0,0,14,0,3,0,0,0,15,0,4,0,12,0,10,0,16,0,-103,0,0,0,12,0,1,0,0,0,20,0,-102,0,-101,0,0,0,4,0,5,0,-109,0,1,0,-105,0,0,0,-62,0,4,0,2,0,0,0,98,42,-73,0,1,42,16,10,-75,0,7,42,-69,0,20,89,-73,0,22,-75,0,23,42,-76,0,23,18,29,27,-70,0,31,0,0,-74,0,35,18,41,27,-70,0,43,0,0,-74,0,35,18,46,27,-70,0,48,0,0,-74,0,35,18,49,27,-70,0,51,0,0,-74,0,35,18,52,27,-70,0,54,0,0,-74,0,35,18,57,42,27,-70,0,59,0,0,-74,0,35,87,42,-74,0,62,-79,0,0,0,2,0,-104,0,0,0,50,0,12,0,0,0,19,0,4,0,12,0,10,0,20,0,21,0,21,0,33,0,22,0,44,0,24,0,55,0,26,0,66,0,28,0,77,0,30,0,89,0,32,0,93,0,37,0,97,0,38,0,-103,0,0,0,22,0,2,0,0,0,98,0,-102,0,-101,0,0,0,0,0,98,0,11,0,12,0,1,0,4,0,5,0,-100,0,1,0,-105,0,0,0,103,0,2,0,2,0,0,0,31,42,-73,0,1,42,16,10,-75,0,7,42,43,-76,0,23,-75,0,23,42,43,-76,0,7,-75,0,7,42,-74,0,62,-79,0,0,0,2,0,-104,0,0,0,26,0,6,0,0,0,40,0,4,0,12,0,10,0,41,0,18,0,42,0,26,0,43,0,30,0,44,0,-103,0,0,0,22,0,2,0,0,0,31,0,-102,0,-101,0,0,0,0,0,31,0,-99,0,-101,0,1,0,2,0,110,0,111,0,1,0,-105,0,0,0,-86,0,4,0,4,0,0,0,42,43,18,65,-74,0,67,-64,0,65,-71,0,73,1,0,77,43,42,42,-76,0,23,44,-74,0,77,-74,0,80,-89,0,13,78,-69,0,13,89,45,-73,0,86,-65,-79,0,1,0,15,0,28,0,31,0,84,0,3,0,-104,0,0,0,26,0,6,0,0,0,47,0,15,0,49,0,28,0,52,0,31,0,50,0,32,0,51,0,41,0,53,0,-103,0,0,0,42,0,4,0,32,0,9,0,-98,0,-97,0,3,0,0,0,42,0,-102,0,-101,0,0,0,0,0,42,0,-96,0,-95,0,1,0,15,0,27,0,-94,0,-93,0,2,0,-92,0,0,0,22,0,2,-1,0,31,0,3,7,0,8,7,0,68,7,0,-91,0,1,7,0,84,9,0,2,0,64,0,6,0,1,0,-105,0,0,0,-108,0,2,0,5,0,0,0,56,42,-74,0,89,-74,0,93,76,43,-66,61,3,62,29,28,-94,0,40,43,29,50,58,4,25,4,-74,0,99,18,102,-90,0,19,25,4,18,65,-74,0,104,-103,0,9,42,25,4,-74,0,108,-124,3,1,-89,-1,-39,-79,0,0,0,3,0,-104,0,0,0,26,0,6,0,0,0,56,0,23,0,57,0,33,0,58,0,43,0,59,0,49,0,56,0,55,0,63,0,-103,0,0,0,22,0,2,0,23,0,26,0,-89,0,-95,0,4,0,0,0,56,0,-102,0,-101,0,0,0,-92,0,0,0,14,0,3,-2,0,13,7,0,-88,1,1,35,-8,0,5,0,4,0,-86,0,114,0,2,0,-105,0,0,0,94,0,3,0,3,0,0,0,10,42,-76,0,23,43,44,-74,0,112,-79,0,0,0,3,0,-104,0,0,0,10,0,2,0,0,0,66,0,9,0,67,0,-103,0,0,0,32,0,3,0,0,0,10,0,-102,0,-101,0,0,0,0,0,10,0,-94,0,-93,0,1,0,0,0,10,0,-85,0,-84,0,2,0,-83,0,0,0,12,0,1,0,0,0,10,0,-85,0,-82,0,2,0,-81,0,0,0,2,0,-80,0,4,0,-79,0,79,0,2,0,-105,0,0,0,61,0,2,0,2,0,0,0,9,42,-76,0,23,43,-74,0,77,-80,0,0,0,2,0,-104,0,0,0,6,0,1,0,0,0,70,0,-103,0,0,0,22,0,2,0,0,0,9,0,-102,0,-101,0,0,0,0,0,9,0,-94,0,-93,0,1,0,-81,0,0,0,2,0,-78,0,4,0,-77,0,-76,0,1,0,-105,0,0,0,70,0,2,0,2,0,0,0,14,42,-76,0,23,43,-70,0,115,0,0,-74,0,119,-79,0,0,0,2,0,-104,0,0,0,10,0,2,0,0,0,74,0,13,0,75,0,-103,0,0,0,22,0,2,0,0,0,14,0,-102,0,-101,0,0,0,0,0,14,0,-75,0,-74,0,1,16,10,0,-73,0,-72,0,1,0,-105,0,0,0,71,0,2,0,3,0,0,0,9,44,42,-71,0,123,2,0,87,-79,0,0,0,2,0,-104,0,0,0,6,0,1,0,0,0,74,0,-103,0,0,0,32,0,3,0,0,0,9,0,-75,0,-74,0,0,0,0,0,9,0,-94,0,-93,0,1,0,0,0,9,0,-85,0,-84,0,2,16,2,0,-71,0,-70,0,1,0,-105,0,0,0,104,0,7,0,2,0,0,0,36,-69,0,55,89,27,42,-76,0,23,18,46,-74,0,77,42,-76,0,23,18,49,-74,0,77,42,-76,0,23,18,52,-74,0,77,-73,0,127,-80,0,0,0,2,0,-104,0,0,0,22,0,5,0,0,0,33,0,11,0,34,0,20,0,35,0,29,0,36,0,35,0,33,0,-103,0,0,0,22,0,2,0,0,0,36,0,-102,0,-101,0,0,0,0,0,36,0,11,0,12,0,1,16,10,0,-69,0,-70,0,1,0,-105,0,0,0,54,0,4,0,1,0,0,0,12,-69,0,44,89,-78,0,-126,26,-73,0,-120,-80,0,0,0,2,0,-104,0,0,0,6,0,1,0,0,0,31,0,-103,0,0,0,12,0,1,0,0,0,12,0,11,0,12,0,0,16,10,0,-68,0,-70,0,1,0,-105,0,0,0,54,0,4,0,1,0,0,0,12,-69,0,44,89,-78,0,-117,26,-73,0,-120,-80,0,0,0,2,0,-104,0,0,0,6,0,1,0,0,0,29,0,-103,0,0,0,12,0,1,0,0,0,12,0,11,0,12,0,0,16,10,0,-67,0,-70,0,1,0,-105,0,0,0,54,0,4,0,1,0,0,0,12,-69,0,44,89,-78,0,-114,26,-73,0,-120,-80,0,0,0,2,0,-104,0,0,0,6,0,1,0,0,0,27,0,-103,0,0,0,12,0,1,0,0,0,12,0,11,0,12,0,0,16,10,0,-66,0,-70,0,1,0,-105,0,0,0,51,0,3,0,1,0,0,0,9,-69,0,39,89,26,-73,0,-111,-80,0,0,0,2,0,-104,0,0,0,6,0,1,0,0,0,25,0,-103,0,0,0,12,0,1,0,0,0,9,0,11,0,12,0,0,16,10,0,-65,0,-70,0,1,0,-105,0,0,0,51,0,3,0,1,0,0,0,9,-69,0,27,89,26,-73,0,-108,-80,0,0,0,2,0,-104,0,0,0,6,0,1,0,0,0,23,0,-103,0,0,0,12,0,1,0,0,0,9,0,11,0,12,0,0,0,3,0,-64,0,0,0,2,0,-63,0,-62,0,0,0,72,0,7,0,-61,0,3,0,-54,0,-52,0,-49,0,-61,0,3,0,-54,0,-47,0,-49,0,-61,0,3,0,-54,0,-44,0,-49,0,-61,0,3,0,-54,0,-41,0,-49,0,-61,0,3,0,-54,0,-38,0,-49,0,-61,0,3,0,-54,0,-35,0,-49,0,-61,0,3,0,-32,0,-31,0,-28,0,-27,0,0,0,10,0,1,0,-26,0,-24,0,-22,0,25};
-    }
-    public static class Implementation2 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,65,114,114,97,121,72,105,115,116,111,114,121})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,87,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,6,60,105,110,105,116,62,1,0,3,40,41,86,7,0,8,1,0,20,106,97,118,97,47,117,116,105,108,47,76,105,110,107,101,100,76,105,115,116,10,0,7,0,3,9,0,11,0,12,7,0,13,12,0,14,0,15,1,0,23,73,108,121,97,80,111,116,101,109,105,110,65,114,114,97,121,72,105,115,116,111,114,121,1,0,11,104,105,115,116,111,114,121,76,105,115,116,1,0,16,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,9,0,11,0,17,12,0,18,0,19,1,0,12,114,111,117,110,100,67,111,117,110,116,101,114,1,0,1,73,11,0,21,0,22,7,0,23,12,0,24,0,25,1,0,14,106,97,118,97,47,117,116,105,108,47,76,105,115,116,1,0,4,115,105,122,101,1,0,3,40,41,73,11,0,21,0,27,12,0,28,0,29,1,0,3,103,101,116,1,0,21,40,73,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,7,0,31,1,0,22,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,9,0,30,0,33,12,0,34,0,35,1,0,12,111,112,112,111,110,101,110,116,77,111,118,101,1,0,18,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,9,0,30,0,37,12,0,38,0,35,1,0,10,112,108,97,121,101,114,77,111,118,101,9,0,30,0,40,12,0,41,0,42,1,0,8,105,115,66,97,116,116,108,101,1,0,1,90,10,0,30,0,3,9,0,30,0,45,12,0,46,0,19,1,0,5,114,111,117,110,100,11,0,21,0,48,12,0,49,0,50,1,0,3,97,100,100,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,90,10,0,52,0,53,7,0,54,12,0,55,0,56,1,0,14,106,97,118,97,47,108,97,110,103,47,77,97,116,104,1,0,3,109,97,120,1,0,5,40,73,73,41,73,11,0,21,0,58,12,0,59,0,60,1,0,7,115,117,98,76,105,115,116,1,0,20,40,73,73,41,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,7,0,62,1,0,18,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,1,0,9,83,105,103,110,97,116,117,114,101,1,0,42,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,25,76,73,108,121,97,80,111,116,101,109,105,110,65,114,114,97,121,72,105,115,116,111,114,121,59,1,0,21,119,114,105,116,101,76,97,115,116,79,112,112,111,110,101,110,116,77,111,118,101,1,0,21,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,41,86,1,0,5,102,105,101,108,100,1,0,14,112,114,101,118,105,111,117,115,82,101,99,111,114,100,1,0,24,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,1,0,13,83,116,97,99,107,77,97,112,84,97,98,108,101,7,0,77,1,0,16,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,1,0,22,119,114,105,116,101,67,117,114,114,101,110,116,80,108,97,121,101,114,77,111,118,101,1,0,13,99,117,114,114,101,110,116,82,101,99,111,114,100,1,0,14,103,101,116,76,97,115,116,65,99,116,105,111,110,115,1,0,19,40,73,41,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,1,0,5,100,101,112,116,104,1,0,11,99,117,114,114,101,110,116,83,105,122,101,1,0,45,40,73,41,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,23,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,46,106,97,118,97,0,32,0,11,0,2,0,1,0,61,0,2,0,2,0,14,0,15,0,1,0,63,0,0,0,2,0,64,0,2,0,18,0,19,0,0,0,4,0,0,0,5,0,6,0,1,0,65,0,0,0,71,0,3,0,1,0,0,0,21,42,-73,0,1,42,-69,0,7,89,-73,0,9,-75,0,10,42,4,-75,0,16,-79,0,0,0,2,0,66,0,0,0,14,0,3,0,0,0,41,0,4,0,43,0,15,0,44,0,67,0,0,0,12,0,1,0,0,0,21,0,68,0,69,0,0,0,1,0,70,0,71,0,1,0,65,0,0,0,-85,0,3,0,3,0,0,0,50,42,-76,0,10,42,-76,0,10,-71,0,20,1,0,4,100,-71,0,26,2,0,-64,0,30,77,44,43,-75,0,32,44,44,-76,0,36,44,-76,0,32,-90,0,7,4,-89,0,4,3,-75,0,39,-79,0,0,0,3,0,66,0,0,0,18,0,4,0,0,0,48,0,24,0,49,0,29,0,50,0,49,0,51,0,67,0,0,0,32,0,3,0,0,0,50,0,68,0,69,0,0,0,0,0,50,0,72,0,35,0,1,0,24,0,26,0,73,0,74,0,2,0,75,0,0,0,41,0,2,-1,0,45,0,3,7,0,11,7,0,76,7,0,30,0,1,7,0,30,-1,0,0,0,3,7,0,11,7,0,76,7,0,30,0,2,7,0,30,1,0,1,0,78,0,71,0,1,0,65,0,0,0,127,0,5,0,3,0,0,0,45,-69,0,30,89,-73,0,43,77,44,42,89,-76,0,16,90,4,96,-75,0,16,-75,0,44,44,1,-75,0,32,44,43,-75,0,36,42,-76,0,10,44,-71,0,47,2,0,87,-79,0,0,0,2,0,66,0,0,0,26,0,6,0,0,0,55,0,8,0,56,0,23,0,57,0,28,0,58,0,33,0,59,0,44,0,60,0,67,0,0,0,32,0,3,0,0,0,45,0,68,0,69,0,0,0,0,0,45,0,72,0,35,0,1,0,8,0,37,0,79,0,74,0,2,0,1,0,80,0,81,0,2,0,65,0,0,0,94,0,4,0,3,0,0,0,28,42,-76,0,10,-71,0,20,1,0,61,42,-76,0,10,3,28,27,100,-72,0,51,28,-71,0,57,3,0,-80,0,0,0,2,0,66,0,0,0,10,0,2,0,0,0,64,0,10,0,65,0,67,0,0,0,32,0,3,0,0,0,28,0,68,0,69,0,0,0,0,0,28,0,82,0,19,0,1,0,10,0,18,0,83,0,19,0,2,0,63,0,0,0,2,0,84,0,1,0,85,0,0,0,2,0,86};
-    }
-    public static class Implementation3 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,67,111,100,101})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,121,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,6,60,105,110,105,116,62,1,0,3,40,41,86,10,0,8,0,9,7,0,10,12,0,11,0,6,1,0,15,73,108,121,97,80,111,116,101,109,105,110,67,111,100,101,1,0,5,114,101,115,101,116,7,0,13,1,0,23,73,108,121,97,80,111,116,101,109,105,110,65,114,114,97,121,72,105,115,116,111,114,121,10,0,12,0,3,9,0,8,0,16,12,0,17,0,18,1,0,7,104,105,115,116,111,114,121,1,0,20,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,7,0,20,1,0,34,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,73,109,112,108,10,0,19,0,3,9,0,8,0,23,12,0,24,0,25,1,0,10,115,105,109,117,108,97,116,105,111,110,1,0,32,76,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,59,7,0,27,1,0,24,73,108,121,97,80,111,116,101,109,105,110,77,111,111,115,101,83,116,114,97,116,101,103,121,10,0,26,0,29,12,0,5,0,30,1,0,36,40,76,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,59,73,41,86,9,0,8,0,32,12,0,33,0,34,1,0,14,112,108,97,121,101,114,83,116,114,97,116,101,103,121,1,0,21,76,73,108,121,97,80,111,116,101,109,105,110,83,116,114,97,116,101,103,121,59,11,0,36,0,37,7,0,38,12,0,39,0,40,1,0,18,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,1,0,21,119,114,105,116,101,76,97,115,116,79,112,112,111,110,101,110,116,77,111,118,101,1,0,21,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,41,86,11,0,36,0,42,12,0,43,0,44,1,0,13,103,101,116,76,97,115,116,65,99,116,105,111,110,1,0,26,40,41,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,11,0,46,0,47,7,0,48,12,0,49,0,50,1,0,30,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,1,0,17,115,105,109,117,108,97,116,101,76,97,115,116,82,111,117,110,100,1,0,27,40,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,41,86,11,0,52,0,53,7,0,54,12,0,55,0,56,1,0,19,73,108,121,97,80,111,116,101,109,105,110,83,116,114,97,116,101,103,121,1,0,4,109,111,118,101,1,0,58,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,11,0,36,0,58,12,0,59,0,40,1,0,22,119,114,105,116,101,67,117,114,114,101,110,116,80,108,97,121,101,114,77,111,118,101,10,0,61,0,62,7,0,63,12,0,64,0,65,1,0,16,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,1,0,7,111,102,86,97,108,117,101,1,0,21,40,73,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,10,0,8,0,67,12,0,55,0,68,1,0,38,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,10,0,61,0,70,12,0,71,0,72,1,0,8,103,101,116,86,97,108,117,101,1,0,3,40,41,73,8,0,74,1,0,22,105,46,112,111,116,101,109,105,110,64,105,110,110,111,112,111,108,105,115,46,114,117,10,0,2,0,76,12,0,77,0,72,1,0,8,104,97,115,104,67,111,100,101,10,0,2,0,79,12,0,80,0,81,1,0,8,116,111,83,116,114,105,110,103,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,18,0,0,0,83,12,0,84,0,85,1,0,23,109,97,107,101,67,111,110,99,97,116,87,105,116,104,67,111,110,115,116,97,110,116,115,1,0,39,40,73,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,7,0,87,1,0,18,99,111,109,47,99,111,109,112,97,110,121,47,80,108,97,121,101,114,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,17,76,73,108,121,97,80,111,116,101,109,105,110,67,111,100,101,59,1,0,16,108,97,115,116,79,112,112,111,110,101,110,116,77,111,118,101,1,0,18,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,11,109,111,118,101,84,111,70,105,101,108,100,1,0,13,83,116,97,99,107,77,97,112,84,97,98,108,101,1,0,7,40,73,73,73,73,41,73,1,0,19,111,112,112,111,110,101,110,116,76,97,115,116,77,111,118,101,73,110,116,1,0,1,73,1,0,2,120,65,1,0,2,120,66,1,0,2,120,67,1,0,8,103,101,116,69,109,97,105,108,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,20,73,108,121,97,80,111,116,101,109,105,110,67,111,100,101,46,106,97,118,97,1,0,16,66,111,111,116,115,116,114,97,112,77,101,116,104,111,100,115,15,6,0,108,10,0,109,0,110,7,0,111,12,0,84,0,112,1,0,36,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,83,116,114,105,110,103,67,111,110,99,97,116,70,97,99,116,111,114,121,1,0,-104,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,91,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,8,0,114,1,0,26,80,108,97,121,101,114,40,104,97,115,104,61,1,44,32,115,116,114,97,116,101,103,121,61,1,41,1,0,12,73,110,110,101,114,67,108,97,115,115,101,115,7,0,117,1,0,37,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,7,0,119,1,0,30,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,1,0,6,76,111,111,107,117,112,0,33,0,8,0,2,0,1,0,86,0,3,0,2,0,17,0,18,0,0,0,2,0,33,0,34,0,0,0,2,0,24,0,25,0,0,0,6,0,1,0,5,0,6,0,1,0,88,0,0,0,59,0,1,0,1,0,0,0,9,42,-73,0,1,42,-74,0,7,-79,0,0,0,2,0,89,0,0,0,14,0,3,0,0,0,11,0,4,0,12,0,8,0,13,0,90,0,0,0,12,0,1,0,0,0,9,0,91,0,92,0,0,0,1,0,11,0,6,0,1,0,88,0,0,0,95,0,5,0,1,0,0,0,41,42,-69,0,12,89,-73,0,14,-75,0,15,42,-69,0,19,89,-73,0,21,-75,0,22,42,-69,0,26,89,42,-76,0,22,17,3,-24,-73,0,28,-75,0,31,-79,0,0,0,2,0,89,0,0,0,18,0,4,0,0,0,16,0,11,0,17,0,22,0,18,0,40,0,19,0,90,0,0,0,12,0,1,0,0,0,41,0,91,0,92,0,0,0,1,0,55,0,68,0,1,0,88,0,0,0,-106,0,3,0,3,0,0,0,59,43,-58,0,31,42,-76,0,15,43,-71,0,35,2,0,42,-76,0,22,42,-76,0,15,-71,0,41,1,0,-71,0,45,2,0,42,-76,0,31,42,-76,0,15,43,-71,0,51,3,0,77,42,-76,0,15,44,-71,0,57,2,0,44,-80,0,0,0,3,0,89,0,0,0,26,0,6,0,0,0,22,0,4,0,23,0,14,0,24,0,32,0,26,0,47,0,27,0,57,0,28,0,90,0,0,0,32,0,3,0,0,0,59,0,91,0,92,0,0,0,0,0,59,0,93,0,94,0,1,0,47,0,12,0,95,0,94,0,2,0,96,0,0,0,3,0,1,32,0,1,0,55,0,97,0,1,0,88,0,0,0,-126,0,2,0,7,0,0,0,20,27,-72,0,60,58,5,42,25,5,-74,0,66,58,6,25,6,-74,0,69,-84,0,0,0,2,0,89,0,0,0,14,0,3,0,0,0,32,0,6,0,33,0,14,0,34,0,90,0,0,0,72,0,7,0,0,0,20,0,91,0,92,0,0,0,0,0,20,0,98,0,99,0,1,0,0,0,20,0,100,0,99,0,2,0,0,0,20,0,101,0,99,0,3,0,0,0,20,0,102,0,99,0,4,0,6,0,14,0,93,0,94,0,5,0,14,0,6,0,95,0,94,0,6,0,1,0,103,0,81,0,1,0,88,0,0,0,45,0,1,0,1,0,0,0,3,18,73,-80,0,0,0,2,0,89,0,0,0,6,0,1,0,0,0,38,0,90,0,0,0,12,0,1,0,0,0,3,0,91,0,92,0,0,0,1,0,80,0,81,0,1,0,88,0,0,0,59,0,2,0,1,0,0,0,17,42,-74,0,75,42,-76,0,31,-74,0,78,-70,0,82,0,0,-80,0,0,0,2,0,89,0,0,0,6,0,1,0,0,0,42,0,90,0,0,0,12,0,1,0,0,0,17,0,91,0,92,0,0,0,3,0,104,0,0,0,2,0,105,0,106,0,0,0,8,0,1,0,107,0,1,0,113,0,115,0,0,0,10,0,1,0,116,0,118,0,120,0,25};
-    }
-    public static class Implementation4 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,63,9,0,2,0,3,7,0,4,12,0,5,0,6,1,0,16,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,1,0,7,36,86,65,76,85,69,83,1,0,19,91,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,10,0,8,0,9,7,0,6,12,0,10,0,11,1,0,5,99,108,111,110,101,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,10,0,13,0,14,7,0,15,12,0,16,0,17,1,0,14,106,97,118,97,47,108,97,110,103,47,69,110,117,109,1,0,7,118,97,108,117,101,79,102,1,0,53,40,76,106,97,118,97,47,108,97,110,103,47,67,108,97,115,115,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,76,106,97,118,97,47,108,97,110,103,47,69,110,117,109,59,10,0,13,0,19,12,0,20,0,21,1,0,6,60,105,110,105,116,62,1,0,22,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,73,41,86,9,0,2,0,23,12,0,24,0,25,1,0,5,118,97,108,117,101,1,0,1,73,9,0,2,0,27,12,0,28,0,29,1,0,1,65,1,0,18,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,9,0,2,0,31,12,0,32,0,29,1,0,1,66,9,0,2,0,34,12,0,35,0,29,1,0,1,67,8,0,28,10,0,2,0,38,12,0,20,0,39,1,0,23,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,73,73,41,86,8,0,32,8,0,35,1,0,6,118,97,108,117,101,115,1,0,21,40,41,91,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,38,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,110,97,109,101,1,0,18,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,4,116,104,105,115,1,0,9,83,105,103,110,97,116,117,114,101,1,0,4,40,73,41,86,1,0,8,103,101,116,86,97,108,117,101,1,0,3,40,41,73,1,0,7,111,102,86,97,108,117,101,1,0,21,40,73,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,13,83,116,97,99,107,77,97,112,84,97,98,108,101,1,0,8,60,99,108,105,110,105,116,62,1,0,3,40,41,86,1,0,36,76,106,97,118,97,47,108,97,110,103,47,69,110,117,109,60,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,62,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,21,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,46,106,97,118,97,64,48,0,2,0,13,0,0,0,5,64,25,0,28,0,29,0,0,64,25,0,32,0,29,0,0,64,25,0,35,0,29,0,0,0,2,0,24,0,25,0,0,16,26,0,5,0,6,0,0,0,6,0,9,0,42,0,43,0,1,0,44,0,0,0,34,0,1,0,0,0,0,0,10,-78,0,1,-74,0,7,-64,0,8,-80,0,0,0,1,0,45,0,0,0,6,0,1,0,0,0,7,0,9,0,16,0,46,0,1,0,44,0,0,0,52,0,2,0,1,0,0,0,10,18,2,42,-72,0,12,-64,0,2,-80,0,0,0,2,0,45,0,0,0,6,0,1,0,0,0,7,0,47,0,0,0,12,0,1,0,0,0,10,0,48,0,49,0,0,0,2,0,20,0,39,0,2,0,44,0,0,0,72,0,3,0,4,0,0,0,12,42,43,28,-73,0,18,42,29,-75,0,22,-79,0,0,0,2,0,45,0,0,0,14,0,3,0,0,0,14,0,6,0,15,0,11,0,16,0,47,0,0,0,22,0,2,0,0,0,12,0,50,0,29,0,0,0,0,0,12,0,24,0,25,0,3,0,51,0,0,0,2,0,52,0,1,0,53,0,54,0,1,0,44,0,0,0,47,0,1,0,1,0,0,0,5,42,-76,0,22,-84,0,0,0,2,0,45,0,0,0,6,0,1,0,0,0,19,0,47,0,0,0,12,0,1,0,0,0,5,0,50,0,29,0,0,0,8,0,55,0,56,0,1,0,44,0,0,0,112,0,1,0,1,0,0,0,42,26,-86,0,0,0,0,0,39,0,0,0,1,0,0,0,3,0,0,0,27,0,0,0,31,0,0,0,35,-78,0,26,-80,-78,0,30,-80,-78,0,33,-80,1,-80,0,0,0,3,0,45,0,0,0,22,0,5,0,0,0,23,0,28,0,25,0,32,0,27,0,36,0,29,0,40,0,31,0,47,0,0,0,12,0,1,0,0,0,42,0,24,0,25,0,0,0,57,0,0,0,6,0,4,28,3,3,3,0,8,0,58,0,59,0,1,0,44,0,0,0,104,0,5,0,0,0,0,0,68,-69,0,2,89,18,36,3,4,-73,0,37,-77,0,26,-69,0,2,89,18,40,4,5,-73,0,37,-77,0,30,-69,0,2,89,18,41,5,6,-73,0,37,-77,0,33,6,-67,0,2,89,3,-78,0,26,83,89,4,-78,0,30,83,89,5,-78,0,33,83,-77,0,1,-79,0,0,0,1,0,45,0,0,0,18,0,4,0,0,0,8,0,14,0,9,0,28,0,10,0,42,0,7,0,2,0,51,0,0,0,2,0,60,0,61,0,0,0,2,0,62};
-    }
-    public static class Implementation5 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,88,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,6,60,105,110,105,116,62,1,0,3,40,41,86,9,0,8,0,9,7,0,10,12,0,11,0,12,1,0,21,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,1,0,20,118,101,103,101,116,97,116,105,111,110,65,109,111,117,110,116,70,117,110,99,1,0,29,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,9,0,8,0,14,12,0,15,0,16,1,0,5,102,105,101,108,100,1,0,18,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,10,0,8,0,18,12,0,19,0,20,1,0,17,115,101,116,86,101,103,101,116,97,116,105,111,110,83,116,101,112,1,0,4,40,74,41,86,9,0,8,0,22,12,0,23,0,24,1,0,14,118,101,103,101,116,97,116,105,111,110,83,116,101,112,1,0,1,74,9,0,8,0,26,12,0,27,0,28,1,0,16,118,101,103,101,116,97,116,105,111,110,65,109,111,117,110,116,1,0,1,68,10,0,30,0,31,7,0,32,12,0,33,0,34,1,0,14,106,97,118,97,47,108,97,110,103,47,76,111,110,103,1,0,7,118,97,108,117,101,79,102,1,0,19,40,74,41,76,106,97,118,97,47,108,97,110,103,47,76,111,110,103,59,11,0,36,0,37,7,0,38,12,0,39,0,40,1,0,27,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,1,0,5,97,112,112,108,121,1,0,38,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,7,0,42,1,0,16,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,10,0,41,0,44,12,0,45,0,46,1,0,11,100,111,117,98,108,101,86,97,108,117,101,1,0,3,40,41,68,18,0,0,0,48,12,0,49,0,50,1,0,23,109,97,107,101,67,111,110,99,97,116,87,105,116,104,67,111,110,115,116,97,110,116,115,1,0,40,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,74,68,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,9,83,105,103,110,97,116,117,114,101,1,0,65,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,60,76,106,97,118,97,47,108,97,110,103,47,76,111,110,103,59,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,62,59,1,0,50,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,41,86,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,23,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,1,0,22,76,111,99,97,108,86,97,114,105,97,98,108,101,84,121,112,101,84,97,98,108,101,1,0,86,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,60,76,106,97,118,97,47,108,97,110,103,47,76,111,110,103,59,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,62,59,41,86,1,0,17,103,101,116,86,101,103,101,116,97,116,105,111,110,83,116,101,112,1,0,3,40,41,74,1,0,19,103,101,116,86,101,103,101,116,97,116,105,111,110,65,109,111,117,110,116,1,0,13,83,116,97,99,107,77,97,112,84,97,98,108,101,1,0,8,103,101,116,70,105,101,108,100,1,0,20,40,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,23,105,110,99,114,101,109,101,110,116,86,101,103,101,116,97,116,105,111,110,83,116,101,112,1,0,23,100,101,99,114,101,109,101,110,116,86,101,103,101,116,97,116,105,111,110,83,116,101,112,1,0,8,116,111,83,116,114,105,110,103,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,21,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,46,106,97,118,97,1,0,16,66,111,111,116,115,116,114,97,112,77,101,116,104,111,100,115,15,6,0,75,10,0,76,0,77,7,0,78,12,0,49,0,79,1,0,36,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,83,116,114,105,110,103,67,111,110,99,97,116,70,97,99,116,111,114,121,1,0,-104,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,91,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,8,0,81,1,0,57,70,105,101,108,100,83,116,97,116,101,40,102,105,101,108,100,61,1,44,32,118,101,103,101,116,97,116,105,111,110,83,116,101,112,61,1,44,32,118,101,103,101,116,97,116,105,111,110,65,109,111,117,110,116,61,1,41,1,0,12,73,110,110,101,114,67,108,97,115,115,101,115,7,0,84,1,0,37,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,7,0,86,1,0,30,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,1,0,6,76,111,111,107,117,112,0,32,0,8,0,2,0,0,0,4,0,2,0,15,0,16,0,0,0,2,0,23,0,24,0,0,0,2,0,27,0,28,0,0,0,2,0,11,0,12,0,1,0,51,0,0,0,2,0,52,0,8,0,1,0,5,0,53,0,2,0,54,0,0,0,116,0,3,0,3,0,0,0,20,42,-73,0,1,42,44,-75,0,7,42,43,-75,0,13,42,10,-74,0,17,-79,0,0,0,3,0,55,0,0,0,22,0,5,0,0,0,46,0,4,0,47,0,9,0,48,0,14,0,49,0,19,0,50,0,56,0,0,0,32,0,3,0,0,0,20,0,57,0,58,0,0,0,0,0,20,0,15,0,16,0,1,0,0,0,20,0,11,0,12,0,2,0,59,0,0,0,12,0,1,0,0,0,20,0,11,0,52,0,2,0,51,0,0,0,2,0,60,0,1,0,61,0,62,0,1,0,54,0,0,0,47,0,2,0,1,0,0,0,5,42,-76,0,21,-83,0,0,0,2,0,55,0,0,0,6,0,1,0,0,0,53,0,56,0,0,0,12,0,1,0,0,0,5,0,57,0,58,0,0,0,1,0,63,0,46,0,1,0,54,0,0,0,47,0,2,0,1,0,0,0,5,42,-76,0,25,-81,0,0,0,2,0,55,0,0,0,6,0,1,0,0,0,57,0,56,0,0,0,12,0,1,0,0,0,5,0,57,0,58,0,0,0,1,0,19,0,20,0,1,0,54,0,0,0,114,0,4,0,3,0,0,0,37,31,9,-108,-100,0,5,9,64,42,31,-75,0,21,42,42,-76,0,7,31,-72,0,29,-71,0,35,2,0,-64,0,41,-74,0,43,-75,0,25,-79,0,0,0,3,0,55,0,0,0,22,0,5,0,0,0,61,0,6,0,62,0,8,0,64,0,13,0,65,0,36,0,66,0,56,0,0,0,22,0,2,0,0,0,37,0,57,0,58,0,0,0,0,0,37,0,23,0,24,0,1,0,64,0,0,0,3,0,1,8,0,1,0,65,0,66,0,1,0,54,0,0,0,47,0,1,0,1,0,0,0,5,42,-76,0,13,-80,0,0,0,2,0,55,0,0,0,6,0,1,0,0,0,69,0,56,0,0,0,12,0,1,0,0,0,5,0,57,0,58,0,0,0,1,0,67,0,6,0,1,0,54,0,0,0,57,0,5,0,1,0,0,0,11,42,42,-76,0,21,10,97,-74,0,17,-79,0,0,0,2,0,55,0,0,0,10,0,2,0,0,0,73,0,10,0,74,0,56,0,0,0,12,0,1,0,0,0,11,0,57,0,58,0,0,0,1,0,68,0,6,0,1,0,54,0,0,0,57,0,5,0,1,0,0,0,11,42,42,-76,0,21,10,101,-74,0,17,-79,0,0,0,2,0,55,0,0,0,10,0,2,0,0,0,77,0,10,0,78,0,56,0,0,0,12,0,1,0,0,0,11,0,57,0,58,0,0,0,1,0,69,0,70,0,1,0,54,0,0,0,60,0,5,0,1,0,0,0,18,42,-76,0,13,42,-76,0,21,42,-76,0,25,-70,0,47,0,0,-80,0,0,0,2,0,55,0,0,0,6,0,1,0,0,0,82,0,56,0,0,0,12,0,1,0,0,0,18,0,57,0,58,0,0,0,3,0,71,0,0,0,2,0,72,0,73,0,0,0,8,0,1,0,74,0,1,0,80,0,82,0,0,0,10,0,1,0,83,0,85,0,87,0,25};
-    }
-    public static class Implementation6 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,70,105,103,104,116,80,101,114,99,101,110,116,77,101,116,114,105,99})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,98,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,25,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99,1,0,6,60,105,110,105,116,62,1,0,4,40,73,41,86,11,0,8,0,9,7,0,10,12,0,11,0,12,1,0,14,106,97,118,97,47,117,116,105,108,47,76,105,115,116,1,0,4,115,105,122,101,1,0,3,40,41,73,11,0,8,0,14,12,0,15,0,16,1,0,6,115,116,114,101,97,109,1,0,27,40,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,18,0,0,0,18,12,0,19,0,20,1,0,4,116,101,115,116,1,0,32,40,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,80,114,101,100,105,99,97,116,101,59,11,0,22,0,23,7,0,24,12,0,25,0,26,1,0,23,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,1,0,6,102,105,108,116,101,114,1,0,57,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,80,114,101,100,105,99,97,116,101,59,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,11,0,22,0,28,12,0,29,0,30,1,0,5,99,111,117,110,116,1,0,3,40,41,74,10,0,32,0,33,7,0,34,12,0,35,0,36,1,0,16,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,1,0,7,118,97,108,117,101,79,102,1,0,21,40,68,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,10,0,38,0,39,7,0,40,12,0,41,0,42,1,0,29,73,108,121,97,80,111,116,101,109,105,110,70,105,103,104,116,80,101,114,99,101,110,116,77,101,116,114,105,99,1,0,8,100,111,85,112,100,97,116,101,1,0,36,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,9,0,44,0,45,7,0,46,12,0,47,0,48,1,0,22,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,1,0,8,105,115,66,97,116,116,108,101,1,0,1,90,1,0,4,78,65,77,69,1,0,18,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,13,67,111,110,115,116,97,110,116,86,97,108,117,101,8,0,53,1,0,20,102,105,103,104,116,95,112,101,114,99,101,110,116,95,109,101,116,114,105,99,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,31,76,73,108,121,97,80,111,116,101,109,105,110,70,105,103,104,116,80,101,114,99,101,110,116,77,101,116,114,105,99,59,1,0,5,100,101,112,116,104,1,0,1,73,1,0,10,114,101,99,111,114,100,76,105,115,116,1,0,16,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,1,0,15,116,111,116,97,108,82,111,117,110,100,67,111,117,110,116,1,0,1,74,1,0,13,104,105,116,82,111,117,110,100,67,111,117,110,116,1,0,22,76,111,99,97,108,86,97,114,105,97,98,108,101,84,121,112,101,84,97,98,108,101,1,0,42,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,1,0,9,83,105,103,110,97,116,117,114,101,1,0,62,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,1,0,36,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,1,0,17,108,97,109,98,100,97,36,100,111,85,112,100,97,116,101,36,48,1,0,27,40,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,41,90,1,0,6,114,101,99,111,114,100,1,0,24,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,1,0,47,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99,60,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,62,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,12,77,101,116,114,105,99,115,46,106,97,118,97,1,0,16,66,111,111,116,115,116,114,97,112,77,101,116,104,111,100,115,15,6,0,80,10,0,81,0,82,7,0,83,12,0,84,0,85,1,0,34,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,76,97,109,98,100,97,77,101,116,97,102,97,99,116,111,114,121,1,0,11,109,101,116,97,102,97,99,116,111,114,121,1,0,-52,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,16,0,87,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,90,15,6,0,89,10,0,38,0,90,12,0,71,0,72,16,0,72,1,0,12,73,110,110,101,114,67,108,97,115,115,101,115,7,0,94,1,0,37,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,7,0,96,1,0,30,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,1,0,6,76,111,111,107,117,112,0,32,0,38,0,2,0,0,0,1,0,25,0,49,0,50,0,1,0,51,0,0,0,2,0,52,0,4,0,1,0,5,0,6,0,1,0,54,0,0,0,62,0,2,0,2,0,0,0,6,42,27,-73,0,1,-79,0,0,0,2,0,55,0,0,0,10,0,2,0,0,0,24,0,5,0,25,0,56,0,0,0,22,0,2,0,0,0,6,0,57,0,58,0,0,0,0,0,6,0,59,0,60,0,1,0,4,0,41,0,42,0,2,0,54,0,0,0,-109,0,4,0,6,0,0,0,41,43,-71,0,7,1,0,-123,65,43,-71,0,13,1,0,-70,0,17,0,0,-71,0,21,2,0,-71,0,27,1,0,55,4,22,4,-118,32,-118,111,-72,0,31,-80,0,0,0,3,0,55,0,0,0,22,0,5,0,0,0,29,0,8,0,30,0,19,0,31,0,24,0,32,0,31,0,33,0,56,0,0,0,42,0,4,0,0,0,41,0,57,0,58,0,0,0,0,0,41,0,61,0,62,0,1,0,8,0,33,0,63,0,64,0,2,0,31,0,10,0,65,0,64,0,4,0,66,0,0,0,12,0,1,0,0,0,41,0,61,0,67,0,1,0,68,0,0,0,2,0,69,16,68,0,41,0,70,0,1,0,54,0,0,0,48,0,2,0,2,0,0,0,6,42,43,-74,0,37,-80,0,0,0,2,0,55,0,0,0,6,0,1,0,0,0,20,0,56,0,0,0,12,0,1,0,0,0,6,0,57,0,58,0,0,16,10,0,71,0,72,0,1,0,54,0,0,0,47,0,1,0,1,0,0,0,5,42,-76,0,43,-84,0,0,0,2,0,55,0,0,0,6,0,1,0,0,0,31,0,56,0,0,0,12,0,1,0,0,0,5,0,73,0,74,0,0,0,4,0,68,0,0,0,2,0,75,0,76,0,0,0,2,0,77,0,78,0,0,0,12,0,1,0,79,0,3,0,86,0,88,0,91,0,92,0,0,0,10,0,1,0,93,0,95,0,97,0,25};
-    }
-    public static class Implementation7 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,17,7,0,2,1,0,30,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,7,0,4,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,24,118,101,103,101,116,97,116,105,111,110,65,109,111,117,110,116,70,117,110,99,116,105,111,110,1,0,4,40,74,41,68,1,0,17,115,105,109,117,108,97,116,101,76,97,115,116,82,111,117,110,100,1,0,27,40,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,41,86,1,0,14,103,101,116,70,105,101,108,100,83,116,97,116,101,115,1,0,24,40,41,76,106,97,118,97,47,117,116,105,108,47,67,111,108,108,101,99,116,105,111,110,59,1,0,9,83,105,103,110,97,116,117,114,101,1,0,49,40,41,76,106,97,118,97,47,117,116,105,108,47,67,111,108,108,101,99,116,105,111,110,60,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,62,59,1,0,15,100,117,109,112,70,105,101,108,100,83,116,97,116,101,115,1,0,3,40,41,86,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,15,83,105,109,117,108,97,116,105,111,110,46,106,97,118,97,6,0,0,1,0,3,0,0,0,0,0,4,4,1,0,5,0,6,0,0,4,1,0,7,0,8,0,0,4,1,0,9,0,10,0,1,0,11,0,0,0,2,0,12,4,1,0,13,0,14,0,0,0,1,0,15,0,0,0,2,0,16};
-    }
-    public static class Implementation8 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,73,109,112,108})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,1,23,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,6,60,105,110,105,116,62,1,0,3,40,41,86,8,0,8,1,0,19,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,10,0,10,0,11,7,0,12,12,0,13,0,14,1,0,17,73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114,1,0,9,103,101,116,76,111,103,103,101,114,1,0,39,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,76,73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114,59,9,0,16,0,17,7,0,18,12,0,19,0,20,1,0,34,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,73,109,112,108,1,0,6,108,111,103,103,101,114,1,0,19,76,73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114,59,7,0,22,1,0,17,106,97,118,97,47,117,116,105,108,47,72,97,115,104,77,97,112,10,0,21,0,24,12,0,5,0,25,1,0,4,40,73,41,86,9,0,16,0,27,12,0,28,0,29,1,0,13,102,105,101,108,100,83,116,97,116,101,77,97,112,1,0,15,76,106,97,118,97,47,117,116,105,108,47,77,97,112,59,10,0,16,0,31,12,0,32,0,33,1,0,24,118,101,103,101,116,97,116,105,111,110,65,109,111,117,110,116,70,117,110,99,116,105,111,110,1,0,4,40,74,41,68,9,0,16,0,35,12,0,36,0,37,1,0,17,118,101,103,101,116,97,116,105,111,110,65,109,111,117,110,116,48,1,0,1,68,10,0,39,0,40,7,0,41,12,0,42,0,43,1,0,16,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,1,0,6,118,97,108,117,101,115,1,0,21,40,41,91,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,7,0,45,1,0,21,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,18,0,0,0,47,12,0,48,0,49,1,0,5,97,112,112,108,121,1,0,67,40,76,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,73,109,112,108,59,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,10,0,44,0,51,12,0,5,0,52,1,0,50,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,41,86,11,0,54,0,55,7,0,56,12,0,57,0,58,1,0,13,106,97,118,97,47,117,116,105,108,47,77,97,112,1,0,3,112,117,116,1,0,56,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,6,64,36,0,0,0,0,0,0,10,0,62,0,63,7,0,64,12,0,65,0,66,1,0,14,106,97,118,97,47,108,97,110,103,47,77,97,116,104,1,0,3,101,120,112,1,0,4,40,68,41,68,9,0,68,0,69,7,0,70,12,0,71,0,72,1,0,22,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,1,0,5,114,111,117,110,100,1,0,1,73,18,0,1,0,74,12,0,75,0,76,1,0,23,109,97,107,101,67,111,110,99,97,116,87,105,116,104,67,111,110,115,116,97,110,116,115,1,0,21,40,73,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,10,0,10,0,78,12,0,79,0,80,1,0,4,105,110,102,111,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,86,10,0,82,0,83,7,0,84,12,0,85,0,86,1,0,17,106,97,118,97,47,117,116,105,108,47,79,98,106,101,99,116,115,1,0,14,114,101,113,117,105,114,101,78,111,110,78,117,108,108,1,0,38,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,9,0,68,0,88,12,0,89,0,90,1,0,8,105,115,66,97,116,116,108,101,1,0,1,90,9,0,68,0,92,12,0,93,0,94,1,0,10,112,108,97,121,101,114,77,111,118,101,1,0,18,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,11,0,54,0,96,12,0,97,0,86,1,0,3,103,101,116,10,0,44,0,99,12,0,100,0,6,1,0,23,100,101,99,114,101,109,101,110,116,86,101,103,101,116,97,116,105,111,110,83,116,101,112,10,0,44,0,102,12,0,103,0,104,1,0,19,103,101,116,86,101,103,101,116,97,116,105,111,110,65,109,111,117,110,116,1,0,3,40,41,68,9,0,68,0,106,12,0,107,0,37,1,0,20,99,111,109,112,117,116,101,100,80,108,97,121,101,114,80,97,121,111,102,102,9,0,68,0,109,12,0,110,0,94,1,0,12,111,112,112,111,110,101,110,116,77,111,118,101,9,0,68,0,112,12,0,113,0,37,1,0,22,99,111,109,112,117,116,101,100,79,112,112,111,110,101,110,116,80,97,121,111,102,102,11,0,54,0,115,12,0,116,0,117,1,0,8,101,110,116,114,121,83,101,116,1,0,17,40,41,76,106,97,118,97,47,117,116,105,108,47,83,101,116,59,11,0,119,0,120,7,0,121,12,0,122,0,123,1,0,13,106,97,118,97,47,117,116,105,108,47,83,101,116,1,0,6,115,116,114,101,97,109,1,0,27,40,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,18,0,2,0,125,12,0,126,0,127,1,0,4,116,101,115,116,1,0,56,40,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,80,114,101,100,105,99,97,116,101,59,11,0,-127,0,-126,7,0,-125,12,0,-124,0,-123,1,0,23,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,1,0,6,102,105,108,116,101,114,1,0,57,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,80,114,101,100,105,99,97,116,101,59,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,18,0,3,0,125,18,0,4,0,-120,12,0,-119,0,-118,1,0,6,97,99,99,101,112,116,1,0,31,40,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,67,111,110,115,117,109,101,114,59,11,0,-127,0,-116,12,0,-115,0,-114,1,0,7,102,111,114,69,97,99,104,1,0,32,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,67,111,110,115,117,109,101,114,59,41,86,10,0,16,0,-112,12,0,-111,0,6,1,0,15,100,117,109,112,70,105,101,108,100,83,116,97,116,101,115,11,0,54,0,-109,12,0,42,0,-108,1,0,24,40,41,76,106,97,118,97,47,117,116,105,108,47,67,111,108,108,101,99,116,105,111,110,59,18,0,5,0,-106,12,0,48,0,-105,1,0,31,40,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,11,0,-103,0,-102,7,0,-101,12,0,-100,0,-99,1,0,20,106,97,118,97,47,117,116,105,108,47,67,111,109,112,97,114,97,116,111,114,1,0,9,99,111,109,112,97,114,105,110,103,1,0,53,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,41,76,106,97,118,97,47,117,116,105,108,47,67,111,109,112,97,114,97,116,111,114,59,11,0,-127,0,-97,12,0,-96,0,-95,1,0,6,115,111,114,116,101,100,1,0,49,40,76,106,97,118,97,47,117,116,105,108,47,67,111,109,112,97,114,97,116,111,114,59,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,18,0,6,0,-93,12,0,-119,0,-92,1,0,67,40,76,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,73,109,112,108,59,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,67,111,110,115,117,109,101,114,59,11,0,-90,0,-89,7,0,-88,12,0,-87,0,-86,1,0,19,106,97,118,97,47,117,116,105,108,47,77,97,112,36,69,110,116,114,121,1,0,6,103,101,116,75,101,121,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,10,0,39,0,-84,12,0,-83,0,-82,1,0,4,110,97,109,101,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,11,0,-90,0,-80,12,0,-79,0,-86,1,0,8,103,101,116,86,97,108,117,101,10,0,44,0,-77,12,0,-76,0,-75,1,0,17,103,101,116,86,101,103,101,116,97,116,105,111,110,83,116,101,112,1,0,3,40,41,74,18,0,7,0,-73,12,0,75,0,-72,1,0,40,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,74,68,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,10,0,44,0,-70,12,0,-69,0,6,1,0,23,105,110,99,114,101,109,101,110,116,86,101,103,101,116,97,116,105,111,110,83,116,101,112,7,0,-67,1,0,30,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,1,0,9,83,105,103,110,97,116,117,114,101,1,0,58,76,106,97,118,97,47,117,116,105,108,47,77,97,112,60,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,62,59,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,1,102,1,0,4,116,104,105,115,1,0,36,76,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,73,109,112,108,59,1,0,13,83,116,97,99,107,77,97,112,84,97,98,108,101,7,0,-56,1,0,19,91,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,14,118,101,103,101,116,97,116,105,111,110,83,116,101,112,1,0,1,74,1,0,17,115,105,109,117,108,97,116,101,76,97,115,116,82,111,117,110,100,1,0,27,40,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,41,86,1,0,12,98,97,116,116,108,101,71,114,111,117,110,100,1,0,10,102,105,101,108,100,83,116,97,116,101,1,0,23,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,1,0,16,112,108,97,121,101,114,70,105,101,108,100,83,116,97,116,101,1,0,18,111,112,112,111,110,101,110,116,70,105,101,108,100,83,116,97,116,101,1,0,15,108,97,115,116,82,111,117,110,100,82,101,99,111,114,100,1,0,24,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,1,0,14,103,101,116,70,105,101,108,100,83,116,97,116,101,115,1,0,49,40,41,76,106,97,118,97,47,117,116,105,108,47,67,111,108,108,101,99,116,105,111,110,60,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,62,59,1,0,24,108,97,109,98,100,97,36,100,117,109,112,70,105,101,108,100,83,116,97,116,101,115,36,52,1,0,24,40,76,106,97,118,97,47,117,116,105,108,47,77,97,112,36,69,110,116,114,121,59,41,86,1,0,5,101,110,116,114,121,1,0,21,76,106,97,118,97,47,117,116,105,108,47,77,97,112,36,69,110,116,114,121,59,1,0,24,108,97,109,98,100,97,36,100,117,109,112,70,105,101,108,100,83,116,97,116,101,115,36,51,1,0,41,40,76,106,97,118,97,47,117,116,105,108,47,77,97,112,36,69,110,116,114,121,59,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,1,101,1,0,26,108,97,109,98,100,97,36,115,105,109,117,108,97,116,101,76,97,115,116,82,111,117,110,100,36,50,1,0,26,108,97,109,98,100,97,36,115,105,109,117,108,97,116,101,76,97,115,116,82,111,117,110,100,36,49,1,0,48,40,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,76,106,97,118,97,47,117,116,105,108,47,77,97,112,36,69,110,116,114,121,59,41,90,1,0,26,108,97,109,98,100,97,36,115,105,109,117,108,97,116,101,76,97,115,116,82,111,117,110,100,36,48,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,15,83,105,109,117,108,97,116,105,111,110,46,106,97,118,97,1,0,16,66,111,111,116,115,116,114,97,112,77,101,116,104,111,100,115,15,6,0,-27,10,0,-26,0,-25,7,0,-24,12,0,-23,0,-22,1,0,34,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,76,97,109,98,100,97,77,101,116,97,102,97,99,116,111,114,121,1,0,11,109,101,116,97,102,97,99,116,111,114,121,1,0,-52,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,16,0,86,15,5,0,30,16,0,-18,1,0,36,40,76,106,97,118,97,47,108,97,110,103,47,76,111,110,103,59,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,15,6,0,-16,10,0,-15,0,-14,7,0,-13,12,0,75,0,-12,1,0,36,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,83,116,114,105,110,103,67,111,110,99,97,116,70,97,99,116,111,114,121,1,0,-104,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,91,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,8,0,-10,1,0,30,65,112,112,108,121,105,110,103,32,114,111,117,110,100,32,1,32,116,111,32,115,105,109,117,108,97,116,105,111,110,16,0,-8,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,90,15,6,0,-6,10,0,16,0,-5,12,0,-32,0,-33,16,0,-3,1,0,24,40,76,106,97,118,97,47,117,116,105,108,47,77,97,112,36,69,110,116,114,121,59,41,90,15,6,0,-1,10,0,16,1,0,12,0,-34,0,-33,16,1,2,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,86,15,6,1,4,10,0,16,1,5,12,0,-35,0,-41,16,0,-41,15,6,1,8,10,0,16,1,9,12,0,-38,0,-37,16,0,-37,15,7,1,12,10,0,16,1,13,12,0,-42,0,-41,8,1,15,1,0,46,70,105,101,108,100,32,1,32,58,32,118,101,103,101,116,97,116,105,111,110,83,116,101,112,61,1,44,32,118,101,103,101,116,97,116,105,111,110,65,109,111,117,110,116,61,1,1,0,12,73,110,110,101,114,67,108,97,115,115,101,115,1,0,5,69,110,116,114,121,7,1,19,1,0,37,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,7,1,21,1,0,30,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,1,0,6,76,111,111,107,117,112,0,32,0,16,0,2,0,1,0,-68,0,3,0,2,0,19,0,20,0,0,0,2,0,28,0,29,0,1,0,-66,0,0,0,2,0,-65,0,2,0,36,0,37,0,0,0,10,0,1,0,5,0,6,0,1,0,-64,0,0,0,-62,0,6,0,5,0,0,0,88,42,-73,0,1,42,18,7,-72,0,9,-75,0,15,42,-69,0,21,89,16,8,-73,0,23,-75,0,26,42,42,9,-74,0,30,-75,0,34,-72,0,38,76,43,-66,61,3,62,29,28,-94,0,41,43,29,50,58,4,42,-76,0,26,25,4,-69,0,44,89,25,4,42,-70,0,46,0,0,-73,0,50,-71,0,53,3,0,87,-124,3,1,-89,-1,-40,-79,0,0,0,3,0,-63,0,0,0,34,0,8,0,0,0,22,0,4,0,18,0,13,0,23,0,26,0,24,0,35,0,25,0,54,0,26,0,81,0,25,0,87,0,28,0,-62,0,0,0,22,0,2,0,54,0,27,0,-61,0,94,0,4,0,0,0,88,0,-60,0,-59,0,0,0,-58,0,0,0,20,0,2,-1,0,44,0,4,7,0,16,7,0,-57,1,1,0,0,-8,0,42,0,1,0,32,0,33,0,1,0,-64,0,0,0,70,0,6,0,3,0,0,0,18,20,0,59,31,-118,-72,0,61,107,15,31,-118,-72,0,61,99,111,-81,0,0,0,2,0,-63,0,0,0,6,0,1,0,0,0,31,0,-62,0,0,0,22,0,2,0,0,0,18,0,-60,0,-59,0,0,0,0,0,18,0,-55,0,-54,0,1,0,1,0,-53,0,-52,0,1,0,-64,0,0,1,93,0,5,0,4,0,0,0,-83,42,-76,0,15,43,-76,0,67,-70,0,73,0,0,-74,0,77,43,-72,0,81,87,43,-76,0,87,-103,0,29,43,-76,0,91,77,42,-76,0,26,44,-71,0,95,2,0,-64,0,44,78,45,-74,0,98,-89,0,71,42,-76,0,26,43,-76,0,91,-71,0,95,2,0,-64,0,44,77,43,44,-74,0,101,42,-76,0,34,103,-75,0,105,44,-74,0,98,42,-76,0,26,43,-76,0,108,-71,0,95,2,0,-64,0,44,78,43,45,-74,0,101,42,-76,0,34,103,-75,0,111,45,-74,0,98,42,-76,0,26,-71,0,114,1,0,-71,0,118,1,0,43,-70,0,124,0,0,-71,0,-128,2,0,43,-70,0,-122,0,0,-71,0,-128,2,0,-70,0,-121,0,0,-71,0,-117,2,0,42,-74,0,-113,-79,0,0,0,3,0,-63,0,0,0,78,0,19,0,0,0,35,0,16,0,36,0,21,0,37,0,28,0,38,0,33,0,39,0,47,0,40,0,51,0,41,0,54,0,42,0,71,0,43,0,84,0,44,0,88,0,46,0,105,0,47,0,118,0,48,0,122,0,50,0,-114,0,51,0,-103,0,52,0,-93,0,53,0,-88,0,54,0,-84,0,55,0,-62,0,0,0,62,0,6,0,33,0,18,0,-51,0,94,0,2,0,47,0,4,0,-50,0,-49,0,3,0,71,0,51,0,-48,0,-49,0,2,0,105,0,17,0,-47,0,-49,0,3,0,0,0,-83,0,-60,0,-59,0,0,0,0,0,-83,0,-46,0,-45,0,1,0,-58,0,0,0,6,0,2,54,-5,0,67,0,1,0,-44,0,-108,0,2,0,-64,0,0,0,52,0,1,0,1,0,0,0,10,42,-76,0,26,-71,0,-110,1,0,-80,0,0,0,2,0,-63,0,0,0,6,0,1,0,0,0,58,0,-62,0,0,0,12,0,1,0,0,0,10,0,-60,0,-59,0,0,0,-66,0,0,0,2,0,-43,0,1,0,-111,0,6,0,1,0,-64,0,0,0,97,0,2,0,1,0,0,0,39,42,-76,0,26,-71,0,114,1,0,-71,0,118,1,0,-70,0,-107,0,0,-72,0,-104,-71,0,-98,2,0,42,-70,0,-94,0,0,-71,0,-117,2,0,-79,0,0,0,2,0,-63,0,0,0,22,0,5,0,0,0,62,0,9,0,63,0,19,0,64,0,33,0,65,0,38,0,70,0,-62,0,0,0,12,0,1,0,0,0,39,0,-60,0,-59,0,0,16,2,0,-42,0,-41,0,1,0,-64,0,0,0,117,0,6,0,2,0,0,0,49,42,-76,0,15,43,-71,0,-91,1,0,-64,0,39,-74,0,-85,43,-71,0,-81,1,0,-64,0,44,-74,0,-78,43,-71,0,-81,1,0,-64,0,44,-74,0,101,-70,0,-74,0,0,-74,0,77,-79,0,0,0,2,0,-63,0,0,0,22,0,5,0,0,0,66,0,17,0,67,0,29,0,68,0,45,0,66,0,48,0,69,0,-62,0,0,0,22,0,2,0,0,0,49,0,-60,0,-59,0,0,0,0,0,49,0,-40,0,-39,0,1,16,10,0,-38,0,-37,0,1,0,-64,0,0,0,55,0,1,0,1,0,0,0,13,42,-71,0,-91,1,0,-64,0,39,-74,0,-85,-80,0,0,0,2,0,-63,0,0,0,6,0,1,0,0,0,64,0,-62,0,0,0,12,0,1,0,0,0,13,0,-36,0,-39,0,0,16,10,0,-35,0,-41,0,1,0,-64,0,0,0,55,0,1,0,1,0,0,0,13,42,-71,0,-81,1,0,-64,0,44,-74,0,-71,-79,0,0,0,2,0,-63,0,0,0,6,0,1,0,0,0,53,0,-62,0,0,0,12,0,1,0,0,0,13,0,-40,0,-39,0,0,16,10,0,-34,0,-33,0,1,0,-64,0,0,0,82,0,2,0,2,0,0,0,19,43,-71,0,-91,1,0,42,-76,0,108,-91,0,7,4,-89,0,4,3,-84,0,0,0,3,0,-63,0,0,0,6,0,1,0,0,0,52,0,-62,0,0,0,22,0,2,0,0,0,19,0,-46,0,-45,0,0,0,0,0,19,0,-40,0,-39,0,1,0,-58,0,0,0,5,0,2,17,64,1,16,10,0,-32,0,-33,0,1,0,-64,0,0,0,82,0,2,0,2,0,0,0,19,43,-71,0,-91,1,0,42,-76,0,91,-91,0,7,4,-89,0,4,3,-84,0,0,0,3,0,-63,0,0,0,6,0,1,0,0,0,51,0,-62,0,0,0,22,0,2,0,0,0,19,0,-46,0,-45,0,0,0,0,0,19,0,-40,0,-39,0,1,0,-58,0,0,0,5,0,2,17,64,1,0,3,0,-31,0,0,0,2,0,-30,0,-29,0,0,0,74,0,8,0,-28,0,3,0,-21,0,-20,0,-19,0,-17,0,1,0,-11,0,-28,0,3,0,-9,0,-7,0,-4,0,-28,0,3,0,-9,0,-2,0,-4,0,-28,0,3,1,1,1,3,1,6,0,-28,0,3,0,-21,1,7,1,10,0,-28,0,3,1,1,1,11,1,6,0,-17,0,1,1,14,1,16,0,0,0,18,0,2,0,-90,0,54,1,17,6,9,1,18,1,20,1,22,0,25};
-    }
-    public static class Implementation9 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,40,11,0,2,0,3,7,0,4,12,0,5,0,6,1,0,18,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,1,0,14,103,101,116,76,97,115,116,65,99,116,105,111,110,115,1,0,19,40,73,41,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,11,0,8,0,9,7,0,10,12,0,11,0,12,1,0,14,106,97,118,97,47,117,116,105,108,47,76,105,115,116,1,0,4,115,105,122,101,1,0,3,40,41,73,11,0,8,0,14,12,0,15,0,16,1,0,3,103,101,116,1,0,21,40,73,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,7,0,18,1,0,22,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,7,0,20,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,21,119,114,105,116,101,76,97,115,116,79,112,112,111,110,101,110,116,77,111,118,101,1,0,21,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,41,86,1,0,22,119,114,105,116,101,67,117,114,114,101,110,116,80,108,97,121,101,114,77,111,118,101,1,0,9,83,105,103,110,97,116,117,114,101,1,0,45,40,73,41,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,1,0,13,103,101,116,76,97,115,116,65,99,116,105,111,110,1,0,26,40,41,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,20,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,1,0,7,97,99,116,105,111,110,115,1,0,16,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,1,0,22,76,111,99,97,108,86,97,114,105,97,98,108,101,84,121,112,101,84,97,98,108,101,1,0,42,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,1,0,13,83,116,97,99,107,77,97,112,84,97,98,108,101,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,23,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,46,106,97,118,97,6,0,0,2,0,19,0,0,0,0,0,4,4,1,0,21,0,22,0,0,4,1,0,23,0,22,0,0,4,1,0,5,0,6,0,1,0,24,0,0,0,2,0,25,0,1,0,26,0,27,0,1,0,28,0,0,0,126,0,2,0,2,0,0,0,30,42,4,-71,0,1,2,0,76,43,-71,0,7,1,0,-102,0,5,1,-80,43,3,-71,0,13,2,0,-64,0,17,-80,0,0,0,4,0,29,0,0,0,18,0,4,0,0,0,32,0,8,0,33,0,17,0,34,0,19,0,36,0,30,0,0,0,22,0,2,0,0,0,30,0,31,0,32,0,0,0,8,0,22,0,33,0,34,0,1,0,35,0,0,0,12,0,1,0,8,0,22,0,33,0,36,0,1,0,37,0,0,0,8,0,1,-4,0,19,7,0,8,0,1,0,38,0,0,0,2,0,39};
-    }
-    public static class Implementation10 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,73,110,106,101,99,116,101,100,77,101,116,114,105,99})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,18,7,0,2,1,0,25,73,108,121,97,80,111,116,101,109,105,110,73,110,106,101,99,116,101,100,77,101,116,114,105,99,7,0,4,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,7,0,6,1,0,31,106,97,118,97,47,108,97,110,103,47,97,110,110,111,116,97,116,105,111,110,47,65,110,110,111,116,97,116,105,111,110,1,0,5,118,97,108,117,101,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,22,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,46,106,97,118,97,1,0,25,82,117,110,116,105,109,101,86,105,115,105,98,108,101,65,110,110,111,116,97,116,105,111,110,115,1,0,29,76,106,97,118,97,47,108,97,110,103,47,97,110,110,111,116,97,116,105,111,110,47,84,97,114,103,101,116,59,1,0,34,76,106,97,118,97,47,108,97,110,103,47,97,110,110,111,116,97,116,105,111,110,47,69,108,101,109,101,110,116,84,121,112,101,59,1,0,5,70,73,69,76,68,1,0,32,76,106,97,118,97,47,108,97,110,103,47,97,110,110,111,116,97,116,105,111,110,47,82,101,116,101,110,116,105,111,110,59,1,0,38,76,106,97,118,97,47,108,97,110,103,47,97,110,110,111,116,97,116,105,111,110,47,82,101,116,101,110,116,105,111,110,80,111,108,105,99,121,59,1,0,7,82,85,78,84,73,77,69,38,0,0,1,0,3,0,1,0,5,0,0,0,1,4,1,0,7,0,8,0,0,0,2,0,9,0,0,0,2,0,10,0,11,0,0,0,27,0,2,0,12,0,1,0,7,91,0,1,101,0,13,0,14,0,15,0,1,0,7,101,0,16,0,17};
-    }
-    public static class Implementation11 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,31,7,0,2,1,0,17,73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114,10,0,1,0,4,12,0,5,0,6,1,0,6,60,105,110,105,116,62,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,86,10,0,8,0,9,7,0,10,12,0,5,0,11,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,3,40,41,86,9,0,1,0,13,12,0,14,0,15,1,0,4,110,97,109,101,1,0,18,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,18,73,83,95,76,79,71,71,73,78,71,95,69,78,65,66,76,69,68,1,0,1,90,1,0,13,67,111,110,115,116,97,110,116,86,97,108,117,101,3,0,0,0,0,1,0,9,103,101,116,76,111,103,103,101,114,1,0,39,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,76,73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114,59,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,19,76,73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114,59,1,0,4,105,110,102,111,1,0,3,109,115,103,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,8,76,111,103,46,106,97,118,97,0,32,0,1,0,8,0,0,0,2,0,25,0,16,0,17,0,1,0,18,0,0,0,2,0,19,0,2,0,14,0,15,0,0,0,3,0,9,0,20,0,21,0,1,0,22,0,0,0,51,0,3,0,1,0,0,0,9,-69,0,1,89,42,-73,0,3,-80,0,0,0,2,0,23,0,0,0,6,0,1,0,0,0,6,0,24,0,0,0,12,0,1,0,0,0,9,0,14,0,15,0,0,0,1,0,5,0,6,0,1,0,22,0,0,0,70,0,2,0,2,0,0,0,10,42,-73,0,7,42,43,-75,0,12,-79,0,0,0,2,0,23,0,0,0,14,0,3,0,0,0,11,0,4,0,12,0,9,0,13,0,24,0,0,0,22,0,2,0,0,0,10,0,25,0,26,0,0,0,0,0,10,0,14,0,15,0,1,0,1,0,27,0,6,0,1,0,22,0,0,0,53,0,0,0,2,0,0,0,1,-79,0,0,0,2,0,23,0,0,0,6,0,1,0,0,0,19,0,24,0,0,0,22,0,2,0,0,0,1,0,25,0,26,0,0,0,0,0,1,0,28,0,15,0,1,0,1,0,29,0,0,0,2,0,30};
-    }
-    public static class Implementation12 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,15,7,0,2,1,0,17,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,7,0,4,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,6,117,112,100,97,116,101,1,0,40,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,1,0,9,83,105,103,110,97,116,117,114,101,1,0,25,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,41,84,84,59,1,0,3,103,101,116,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,1,0,5,40,41,84,84,59,1,0,40,60,84,58,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,62,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,22,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,46,106,97,118,97,6,0,0,1,0,3,0,0,0,0,0,2,4,1,0,5,0,6,0,1,0,7,0,0,0,2,0,8,4,1,0,9,0,10,0,1,0,7,0,0,0,2,0,11,0,2,0,7,0,0,0,2,0,12,0,13,0,0,0,2,0,14};
-    }
-    public static class Implementation13 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,70,97,99,116,111,114,121})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,-54,9,0,2,0,3,7,0,4,12,0,5,0,6,1,0,24,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,70,97,99,116,111,114,121,1,0,8,105,110,115,116,97,110,99,101,1,0,26,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,70,97,99,116,111,114,121,59,10,0,2,0,8,12,0,9,0,10,1,0,6,60,105,110,105,116,62,1,0,3,40,41,86,10,0,12,0,8,7,0,13,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,8,0,15,1,0,13,77,101,116,114,105,99,70,97,99,116,111,114,121,10,0,17,0,18,7,0,19,12,0,20,0,21,1,0,17,73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114,1,0,9,103,101,116,76,111,103,103,101,114,1,0,39,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,76,73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114,59,9,0,2,0,23,12,0,24,0,25,1,0,6,108,111,103,103,101,114,1,0,19,76,73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114,59,10,0,12,0,27,12,0,28,0,29,1,0,8,104,97,115,104,67,111,100,101,1,0,3,40,41,73,18,0,0,0,31,12,0,32,0,33,1,0,23,109,97,107,101,67,111,110,99,97,116,87,105,116,104,67,111,110,115,116,97,110,116,115,1,0,21,40,73,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,9,0,2,0,35,12,0,36,0,37,1,0,11,102,97,99,116,111,114,121,78,97,109,101,1,0,18,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,7,0,39,1,0,17,106,97,118,97,47,117,116,105,108,47,72,97,115,104,77,97,112,10,0,38,0,8,9,0,2,0,42,12,0,43,0,44,1,0,9,109,101,116,114,105,99,77,97,112,1,0,15,76,106,97,118,97,47,117,116,105,108,47,77,97,112,59,7,0,46,1,0,19,106,97,118,97,47,117,116,105,108,47,65,114,114,97,121,76,105,115,116,10,0,45,0,8,9,0,2,0,49,12,0,50,0,51,1,0,10,109,101,116,114,105,99,76,105,115,116,1,0,16,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,11,0,53,0,54,7,0,55,12,0,56,0,57,1,0,13,106,97,118,97,47,117,116,105,108,47,77,97,112,1,0,3,112,117,116,1,0,56,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,7,0,59,1,0,33,106,97,118,97,47,117,116,105,108,47,65,98,115,116,114,97,99,116,77,97,112,36,83,105,109,112,108,101,69,110,116,114,121,10,0,58,0,61,12,0,9,0,62,1,0,39,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,86,11,0,64,0,65,7,0,66,12,0,67,0,68,1,0,14,106,97,118,97,47,117,116,105,108,47,76,105,115,116,1,0,8,99,111,110,116,97,105,110,115,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,90,11,0,64,0,70,12,0,71,0,68,1,0,3,97,100,100,11,0,53,0,73,12,0,74,0,57,1,0,12,103,101,116,79,114,68,101,102,97,117,108,116,7,0,76,1,0,17,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,10,0,2,0,78,12,0,79,0,80,1,0,3,103,101,116,1,0,39,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,10,0,82,0,83,7,0,84,12,0,85,0,86,1,0,18,106,97,118,97,47,117,116,105,108,47,79,112,116,105,111,110,97,108,1,0,10,111,102,78,117,108,108,97,98,108,101,1,0,40,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,117,116,105,108,47,79,112,116,105,111,110,97,108,59,10,0,82,0,88,12,0,89,0,90,1,0,9,111,114,69,108,115,101,71,101,116,1,0,49,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,11,0,92,0,93,7,0,94,12,0,79,0,95,1,0,27,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,10,0,97,0,98,7,0,99,12,0,100,0,101,1,0,17,106,97,118,97,47,117,116,105,108,47,79,98,106,101,99,116,115,1,0,14,114,101,113,117,105,114,101,78,111,110,78,117,108,108,1,0,38,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,10,0,2,0,103,12,0,104,0,105,1,0,3,115,101,116,1,0,40,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,41,86,11,0,64,0,107,12,0,108,0,109,1,0,8,105,116,101,114,97,116,111,114,1,0,22,40,41,76,106,97,118,97,47,117,116,105,108,47,73,116,101,114,97,116,111,114,59,11,0,111,0,112,7,0,113,12,0,114,0,115,1,0,18,106,97,118,97,47,117,116,105,108,47,73,116,101,114,97,116,111,114,1,0,7,104,97,115,78,101,120,116,1,0,3,40,41,90,11,0,111,0,117,12,0,118,0,95,1,0,4,110,101,120,116,7,0,120,1,0,19,106,97,118,97,47,117,116,105,108,47,77,97,112,36,69,110,116,114,121,11,0,119,0,122,12,0,123,0,95,1,0,6,103,101,116,75,101,121,7,0,125,1,0,16,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,11,0,119,0,127,12,0,-128,0,95,1,0,8,103,101,116,86,97,108,117,101,11,0,-126,0,-125,7,0,-124,12,0,-123,0,62,1,0,29,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,66,105,67,111,110,115,117,109,101,114,1,0,6,97,99,99,101,112,116,11,0,75,0,93,18,0,1,0,-120,12,0,32,0,-119,1,0,74,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,10,0,17,0,-117,12,0,-116,0,-115,1,0,4,105,110,102,111,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,86,1,0,9,83,105,103,110,97,116,117,114,101,1,0,81,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,106,97,118,97,47,117,116,105,108,47,77,97,112,36,69,110,116,114,121,60,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,42,62,59,62,59,62,59,1,0,57,76,106,97,118,97,47,117,116,105,108,47,77,97,112,60,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,42,62,59,62,59,1,0,10,103,101,116,68,101,102,97,117,108,116,1,0,28,40,41,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,70,97,99,116,111,114,121,59,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,13,83,116,97,99,107,77,97,112,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,4,110,97,109,101,1,0,6,109,101,116,114,105,99,1,0,19,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,1,0,22,76,111,99,97,108,86,97,114,105,97,98,108,101,84,121,112,101,84,97,98,108,101,1,0,24,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,84,84,59,62,59,1,0,67,60,84,58,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,62,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,84,84,59,62,59,41,86,1,0,66,60,84,58,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,62,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,84,84,59,62,59,1,0,11,103,101,116,79,114,67,114,101,97,116,101,1,0,68,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,59,41,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,1,0,8,115,117,112,112,108,105,101,114,1,0,29,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,59,1,0,55,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,60,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,84,84,59,62,59,62,59,1,0,121,60,84,58,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,62,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,60,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,84,84,59,62,59,62,59,41,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,84,84,59,62,59,1,0,4,119,105,116,104,1,0,75,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,59,41,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,70,97,99,116,111,114,121,59,1,0,14,109,101,116,114,105,99,83,117,112,112,108,105,101,114,1,0,123,60,84,58,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,62,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,83,117,112,112,108,105,101,114,60,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,84,84,59,62,59,62,59,41,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,70,97,99,116,111,114,121,59,1,0,7,102,111,114,69,97,99,104,1,0,34,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,66,105,67,111,110,115,117,109,101,114,59,41,86,1,0,5,101,110,116,114,121,1,0,21,76,106,97,118,97,47,117,116,105,108,47,77,97,112,36,69,110,116,114,121,59,1,0,8,99,111,110,115,117,109,101,114,1,0,31,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,66,105,67,111,110,115,117,109,101,114,59,1,0,22,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,42,62,59,1,0,63,76,106,97,118,97,47,117,116,105,108,47,77,97,112,36,69,110,116,114,121,60,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,42,62,59,62,59,1,0,73,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,66,105,67,111,110,115,117,109,101,114,60,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,42,62,59,62,59,1,0,76,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,66,105,67,111,110,115,117,109,101,114,60,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,42,62,59,62,59,41,86,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,22,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,46,106,97,118,97,1,0,16,66,111,111,116,115,116,114,97,112,77,101,116,104,111,100,115,15,6,0,-73,10,0,-72,0,-71,7,0,-70,12,0,32,0,-69,1,0,36,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,83,116,114,105,110,103,67,111,110,99,97,116,70,97,99,116,111,114,121,1,0,-104,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,91,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,8,0,-67,1,0,15,109,101,116,114,105,99,70,97,99,116,111,114,121,64,1,8,0,-65,1,0,7,1,58,1,32,61,32,1,1,0,12,73,110,110,101,114,67,108,97,115,115,101,115,7,0,-62,1,0,21,106,97,118,97,47,117,116,105,108,47,65,98,115,116,114,97,99,116,77,97,112,1,0,11,83,105,109,112,108,101,69,110,116,114,121,1,0,5,69,110,116,114,121,7,0,-58,1,0,37,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,7,0,-56,1,0,30,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,1,0,6,76,111,111,107,117,112,0,32,0,2,0,12,0,0,0,5,0,2,0,24,0,25,0,0,0,10,0,5,0,6,0,0,0,2,0,36,0,37,0,0,0,2,0,50,0,51,0,1,0,-114,0,0,0,2,0,-113,0,2,0,43,0,44,0,1,0,-114,0,0,0,2,0,-112,0,7,0,9,0,-111,0,-110,0,1,0,-109,0,0,0,61,0,2,0,0,0,0,0,20,-78,0,1,-57,0,13,-69,0,2,89,-73,0,7,-77,0,1,-78,0,1,-80,0,0,0,2,0,-108,0,0,0,14,0,3,0,0,0,58,0,6,0,59,0,16,0,61,0,-107,0,0,0,3,0,1,16,0,1,0,9,0,10,0,1,0,-109,0,0,0,111,0,3,0,1,0,0,0,49,42,-73,0,11,42,18,14,-72,0,16,-75,0,22,42,42,-74,0,26,-70,0,30,0,0,-75,0,34,42,-69,0,38,89,-73,0,40,-75,0,41,42,-69,0,45,89,-73,0,47,-75,0,48,-79,0,0,0,2,0,-108,0,0,0,26,0,6,0,0,0,68,0,4,0,54,0,13,0,64,0,26,0,69,0,37,0,70,0,48,0,71,0,-106,0,0,0,12,0,1,0,0,0,49,0,-105,0,6,0,0,0,1,0,104,0,105,0,2,0,-109,0,0,0,-102,0,5,0,3,0,0,0,53,42,-76,0,41,43,44,-71,0,52,3,0,87,42,-76,0,48,-69,0,58,89,43,44,-73,0,60,-71,0,63,2,0,-102,0,22,42,-76,0,48,-69,0,58,89,43,44,-73,0,60,-71,0,69,2,0,87,-79,0,0,0,4,0,-108,0,0,0,18,0,4,0,0,0,74,0,12,0,75,0,33,0,76,0,52,0,78,0,-106,0,0,0,32,0,3,0,0,0,53,0,-105,0,6,0,0,0,0,0,53,0,-104,0,37,0,1,0,0,0,53,0,-103,0,-102,0,2,0,-101,0,0,0,12,0,1,0,0,0,53,0,-103,0,-100,0,2,0,-107,0,0,0,3,0,1,52,0,-114,0,0,0,2,0,-99,0,1,0,79,0,80,0,2,0,-109,0,0,0,67,0,3,0,2,0,0,0,15,42,-76,0,41,43,1,-71,0,72,3,0,-64,0,75,-80,0,0,0,2,0,-108,0,0,0,6,0,1,0,0,0,82,0,-106,0,0,0,22,0,2,0,0,0,15,0,-105,0,6,0,0,0,0,0,15,0,-104,0,37,0,1,0,-114,0,0,0,2,0,-98,0,1,0,-97,0,-96,0,2,0,-109,0,0,0,104,0,2,0,3,0,0,0,16,42,43,-74,0,77,-72,0,81,44,-74,0,87,-64,0,75,-80,0,0,0,3,0,-108,0,0,0,14,0,3,0,0,0,87,0,9,0,88,0,15,0,87,0,-106,0,0,0,32,0,3,0,0,0,16,0,-105,0,6,0,0,0,0,0,16,0,-104,0,37,0,1,0,0,0,16,0,-95,0,-94,0,2,0,-101,0,0,0,12,0,1,0,0,0,16,0,-95,0,-93,0,2,0,-114,0,0,0,2,0,-92,0,1,0,-91,0,-90,0,2,0,-109,0,0,0,-123,0,3,0,3,0,0,0,36,42,-76,0,41,43,1,-71,0,72,3,0,-57,0,23,42,43,44,-71,0,91,1,0,-64,0,75,-72,0,96,-64,0,75,-74,0,102,42,-80,0,0,0,4,0,-108,0,0,0,14,0,3,0,0,0,92,0,14,0,93,0,34,0,95,0,-106,0,0,0,32,0,3,0,0,0,36,0,-105,0,6,0,0,0,0,0,36,0,-104,0,37,0,1,0,0,0,36,0,-89,0,-94,0,2,0,-101,0,0,0,12,0,1,0,0,0,36,0,-89,0,-93,0,2,0,-107,0,0,0,3,0,1,34,0,-114,0,0,0,2,0,-88,0,1,0,-87,0,-86,0,2,0,-109,0,0,0,-5,0,4,0,6,0,0,0,90,42,-76,0,48,-71,0,106,1,0,77,44,-71,0,110,1,0,-103,0,73,44,-71,0,116,1,0,-64,0,119,78,45,-71,0,121,1,0,-64,0,124,58,4,45,-71,0,126,1,0,-64,0,75,58,5,43,25,4,25,5,-71,0,-127,3,0,42,-76,0,22,42,-76,0,34,25,4,25,5,-71,0,-122,1,0,-70,0,-121,0,0,-74,0,-118,-89,-1,-76,-79,0,0,0,4,0,-108,0,0,0,30,0,7,0,0,0,99,0,29,0,100,0,40,0,101,0,51,0,102,0,61,0,103,0,86,0,104,0,89,0,105,0,-106,0,0,0,52,0,5,0,40,0,46,0,-104,0,37,0,4,0,51,0,35,0,-103,0,-102,0,5,0,29,0,57,0,-85,0,-84,0,3,0,0,0,90,0,-105,0,6,0,0,0,0,0,90,0,-83,0,-82,0,1,0,-101,0,0,0,32,0,3,0,51,0,35,0,-103,0,-81,0,5,0,29,0,57,0,-85,0,-80,0,3,0,0,0,90,0,-83,0,-79,0,1,0,-107,0,0,0,11,0,2,-4,0,10,7,0,111,-6,0,78,0,-114,0,0,0,2,0,-78,0,3,0,-77,0,0,0,2,0,-76,0,-75,0,0,0,14,0,2,0,-74,0,1,0,-68,0,-74,0,1,0,-66,0,-64,0,0,0,26,0,3,0,58,0,-63,0,-61,0,9,0,119,0,53,0,-60,6,9,0,-59,0,-57,0,-55,0,25};
-    }
-    public static class Implementation14 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,77,111,111,115,101,83,116,114,97,116,101,103,121})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,-52,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,27,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,1,0,6,60,105,110,105,116,62,1,0,4,40,73,41,86,8,0,8,1,0,13,77,111,111,115,101,83,116,114,97,116,101,103,121,10,0,10,0,11,7,0,12,12,0,13,0,14,1,0,17,73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114,1,0,9,103,101,116,76,111,103,103,101,114,1,0,39,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,76,73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114,59,9,0,16,0,17,7,0,18,12,0,19,0,20,1,0,24,73,108,121,97,80,111,116,101,109,105,110,77,111,111,115,101,83,116,114,97,116,101,103,121,1,0,6,108,111,103,103,101,114,1,0,19,76,73,108,121,97,80,111,116,101,109,105,110,76,111,103,103,101,114,59,9,0,16,0,22,12,0,23,0,24,1,0,9,103,97,109,101,83,116,97,116,101,1,0,32,76,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,59,7,0,26,1,0,29,73,108,121,97,80,111,116,101,109,105,110,77,111,115,116,80,97,121,111,102,102,83,116,114,97,116,101,103,121,10,0,25,0,28,12,0,5,0,29,1,0,64,40,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,59,76,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,59,41,86,9,0,16,0,31,12,0,32,0,33,1,0,18,109,111,115,116,80,97,121,111,102,102,83,116,114,97,116,101,103,121,1,0,21,76,73,108,121,97,80,111,116,101,109,105,110,83,116,114,97,116,101,103,121,59,10,0,2,0,35,12,0,5,0,36,1,0,32,40,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,59,41,86,11,0,38,0,39,7,0,40,12,0,41,0,42,1,0,19,73,108,121,97,80,111,116,101,109,105,110,83,116,114,97,116,101,103,121,1,0,4,109,111,118,101,1,0,58,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,10,0,2,0,44,12,0,45,0,46,1,0,13,117,112,100,97,116,101,77,101,116,114,105,99,115,1,0,23,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,41,86,11,0,48,0,49,7,0,50,12,0,51,0,52,1,0,30,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,1,0,14,103,101,116,70,105,101,108,100,83,116,97,116,101,115,1,0,24,40,41,76,106,97,118,97,47,117,116,105,108,47,67,111,108,108,101,99,116,105,111,110,59,11,0,54,0,55,7,0,56,12,0,57,0,58,1,0,20,106,97,118,97,47,117,116,105,108,47,67,111,108,108,101,99,116,105,111,110,1,0,6,115,116,114,101,97,109,1,0,27,40,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,18,0,0,0,60,12,0,61,0,62,1,0,4,116,101,115,116,1,0,32,40,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,80,114,101,100,105,99,97,116,101,59,11,0,64,0,65,7,0,66,12,0,67,0,68,1,0,23,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,1,0,6,102,105,108,116,101,114,1,0,57,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,80,114,101,100,105,99,97,116,101,59,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,10,0,70,0,71,7,0,72,12,0,73,0,74,1,0,27,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,67,111,108,108,101,99,116,111,114,115,1,0,6,116,111,76,105,115,116,1,0,30,40,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,67,111,108,108,101,99,116,111,114,59,11,0,64,0,76,12,0,77,0,78,1,0,7,99,111,108,108,101,99,116,1,0,48,40,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,67,111,108,108,101,99,116,111,114,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,7,0,80,1,0,14,106,97,118,97,47,117,116,105,108,47,76,105,115,116,11,0,79,0,82,12,0,83,0,84,1,0,4,115,105,122,101,1,0,3,40,41,73,8,0,86,1,0,30,85,115,105,110,103,32,110,111,32,111,116,104,101,114,32,99,104,111,105,99,101,32,115,116,114,97,116,101,103,121,10,0,10,0,88,12,0,89,0,90,1,0,4,105,110,102,111,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,86,11,0,79,0,92,12,0,93,0,94,1,0,3,103,101,116,1,0,21,40,73,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,7,0,96,1,0,21,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,10,0,95,0,98,12,0,99,0,100,1,0,8,103,101,116,70,105,101,108,100,1,0,20,40,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,18,0,1,0,102,12,0,103,0,104,1,0,5,97,112,112,108,121,1,0,31,40,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,11,0,64,0,106,12,0,107,0,108,1,0,3,109,97,112,1,0,56,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,8,0,110,1,0,1,32,10,0,70,0,112,12,0,113,0,114,1,0,7,106,111,105,110,105,110,103,1,0,54,40,76,106,97,118,97,47,108,97,110,103,47,67,104,97,114,83,101,113,117,101,110,99,101,59,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,67,111,108,108,101,99,116,111,114,59,7,0,116,1,0,16,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,9,0,16,0,118,12,0,119,0,120,1,0,18,102,105,103,104,116,80,101,114,99,101,110,116,77,101,116,114,105,99,1,0,19,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,10,0,122,0,123,7,0,124,12,0,125,0,126,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,8,116,111,83,116,114,105,110,103,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,18,0,2,0,-128,12,0,-127,0,-126,1,0,23,109,97,107,101,67,111,110,99,97,116,87,105,116,104,67,111,110,115,116,97,110,116,115,1,0,56,40,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,10,0,95,0,-124,12,0,-123,0,-122,1,0,17,103,101,116,86,101,103,101,116,97,116,105,111,110,83,116,101,112,1,0,3,40,41,74,1,0,9,83,105,103,110,97,116,117,114,101,1,0,39,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,62,59,1,0,25,82,117,110,116,105,109,101,86,105,115,105,98,108,101,65,110,110,111,116,97,116,105,111,110,115,1,0,27,76,73,108,121,97,80,111,116,101,109,105,110,73,110,106,101,99,116,101,100,77,101,116,114,105,99,59,1,0,5,118,97,108,117,101,1,0,20,102,105,103,104,116,95,112,101,114,99,101,110,116,95,109,101,116,114,105,99,1,0,36,40,76,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,59,73,41,86,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,26,76,73,108,121,97,80,111,116,101,109,105,110,77,111,111,115,101,83,116,114,97,116,101,103,121,59,1,0,11,109,101,116,114,105,99,68,101,112,116,104,1,0,1,73,1,0,6,112,97,114,101,110,116,1,0,29,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,59,1,0,7,104,105,115,116,111,114,121,1,0,20,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,1,0,16,111,112,112,111,110,101,110,116,76,97,115,116,77,111,118,101,1,0,18,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,11,102,105,101,108,100,83,116,97,116,101,115,1,0,22,76,106,97,118,97,47,117,116,105,108,47,67,111,108,108,101,99,116,105,111,110,59,1,0,22,110,111,110,90,101,114,111,83,116,101,112,70,105,101,108,100,83,116,97,116,101,115,1,0,16,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,1,0,22,76,111,99,97,108,86,97,114,105,97,98,108,101,84,121,112,101,84,97,98,108,101,1,0,47,76,106,97,118,97,47,117,116,105,108,47,67,111,108,108,101,99,116,105,111,110,60,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,62,59,1,0,41,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,62,59,1,0,13,83,116,97,99,107,77,97,112,84,97,98,108,101,1,0,12,103,97,109,101,83,116,97,116,101,83,116,114,1,0,18,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,13,108,97,109,98,100,97,36,109,111,118,101,36,48,1,0,26,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,41,90,1,0,5,115,116,97,116,101,1,0,23,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,15,83,116,114,97,116,101,103,105,101,115,46,106,97,118,97,1,0,16,66,111,111,116,115,116,114,97,112,77,101,116,104,111,100,115,15,6,0,-83,10,0,-82,0,-81,7,0,-80,12,0,-79,0,-78,1,0,34,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,76,97,109,98,100,97,77,101,116,97,102,97,99,116,111,114,121,1,0,11,109,101,116,97,102,97,99,116,111,114,121,1,0,-52,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,16,0,-76,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,90,15,6,0,-74,10,0,16,0,-73,12,0,-91,0,-90,16,0,-90,16,0,-70,1,0,38,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,15,5,0,121,16,0,-67,1,0,43,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,41,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,15,6,0,-65,10,0,-64,0,-63,7,0,-62,12,0,-127,0,-61,1,0,36,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,83,116,114,105,110,103,67,111,110,99,97,116,70,97,99,116,111,114,121,1,0,-104,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,91,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,8,0,-59,1,0,48,77,111,111,115,101,83,116,114,97,116,101,103,121,40,103,97,109,101,83,116,97,116,101,61,1,44,32,102,105,103,104,116,80,101,114,99,101,110,116,77,101,116,114,105,99,61,1,41,1,0,12,73,110,110,101,114,67,108,97,115,115,101,115,7,0,-56,1,0,37,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,7,0,-54,1,0,30,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,1,0,6,76,111,111,107,117,112,0,32,0,16,0,2,0,0,0,4,0,2,0,19,0,20,0,0,0,2,0,23,0,24,0,0,0,2,0,32,0,33,0,0,0,4,0,119,0,120,0,2,0,-121,0,0,0,2,0,-120,0,-119,0,0,0,11,0,1,0,-118,0,1,0,-117,115,0,-116,0,5,0,1,0,5,0,-115,0,1,0,-114,0,0,0,111,0,5,0,3,0,0,0,33,42,28,-73,0,1,42,18,7,-72,0,9,-75,0,15,42,43,-75,0,21,42,-69,0,25,89,42,43,-73,0,27,-75,0,30,-79,0,0,0,2,0,-113,0,0,0,22,0,5,0,0,0,22,0,5,0,14,0,14,0,23,0,19,0,24,0,32,0,25,0,-112,0,0,0,32,0,3,0,0,0,33,0,-111,0,-110,0,0,0,0,0,33,0,23,0,24,0,1,0,0,0,33,0,-109,0,-108,0,2,0,1,0,5,0,36,0,1,0,-114,0,0,0,75,0,2,0,2,0,0,0,15,42,43,-73,0,34,42,18,7,-72,0,9,-75,0,15,-79,0,0,0,2,0,-113,0,0,0,14,0,3,0,0,0,28,0,5,0,14,0,14,0,29,0,-112,0,0,0,22,0,2,0,0,0,15,0,-111,0,-110,0,0,0,0,0,15,0,-107,0,-106,0,1,0,1,0,41,0,42,0,1,0,-114,0,0,1,19,0,3,0,5,0,0,0,107,44,-57,0,15,42,-76,0,30,43,1,-71,0,37,3,0,-80,42,43,-73,0,43,42,-76,0,21,-71,0,47,1,0,78,45,-71,0,53,1,0,-70,0,59,0,0,-71,0,63,2,0,-72,0,69,-71,0,75,2,0,-64,0,79,58,4,25,4,-71,0,81,1,0,4,-96,0,27,42,-76,0,15,18,85,-74,0,87,25,4,3,-71,0,91,2,0,-64,0,95,-74,0,97,-80,42,-76,0,30,43,44,-71,0,37,3,0,-80,0,0,0,4,0,-113,0,0,0,46,0,11,0,0,0,33,0,4,0,34,0,16,0,36,0,21,0,37,0,31,0,38,0,42,0,39,0,47,0,40,0,60,0,41,0,71,0,45,0,80,0,46,0,95,0,49,0,-112,0,0,0,52,0,5,0,0,0,107,0,-111,0,-110,0,0,0,0,0,107,0,-105,0,-104,0,1,0,0,0,107,0,-103,0,-102,0,2,0,31,0,76,0,-101,0,-100,0,3,0,60,0,47,0,-99,0,-98,0,4,0,-97,0,0,0,22,0,2,0,31,0,76,0,-101,0,-96,0,3,0,60,0,47,0,-99,0,-95,0,4,0,-94,0,0,0,12,0,2,16,-3,0,78,7,0,54,7,0,79,0,1,0,125,0,126,0,1,0,-114,0,0,0,124,0,2,0,2,0,0,0,52,42,-76,0,21,-71,0,47,1,0,-71,0,53,1,0,-70,0,101,0,0,-71,0,105,2,0,18,109,-72,0,111,-71,0,75,2,0,-64,0,115,76,43,42,-76,0,117,-74,0,121,-70,0,127,0,0,-80,0,0,0,2,0,-113,0,0,0,26,0,6,0,0,0,53,0,19,0,54,0,26,0,55,0,38,0,56,0,43,0,58,0,51,0,56,0,-112,0,0,0,22,0,2,0,0,0,52,0,-111,0,-110,0,0,0,38,0,14,0,-93,0,-92,0,1,16,10,0,-91,0,-90,0,1,0,-114,0,0,0,68,0,4,0,1,0,0,0,15,42,-74,0,-125,9,-108,-98,0,7,4,-89,0,4,3,-84,0,0,0,3,0,-113,0,0,0,6,0,1,0,0,0,39,0,-112,0,0,0,12,0,1,0,0,0,15,0,-89,0,-88,0,0,0,-94,0,0,0,5,0,2,13,64,1,0,3,0,-87,0,0,0,2,0,-86,0,-85,0,0,0,28,0,3,0,-84,0,3,0,-77,0,-75,0,-72,0,-84,0,3,0,-71,0,-69,0,-68,0,-66,0,1,0,-60,0,-58,0,0,0,10,0,1,0,-57,0,-55,0,-53,0,25};
-    }
-    public static class Implementation15 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,77,111,115,116,79,112,112,111,110,101,110,116,83,101,108,101,99,116,101,100,70,105,101,108,100,77,101,116,114,105,99})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,79,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,25,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99,1,0,6,60,105,110,105,116,62,1,0,4,40,73,41,86,10,0,8,0,9,7,0,10,12,0,11,0,12,1,0,17,106,97,118,97,47,117,116,105,108,47,79,98,106,101,99,116,115,1,0,14,114,101,113,117,105,114,101,78,111,110,78,117,108,108,1,0,38,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,7,0,14,1,0,17,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,9,0,16,0,17,7,0,18,12,0,19,0,20,1,0,42,73,108,121,97,80,111,116,101,109,105,110,77,111,115,116,79,112,112,111,110,101,110,116,83,101,108,101,99,116,101,100,70,105,101,108,100,77,101,116,114,105,99,1,0,7,97,77,101,116,114,105,99,1,0,19,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,9,0,16,0,22,12,0,23,0,20,1,0,7,98,77,101,116,114,105,99,9,0,16,0,25,12,0,26,0,20,1,0,7,99,77,101,116,114,105,99,11,0,13,0,28,12,0,29,0,30,1,0,3,103,101,116,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,7,0,32,1,0,16,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,10,0,31,0,34,12,0,35,0,36,1,0,11,100,111,117,98,108,101,86,97,108,117,101,1,0,3,40,41,68,9,0,38,0,39,7,0,40,12,0,41,0,42,1,0,16,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,1,0,1,65,1,0,18,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,9,0,38,0,44,12,0,45,0,42,1,0,1,67,9,0,38,0,47,12,0,48,0,42,1,0,1,66,10,0,16,0,50,12,0,51,0,52,1,0,8,100,111,85,112,100,97,116,101,1,0,36,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,4,78,65,77,69,1,0,18,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,13,67,111,110,115,116,97,110,116,86,97,108,117,101,8,0,57,1,0,29,109,111,115,116,95,111,112,112,111,110,101,110,116,95,115,101,108,101,99,116,101,100,95,109,101,116,114,105,99,1,0,9,83,105,103,110,97,116,117,114,101,1,0,39,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,62,59,1,0,61,40,73,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,59,41,86,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,44,76,73,108,121,97,80,111,116,101,109,105,110,77,111,115,116,79,112,112,111,110,101,110,116,83,101,108,101,99,116,101,100,70,105,101,108,100,77,101,116,114,105,99,59,1,0,12,104,105,115,116,111,114,121,68,101,112,116,104,1,0,1,73,1,0,22,76,111,99,97,108,86,97,114,105,97,98,108,101,84,121,112,101,84,97,98,108,101,1,0,121,40,73,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,62,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,62,59,76,73,108,121,97,80,111,116,101,109,105,110,77,101,116,114,105,99,60,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,62,59,41,86,1,0,10,114,101,99,111,114,100,76,105,115,116,1,0,16,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,1,0,42,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,1,0,13,83,116,97,99,107,77,97,112,84,97,98,108,101,1,0,62,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,36,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,1,0,47,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99,60,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,62,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,12,77,101,116,114,105,99,115,46,106,97,118,97,0,32,0,16,0,2,0,0,0,4,0,25,0,53,0,54,0,1,0,55,0,0,0,2,0,56,0,2,0,19,0,20,0,1,0,58,0,0,0,2,0,59,0,2,0,23,0,20,0,1,0,58,0,0,0,2,0,59,0,2,0,26,0,20,0,1,0,58,0,0,0,2,0,59,0,3,0,1,0,5,0,60,0,2,0,61,0,0,0,-80,0,2,0,5,0,0,0,40,42,27,-73,0,1,42,44,-72,0,7,-64,0,13,-75,0,15,42,45,-72,0,7,-64,0,13,-75,0,21,42,25,4,-72,0,7,-64,0,13,-75,0,24,-79,0,0,0,3,0,62,0,0,0,22,0,5,0,0,0,65,0,5,0,66,0,16,0,67,0,27,0,68,0,39,0,69,0,63,0,0,0,52,0,5,0,0,0,40,0,64,0,65,0,0,0,0,0,40,0,66,0,67,0,1,0,0,0,40,0,19,0,20,0,2,0,0,0,40,0,23,0,20,0,3,0,0,0,40,0,26,0,20,0,4,0,68,0,0,0,32,0,3,0,0,0,40,0,19,0,59,0,2,0,0,0,40,0,23,0,59,0,3,0,0,0,40,0,26,0,59,0,4,0,58,0,0,0,2,0,69,0,4,0,51,0,52,0,2,0,61,0,0,0,-31,0,4,0,2,0,0,0,118,42,-76,0,15,-71,0,27,1,0,-64,0,31,-74,0,33,42,-76,0,21,-71,0,27,1,0,-64,0,31,-74,0,33,-105,-98,0,45,42,-76,0,15,-71,0,27,1,0,-64,0,31,-74,0,33,42,-76,0,24,-71,0,27,1,0,-64,0,31,-74,0,33,-105,-98,0,7,-78,0,37,-80,-78,0,43,-80,42,-76,0,21,-71,0,27,1,0,-64,0,31,-74,0,33,42,-76,0,24,-71,0,27,1,0,-64,0,31,-74,0,33,-105,-98,0,7,-78,0,46,-80,-78,0,43,-80,0,0,0,4,0,62,0,0,0,30,0,7,0,0,0,73,0,34,0,74,0,68,0,75,0,72,0,77,0,76,0,80,0,110,0,81,0,114,0,83,0,63,0,0,0,22,0,2,0,0,0,118,0,64,0,65,0,0,0,0,0,118,0,70,0,71,0,1,0,68,0,0,0,12,0,1,0,0,0,118,0,70,0,72,0,1,0,73,0,0,0,7,0,3,-5,0,72,3,37,0,58,0,0,0,2,0,74,16,68,0,51,0,75,0,1,0,61,0,0,0,48,0,2,0,2,0,0,0,6,42,43,-74,0,49,-80,0,0,0,2,0,62,0,0,0,6,0,1,0,0,0,56,0,63,0,0,0,12,0,1,0,0,0,6,0,64,0,65,0,0,0,2,0,58,0,0,0,2,0,76,0,77,0,0,0,2,0,78};
-    }
-    public static class Implementation16 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,77,111,115,116,80,97,121,111,102,102,83,116,114,97,116,101,103,121})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,-99,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,27,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,1,0,6,60,105,110,105,116,62,1,0,4,40,73,41,86,10,0,2,0,8,12,0,5,0,9,1,0,32,40,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,59,41,86,9,0,11,0,12,7,0,13,12,0,14,0,15,1,0,29,73,108,121,97,80,111,116,101,109,105,110,77,111,115,116,80,97,121,111,102,102,83,116,114,97,116,101,103,121,1,0,9,103,97,109,101,83,116,97,116,101,1,0,32,76,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,59,7,0,17,1,0,25,73,108,121,97,80,111,116,101,109,105,110,82,97,110,100,111,109,83,116,114,97,116,101,103,121,10,0,16,0,8,9,0,11,0,20,12,0,21,0,22,1,0,14,114,97,110,100,111,109,83,116,114,97,116,101,103,121,1,0,27,76,73,108,121,97,80,111,116,101,109,105,110,82,97,110,100,111,109,83,116,114,97,116,101,103,121,59,11,0,24,0,25,7,0,26,12,0,27,0,28,1,0,30,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,1,0,14,103,101,116,70,105,101,108,100,83,116,97,116,101,115,1,0,24,40,41,76,106,97,118,97,47,117,116,105,108,47,67,111,108,108,101,99,116,105,111,110,59,11,0,30,0,31,7,0,32,12,0,33,0,34,1,0,20,106,97,118,97,47,117,116,105,108,47,67,111,108,108,101,99,116,105,111,110,1,0,6,115,116,114,101,97,109,1,0,27,40,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,18,0,0,0,36,12,0,37,0,38,1,0,5,97,112,112,108,121,1,0,31,40,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,11,0,40,0,41,7,0,42,12,0,43,0,44,1,0,20,106,97,118,97,47,117,116,105,108,47,67,111,109,112,97,114,97,116,111,114,1,0,9,99,111,109,112,97,114,105,110,103,1,0,53,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,41,76,106,97,118,97,47,117,116,105,108,47,67,111,109,112,97,114,97,116,111,114,59,11,0,46,0,47,7,0,48,12,0,49,0,50,1,0,23,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,1,0,3,109,97,120,1,0,44,40,76,106,97,118,97,47,117,116,105,108,47,67,111,109,112,97,114,97,116,111,114,59,41,76,106,97,118,97,47,117,116,105,108,47,79,112,116,105,111,110,97,108,59,10,0,52,0,53,7,0,54,12,0,55,0,56,1,0,18,106,97,118,97,47,117,116,105,108,47,79,112,116,105,111,110,97,108,1,0,11,111,114,69,108,115,101,84,104,114,111,119,1,0,20,40,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,7,0,58,1,0,21,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,10,0,57,0,60,12,0,61,0,62,1,0,17,103,101,116,86,101,103,101,116,97,116,105,111,110,83,116,101,112,1,0,3,40,41,74,18,0,1,0,64,12,0,65,0,66,1,0,4,116,101,115,116,1,0,33,40,74,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,80,114,101,100,105,99,97,116,101,59,11,0,46,0,68,12,0,69,0,70,1,0,6,102,105,108,116,101,114,1,0,57,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,80,114,101,100,105,99,97,116,101,59,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,18,0,2,0,36,11,0,46,0,73,12,0,74,0,75,1,0,3,109,97,112,1,0,56,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,10,0,77,0,78,7,0,79,12,0,80,0,81,1,0,27,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,67,111,108,108,101,99,116,111,114,115,1,0,6,116,111,76,105,115,116,1,0,30,40,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,67,111,108,108,101,99,116,111,114,59,11,0,46,0,83,12,0,84,0,85,1,0,7,99,111,108,108,101,99,116,1,0,48,40,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,67,111,108,108,101,99,116,111,114,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,7,0,87,1,0,14,106,97,118,97,47,117,116,105,108,47,76,105,115,116,10,0,16,0,89,12,0,90,0,91,1,0,4,109,111,118,101,1,0,36,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,31,76,73,108,121,97,80,111,116,101,109,105,110,77,111,115,116,80,97,121,111,102,102,83,116,114,97,116,101,103,121,59,1,0,11,109,101,116,114,105,99,68,101,112,116,104,1,0,1,73,1,0,64,40,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,59,76,73,108,121,97,80,111,116,101,109,105,110,71,97,109,101,83,116,97,116,101,83,105,109,117,108,97,116,105,111,110,59,41,86,1,0,6,112,97,114,101,110,116,1,0,29,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,59,1,0,58,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,7,104,105,115,116,111,114,121,1,0,20,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,1,0,16,111,112,112,111,110,101,110,116,76,97,115,116,77,111,118,101,1,0,18,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,22,109,97,120,70,105,101,108,100,86,101,103,101,116,97,116,105,111,110,83,116,101,112,1,0,1,74,1,0,15,109,97,120,80,97,121,111,102,102,70,105,101,108,100,115,1,0,16,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,1,0,22,76,111,99,97,108,86,97,114,105,97,98,108,101,84,121,112,101,84,97,98,108,101,1,0,36,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,62,59,1,0,13,108,97,109,98,100,97,36,109,111,118,101,36,48,1,0,27,40,74,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,41,90,1,0,5,115,116,97,116,101,1,0,23,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,1,0,13,83,116,97,99,107,77,97,112,84,97,98,108,101,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,15,83,116,114,97,116,101,103,105,101,115,46,106,97,118,97,1,0,16,66,111,111,116,115,116,114,97,112,77,101,116,104,111,100,115,15,6,0,122,10,0,123,0,124,7,0,125,12,0,126,0,127,1,0,34,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,76,97,109,98,100,97,77,101,116,97,102,97,99,116,111,114,121,1,0,11,109,101,116,97,102,97,99,116,111,114,121,1,0,-52,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,16,0,-127,1,0,38,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,15,5,0,-125,10,0,57,0,-124,12,0,-123,0,-122,1,0,19,103,101,116,86,101,103,101,116,97,116,105,111,110,65,109,111,117,110,116,1,0,3,40,41,68,16,0,-120,1,0,43,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,16,0,-118,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,90,15,6,0,-116,10,0,11,0,-115,12,0,113,0,114,16,0,-113,1,0,26,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,41,90,15,5,0,-111,10,0,57,0,-110,12,0,-109,0,-108,1,0,8,103,101,116,70,105,101,108,100,1,0,20,40,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,16,0,-106,1,0,43,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,83,116,97,116,101,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,12,73,110,110,101,114,67,108,97,115,115,101,115,7,0,-103,1,0,37,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,7,0,-101,1,0,30,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,1,0,6,76,111,111,107,117,112,0,32,0,11,0,2,0,0,0,2,0,2,0,14,0,15,0,0,0,2,0,21,0,22,0,0,0,4,0,2,0,5,0,6,0,1,0,92,0,0,0,62,0,2,0,2,0,0,0,6,42,27,-73,0,1,-79,0,0,0,2,0,93,0,0,0,10,0,2,0,0,0,73,0,5,0,74,0,94,0,0,0,22,0,2,0,0,0,6,0,95,0,96,0,0,0,0,0,6,0,97,0,98,0,1,0,4,0,5,0,99,0,1,0,92,0,0,0,97,0,4,0,3,0,0,0,23,42,43,-73,0,7,42,44,-75,0,10,42,-69,0,16,89,42,-73,0,18,-75,0,19,-79,0,0,0,2,0,93,0,0,0,18,0,4,0,0,0,77,0,5,0,78,0,10,0,79,0,22,0,80,0,94,0,0,0,32,0,3,0,0,0,23,0,95,0,96,0,0,0,0,0,23,0,100,0,101,0,1,0,0,0,23,0,14,0,15,0,2,0,1,0,90,0,102,0,1,0,92,0,0,0,-33,0,3,0,6,0,0,0,95,42,-76,0,10,-71,0,23,1,0,-71,0,29,1,0,-70,0,35,0,0,-72,0,39,-71,0,45,2,0,-74,0,51,-64,0,57,-74,0,59,66,42,-76,0,10,-71,0,23,1,0,-71,0,29,1,0,33,-70,0,63,0,0,-71,0,67,2,0,-70,0,71,0,0,-71,0,72,2,0,-72,0,76,-71,0,82,2,0,-64,0,86,58,5,42,-76,0,19,25,5,-74,0,88,-80,0,0,0,3,0,93,0,0,0,34,0,8,0,0,0,84,0,19,0,85,0,27,0,86,0,37,0,87,0,57,0,88,0,67,0,89,0,72,0,90,0,85,0,91,0,94,0,0,0,52,0,5,0,0,0,95,0,95,0,96,0,0,0,0,0,95,0,103,0,104,0,1,0,0,0,95,0,105,0,106,0,2,0,37,0,58,0,107,0,108,0,3,0,85,0,10,0,109,0,110,0,5,0,111,0,0,0,12,0,1,0,85,0,10,0,109,0,112,0,5,16,10,0,113,0,114,0,1,0,92,0,0,0,78,0,4,0,3,0,0,0,15,44,-74,0,59,30,-108,-102,0,7,4,-89,0,4,3,-84,0,0,0,3,0,93,0,0,0,6,0,1,0,0,0,88,0,94,0,0,0,22,0,2,0,0,0,15,0,107,0,108,0,0,0,0,0,15,0,115,0,116,0,2,0,117,0,0,0,5,0,2,13,64,1,0,3,0,118,0,0,0,2,0,119,0,120,0,0,0,32,0,3,0,121,0,3,0,-128,0,-126,0,-121,0,121,0,3,0,-119,0,-117,0,-114,0,121,0,3,0,-128,0,-112,0,-107,0,-105,0,0,0,10,0,1,0,-104,0,-102,0,-100,0,25};
-    }
-    public static class Implementation17 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,79,112,112,111,110,101,110,116,70,105,101,108,100,68,105,115,116,114,105,98,117,116,105,111,110,77,101,116,114,105,99})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,104,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,25,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99,1,0,6,60,105,110,105,116,62,1,0,4,40,73,41,86,9,0,8,0,9,7,0,10,12,0,11,0,12,1,0,42,73,108,121,97,80,111,116,101,109,105,110,79,112,112,111,110,101,110,116,70,105,101,108,100,68,105,115,116,114,105,98,117,116,105,111,110,77,101,116,114,105,99,1,0,6,116,97,114,103,101,116,1,0,18,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,11,0,14,0,15,7,0,16,12,0,17,0,18,1,0,14,106,97,118,97,47,117,116,105,108,47,76,105,115,116,1,0,4,115,105,122,101,1,0,3,40,41,73,11,0,14,0,20,12,0,21,0,22,1,0,6,115,116,114,101,97,109,1,0,27,40,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,18,0,0,0,24,12,0,25,0,26,1,0,4,116,101,115,116,1,0,76,40,76,73,108,121,97,80,111,116,101,109,105,110,79,112,112,111,110,101,110,116,70,105,101,108,100,68,105,115,116,114,105,98,117,116,105,111,110,77,101,116,114,105,99,59,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,80,114,101,100,105,99,97,116,101,59,11,0,28,0,29,7,0,30,12,0,31,0,32,1,0,23,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,1,0,6,102,105,108,116,101,114,1,0,57,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,80,114,101,100,105,99,97,116,101,59,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,11,0,28,0,34,12,0,35,0,36,1,0,5,99,111,117,110,116,1,0,3,40,41,74,10,0,38,0,39,7,0,40,12,0,41,0,42,1,0,16,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,1,0,7,118,97,108,117,101,79,102,1,0,21,40,68,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,10,0,8,0,44,12,0,45,0,46,1,0,8,100,111,85,112,100,97,116,101,1,0,36,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,9,0,48,0,49,7,0,50,12,0,51,0,12,1,0,22,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,1,0,12,111,112,112,111,110,101,110,116,77,111,118,101,1,0,4,78,65,77,69,1,0,18,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,13,67,111,110,115,116,97,110,116,86,97,108,117,101,8,0,56,1,0,34,111,112,112,111,110,101,110,116,95,102,105,101,108,100,95,100,105,115,116,114,105,98,117,116,105,111,110,95,109,101,116,114,105,99,1,0,22,40,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,73,41,86,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,44,76,73,108,121,97,80,111,116,101,109,105,110,79,112,112,111,110,101,110,116,70,105,101,108,100,68,105,115,116,114,105,98,117,116,105,111,110,77,101,116,114,105,99,59,1,0,5,102,105,101,108,100,1,0,5,100,101,112,116,104,1,0,1,73,1,0,10,114,101,99,111,114,100,76,105,115,116,1,0,16,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,1,0,3,97,108,108,1,0,1,74,1,0,7,102,105,101,108,100,101,100,1,0,22,76,111,99,97,108,86,97,114,105,97,98,108,101,84,121,112,101,84,97,98,108,101,1,0,42,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,1,0,9,83,105,103,110,97,116,117,114,101,1,0,62,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,1,0,36,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,1,0,17,108,97,109,98,100,97,36,100,111,85,112,100,97,116,101,36,48,1,0,27,40,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,41,90,1,0,6,114,101,99,111,114,100,1,0,24,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,1,0,13,83,116,97,99,107,77,97,112,84,97,98,108,101,1,0,47,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99,60,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,62,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,12,77,101,116,114,105,99,115,46,106,97,118,97,1,0,16,66,111,111,116,115,116,114,97,112,77,101,116,104,111,100,115,15,6,0,86,10,0,87,0,88,7,0,89,12,0,90,0,91,1,0,34,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,76,97,109,98,100,97,77,101,116,97,102,97,99,116,111,114,121,1,0,11,109,101,116,97,102,97,99,116,111,114,121,1,0,-52,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,16,0,93,1,0,21,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,90,15,7,0,95,10,0,8,0,96,12,0,76,0,77,16,0,77,1,0,12,73,110,110,101,114,67,108,97,115,115,101,115,7,0,100,1,0,37,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,7,0,102,1,0,30,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,1,0,6,76,111,111,107,117,112,0,32,0,8,0,2,0,0,0,2,0,25,0,52,0,53,0,1,0,54,0,0,0,2,0,55,0,2,0,11,0,12,0,0,0,4,0,1,0,5,0,57,0,1,0,58,0,0,0,81,0,2,0,3,0,0,0,11,42,28,-73,0,1,42,43,-75,0,7,-79,0,0,0,2,0,59,0,0,0,14,0,3,0,0,0,42,0,5,0,43,0,10,0,44,0,60,0,0,0,32,0,3,0,0,0,11,0,61,0,62,0,0,0,0,0,11,0,63,0,12,0,1,0,0,0,11,0,64,0,65,0,2,0,4,0,45,0,46,0,2,0,58,0,0,0,-108,0,4,0,6,0,0,0,42,43,-71,0,13,1,0,-123,65,43,-71,0,19,1,0,42,-70,0,23,0,0,-71,0,27,2,0,-71,0,33,1,0,55,4,22,4,-118,32,-118,111,-72,0,37,-80,0,0,0,3,0,59,0,0,0,22,0,5,0,0,0,48,0,8,0,49,0,20,0,50,0,25,0,51,0,32,0,52,0,60,0,0,0,42,0,4,0,0,0,42,0,61,0,62,0,0,0,0,0,42,0,66,0,67,0,1,0,8,0,34,0,68,0,69,0,2,0,32,0,10,0,70,0,69,0,4,0,71,0,0,0,12,0,1,0,0,0,42,0,66,0,72,0,1,0,73,0,0,0,2,0,74,16,68,0,45,0,75,0,1,0,58,0,0,0,48,0,2,0,2,0,0,0,6,42,43,-74,0,43,-80,0,0,0,2,0,59,0,0,0,6,0,1,0,0,0,37,0,60,0,0,0,12,0,1,0,0,0,6,0,61,0,62,0,0,16,2,0,76,0,77,0,1,0,58,0,0,0,80,0,2,0,2,0,0,0,17,43,-76,0,47,42,-76,0,7,-90,0,7,4,-89,0,4,3,-84,0,0,0,3,0,59,0,0,0,6,0,1,0,0,0,50,0,60,0,0,0,22,0,2,0,0,0,17,0,61,0,62,0,0,0,0,0,17,0,78,0,79,0,1,0,80,0,0,0,5,0,2,15,64,1,0,4,0,73,0,0,0,2,0,81,0,82,0,0,0,2,0,83,0,84,0,0,0,12,0,1,0,85,0,3,0,92,0,94,0,97,0,98,0,0,0,10,0,1,0,99,0,101,0,103,0,25};
-    }
-    public static class Implementation18 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,80,97,121,111,102,102,83,117,109,77,101,116,114,105,99})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,103,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,25,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99,1,0,6,60,105,110,105,116,62,1,0,4,40,73,41,86,11,0,8,0,9,7,0,10,12,0,11,0,12,1,0,14,106,97,118,97,47,117,116,105,108,47,76,105,115,116,1,0,6,115,116,114,101,97,109,1,0,27,40,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,18,0,0,0,14,12,0,15,0,16,1,0,5,97,112,112,108,121,1,0,31,40,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,11,0,18,0,19,7,0,20,12,0,21,0,22,1,0,23,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,1,0,3,109,97,112,1,0,56,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,70,117,110,99,116,105,111,110,59,41,76,106,97,118,97,47,117,116,105,108,47,115,116,114,101,97,109,47,83,116,114,101,97,109,59,18,0,1,0,24,12,0,15,0,25,1,0,37,40,41,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,66,105,110,97,114,121,79,112,101,114,97,116,111,114,59,11,0,18,0,27,12,0,28,0,29,1,0,6,114,101,100,117,99,101,1,0,57,40,76,106,97,118,97,47,117,116,105,108,47,102,117,110,99,116,105,111,110,47,66,105,110,97,114,121,79,112,101,114,97,116,111,114,59,41,76,106,97,118,97,47,117,116,105,108,47,79,112,116,105,111,110,97,108,59,10,0,31,0,32,7,0,33,12,0,34,0,35,1,0,16,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,1,0,7,118,97,108,117,101,79,102,1,0,21,40,68,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,10,0,37,0,38,7,0,39,12,0,40,0,41,1,0,18,106,97,118,97,47,117,116,105,108,47,79,112,116,105,111,110,97,108,1,0,6,111,114,69,108,115,101,1,0,38,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,10,0,43,0,44,7,0,45,12,0,46,0,47,1,0,26,73,108,121,97,80,111,116,101,109,105,110,80,97,121,111,102,102,83,117,109,77,101,116,114,105,99,1,0,8,100,111,85,112,100,97,116,101,1,0,36,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,1,0,4,78,65,77,69,1,0,18,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,1,0,13,67,111,110,115,116,97,110,116,86,97,108,117,101,8,0,52,1,0,17,112,97,121,111,102,102,95,115,117,109,95,109,101,116,114,105,99,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,28,76,73,108,121,97,80,111,116,101,109,105,110,80,97,121,111,102,102,83,117,109,77,101,116,114,105,99,59,1,0,5,100,101,112,116,104,1,0,1,73,1,0,10,114,101,99,111,114,100,76,105,115,116,1,0,16,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,1,0,22,76,111,99,97,108,86,97,114,105,97,98,108,101,84,121,112,101,84,97,98,108,101,1,0,42,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,1,0,9,83,105,103,110,97,116,117,114,101,1,0,62,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,62,59,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,1,0,36,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,1,0,47,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,77,101,116,114,105,99,60,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,62,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,12,77,101,116,114,105,99,115,46,106,97,118,97,1,0,16,66,111,111,116,115,116,114,97,112,77,101,116,104,111,100,115,15,6,0,72,10,0,73,0,74,7,0,75,12,0,76,0,77,1,0,34,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,76,97,109,98,100,97,77,101,116,97,102,97,99,116,111,114,121,1,0,11,109,101,116,97,102,97,99,116,111,114,121,1,0,-52,40,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,59,76,106,97,118,97,47,108,97,110,103,47,83,116,114,105,110,103,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,59,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,84,121,112,101,59,41,76,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,67,97,108,108,83,105,116,101,59,16,0,41,15,5,0,80,10,0,81,0,82,7,0,83,12,0,84,0,85,1,0,22,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,1,0,23,103,101,116,67,111,109,112,117,116,101,100,80,108,97,121,101,114,80,97,121,111,102,102,1,0,3,40,41,68,16,0,87,1,0,44,40,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,16,0,89,1,0,56,40,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,15,6,0,91,10,0,31,0,92,12,0,93,0,94,1,0,3,115,117,109,1,0,5,40,68,68,41,68,16,0,96,1,0,56,40,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,41,76,106,97,118,97,47,108,97,110,103,47,68,111,117,98,108,101,59,1,0,12,73,110,110,101,114,67,108,97,115,115,101,115,7,0,99,1,0,37,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,36,76,111,111,107,117,112,7,0,101,1,0,30,106,97,118,97,47,108,97,110,103,47,105,110,118,111,107,101,47,77,101,116,104,111,100,72,97,110,100,108,101,115,1,0,6,76,111,111,107,117,112,0,32,0,43,0,2,0,0,0,1,0,25,0,48,0,49,0,1,0,50,0,0,0,2,0,51,0,3,0,1,0,5,0,6,0,1,0,53,0,0,0,62,0,2,0,2,0,0,0,6,42,27,-73,0,1,-79,0,0,0,2,0,54,0,0,0,10,0,2,0,0,0,8,0,5,0,9,0,55,0,0,0,22,0,2,0,0,0,6,0,56,0,57,0,0,0,0,0,6,0,58,0,59,0,1,0,4,0,46,0,47,0,2,0,53,0,0,0,123,0,3,0,2,0,0,0,37,43,-71,0,7,1,0,-70,0,13,0,0,-71,0,17,2,0,-70,0,23,0,0,-71,0,26,2,0,14,-72,0,30,-74,0,36,-64,0,31,-80,0,0,0,3,0,54,0,0,0,22,0,5,0,0,0,13,0,11,0,14,0,21,0,15,0,27,0,16,0,36,0,13,0,55,0,0,0,22,0,2,0,0,0,37,0,56,0,57,0,0,0,0,0,37,0,60,0,61,0,1,0,62,0,0,0,12,0,1,0,0,0,37,0,60,0,63,0,1,0,64,0,0,0,2,0,65,16,68,0,46,0,66,0,1,0,53,0,0,0,48,0,2,0,2,0,0,0,6,42,43,-74,0,42,-80,0,0,0,2,0,54,0,0,0,6,0,1,0,0,0,4,0,55,0,0,0,12,0,1,0,0,0,6,0,56,0,57,0,0,0,4,0,64,0,0,0,2,0,67,0,68,0,0,0,2,0,69,0,70,0,0,0,22,0,2,0,71,0,3,0,78,0,79,0,86,0,71,0,3,0,88,0,90,0,95,0,97,0,0,0,10,0,1,0,98,0,100,0,102,0,25};
-    }
-    public static class Implementation19 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,82,97,110,100,111,109,83,116,114,97,116,101,103,121})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,65,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,27,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,1,0,6,60,105,110,105,116,62,1,0,4,40,73,41,86,7,0,8,1,0,16,106,97,118,97,47,117,116,105,108,47,82,97,110,100,111,109,10,0,7,0,10,12,0,5,0,11,1,0,3,40,41,86,9,0,13,0,14,7,0,15,12,0,16,0,17,1,0,25,73,108,121,97,80,111,116,101,109,105,110,82,97,110,100,111,109,83,116,114,97,116,101,103,121,1,0,12,114,97,110,100,111,109,69,110,103,105,110,101,1,0,18,76,106,97,118,97,47,117,116,105,108,47,82,97,110,100,111,109,59,10,0,2,0,19,12,0,5,0,20,1,0,32,40,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,59,41,86,10,0,7,0,22,12,0,23,0,24,1,0,7,110,101,120,116,73,110,116,1,0,4,40,73,41,73,10,0,26,0,27,7,0,28,12,0,29,0,30,1,0,16,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,1,0,7,111,102,86,97,108,117,101,1,0,21,40,73,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,11,0,32,0,33,7,0,34,12,0,35,0,36,1,0,14,106,97,118,97,47,117,116,105,108,47,76,105,115,116,1,0,4,115,105,122,101,1,0,3,40,41,73,11,0,32,0,38,12,0,39,0,40,1,0,3,103,101,116,1,0,21,40,73,41,76,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,59,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,27,76,73,108,121,97,80,111,116,101,109,105,110,82,97,110,100,111,109,83,116,114,97,116,101,103,121,59,1,0,11,109,101,116,114,105,99,68,101,112,116,104,1,0,1,73,1,0,6,112,97,114,101,110,116,1,0,29,76,73,108,121,97,80,111,116,101,109,105,110,65,98,115,116,114,97,99,116,83,116,114,97,116,101,103,121,59,1,0,4,109,111,118,101,1,0,58,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,7,104,105,115,116,111,114,121,1,0,20,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,1,0,16,111,112,112,111,110,101,110,116,76,97,115,116,77,111,118,101,1,0,18,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,36,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,8,102,114,111,109,76,105,115,116,1,0,16,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,59,1,0,22,76,111,99,97,108,86,97,114,105,97,98,108,101,84,121,112,101,84,97,98,108,101,1,0,36,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,62,59,1,0,9,83,105,103,110,97,116,117,114,101,1,0,56,40,76,106,97,118,97,47,117,116,105,108,47,76,105,115,116,60,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,62,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,15,83,116,114,97,116,101,103,105,101,115,46,106,97,118,97,0,32,0,13,0,2,0,0,0,1,0,2,0,16,0,17,0,0,0,4,0,1,0,5,0,6,0,1,0,41,0,0,0,77,0,3,0,2,0,0,0,17,42,27,-73,0,1,42,-69,0,7,89,-73,0,9,-75,0,12,-79,0,0,0,2,0,42,0,0,0,14,0,3,0,0,0,102,0,5,0,99,0,16,0,103,0,43,0,0,0,22,0,2,0,0,0,17,0,44,0,45,0,0,0,0,0,17,0,46,0,47,0,1,0,1,0,5,0,20,0,1,0,41,0,0,0,77,0,3,0,2,0,0,0,17,42,43,-73,0,18,42,-69,0,7,89,-73,0,9,-75,0,12,-79,0,0,0,2,0,42,0,0,0,14,0,3,0,0,0,106,0,5,0,99,0,16,0,107,0,43,0,0,0,22,0,2,0,0,0,17,0,44,0,45,0,0,0,0,0,17,0,48,0,49,0,1,0,1,0,50,0,51,0,1,0,41,0,0,0,76,0,2,0,3,0,0,0,14,42,-76,0,12,6,-74,0,21,4,96,-72,0,25,-80,0,0,0,2,0,42,0,0,0,6,0,1,0,0,0,111,0,43,0,0,0,32,0,3,0,0,0,14,0,44,0,45,0,0,0,0,0,14,0,52,0,53,0,1,0,0,0,14,0,54,0,55,0,2,0,1,0,50,0,56,0,2,0,41,0,0,0,93,0,3,0,2,0,0,0,23,43,42,-76,0,12,43,-71,0,31,1,0,-74,0,21,-71,0,37,2,0,-64,0,26,-80,0,0,0,3,0,42,0,0,0,6,0,1,0,0,0,115,0,43,0,0,0,22,0,2,0,0,0,23,0,44,0,45,0,0,0,0,0,23,0,57,0,58,0,1,0,59,0,0,0,12,0,1,0,0,0,23,0,57,0,60,0,1,0,61,0,0,0,2,0,62,0,1,0,63,0,0,0,2,0,64};
-    }
-    public static class Implementation20 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,30,10,0,2,0,3,7,0,4,12,0,5,0,6,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,6,60,105,110,105,116,62,1,0,3,40,41,86,9,0,8,0,9,7,0,10,12,0,11,0,12,1,0,22,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,1,0,20,99,111,109,112,117,116,101,100,80,108,97,121,101,114,80,97,121,111,102,102,1,0,1,68,1,0,5,114,111,117,110,100,1,0,1,73,1,0,10,112,108,97,121,101,114,77,111,118,101,1,0,18,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,12,111,112,112,111,110,101,110,116,77,111,118,101,1,0,8,105,115,66,97,116,116,108,101,1,0,1,90,1,0,22,99,111,109,112,117,116,101,100,79,112,112,111,110,101,110,116,80,97,121,111,102,102,1,0,4,67,111,100,101,1,0,15,76,105,110,101,78,117,109,98,101,114,84,97,98,108,101,1,0,18,76,111,99,97,108,86,97,114,105,97,98,108,101,84,97,98,108,101,1,0,4,116,104,105,115,1,0,24,76,73,108,121,97,80,111,116,101,109,105,110,82,111,117,110,100,82,101,99,111,114,100,59,1,0,23,103,101,116,67,111,109,112,117,116,101,100,80,108,97,121,101,114,80,97,121,111,102,102,1,0,3,40,41,68,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,23,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,46,106,97,118,97,0,32,0,8,0,2,0,0,0,6,0,0,0,13,0,14,0,0,0,0,0,15,0,16,0,0,0,0,0,17,0,16,0,0,0,0,0,18,0,19,0,0,0,0,0,11,0,12,0,0,0,0,0,20,0,12,0,0,0,2,0,0,0,5,0,6,0,1,0,21,0,0,0,47,0,1,0,1,0,0,0,5,42,-73,0,1,-79,0,0,0,2,0,22,0,0,0,6,0,1,0,0,0,8,0,23,0,0,0,12,0,1,0,0,0,5,0,24,0,25,0,0,0,1,0,26,0,27,0,1,0,21,0,0,0,47,0,2,0,1,0,0,0,5,42,-76,0,7,-81,0,0,0,2,0,22,0,0,0,6,0,1,0,0,0,17,0,23,0,0,0,12,0,1,0,0,0,5,0,24,0,25,0,0,0,1,0,28,0,0,0,2,0,29};
-    }
-    public static class Implementation21 {
-        @SuppressWarnings("unused") @CompressedClassName({73,108,121,97,80,111,116,101,109,105,110,83,116,114,97,116,101,103,121})
-        public static final byte[] b = {-54,-2,-70,-66,0,0,0,57,0,9,7,0,2,1,0,19,73,108,121,97,80,111,116,101,109,105,110,83,116,114,97,116,101,103,121,7,0,4,1,0,16,106,97,118,97,47,108,97,110,103,47,79,98,106,101,99,116,1,0,4,109,111,118,101,1,0,58,40,76,73,108,121,97,80,111,116,101,109,105,110,72,105,115,116,111,114,121,59,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,41,76,73,108,121,97,80,111,116,101,109,105,110,70,105,101,108,100,59,1,0,10,83,111,117,114,99,101,70,105,108,101,1,0,24,73,108,121,97,80,111,116,101,109,105,110,83,116,114,97,116,101,103,121,46,106,97,118,97,6,0,0,1,0,3,0,0,0,0,0,1,4,1,0,5,0,6,0,0,0,1,0,7,0,0,0,2,0,8};
-    }
- //@formatter:on
+    static final String[] DATA = {
+        "eNrsvQd8FOeZP/7M7uzO7mqEhNCCKhJdrAQC0UUVkgBhFSyJImQDi7SgNZJW1koYHJfYxrHjJE7iOI7BseNgO6TgmCYhwMZOs9Mul7skl2tpl8vlcql3yV18Pmz+3+d9Z2aLZoWwc5//55fPGWunvb085X3a19+6eJmIVlCRjxzk1EjVyUVuhdJv6TxQfsu+/vLag6HeAYXcq8K94YE1CjlL5m7TyKNQTl334eCWyECoJ9xbE+oIR8ORXiOxJzrQHxwI7T+sUFb9LcGDwfLuYO/+8paB/nDv/pUK5TYP9g6Ee0LbkGlvd6iqtzcyEBxA/qhCGfVmzfXBvaFupHYdDHYPhlBqi1Wqe29/sLejCzfrjRvXvnCouxPXDfKqVkc6Q1xauDfUONizN9TfGkRVCvlaIoP9HaENYX5IEw2Ozuc2KjTBqrox2BNCzUUdkZ75+OsL9h6eb9NdhSaabSqOvcuyiqnmT5H+wyjK1xCJREPFG1EwWr2lO3g41K+Q30paE4p29If7eBCQep7sVnFkX7E5lGXFt3WF8aoT9XSGOov7RBHFPZGDISomDbNH5MSfl3yEjuEuDVcdf+lRmoDHDLsPmXicaPchCxfipYDrJNwV4ireBM6Tcho3CmXj1y1eLkbtflwdNFmUU0YqTZHl5JgF5lIe37STI0r5USoQJeL91K+bS3AkaQlmxlZO095bQh3Jq9BLHvJq5NNRp65QftwEVe3lYesYiK2YtJ4QVl9HTahvAKtFqdNogkJ5sRqMFVl7qCMkJsFDmehhS1dksLuzGMuzeG+ouCPY3R3q9FE6ZXETJ2H+SkYv77nbfBiMyRpN0dH7XKyRuIY1B3s7Iz3oSEd/CC3jEubWj/q+0oeu5XMdBQpNKamzSSG7P1WnIipGcf1GuZNskmo0PXG3Noih2IDxwdr00TRy8s8snWbTHCzf28IDXfXB2w/X8r4T21KhwpKdCe1MKGKll+ZSQKNSHTM/D9t7VMLm0P4wZgTz4Kmp3VC1tb61RSFHex3XW67TAlqI3cf1yoSh/hC2cFFJXXvdmLV6aJGOxbcEC6kn/hNmNnU2HttlOi0XUC7cywtLJohygZU6raRVWHwNta3NddW76xo311a3NjW3CMjEcz04EO4ubwj2reTlukantbQO3dofGqjuDkYBwCZhRmOLQrxcmYUFvl6naqoBhAr29XUf5u7NjStw32BvBw91+QbjZmUabaCNGm3SqY42M0COrxytYbg0OBCq24fFLqBudfxilDtm5Zg1zB2dXqN6u/mrE8MU6U+jG6hRpybagjUnx06hcrt6Uw4/b49p1KxTC7ViH0dDKKHEZhuNLsHIuk2n7bQDWfdz1jl2O9AmL+fcyTnbFZpcYressJ5upl0a7dZpDwEbZMWlqMde7e3ApGm1jVXr62sxjcpOH3VQp0YhnfbR/gRw1XIYaxi70dMb7I20hhnkA2Bt1iisUMGoirf2daJ4gYl81MWbsYu6derhBeraiw3Ry42P6NRHt2LYB0VyhgvxfdiEbWMObxdFdRqgQQDzqABg1ZGenvCAaMTONLqNDml0WKfb6V2JvTTKwNri1TzY348WNUcGeztFzjovCr5Tp7sY2Lr6+T1X9W6d7uGWujtEJTyI9+l0hO7HkjX20NYtNVWttQAi9aOHVNS5vz/IMO8BelCj9+r0EL0vEZwnp2WAF+qI9DOeL9nM9MgHFJodW+odkd4O2fzyaut2UzDahZ3jo/czkvkQNmpcDTFE4W0J7+8NDgz2Y4hbE3f8quR9vSqwxmadmptl1ehtsQb/xqBNVCzMbQoVJ8xsMi5byUm82DeyNuz7Va2VNlWNa0+tam1Fk7hEnvOayCDaYZa7cnxbK76bsgDRSe/+WAsXpmih3TaULcLikevcAM14bhkIdhzALBhj5VnV0W0QAwkkXY7NrBr0Xeb6SGSAB7MPpXZFOqMZbnrWR8/RpzQ6odOn6TMKTY81M9x7MHIgBDK0Z29nEDmC+0zswsRE7Omb8eNkZJIVbAIC7g5FZ9ZHIgcG+1baTEiKjK2H+0Jv76Oscuy8c0d/rQZp0xIeCK3MpM9hK9lAdBtkgeF7njHC53V6gU5hSvZF+g0kOL9kFA6cm3qnoFZk1+t6e0OygFBUo3MKzRrXuGo0rNDUsZMCYsjEajGQvAOk5wdBo+Yxrsf9hwXt+oiggHUiQdEuEVdQV/hlTC9J4Y+Ib05B9WYzKRzI9A2RdonS27IyztPElwVl/Ch+Jwhq3I9amL6ejKuLPmqUMAvfmF73BvJHKPs85Z22svnEhzym/0SWAiPLLjxxgYFYpYGyISoMXKJpbedphjpMM/PPUMkwzR+iisAwLY2VOR2lEToimzINnMB0UKYz0LmZaMosEG+zRV2PGXVtRxu4FXPi6io9RxVcMK6a8VzI1SdUNBV8CFGJUdFcMBEBdKUU1ZWhinkodLk1imuNUSw6QytQyuqLVEV0gWqd9ArdEAigugvU4KTTSQO6AIzEQlRUgUo+Rq0okgubjW/81cf5SsuG6cbkEV0CxmipMdGPI+9R2mHknWb01ivyDtPWU1ZWyd2sMLIdQ7YnqN0uW/4wtSVnW21k+ziyPUm3Gt1+EuPswrXxDN10lLwjtPcEqd6qS9SFWbylUs3FRB4wWtLLD/1HaVKuWnqBDio0RHfwq7tF3gln6F5kLw4N03tOi5q47gD6SxjKCbQeLFg11k8NZrkWE7CBltFGLPc6fNlMDVRPTyFlOtitdeqbNF/VqCsTC+UT1gzNEP3DnrhE70fjHj5LK04n9TEDo/60qPuTdBxX5vWewbvP0knM3Bkx+gqdRcPPU67F6NWCWwWJHgcOtoWALQSrIaC7j5ejRm6dxEnDtRlBxeICXQMSPTjaa9zrZor2ow2ZNFFjpm0SZYPRiBXXEGRu0Bk61MfIt2ZujUvmcLzG7c7RmWvFl/39kdtQNPBVew1/KNDBvU4F8xY6BCQQa3xVD6iiAUmU1HCtxTrWCbgvZ0/wkCigbm4dv5+pY9uJ90zczaESjebqmLtSs7OC5Kjq7w8ejgrSqu9w0z5QnyXtNWYbXNzr+TqV0wKkaNlU1cxUaUF96lEFcV8BgtmGI6iP9O5vjUjkbXIHTBo21rXWVdXvbmWSd3dL3c5a5pyBikFURQeCvQPb+GCG9x04oIyWqtatzVWtdU2Nu1taa7fgteNVDHZD1Y64Avjta2NQQOmCOaqKyrYkY32NZ1hHpzYMdndbNBMGJDU5kNES7hnsFoMgqACAQeTB30JswxwePTQ/hxYBqisC5jsAJnKwVWLPy/G8Iu65EhtI4gk3/rBC8WWlgHsOsSl0gE1nwPki4KRXbphVJhhSNFKVCciB5WPkCqAU3mdZ2ZQ+9aERyjiQIS4dkResvGKzKRPxu9rK14deqAzYACy8jUXeR5+gzKJ5l+9/9OPkmVf04MIXxCt/UTb58So9UPTgME0R70co/wXRkVUC06ATymRyKVNokpJDOUoezVbysagKaY04TnJcoRyN1k7haQZgkbUXG331BCY6XkXBp5LaitVtnPhw6gtoKY9VK7e1Ib/s8nFylZ3KXFd2eYSK1hTmP0O+QvXQmhNX/1g40fHaCM1YU1Y4QrMr1bLLS11+V+Fxys5V/bi7H21vPuJSTlz9VSBXxfjmqqesriwFMCOlDF2ZR2nKfEpXFpBfWYgdXEHTlMU0V1mCbi2lSmUZ1eJ6g7KCblQqRTenkOsKpaObV0hT0t6kLNwqbwBtezDZ5gTHAUQFALHsLM07ndRv3pTVokU1Fri78Z2da8XDyepgRxfoxhi34ukMdYf2y5OkehvKVxySTNABqDOZJA/2hLChOHVxfOqN5vvYZgGwyLI/4+U2AEJPpGzuj9/gWrge88DL1cFJkg5hErKvTAN5U6BRoY71XATqbezGKDQRmz4GzloGQn2y3s3ckGk6VtsMDN6BEIYkp2Tz5s3xNYsT4ZUyqXnIJQ8P/IDTo1OmJZ5m2bOJKh+8KlRpy4Tb1D76FTfHPPty9g0O8LmEXbu38eGRec41pSd4IMQ8bXBge3igywTEUXH6Yzf/qadgrt3J/Iprl2K3WATbmhqoJwFx1JOZ3E/jCE0unILEQ9HEdiPlQEQ2WKHsEttuJKCArIT8Y/CCwKu1tEGjjTzYmxSaOYqnkBXI8bfOGh//3+f/jOTtY7Nlybych88NZybBjBITYqxWyorFRl2tzB3FfDWMn/lqGj/zRSbzNRc0YpaBRLMYOIkrgAeuqpA7LEWqZbirNtBcvuBFSg22Jx1sz8S2wvM0aYgmSxi8HL+TBWl9HzIcAeK6H0Twe4CDHsBX7GSjwA8CYzMuqgcuSndeoDwH8Z1q3bnEXdkIFa/H4+RpYKwqXbmu1ygPj1pp2QUqcVKlS3zLdYHfynWdMugEk9V6HzryfrBX7wPK+ABqfhjsygfB8XwIxPcjwAiMVpU3qQ40dyUeVgGty8bFpCwo/ZTVL0lsM3u2BqXIpLMNDDyBW8XJL6ISSs5zDAO9TrSuCoiMBCqrxl8d2HZJnNdTI22JI843vDNs5U/e2Aa+yT6YRCUznYmFUD9OcjQBkZnCviw7qOqxCP2JUTuksVm2ebIOpJ8DAvVgUgplM3/O0xlDofsHR1H3Sk0aYy3Nou7HT1Ink7eCUWD4LhiC2WPB95KS0Z3dXGML/dbYJB33OI8Jye3QMJ9sA0smfDGHCt9qbI7umIKXM5hdYoMZMQzh3o7+UE+od1RtUzpDKb5cJ1YYtVDHQAwrfNinoIhW8Syt/nNADGuB6mPbs0TsJ0YIiZsh8Y2cVDtssX782KLmurEFYwSHgSMcvGfFFZtTXCUOYbDmAh+NbSLgqTwNkgd0ZeK4inGGb5gmSmQx10IWS1H6MoDj5UAWKwA2KvEVfLhRUqEBZBke+5+3spoHPCZeSU6a+0JS0iohRc82kjYYZ3kFYNE+DkZ+XaBoiPx85qUVXaBCJw1RrjzRibWzFiVtQD83gcmpQ+8303wh8Fe468zFmq2IIZD0U0mtaBBsr9tIOgfl8ts0rtjvCyYMjjw0uxHXZrypSJUpZJNpK67b8Eay1CWCxZWZsrhRnI+H6CJwIyW3cCd6ZDLhy4x5XS7Q3joDXVUBfdXGoaugOEuKFxbV3joY7g7v7Q8P9rydwyQP+cBDhFHe/D5Z4PxQrEQflhvYRBMR2cj80rBdtvRH+kL9A4eTTtItGcqoV4LZKrDvREuk+2Co32C4/DQZKz3Kr1hOlChASe45is1JbKOozQeaKF+zDrEmie+94Uj5PgDG8i3Bga6oySDZiYDaU/YooQxUXoyBTPzQ1BfqbRL6FT5m2TQL7yU1gkE0GjGhN3RbXS94I9QTYrHfhhK7mtrrU9Vitgxf4spZyQupRGc2D7gOb4CIFpfYphx7fH28/zV5CucxO5FYAnPD3ZEouJ6FZgIxcq1d/ZHb5PJcENNiCHZ2tgz29fWHAFc7mZWtt8mxkgWey+Kra7LUVjRaoVBRLFNdNxP73QLKW4mY4FipA0xmpiY4fNh3a3jLAFMESsZEUPEN8zGdqVG1TjVUi509xujNrAntCw52D2yKdHeyLpTaHQl2SrWIscbcixrAoG2iOgytOFhMEiyPyjFuzjT1KWJmXKEGneBpDEXR9uiAPcnQ4qNW2qqxtsIq2v7nQDK0gdDd2svjVDwQKeZdUxwHGIvFuXvxvv5IT7GSRCBgnBPmWqObx08w7L4ugqFKMIsKIBwWiECQDuOEdnOSEptT4q0bLNxzHPgFi9ZI+keD72zJ8o5Q2g2B18ibWTJCk04FnC/RlBHKxaVohKbVl47QnIbSV8EZDlNp2Sm+zeTbE+RtLJs3TBVlL9dfouVtgYvM65Wep9Uvo+BigD3G2ouxzVbimgk6ohpIrxy/fHWIhklhzqfQwBO4+zRSfRY5P4e8J5H+c0j9WaQ+iWY/Dz6OwOG5r1CmRlPe5MO1Mo2Uq+iOAy/wxIfPC66CYHLKZ42JBvy4OA1upvDPUoxVgzVeRWJgiLQRWneWNiSP2DPoSKPA1k1gIUkQQDcaWJvJhh3A58zXOwT9044u3ES7aE8c9r5XYO8xThmvC3X7UEOaRjpQNGv3jZbzJElh4mRCE+NAZu8ASF4ApPSu8P4ubPKm3tD68IA8b6zjA16TdVQPhFg842jfzG9NjtEt1FXF+/X83tTR8/WH9oX6Q70dDNkd7Tv523QdVBDy+IAjOg7weo7ya/OUUmMtj2D0AItdpGQq4+pV7qV5NsnyI+7R5s18vIkFBTSjg1xblPKEbZvUpWV9HsaCS3SmtKQ+SdO+fUIbi5lS0c8VOrM9yNcVHqg2eF/R1dU6H0SgqxvqautrWoCK2kdzcZywSseaZGWQnnA0KorgSmt0bLNlrCYcGqjr7Qwd4pcWTOcjVKHeVGd7GsrF3qBjubOOSOhgWHCtRtHlUjkNvdci/Z3h3mC366llhy/cvfkOP+O8Fp1h8lhMdg4qxViOhpZc9nae4B1CZbPdjmlVt1e1tdhJx1TWKmqt3bJ7fV1ri2BMzBcNVS03WGo/KbHUNc61R6OxsU63r3HYLAnY6mBfsCPMBCw/bbKmX/L6LIFrMCcUKw2PtfETMR5ePBWmHfdh7aCPDtJtGh3iST3854Bg3wVeJ6H3JR3GNDAfjj0Y5SvvpJC4Mxd/1I4lv2v8GPbd14VhFYEWWdLTJhjunQLwt+P5prjnm4GBdwGzmc8leOazS0YHkoXPMlj4LEPHJoshobgC9Bly1pXiut641otrupC57kbJe3B3q8Hqr2aMruWPkFftHKEMV5fWvTpQoHW9mMacNd94wFSLG5XVVgr4eVqgQO0copkSrwWt49tCdHEq8EIRGsSIehp47engS2eAlJuJFHupw6j+QWBCL1c/NZtAHQSWaZO1zOzDxfLpHuNxshr37Dqc636NNOcJ8uS6h2n+/fc8L3oXFH1XBdb3UinGqAyjNo86pa7JVdTvUlVVo3KVFPUqY0bz0aEyNg7RPqNVxw0dk7ZA0TAtXlO4VPWrhdqe47SWGW+/uugolTMb7lfLix49RjNwX+hX1dZA2zla7gsO0fIztMpIqnZWnDqiKieuvsxf1/HXdcopq8WzRfcXYxiWgEFdiplbBki5HKh9BW3Euwamfmm16AUojzfJqyir3xCt209dRnv/iGdWHPogt7eaW6t1sdx3qdvv9ru44SWiNW40PEM03C0argf87iKQWBtOH3Gjhd/Dp2lo8lK36JDL796DDLnWg7PV71b3uO9a6j5x9ccyrXzxYdHzzdy3zQGRVJZq9XINuH0+xNGwFtNBceWB4loAHLacNqCf1VjXdUBem2kriKM9WKcHQBYdBiK6D2TRwyCJOsXcut+iiYqiTPW8wcJmjzIdpTOVKgehSqhgYfFxB/OLt3CP81nbp0Hd82EWnBfmO1tjK1UulVY0aSv5aRtWKmttAa0axZUba2BSUTZtCa+fNi2z+M77HkQxM+86aRUiD2x2YvbajSMXmbnY2FUeMSFaVyyHJPx24y9Mi4zUUw2qmofdfzk5bQf+bsGIyLTxp2TLn09Kuh9/3bZJ1yUnPYC/Htukm5OTRvDbK37luGji7RTRWG4FF8/5LoJmNQ6kYpmj2O59gqDdk0gPbztLq04nJdYxaLeKRdOPjJIOHsDf7XSHcXp1J91N98TRvw1JwpZcG71fU4nWInUteXuc2CVegN7SHQbts397uLczcpuZ2wvEYCpzK3WWMAVZfbeJhC3h20P8eqKOtaWz8ATFhKItYRCszaFoR7CXv4ojKFbC6ZKibmFPk8YgXaNcnQ+WTLpbiBrqw8wfq1GUbeqQeyyhv2nXlTUaUbIUx5Tq64ahg0G5+vnQa1QGboKgmmdI6kejEpA48bYw3PVmoTTuBZQK6ACxcXrsHpqnA8qXM/3J/VZoUYIQJS77ylTvmQHxWPS3u18MGtuD1CcOiJHQJL1dHd2hYL/JwaygSk0ezqy25WAkvc8czBgEY7wOuxvj1dq6UspumsGxg6MJdRp2UJ7OyFbDnGDm6GaOHubRsvyNtmxZeXJhq1IN2pqVsnXzricHqNSl9irl9Sk3kKlXnkBtTh6lkiwoTtWUPDgtCQNLIOQ1S1w1Aa7d4myaRQFSGdQfyGeRg5NFDk4WOeAnU4KJtdZR/jGhCeyjx1DkxyibnlBVXnrgE1R57I0rVj7ymJLbbOCdfKOqIgPWscx3krrnpFW4hEGfQ+JqoCcHJ1bmGkjldOkFPjheXXBMAL6CV4WmbAFokIBzmIpPlYIQukAzHfQKzTlHc9cwEtKeFsgWaT18OSXeqXueFlpcmVz7caor4OuzlFnqNLOfALtTqQbiS2QsVparvobxaGNR+54heZfJd5nciNJhWhAo5FFjEQG3SPR8rTjTYMHPKQz4aUzFGfT/HMZqCN0DaqIR2kEXAKEv0r10iR6gF+nDdJmeoJfpKdT8DH2RPk1fAlpkLOW9QrlKjQacfQVgYu46jeZcoen4fYN01RjrTfjD9pXDhzKdAs2uCYCOMoYwILo8QsvRCb5N71xTWHCccgKlhWZ/FXT3iBMUyS+s+Zd9keTlayjzq+jL1wCzvo55/gZq/Dpoib/AMvqWaCuwwps0VVHeoFyjXXX4k3ebxQEMqGELiZQnIZGxDSET0Qhn9XA+7zjMTry8FzRK12kCZSQiK2lqGFfLWAaJLMvI0miSjrXqt7eP1HpDhwbqes1TF18ihrE529Ai++IRhI1SVyFN1ahIB3EzbWwcxUln6KwbH+Ok62yBYWpDnnesHWYPkG2SxcP65WMCUZljjX0xSUqzciLDoaipNJtm6D6qQtLKsGa2WNAS7rkF3JOAbo5FWA4g5aBI7x2VvvQ8acnpDyHlYSEznGukZyUXp6Hk4gO3BIgxYirGzLFg3p0iTwBpZwsKTxpXTCnlTNi1BQpAReYFms6bc0py5ntACPB+KsPTPHE3/21rbopTyuz4Keg9EOrkifABfjmT9s+U+N3Gqt6W/V2aQV3JpZmZvA64HEGmTQJ1JAgYcezCZ5ZM2qWRXweqwccJTDp1h4DvRYI01rDSrIPKsfdAjnVwOdYeELbFKemsaZZ8T4/09UV6Q70DDWJjZNkdF06TMjmk9knjdk7Lr83TTk84uj44MMArlK0vp/GITqMFOi3kzkpSjhtuitOcwc7OJBtt8yAG2ZfRcs064hzzrJjLNI88tejgXjla2fwteWo0qkphUxm/TwPjp3XGADL+2/rDA6F60PVNCYPrL7E/2Esm3TbbAtLJolTD+nOLNQ8YIiwDrqyqw/DUMKlkdP+ZkBv1dszuJQCeKaNHLh4AMUXEmxvbB/frxW6tFiTZJMP7wCRLgZB3d43g3aWdUZ5QBrlEWtt58g6B/lGBmhk/Z0swVGsx1UuESkgGMHI2YIDCZthGWY8ZfDGfozAB5btAUzBBIHQKGbZMaygrHaIZZWXnaA7+ZnwK9BLIIdQRCFipjQodokJJEK7G+loDpLMWC3kd7qpAhhB2guMqIBLAT5pGdRpWuoKfq0yVxl45NMZmLJQx29iGIrmN86Rh2PyGMkFq7RS01hCVlyncRLRzDjep7AJVOGh7bAiEPQDuPOj2FBRagLZMA/lRBsKDlQUbWLVd2GGpAsrmcClO/GTnd47QUr65QKucBiNda4HZRmO6GvHUJO62WGD2gJACjVqL120FlCD9GcO8aLz2MixpydSZWLG3OvEy/aJZ4qD4GgGnOroSFNiT9aiEgEgUYcLjUUkWsK4hpzAhsVDgNyUxdQL2Otvb6ziJaVHkAnfXF+U3c3QgRTQrXQLTLcHDkX37xBfB/OJLhgmUjW8+fLPYYLCvDPbBPtYJOnEhVWgWZLUxUlL3hbu7OX27mX4ZJ14uXtXUMHKstJOzCbnW3VevXk1jAKvROp1VCN6ZSUANm5ht0LF8N43BREuhWTZt1rF96lFgsKNjUJQfMgYE0Il9UPA/7lK2FC8haZo0TuZKxajdqFMztQA7hKMGGDWljDW0lduBb2lCWLa7umlrY6udlMh5bUEQL8KNsSXAiFqhGSXX0s4fDfzR0mDnwWBvR0gYlYn+adQhfHIIpSENNckhZbvwLXErSLayRo5/U8ICSgLm2UmbwITk2QLKohraJuQJ2wU42BEnCWDrIb6WGJKCUuOaKDlgbzUa4J2UMQwaAElIAgJnyDtMGUM0iQHvJOdCPvzP54N/d/5XaJoDIDCQzwZas+VlbkBVmUmVcLDdOtiehEIzgW4mouJsQGg/CMfJ2CBTgCRyaBXYM4VuopuNJsQr3xWetIqSAJANeZnLl0nbDc6Sz+FnOCvyR8D/4k6tKDDuXBWF8m72BAlW5/I11j4Jp2cAQs1Ey2aBvZ0tBCfzMWhc0S6joj4DHSxxri5wH6diLrugIptWlhZcoNUOMNDVD6KiIw6wqz+xq84RV918jHc5qpqPShcCJVRggy8Sp8HCTMwBhnWaOCoNGrV3GKfQJc41haidJQ0zCisq1UBhrspmunXmTYPgl3+YXOFKVLgKqFhiyGl4ngMMmVDhTKGj2GJUaFnl5uXfq3ZmFt2RPA0bhGpFvUyu3I/y2TfSu3mVCJ3+3BXuXNdltXOpx7nU62fj3sLj1DHP752POdqy1Jermrdpua4y3Ps9I9S6MMe9f4XOw+f33rTQ7/OnOe696yh5cnTg/wkdzTyg4kua35f45YgX/T4W6/d84UBpM1p7A7GUexIwbhGw5lwAnsW0BRi1Gf1vAZ/UQHfTVjEWL5P7KpalV6NskAh7zf87nQp6fBVZdJsviuJkQqJTcTJJkSqFKlIgSc6fohDg8dFJDAUSY0rofixXPiXZ4GQRkBz/VfP8LjHobAUobt691F2GW3WP360e6lyq+fEvs+h2jO1SDR/8WpOwEvxCbGClbXo7BvUmQJmbQVntAumxG0RXO0YoGFtUTiwq1lcJJSwqp2HqPSO/omB+8qLqxO8+2m8kLzLWIJ/Qzc5f+EJSYpZ6ddkmnjs6cTd+w6IPt1jk0u63w5VOSsLYFlPqS2RKM5LcNkg4XxPq6A72hzoFcosKA6148XZ/aF836i2PGbbFHe9MSZFOIhkWntv7TNKYWp446oBWYwvD+KMn6UQi1Ck/c+X5OrsXQ6nhaMy13BYmaHoF3zbaNcXONMY9miVzGMUaj8VKcl5LY2cgIoaX7TXsFADa7VjouaAdUw8nC4PLNEmYIeWMeF5KJgwfDCX608ACEBr9Uc4r+OMKNK3LFOYLx1sTabEOLLYUpAGmITZOMVXYBN8dsTdBK2l5LNdK5pGX6yy+iAl2bFU/fCza0CzHWWP5CtMwZVLT2dbPGjqxnqo1qU60YQwXZ+YRRgq/TzwWppct6Y9qTkpPWgmTuU14yyoepW1b1dERikbjdHIbx3Q15wMo38J7+cYxNX5bxnLMZb+st12H6mv8+cSUEjtPR1zc23b6pVDVeDKM6TtpfMIbQPdScVbQLE4G5gvzgizeAwKO8tkAuw3ZCkDrBlhnrPAYnw0YRwMNpcPka5x3eakqEJBfPU5lQD8VlW5W18jMmvwpmpzrzsoZpryjpJflui/QVHDQAt18J1DmfIkmGnKAEoPvD1x+0QfG2ymkKoHLx0Ft4lpYwWUseoVyLrAUEDTROSoHNTRCK5sEMfRdibu2mZbtIF1UcBKsJjcLi3UFiIT1uN+E1dMGAqETODQCAuEI3UgfxP1Hgb62iyNXF2Nvt0al4tigiEWjQC1zX2cthEIgu/mgvbkmSUm343crs2QYJ6ZQF8XaXSjbXVommjp/mKqGaaNo649PUHrjJWpom3eeml4+LVDXLFCiNxgdkMh3B1BNG4DlDny7GV/bMTU3YVp2iYZOIFVSdNPXa3SDV7AE3Cymr/m6y0KAJ8R5QWH89EfATFYH+7sjpgjCm3h4UDJm4pktoWB/R1erULV0D3SFozPBexfVj5lpZZK66XRb/2PNIdxFAaGNwhMRc6ZCc22zBQciPeGO8ipxWR+JdIeCgBMZlMb9MjGrBgayf4DVSUvrx12K0Ms0LfW1rkh/+HYG+nyckI9OjD1OjQAm3AJThK/2CY56Vnv9tfOt5Iwmgk2LnfBKhMQfTQF+evxhcZS/mMYavmjcAcA1XRhwzjIdlN585BzA+DePIZTixCaq9HSGgp3dgJis8MrDbqFK4Qy2P1TV29nCiMJVsnMnnyXnUVpaouj+mscXnmhvsC/aFRkwlXGBDjWpMFs9HmeCfDpWq/PhJKaRRzMyKDHXOGZi7jZubZ3OwkSJZqXOraFZkkcNOiAK617IaWI/vQNR/gA8dSM1xz5Yqs41/LVVB+jIZRVokYGbuF3HNm7Dq2ioWyAODx831AhN6jxqZ2qc6S1zxmM17dJBkjfHfxJ1ccODOqvgxTxpirMW0W7hixHr0tPRFe7uxB5gD4VhjW7R6QB1j0vUyBX06gCltmcfbNDK3erXKUrI4u2N9PcEu4XcRDgQ4uwHdbqNs48+IfGBb7tdo3fpdAfdeU0N9cN0t07v5mqc3ZH9Gt2bsC6k3a776u+kyyLe1u/R2YciuzXesaW+STrj4TNELuohnd5HQshza/+Ae1226RpJpQ/q9CH6MAbCULRhq7W541lGaE401B8Odm8L9bPS6ta6muSDLcOfEgHjbLvG0rymkwmbTbt5TBInq4NPuLrr9jVGBlpMUMk+MEfLQmZovNYSCVZLzBtPGm2uvzaYXzWewRtFzmTEUo42MUqyp/HFIyyVyxPu3XxiHeTRI0Cq0ocXOwXLYmwhaCDAUHGdJ4xHTZooi2G5uLLWidTAxTUzU1jOkEDd6cL7wMcM/pyPZhrYptYJwskbuEQZoJwmDlEWkzvOczT5JcobogLzicmf4viHmWyUOycwb4hKA5NV0EbyXOtx69ztc/h9Bs0+gSZ9msrpMwCqJ8GVPw9493mqJ2aTj9Ixo0nTDREPi2SynCqoqpNWeZKNHsLgYI0b6d9j2N+uvUR5aPiyeivfMXKVnsLTnAt8cL16hNYwqfPox8nPKio1/KXgAm1y0Imr/1J6ynAmZ+p1XMTvJTT6RZpMlzEfL4MOfYUW0BdoNX2JnhCj6LzCnqHzrpBXKUBmKVpCm5Tfo6WYPmVtaYMkuHisjtOdgbJzVI+/Jvy1DNO2pSq/2Ym/m803fEhSUFjWgktxoV9tYiXPQr+Lr3P8qt91gfY4CWSaX3V3+V17lrqRsdPvrniNsuWdMQwtJ2iC8anhxNW7hNqw1ZDpXBr+SkEE7zevsmTWDv7bgBy1Hpa137pCNR4H5aPbudTj9/BBGjfV76mo9OZ629B8Fkq15HrPCW8cxX7P/Jvmq3ua+EWT+WJhjtrRzG92cr/ik9xsvliY4+5oPuJBM548bc3J7VjVrGvjoK9iur8GJP51mkbfoEX0TaqkvwCa/RbQ31+C9Pw2qN6/og76a+qh79C76Lt0F/0NFsn36b30tyjr7+g0rufpH+hV+kf6Hv2Afoh/P6cf0X/QjxUn/UTx0z8ps+mnynL6gbKGfibmejppb/LJV57yFh1WFOV18knyNvAWFTv5kCkkSNw2Y1F+AauHFcva1cIROvTACN21AhyIO5vuW6GJo0j3cVpb6vfOP0Zuv/dkmd+7kJ8eiJyh+3NUeTtC7z3QscKX48vRPvYUpeX4Vmh+71K3OGP8gt990hqcClHVL0GP/wp0969pEv2GCui32Pa/ww78DwzO7zE4fwAR8J9go36DZr4uOlVAKp80ejTu2cc1elJxKnyCl1HKOt0OxolGd9henYF//hxjCT2QTe8/ENk8N+PxJ0mbe4LUjBes5kj1j6t8/iSq8fA5XK5znTOzBtv2KaPI2PH6MD18KmmHP41J/oQo8Gn6pLgeBwSRNmnPGlZorLvyHK7sluxT5LP4iVvemcuTBPWHcO9+S+Svsyh9INRrSezi1W6TdDM0mphoAR5XktTk5cwW5S91doEJihJI71GZVvrsdHNTUhwJOlLjtonTmIRLqQTisQ7HVGkRlNueSh+AjcKdnMNUz1V7gOG8eGuKJcejRzJd6uCWJ+mRTLeo+AQ9Ev4gDq4sbWB+Y5Lx2QZN1JlIBrJYdjqt1WkdJ5psJkom9qZIp+/5UubopUxJsXNNnayAy0aIm3jR1fGRaoqJXClkjzdQvSbJ8qaxfUTOtTt3rLM/ePQLqsdWXeVaosjk46NEqzEpmWT6tzphlUu30M2G7+78pPO4+KVwveotwlD4f0GdJZ72u17VlvSEKhTKKxmju6N9ro9XM8ZjGN66LNsplpjqce5RYsrLkhL0CqU8Fm+04uk5w9S5IZCku/wSK4xkqfkjNJn17grUQ6sDBS/RdBBwTqH0OlmQGpdoOsiHkhZxEvRLaVM1VyLirZZEaw+quInYO/wE2gUUEgSu2YtmdmCndoL37QDG2AfKbr84L8qSui8qn93wYdUbIpzIduAh2eR4k5OZhsnJVgsX3CLUYMy0CS5RkpP2CvuXdiPpTEN1kCV5M/NZInNXxamkHP2WyJdzPGRoBC3iHEJBulNmE6pAZawKtAB/ZTFVoEXCzwvGNzZCUgvoNppIh3B/GET67RiVd4mREFpAsxk7Aenu0gB1FPwYWkDmK4dQBWHBq9muboPEXW62y2wVKwNp6p6dQ9yGZdzIBawRVFbGTSubMESV/LPmtNVrSdvejRX0bgz7PZi2e6mE7sPsHEEj76dloJTYCGYvOsM1v2D4+uzIF3PD5nhVbEyW1VB2eY1TmKIdp/wyv1rBXtXOUU3+0+TOdUkjs59dosw21iXd2MDDxA5jsi7z2tv8Cm0Zks/yXWdZS9kpawQl1/ABLPKH0cAPUhnIhnLcLwETtBYsUCt9FE18TIzoBHK+xQbwWxRlyusY+Q5RSqeQ+O0zhq/K4CiEgvcx0pQTNMkYyXRzhmO1y4XxhChdI0dak5gmLOVxLcGnhTyQywpbFMlGe40o3rcmkaJUpUB/Cit0e0USYX+epmNY+Kman0zPNdrMbVX1W2tT2G77WKVOY+UnQW6wC5PeUAr+ODWFUds7yOcrQhrEqGnJaBHF2N5xuABRvnneaJFhk20EQnXSONw8YjSlUEqdZVKPfrtltz3kYnusuVxuIEngYRZXx86AvKDKfXGelrWZpnm/vRk4p63QwWUsiPME4BpT6ScVip19rfgLdirgBt5OMvW/tn68jYZQZJ8wzk+w1WbyV6GZSXNkq2Y+Ln9r69hxFbsW1tblCqVNwtVrXHUBSHJosTCGMf1C5fFEintxXJGZZ/gGw1zxsBvuEacbpnq+M2xPMvEVykp2jaiJo5IVVnppVuPLUgLAd6+QMjq9gxcLfpeJEFdSgUcPlBacB5woHKLimCNK0/m/WwTEmiK8PDqEObS9r8fik0mVcQCAmK/HlQY4mpynfpKy8tzPUPoZmpmndlawtU3M+6TMO01YiqC52evY1tEDaGYWNNXopZuzVyT3sCTTZ7gSWyb06FUxglPcL5HS5jxDzpY29QxpLW2uM5ja0cPDrpKrjcy7SZ78LWNXyVlznCoIhLPkFE+lqks8aeKpzOUWT74RmneW0kdo4VnTIjvm0hNsE2arAIxigNhvyURhHi7cLAsdUwdtMGGn4vYmcnNjiIU9YbEdO0LXCBjlkCDVN8rfiM4oON2GY/QwL5ueFGgrpdVLfWS/4K6YODbvrxnYSCZcyb01xTnubiPzJJuE3FpTM8LTFYx2SbjD4IGdY5hcX2rnGEkWAEabuH7TWibNiInSKKLcZdknFnqpc5P0EfiDqeavdgdvPyxV/GMeTQrHVhUQpgsaLbbTGOGyl+qs749Ke8x4MtnttqoApp/H1bTmmtzyOqrSrLBefyqebDk313SGkibHyDpA4Dpv4Arrpd4myhBDZ8bkUsHwgtGYMrprYH16hRcTM/LWtZUrHLFQW0IrIikQXVxQrnIOrdXOpXpkg5v2cfabdZD6u6+pfeFggc4u2ns9wbw6CbO9T2cnAlhosaGXbt+C3UA+kX2Ng93dEpeVpA5ok5BNlGwKi7yR/truaGgjN35hiZ0DVfbV1h3G3rK1SO6liEZ93LVbweuOkT0lYRWlAY0GdXZ0Yh7HyOaKBOwgr59dcPWHGiO93NlxR+7hKTMjgOmdoX0M1NAiuVbtpsncaey0zUiMtXpnQrwkU/ulf/8g+2eN028pl4IsQBd3L0BD0z6OLnkvA5z7xu0i0Ud30P0Mhd+TKuxiGj1I79WkoOv9IFLG04m4SIwLSlKjANuVq9HDqfTqPkAf4qZ+2KDHNPoI6NK4lKZlcrBvZkuYD0hqewcYQzxCH+V8j41fBSmNHqejGh3TwX98/DoV1zR6KpEui4EKHz1JT3NTPpnKgN1Bz+j0LD0n1fi2CLiTWzI3JeR50gqxpUvl+frg7WGW3qaOY/ckfU6nk5zFCHrHrxbwzws6neLlxFUzsuF3Z3Q6y9AmFngsjYZoWKPzOo3wkBbabMH1YUZwWK+sMxfs4BXLJ8UXeddeUmjXGGtifCELxwQbTBK8pNNlehkLJdy7LyKMcMcENJjwRRTJAkH4Rd4/X1Jo89jeGUe/sQELllumBC0wGwzJemCArUIlVHj0G+WsP3GQruMEsSJVkLixotaNO3LknypM3tsJZbd+3DWPUQgfsDb1VxvAqiblpKfEUKNHRaHD4x+TMQpflarVa8bqkMrxXhW64U/Qk9hqe9f/Dx2K1X7dIWyF7u/bCLgLyLcP1EmQI19Pt4UYMcAmlm39NRKtGtcuCKwxdkFmtwiKONNoBGvLrSi5HoA4hmP2FGqd9l7g/tlHP6N/0ejnDAz/9c/BC9y/AVYmBDNep3joVwrNkmNRrBSDdyvuZQ+s5jorjlFwGJLf+Oi39DuN/l2n/6Df/19Ey0y6NUOj/2KK5Y86/ZB+lEn/nUI33UP/g52lVCrFq22c2PpiZKNGV0E52RJ0GMs4kk5THON2xKeo1+WIz2F4vncYcVN88vwMzxzVkcQ5FftO/7K4/4pwwjfXcHJSl+C1tUw4PuATllfpNeT4quHRhv/LPkPKa5R+iRxt50k7S8oZMg6cvmaecynLyK0sp0ylkr4ufdJnohAZh56L2mscOlUEzlNaIGvCCIuVJgcCw5R3kZU0hmh6INPDekGzA8JWeoTmv0SLhmiJPAb6mqlArGwkVVlE6cpqylPW03SlluYom2ihUmcIhxyivhOGyVsnSyCWXP4k5bEsYUk+yxHmj9CKEVr7CtUOichpS/IrXqOFuNnAxjqXn6ZsTjubX7i6RmjzkLifzVKTDcKEekN+k8hW1hJQhqjhtDUUQgSh1JNXaaBipQmAfQstUW6kDUoLbVe20i5lG3Uo28UQoX3FszKNmfmGaPw3jcbHIlmWjtCNZcO0NTYIMoTcTlTRbuT9C3wBi23kNb0Q5eQ/QX7Z+eNCloVexg4Kv2YFK9stGqORY/I6DVSlLPJbosi9RpGxKJdoTtsw3XTKao0so8PI9pd4+jb9lZFtgWExlclqUxj2DnQk/AotiuWWK6cLfQlTBq6ylL/G1+/Qd41SWowz1hk8FGsChaj+NZoSKCwTekYoboT68YsxCsS6Jmz4lR5yKb1YKRFwCbeKbqK5V5hlkBV9j+6hv6HvGyv0c5gRlnLtLEtU/L+B7c6WugN+t6h6qd89QocqtVztNfJfojva+PmuiyiKztORl5EsVwvkX6AHnGS1TNgFnItrn5CnKYdosnKYipTbabbyLipV7qDVyt3UjPc7lHtFe6eQ+hZrmfytorxJixSNHvxvyn5dRFL4O/p7o+EzLOuxfN44p5KWynsxCg8JBZjnjAzPsMkXrtuwKhpeo4ZL9IE2Xuzn6YP1ztUs7tpwnEpLL9Ej/Hp2AfbLXbyA5EPFeXr0An2MzR0cwtzhEj3ZVnqePoGdwAWeStoNjwCYfoQmKY9SofJRKlEeoxW4rsVzrfI43agcEz3NYL+Qfo0eV96g8jeEWS+YPqPBdUYPeTkHjtIEQI3jWFOfOgFQIm8/ezpp7p9CrZ+gLAUbX3lG1KCSI4uPwv+B/tFYWvcbUsq1XAhr3GGBPn+cKsqwyD5fqfLldKWrNFfNdV2gc04ODDU5wE8X6QLRML0ohN3fPJ00rZ/BgH8W6/lzmN6T6PTzAFCfp+V4twa77+vCR6DjTdJYc+oNWmosxh9kOhgvGT2ea0CAiahzOoebekWhi/QF0zdhbOt9Hsl+LAr4Cf2TgJEq/RRffiF+f0m/xvc/0H/S6+L5Dboi5ApOepDK6U23hx6ht1CMl000FVecU8LAO1OHstOxttxBFcSRoS2gtQeE23hDm1cTfhtSJ/BROoskXawqJeI4+aRKlIsdKheVjFU0p01nY8f0mO1Dsoup9NjxOH/i6Eimqn26dTzuinLRQNQlc8eqbwy+1x3Z1xJi5mBykn9mK6t1JOUvsU+Qkl6WKeIVQ3jJZFnhSjmMNUehmS7czMqd5bMiq0lMM8OSX+lYUOnYyBywlGkKma/ECFiaeYk8bRz4eup5yjhvytdmWAKhicg1W7gEni4Cx0hpUoaZ6zz5bTLlcNhdYVY/PSnGspY/TJNPJiVno/oCIUmbnhCUFMlBXTyflJqdDRTHtUgK1USLZI6pNi2aaQSxcdBca4d8QYjnsxNlLNtZ0aj/HYQuFuqCWCZdMiJJVqIlIN4J4bIQ4KPkNGH8IyvlUkyHUOpAMNyNJo/DIohXOMr0s0qyuStmjy+beajP24NrN3eON8oeJns7mFSdN84miHNTtMO0wM1hZZbS68hr+f3wW/6mRhvqbN48V7jcF6ZEGCetsz/S1xfq5FxC8oTOZ1hhx5BvY2ggPsSy1i80taLJ52KYeUt7sUiK/hcjNcuwjJrrNst5NmVQapeYX7YsSpA2ZSbPt/AnUtUdPijFdDulSFV5z9NJhq/2c8YRBaLl9fjlY41IPyvfYUgONAZ7I1ErEN4m9iNkekCxsTpyCrMivxUcZwsYpVgYnUZq0qRNUHz4m7g0HKuvezDaFe9+39k/2MvQL54Bax7sFaFFwII5eFh28P5pY2mEXSK703/OJcyJbpbRDGqCoR4+SFFLdsqPu3Xaw810iY3jYxMijTp11vpJ0HU1zHPlKaf14E9uLr9eyXKMFi48zO29JUmRxGovN2AvdevUQ2hRBkf56Roc6Izc1rsJ3FzS8byx1zmPn8VHt5IhGTbXMs/cZg/b8hS2z6pYML9iQfTm4lmdxcYCLTYXtodDxnvjINMhOqzR7Tq9i+5IkG3KDR3T05lUkhACwQATjXSXTnezt3h3H08wEq4quZ4Dj6TVYwS0WL/OsBFaB3zxHuzcuD5Ffd5EmU623cbDTEm5d0qxsw+lPKzTB+lDclYbQtFocH8qC3WNHhnTXpvb9KhOH+UGufex/dcAb/2P8RJ43PKr6WcNoyJ6QqePM0CQIlRPddWWquq61rYUgdTXsYIXB4XA/dqrWCp1NfW1u7dUNd+wu7GqsallDLLCJbAHy2DsoZOdEyBXZ3+QfSGlCsbgQfYxDt9e8IEmPa1Jycu5/ztpyiQPRuU8Y+kRHRwMP13kp6ZR4RleGn94hpffRngGL5Dok8JwwrSJyKNPxj0fx/Mz4nRIPt+DZ9b8YQaB6Sm+Sqd6eYwthUeaZUIfZ7NFS5IRWOlZ+8BKz1kUVBjJPkUnjKQvIRvv+N1nyPsagYFOP0OZw5S97gzlFT04ce3Vu0CHrZ/G/v0n4UtREUcmnHGUsk9QNt5+nNLO0JxhCuw4feLqV8/QPJkn0GJlFxkWSs6MG1EpPPzcicbchXG5lzLpPrT3CEi8+9Hj9wBfPwiS7r3Yew9RFb2faugD1EQP0y7Ai09LKtj7Js1V1Tco3YGu3Gj1usNwOTVf9mDtGVoyFQ3MR89eJb9wQbXiKOnZtHaEqk5c/ekZ2jhsHhk9Z+k2fRQD8hiYt4+BIj1K8+iYqFVjExhNLQKZnmFVGBUmLERLRQ3q6UtU2Sbc1mdtO0/bbwiow7QTDO2uEQrKT/v5ZKJrmA4EzpI3VrHU6X0SQwJeGYtjMhZHPhZFERbFQtS0BKk+LY/ywNfxSpYNUOYYk/ccurp2qhju1Rj4AkzZVF/w0aO0CJODbkfWT/M++hQVoMdZUddLpLY5swZb2tRpI3RbyzDduT2b7hFjchEzWFDRyL8KT2HB1Gy6j+ePc94vc847Rw8g77xh+oDIe4KKK1Wb7+foI+I7WnKWlpy4ukvoJd8BnPVho98bwJQQuqPSZ7GMPwc+4yR4DDDp9HlM/yl8P011gGVNdI620hByn0f+iyhhBFvkAiD5JYzSi2JsCjAQb9FaVcG68HB0DqfKhzQ8Yh8uwIB91pq1h41Z2zhxHVb/g2fZNWNRGx7O02NnKe8S+cEMHT3LDJVxN8eLDjhX5iHNccrCsOTl3T9Mx46QcuLqr2PTKLWeI/jtwxTeit3fj+USpfl0G3brIXTpNnTpdtFc4dpogfIG8JITPeciTtLzYhE6iE8ShmgYf/LuAv4uGSELXqTL9Erc6cDX39npwJj+XiyNsIw41gHoamUaOyfSLGeM6QlfTV5knLovmn28r/iY0GkxgQoaM6d9fPowPgBK05ejJ9wbr3/LhZtOHA0vu9IaTAQAmwlMzHoxUaGMbUO9gI3WLB8IfypFs5ka5XCTLQbHov8mJyr6GQMkJsHkb2QMqeXjU1Kxj+9gskMeU5BlH250fGPPdvsTqFKnldw6XcjKDQ0FjU20AgkW2TGTohbhlcBwbGWqC3qkZRfmqrBpy5amxtrG1t3SeWNNXUtrc936rWxYv7sqxoZN5GCXYyiaptB946qEqt+1qlrPKQWXdq2U1exfqYH3ZqNCq2019sb3irWWtiQOnDloYrBqeA7Cewd5+M2Ba6YWTTqB2GZrjKVUp4jZ3sQMn4sZvsk21l1Csb9ZcnfbpFlDs/QPwU9VGgUTvcFsCO/vGtgSAhnbO2B6BdtDHVxDp6WRtS/RYas02WsZ7DEzhJg9DCeo3W0KRrsAb9inBABgt01oXY35u3EpnnmEg4g+Uevu6GDPbinzZT7Z9C1hHQOWlIxTI49XiXA+weEGt1S1NW3YsLtla4OH46Nl7+NR2d0nh8WqTiEB+e7QQSEhV/qGuo2bWndvqW2uxgLz0N3ojmlyuVv4FNvdGTfxRjHzq1hpqt/DHirGk3w96y8h+f3jS17N5/pI/iCmuQebd7eVJ2psX6s7Ltmd9+kg5NCdgoamltbd1n5pqa2vrW6trZEbhxOaXKGnpnZD1db61hahjZyoB7U0ERmtGpMVMYHlmutRfbqWLm6cXq2lQplKH/sdKHSiqYZeR5S9unXMXPI2tCJHFbJ41JtFo95UjHqzcNSbBan51JQqI2nsQaMhxEMftedhP+sDNXRSo+d10D4v/B8Pm0lPYVTOMII+q4Md4KchfhrWQYvy0wg/XdCZn8TTJX56UQcTwU+X+ellHVwlP32Bn76oMyc6tjLFq+Pnhr96HdzwAkMCksb+mcDHKWAEmPB9BIQtqC5B4EqXwj7D9XAOw05xvdO4rjOum4zrDcb1/cYV0EPISxyGy/mPCLFFjBs2gmI8ank54MDCr1OJoZzByb9rCPzefYa0wAVmMl+hSQ1lrzL75C8bptyK10g3bktb+PfkGSo8Q9MuP02zcMED6yrMeoVKz/KTP/ai7Cw/cQpmkPlDaQvXgpsRmneBFjppO+7b1D1npcdih2ipdA9xlS1bOGQdCFoHzVJUUJ9ukFcaiB0PUK+PdilpwKM6HVTSwcZyD51XaJZGk9RSDP1jYGllDy2zo4AyQktOWiMi5ZjZGI3HrbRlhlgmm9vpEK1c4eQR4X4n5cxHTukG5iOJxk3TTOOmWNoipH0CHNyotP7RaWcgbZEQLn3EEDKJ0CdnTK/OsZRzMn3GQctHBH+piTmeeolWteVjlNcMUxUuG+SlDpfzVB+rTR4A/ArM2a8pk36DxfhbKqRfocxPWGXONA4Z9EvU1HaGbswHp5/UXvo35Hg6VY6ddjn+FTk+mSrHzXY5/gU5jls5phmW0t5LtKcNyfcmJ/9nJH/GLnmIk+9PTv5PWC/PWhvo24aw8NFL1AWO+JazpGVmvkQHsLz52oNVnRW5yLH2sJzO0mDWoYtgc+XDu7LuukjvNh7WZN1zke4zHjZkHblI7zEe6rIeuEjvNR4eynS/6GMTt8EmNnF7VxObuK1pasPq2NDUpmHmmto8Z+ihprP0gdh+ltG5/xG/P6As+iGAzE9oDv2UFtPPqIp+To30C2qnX4Ja/AP685zYXXwOJoPo9Ai2fA36/BnicAmn8Sfvzll35627i9bdS9bdK/j7kuHapAfj92W3h75Cr9HX4rj1r70zbt3eOCA5mmASdz5WXBnBfOfGEtR1gowLDxy2SOtJzIS7RFgNptO5aNOyeOw4NIUJthhsWSEU8NKwfU3ZfZxRrK3BjfBjMtp+zMciRc2yW7NzizIO3jnmxLfc5gDjnbHTGi1MiDskzgVqWBLrAxJ0Mho2fZ+4hGs+Dk1Vl2zVkXTm0r6e4wLEvRQFCr5wuQ3rwytH8N+rxj7N4HSm899rWOPx3AnzOjYcwtzdEDrMuEfaC3osIzk93Ivhq+vtDAuxM0fESKPpMkh4gxSd1XEKfMsqGeXig2emiVfYluuwnpolzeiy4g56uEVbddpG29mTHsj1/Vacdw+16bSTP3hDUsU71JnGkkpNcrF7TLfbsWEWARo62XlICuMdzMJehYpGWV8Jp3mWqMojGN7ieWuKOd6RaS+n3hJhqc+6BHP8rmB/iyG7T+BnBkL9UoY5eiqZWTWN5VKbjY7bvivIfhddFElt3zWBbtU5tioPO7dLOD6enDCndcZ7zOsgHdToNp3Fngk2gnVWVq0rGG0MHZJ6DDs5h/DMiOWmsgYQc8d3cf/uFurtNscm4+kYz/Q9Ot3Lxfr6QxwZjuc1jY7Q/Zp02ZiVwglPsk8Y3sjv1ekheh+KCvYerjaXmaukvY47MJ0+wEt5Gt+Zbh0N2ylhK2NnaGW3vj9Cj2psigYSzt7w0I2lEuyOjttOTeyCozpotSewYfdyZ6xeZts1i9M/qYOAwK5xhYKAodynp5ntOI7p2Rtm1JPCdGzneO2Y7Czbxs22a/RZ3t/rFWodHXbPBhNdh4mFNLK4OApEv/Nyk48ybBPaHmfYowObymXjTcu81McUMTu9lOejLM22NawSs5fKcFDjNZNkZPj2LUwu+EB8XdKYxz3AYtv/9y1MXlYozzAm6Qz1hXpBgnUcLu443NEdqiwGZ/cFcOMCYRYrxZF9xT2m3UmYzU4G4uxORjH1LmnzQF8ZPz//2nVJtyU/7wHJCzpDkL5rhc6E9PT3LJ6lbUMW42Fx3WmEFzIdYR0TDgYdDFhESayM/5wgzMlRj+c0UPd7hUakY4i00gvMA6++RJPaClxd58nfKDwYFRynknmlfvUC5TCzXnCBprI++nS/OkIzL1AAXLX0ilnwoq9SVZm3cDZVugpe9FS6nRysBAUU+rXSeblu1im+RAvA5VSM0KIjGnL9lJ1sLRuiFYazrdVciiZcaCIfK1qv8HtKc1W/Z36sAVXcgGXsA3T16I+ydS25mnjv9zQJZ5lnufyaIY60IoveJXNXXOBICJWsdLnB78n1ijF40dfiXOrz+4zH41QqP1fglTYv1+v3ieouUCPXOWuYbpzfdMSHWv5S1HU8UPCiOkSt8rJDyjBPiBC7xRjxL5KqXCav8iXKVL4MWv8rNFN5lapxrVO+So3K17Clv043Kd+gkPJNoPNvACV/ix5Q/pI+qHybHlX+ip5U/pouKt+h7yvfpZ/g+efK39Bvle/T68rfKm7l75TJyt8rs5R/UDbi2qB8X2lRfqjsVH6kBJUfC0ZsC/mu0lRW3fSwGrJGpcLtWOAq+fmN+VKjGvH/Z8TXojfZkVSN8gY1XSGf8iazCROU/6ZF7A1TrsnPgT0E4S1XmLKeNOEN7Wvz8ha5nib1dGle8hRWalgU2gVqdxASqU/TlEsUbMvqyHWPUOgiB4M5Tz0vz8tTW+PzyhkWE3eBJQuVnlzPBRYiHKUNfHe7+F7pLeP5k1NU6cv1vUbZXHquN1e7SHfKonN9mLzSsnm8MrnSRSeuDs/Lc7VypIN3K7Sd3ztvmt+u7mnKa4pNpJCtKz8jTfkX8ij/SgXKL2iW8m9UpvwSpP6vMUq/oUPKb+l+5Xf0kPLvoAN+TyeVP9ALyn/SWeW/6JLyR/qq8rqYjHxyea7QMo2WXaFpGg2+yaE6p2s063Xwh88YwmuFuU3hyTPRH9xqwx/cCeuQ5n/w+zx93kgbH3FnRb5x9hNLfBW/L4CzdoxKvHpUYofTaA1HPPgQnZE1KM1g8Nlp8ocBPu7jqNsymrZ6OlAAmCLd+66+fJyivIVEOKxztKNw0VEqyFUvPyUMDYbpwWOUjvethc7WE1TNOQqxMd+PqXXJBxT+sIMq3SKRWUK6nLNHjhn+5lrFB7VVmCs8FJutNZRB7DZOc3gow+GlTEca+R3gkx3pVOKYQOscGbTRkUmbHVm03TGJQo5sus/hp4eQ5kOOKWKWDhAmKVO5Qm78VWAfXKUKNm3AXjmiKGKbOPg8DD9nMazOMb6R3Tcnf8OK0N4QVi/nrPHNNBwWctSux0ufozWsvf54QIwqg5ePS0sWHmKOOPZx8VDAA/YJRgDGyAgTlr+/xhQVcX4e2Mz4Qd8eH60sNpyF5HFMpXRHEbZlMc1wTKPVuFY7ZmIYwTE6ZlOLo4R2OOZShyNA3Y5SOoz7ux3zxXBW8nDmYTCKDdd+R5TY8Fhv5KC8Qe4rlCGGfqr0vAuewFjfnXhi7ayS0mSPe/OFq+hWvwv9caknpcc950mrF+I40rGQsh0VNNWxCIthIc12LBWtE17zPAzspNc8VhPhfMOAGfL8ewT1Xxa/r9AXjWOpAjDXX3J76cv0Kn017liq9J0dS71NNdB497uG4ia/sjTng/37FyZmNOgpTmXGVOZUFfwiR6dc88UifmFZj+BFnMceU609g9XaRx2b2BtOt4/TXcOut+n7YTxvxvb/em012tFiTnvdUousc1OmQaZlGv5KMw0lxEwjsm8mj7i4SiVFGc2HncPNFH48HQLszrYMWtjNfDq7mc8ESB2i7ECua4imBPzuIcqT57izLG24RoCUJvKCEJhAN6KWZtTVgslrRRrpYnKOUc8JAY5IgO+8z0rl5UYjzoFDyAv4wJtoMXt7PCVcRr5EjjYOkpvZMkJTxStX7FUbw/9s64t71Jc23rZTRAJRxSxLdLADg7cTzzfRctqFJu8RpipuUovVLDaikfa+AWvfrRWGK6Ndj/niHEtaG8/+FMZnbUUXpdnuXNOuxQwpp/am3pAxu5Wsupbd9U0bN9Y1btxd21i1vp7D8yo7NfaVZrvfOe7qFG5Fzv/6PuAAL/kaFejsIDuF4c94NLDT+Bxas5S+xvYJJY+7UxxUz7YBJT4+n9ak7+yy61bwf3ve58aAEN5wtFaYP1hBNwwXN8lg4ZoubxKPcxaXjO26I8WBhJ3HUBE+ZE7JuLzlbEvh4mJcXprGcnNyvetRuPe8lsK+0AT3iN3vtcKjc9h0FtJ6RQAQhcoNyZwiJXNKG2tvSxJ3QZwZn2KItsuTjAY1hrH6aSu9NBqcDDg6RSigKyK+iMxXYBDo6hnKPJlUQz5+F1k1VBvYIA8pj9LkS5TNxnl6KZupnqfJI5Qrya5YjUXIWwxoPZ0WS53lXFHgEiTiAm8wCpwuCpxqFXiBHcqCD0pd8CwUPBsjVGIWPA2MnHSswBUsN1q8ARUwOVooKsi1KigeoTmKotqXXYqyyzAs882yC0SZK+JGwWkzCmUpC1yIAiswCosTR6EyrkDVrsB5isu+wGUocDkKrEwscKVRYA0KFAEeRIFT4grMVd32Ja5GiWsASteZJbKX01XC4LvcMCLg/1zOs5R5OmmRTMDvalHeGgub7fiTxI3X2K9nvCpgQ7D/QOTglv5QZ5gP8zQmF8fh5o6lIaZ35et1oslBWLO4vZNSoV0vtpQgQadgX/cEDzX1dzKc5rBtuYZEzGtRoO4OI8I8y8IYt5sSUA14KCzcI0qtZK903TmFJRN8Ji/I1iR945Tx06UTTK8VYs3bwQGMDg00GTHCRflW9FHjI9s9utd+b6v4D3kaqnbsbmquqW22847sSoyabjhM9jXjoWb3+rrWFn6jXn+wAkskMsdG29QuugCHWJPrQchaaliQLQSRNdLLf7M1eEkAOU0upjHOl2/wsZhSYxeeGWwo9P/++fKNCs0Wy7M42hUZ7O4s3hsqDvcW97Osqrh9QVnxkpvLivdHBka52NHYg+h4D463XdfBsdeKOb9EhBIw4XgOQFzseQWAU2Xc80qgzsnCPXWWxXGYcURnivcuUeoqAzgdMzzPbGREmv8EefI9z9LES5TWln+RQ3iep4kvs6eO7EC+uuclygEb4lxdkP8M5TArUaAWaF2H3F0v+lrE2cQvJPxcY1l6+NGJyezBACgzF53KAzrOR4MKAFHzgYam0lqZ6ioSOTTyAnCm8xHNG8JB0DoR1nq1sPyRroJ2lA3TVA5xlc2+JkZoluX75Blx8pHnd1UE/K5hKnV3Fe4RgZeEP5Mf81lLuXa40HXo/ntKUcb99wxROTvJmc4+cqbHGi55q5mob5aITlEALqoC1+WALQ1o/nYgwrVCRc/xFih9Ptlg23zpSJqb+u9oKDN1g3GtXF3wBLUECkSz1oiRq6hUc9XC+fhT98zfg4sLF+7JUzTTudTtd7uPU26p340vfvee+Q/4XQ9Emo+40ZWfF5w84rh64uoLmAgkyigtyKZFzWL8/8Nx0uqHNCKrAOe5SDgkL8Y6WoxVsgJraD1604zrDqTaiTR70PD9yNWDaxSjvlbQTdoV4JGrQHSaxvxTDZ905cjYFvmvE/rtukLc/UzUKMmz1WLipbOFCTzgvnyt67AvdPeDkoJaYyHHGkGFTDPyxDsWn56cdBMW6MY4L1BspLQZf1vYjEwY/LSA3d0ed1Zzq8CyuaMQpBnOzpZ3XF5yrWh+dTaeLepGsZf5cYlMJ1tmxaM8Elu+PoRP7jFQOvOdGTqGeiLAd19/ZG9wb7g7PBC2Qlkq0k03PmeEDvUJFXNpIBDlb6aZkHe/2a9xBCNl99t53Kt8K86mYsU18PaZTWMXKakbvjINszxdsxxu22oNXEfYGS+2Y4nGYRACLPBIEcPJDIxkxlIQWkyl8VpgXI6J6eOCLqWIUDFHaiNVJIVz4hFapmMzrXgbGJozm0GbknG1NzG2avzC2BbCYIkJMkmDlk1VzXz0kDANSclWcrRWM/hquohCWhWV8TileX5NGocT1ywdpGtGg53EqmlWJVU9kpTgdSJWY5OODXpjnB8duwi2PnbsrVlKSOOIdcpFC9WkdhQtCK2U8UBu5kgzwoVC0Na0xz12WAwMk2FhkZraA2m37G2BjTFpP7VHLMRKW2UBm5U0ntAYbF+2JbZjpybZ5yTtWZsAGilpRItvZ1KF4yMpVnyaPBGoiO+lzrrDCtuZKcxaOcznRPEem1OQJsy4h/C7T/CyMpy3N1BaMM9tWWnvt/TSb0a1uyxef59wv6YK+mZOoGAec/vuF7UhICJxyWLe3x+4RHqbHwxp7hAVxArME8TFXvxuByGyA+3qAAHSCWQWErFuwrICZZuI2UH0PfDixQo1znuVZs2T3vfKPkF5HCsSj+X4WzRMSwP8aYg4+DhLayYMU+X2M7TGO0w1IlKi3y0iAx2nEr6KJ7/fLaJ15qj7MziL371w/wGJ97+LHOpSTWXRt5Fvs8jnWSizL/zYU5Tu94hUJ4wyY9+OidhXjUc0xa8NU/Mx0jipEHWfOUM7/G4jPNB+cTY8SVjBa3QLyLcDmIpuYPheoNYIAFIfNdGteOqjAVALt+H3dhqkB+ggHcXTk3SInqHD9GW8/Sref4vuFOGt8pmemKfRnDdpCseSnP+WiJQ1a+YbYsoOoAo5ifHEQMEpa4okMXAPJqAHdcukRQb/rY3QTWeljD4+MYcLi4hO9VmxNhaNiwOfPvaeruvp644jHQz/GWZsdfv4GnIjiSgbk2yK/F+LtaGOL9aGl62ANQu9/wkwjhU8HcW5hKcxfmO6O0oDDo4YFIogYcC+j/vQwjwwvv5DizlsPKyxQnOqQwtVRu9YBJAn7PviQmGqtEQHBb1MeOQJ9Yl2b+bXK3QQ0rNZA1agQRFG3PSRlHMwCUluMA6ADbzL+dfpYHTWY9aT0y6QsbBVy3GSFg2Bmgz1mV6afInukMY8+dDYwHZUUCOxDrkRZqD0tH3Wa/QwZzRqFJ+EZy/TcDYWeMk+VJMPnJPpH2mNHXlkczzOR/ytEUmimEMmqKZ2ukmzAnXYmZYHo1KJf1ZJ+9gxNIT+JGvx7tXY1raTQgkucqsj3WyrKU3qMwd7eyKd4X1hXsiy/OmjdTGTX/C47tcZgWBuYuMq82fapT6gAxBihXl5f/BMR2NhOYRfpWsSZkxMb4hbuXxuxmUM6KxfLGNcxvaqXEyGN7J8OqQDdK9JJhE9HHWjqIpfYZsUC9Ka/TcNRIqjVs1eAPq7NBk3Y9E1KXOGd/fqdB9rCBhSlhTyDh+9hx7Q6EGd3ksP/WmDimisnVIc19DYOG4V1HztwRCfLr6P0vhH6CcDtrv2hvaHRX8f0Vnx+NocBG+Wx3T6GE+geaLJ+YV+8aOjuAqVPm7YIGrBzoMy3JPYw9s4k6lSnBQUVqVndXqOwUgmcznx4V85l4hlsT5FfFjO/VmdPscJsrrjApjG8gtz0/VjhI59H53S6TSdQW/kKVp1pKcnbGiqe/H5Lv4Z0mmYG+/eK5rO2UZ0Ehp67g6Rgbt/SacX+VVG52BPXwzoCMB6WaeXeWhcYolyy7+g0xd5yYk9UyPD1LbTl3X6CttpWq4mtJL2zXVz2zfzx6/yx6+JdzV4Bxj7DfqmRn+hg175S1u3ct4gwxcuS6GAzfKqs3lVJxHKX+n01zx0el/SkH9Xp+/xhwmRhLHU6PvjMZT4O4VyGyPFQSFG7JS7Msp7kofBR39D81nZ7B8ZV/5AKCzbo0SVfqTTj3m0VZlxE/2TTj+lf44Fj9q8maFDA/0Lg5Cfmy5GG+gXOv0b/RJ7MmoHUsTenUi/1uk3vCpi0lXeDb/T6d/pPyxRu60+BuvjBDz0nwotFGugeFa0uLL4YEJFq2dFy4qT0SZe+uiP9LpG/63TG+wi/bp9x71Jb2l0FbmZGI1bDibP7C+pic8lX3N4FMUBqMYhxv+08lO9rrGuta6qfndLa+0WO15UYdxupNnaWNO023TcJrxaJwqkx4wJHIfjr8slwIxrcsLcj4kGwhAWJYY9Xn5JqtMezjHGQcP1iEM80d5gHwDTgHReADY3JM1VEuNkY2nXSByZCN9k+OUNCaRRghlPjFpYycG37D+lHmhNKbTVtUrguzNig5laPqNM9ykzlJmaMgs7X5n9ZyCfUcAZzJIQQIgJ46Q0fZFoeCB8MGSIZzxKAElbjJmWFgDBbvZOeVhAxV4kFHHMOSkYCMeMURIdpXz84Q8WXpdERxWH1b0AiTmKSouwY5nxdShuylO0uOdYgIQs5p7EFQyJuC4VsSqzmN0Q1xvFIXiWPKJQvCI/n46AnTDc0683vMevN5xwrTeUvOW1W5THClqzxfWLop5JaCe4WJSYFhdo1B2wTmEU3TqF2SsCEivStR6nV+aD/Wag85nAefLGoiecobwhKg5kFvNpzIx89TjLmeawnGkuy5nmCTnTgkD+i2lDtBgXpFoeCHiHaeUQrWWh03HKCBT4hqlayjoC+e4R2vgSNQxRk1Sfbbp8nKbyteASNbQVjBAbFxSfp+1SOvUjlgE1jdDOEdozRPsCmZn5XVzZLUL4I7rUDO6bMJgqbUb3b8DTLirA0E6jW6gcg7WYemglpnA9RfC1D+lvpR247qIoUgwAOw7SQ7h+iG6jp+gQKK7DSrpUD2dBikNj2S9doUIWm1wBzn1D6AJqygRjrLuMKNhzAqUiZAAGXPZtwXHyBwpKCy5QlFVYq+PkbaLlUrvubkzKu9Hqe7Dc3o0pvU/UPokjcutCe1W4+6E3hL9qsKdGrdMMfw5sQFFcNEy3vWBNsjxJeQ+eMjhIhkj+JaORXexjPuv20nN0x/3DdE/pCN2//RK9r+08faChbJgeDuDLh4fpo7g8jsswPYG7TxyjSWyJ8cwQfYqvnxmik0j8wlGaUsYlDdFZvn5iiM7h9fnAMF2M9VIKtR7C7/vQq/djXD+ADfIwLaQP0nKM+jr6MMiXj1ATPUrb6aO0mx7D4nyc9tNRMRLCp9wmjd6Xh27dypHRRYfij5wWnEzqOztgAONkJI1Xr1+cX/58UuKn8TRRybJJvDx/YfKoPovfl5VJRmLTi346R6D4aJkYsJeSd9unSReBBl5mRwUi20uGBPcO1PGKi6dkxuWnsX5wcwv/XWbHGl/CKuc3M8RnfvPakHhY7DTSvcJd59wLRujrRkpZ3LebY4/qHly/08xy01dYbvpKIL8A0xqbICn2PYkJeh5L8POAW6ewUU7TTjpDB+gsBvIcvYuGxGQ4SWFlqx9bgOYzQi+cKMiVHeMQLn/TlvW35+nvX5YVdqJC56p8uRumBvITmp6/p5y3hWIKe40WLxyibwfiO4AX30lu7wig1wXA5UtYUC8CFr6EhfYiFtPLWEiv0B76gmivj5wTr1CaEPgqSrbt6nklefV8GU9+EzRS0PS/mf8EpXH7X3mW43IACvL9RfoHAxLiIf9Z8mHx//DE1T8k7/KvYhF8jaaCZZlN36R59C3RPCwDfSLDkcnKFKtlDqtl305efX+FpxzbpN9JTvo9fHzSXHHKJrzl4/Kj+QVPG6YJawKFR0mbcEJIfbHS8bt2/xA9k/C6wHz9GZ7ObzMM6ODZwcN3GBDg4TtC+V9O8Cq/mv8J8vpVq5alroBf9buOEh+NL/ar5b7QCREtRtwHefrZQOALsfEyHV6k0Q8waT+kFfQj2oAV10I/AWz4J0zhT+kR3D9OPxNj2EPp3nXKVVa+YFAN4gCYWb2KUsxnBuHOG+xeXqEiJdvJuf3klh+MT3jliXvFcFhR/1so+dWiOXIC1hnijoJi7wj9pEqAl+ItYjgZKhcDKjfHoIGIG0L/inn4BbbPv2Hd/hJfcpU8dJxL6zMW2nK5XxgzMrBtyq8Ypp9J0PXoUcqSr+TzMP2r2D1/jcd9p5KW3G8whL/FkvsdlttvQCP83twRV5As8Aa5DNojX/jfNDf0RwxKoJERxTD96hipp60NvDLffZzS84Glh+m3J8gLQuD3JIwFJ2f9oUy2aYT+Sy6oEboyrCiifV+KTa+IsQRGz0evo33sKfR/wOxeoY24b6C3RBszyJXGegqTazWlgLeuU5n6/7X35fFR1nf+nydzPHM8SYZJJuSEcCbM5ADEAOGQQAIkJhBJOAIqhGRCAiETM4mCrdoqVmsPj1oVW63FVmyLbURzAIL0st3e13Z7H9tzu9t2t93ftnW1/D6fz/f7PHM9M5kg/WO760syz/G9nu/5Od8fLmC2QnhIuXg/B1+X8d9F/DegVArLAqVKWYx7VMSyYA5rD6YQwfEhbyL/n0oSfDnM0XSYkmgOcPoMSqIwRlcNmgkcU4gZp+DohFhnOpydkIxJ8UUSRk/a202H30vJedlJ02Rh5VOWVaggadSJCKZfEUrMzSS1hveZRLfgbzZ4+Jf8AOk3h+hN/PXhMhO/M/k3X6YvkOkLcYHTL5t0UdA1Nu1SmDnIgFJjfi6N81KKnqlt/X3dyH3t7MNeukV3Y4/VYcU5LU0DSRNLGu4cYvt/UwOKCNyOlkI0HCMGdYpQOawOU1l2HpQxKGZCvmpg7JjIZiKynWRSGoeh6NKkOFOi7MTpjWQG7J4tdS0Nph4h8bIYB/lJzJ0aIzIpcGgqxPwwjiH+XpV0T0i1VyRg6Xf1BzuH9FVsjlIU58jQnHo+rU7surXxwX80kTQc60llYfPAOTLQTQaHCdMd4HEGGMYBFNJnIRuji3Btbn9xbCygMsN2ux6TN+A63IhHIcURFBk7JblcjTwGeauqz+APUiBeV+cYeCtegfyK+BdBfCHsA8uM85BA5a/FdrXAfNgCVdCKpAZH7fLl498AVMjq5kpnBbvfKUsRTRTUfDuWtR3Tz2JN9sJoXDNS299XdE9oEvJGjVyCGuvw1GOOSpljluQx7P6icV1fHkm7lo0rgB0LFgtrUGOzKIrbLDIPdh+qPtgzVM1ajwSbcwduPwkwFFFqkmibK9y5ZAyKHX3hPpwHdQMDIbHdC6xsWVNz5/5g/yrCeBLLzyYPveROfDFmKFxvWIrCsoxSyZ0SC52HS7uKo+oMHK1K0nL8agksod97jWI2kM2eiF3ragmFwsHSTSyrtosThGPMyKT1wXDXUN+gPGjLRFkERRGWln8SkyJcSpFzS3uFMQ/OeFUGvIKoI4O8Cwj6MTPMPgQgDVyy46IWSJxGjzHWtCaEOY2Xy6nAuZQjysnVC6SDhiKWQEYYZoZl4Cp8XmgYSGjTdHR1xZ4ZCyPJD3cOdB7g2ETVLcZlBGBaHMXD5NXasj7YOdAWHLqZerVUkiZHYgqIpBBB14oSkojW0dirJO+ONjRsxjEY6DrqINii6FlRO3x0MLgmMSGFT8ul7/clR3aKOYSKUzWY8L7C0TGWpftYktavWrTbRREGqQodgT1ThzDhYhXYlgzDKGmZyd428tHVFcRenatAdUIq/X2dkKI2HMFmhA0llEqHXeLHN7VEhZ7JhoUaGW3iKtrc2Na+ddO2upY2JE1iY1KJjmcrtwNDHKnJT9gVuqdGUYq00dA9pnokgpRbohpI8GZSdo6wFN7J8b1NR3w3FaIDwNv7gwMH2LyinBxKFhswcs7wCJn8cpnJTFAWCzC5FQyRHO6lnc5BSBo26cqyGDZoeHg1REFWmeKp7XaQLaej9erFHB/LQcByjtaVK+XdtXjX0nmE76gzWzSKfSUgBSOEOlJT18E21Yh0NU09mX1do/Aiphp0u0wvrWwB2o3btBG8q35Rk33drotGcjbN3CrCxOsNZYi4QMJ8qhsW1FNwS2h4I50QxvQi641cgj4PCHz05FnJbqhXgz6OefVGod8YS31W8spIqeaCQwRkmA0hDdnxm4QNppFi6qoMaLMghGkvGk7f8ZOqZlT1IzjInd3dRqxJ89bKHHqcLbUv3HB4cPio0NyrcLvZkMjjfesgIdPRsR61J7wlLUMuqlK3ADFsdkzgDmng3kYDd48C85OZ3MQusTtoTtxGMbhsBDw3u7w5eWysVWSU9y4iXoLh4DBNzPs1eBeJax6UqrPY7w72SFY56oPfE6Ou3xJqG+nqFWqgqK99CHJJH9/rggco8paNIm/FGBJEmmRumZYNj2sECExUUHtdO+6ljRvazCErVTKQmGd+KBnD3jjQEyIV+1PUuR+MA/NM6pJuGoT8aVzg/bghEEr+U4Qv/Ax94EnzeGvpPNm9ezfRnB9J+hXGxKOvcMDHcJPcQOwM6fv6BYFFZwNuhM9h224O9XW74Fn4BDVrVIF9aTVrTxI6pLUTSw7iaUx1m+TjaA2nzXYjzk65iMh6UaMQNnJHJu0j7bHR3csPcTpP0u52RofcjLxywDkFSsRx2BcME70pLExKSfk52Dncizv/83CePvqCAp95Qx8dM22SpuKtdGiEaLyU6WKGL2kq3O77evq6IglprV7EU74PqYGqQUEOVPXrRNun4NOqMPtZFgN6uz4U6meyiSBA5A0tp89p8Hk2AopCb3DAFymgHZth+SGXkn1Fg6/C1+jp1h0N1OGp6BYHfAPrbouX41E5bO2D5eS0NbZsb65rb9jbXNfWvpd9Qx1k8qNFcyaU47safI9yZLY0tG9r3LB3e2s9ZqMz5Qca/JD2aiMUjQo/xqYldGP90YHOw31dkmx0b13f1LChfW/awoxpQEsSfWfsYGEyAos57TKjDz98fXX5nmR7S/IjFfe19xO7ElvU+vKpsk1ZLp5AQnuvQHN64DZ70jq8xaFvrPpIEGbzXQG/749IGKS3BJNjKmhyVqbw4f2Li+yiVHiN9v7X/x58eC/hUSG/u7TTmB2lnUPBUuJcKkMD/UcJLJI0MEXbBw4NhG4ZKJVbR2lI344ogUWBDAV/bUgOM56koqdLsBVxpG8r4pqWrUg2q+N+xE41n+cI6vnwE/gpPvtn5vBn4D1uSvz8H+Xv9/i3kHgt/qXYAcD6TSFA+Jm5AOHnhgDhJmTlcVeRSY9LBPzqSVCvpfjX3hkTkNNMhgl5BErm9Z+D7I4JKMYHJRbYaT3VjP9bTmEmIXCbw78VLMv7uaFrvRefCgU+haQog3djyvtxq30AUz6IzN5D8AtG37C8Ti79M1XIJHw7RSUnZxXmrFfZYgIJaiwVm6l0YDPJ/egvp2FBNHzYzyp81qW1tkCBbRwWjUP1cfiifn31OKystWfUqAX2cVjzMcHB9JH87ukbbyTdZ/PFvm+RIchqy8/3/Z4kKUVX95Ej0/UFdu+6cVh/HGos5GOzGO838v1C9rkpxfvNfJ9no3sP3jfxvd1OIJoEvbRJ4i5ZeDSAZXjkn72WGtc8Ca2jBbZc2DEOu/Tr641rDpTYOspazhKCQQxMQNfLPCEiHfwY5OHYzcURuogT4B/gSZwgT+HUOQG/wXf/jlTQL1gwqf0VXCr8UlH+Ch0q+FVYrGRnZ2uzHG73n8FBiGm/ksD/nfjv13BEdDjbKdC8mMENGIduGbSRGxI9nZ6LKeBfsHoxsV7E9zRia8/BIZw/h1sCWyovGH7cJ6Cs0mdbWmuvoMgLBXY/DdLABAyNw8hJsNWq7M/9nYpRIDXIEliGpYvPF9rA0xQHBq/H8N0kvh2HGrxfDWf5s1eQ4nYGUffZKvyrCofwL7k0X8IOUWMfYofQjOt8FZQ/s/T53+C38gvapaFCGX7+0ceh6Bzc1nEO7qDeeOtZuJt6494JePvL8gNHjRESattPYUM/DR74DMyGV7hZFor2ocDv4Peyk+/BGqiPNnnfGeAJFMDpTS7jF2ps7Dnms50AX4HVZ19aqxao4/Bu9hH7jTJ6Dh7AtjxEU+PhwFkKcjIBj0TmiPB0+wrOlK/CfNwwFuFvNXwDO+tb3BJGzcvjefFn8hjWh/ABstmF/xAdoFSQsxNZsGCrLpyG4xd6z8MTzZY1eBs7lrvFWGISauaFGoelxulz+hwnoLZA9TmX1roCxccylHPwRAeN86IC11kK8Oo9UeDi+7MUj9JqsUzAh9uOOfELP8vD/+Fz8GyH953ejyreU9YJ+PiWc/B8h38cXhiHCe/ZgGI9j+8tlW3KBLwU6X1hDfBdyMStMhu+j5vPD2A97ng34Ebbj9dD+OwIrpR78Rt/wQ7qOFkK5WT5g8KdQlOlgBZO5BEvHjmL1sSn/jMP5H8aG/DHZaCQQ96XJ+GTL8Ar58Df4f3CBHzpBfgyX3+dr7/J19/m6+/Yz+ON5TR8uY2CfXyzjYJ9fKftBVignofFHRbvOnzu3YiPvZvbOnDLwVfHT8Mrx8kx7vs7n4/bIMIUcw1yOXDQUdx13wQNuOnvQ665B94CB+FO/ngboZAexJn5/zj7f8GfePZQKCAF/kp/+esUJYP/WhW71JmrilNxR+nMT01ToMyahhT+Z4x+k6ajmKaR6vVyHMWcpK20kT99MkexHMhVDYCbaPlkw00jff19+4f6Rg7rmrb9EWf0HCE0nslBRrqD9EBHaXMN9w4Fw72h/m52LduAR8SlS85Y//lFKSqaL+NHbsYSGN6tndiaOI4lPtMqagFHCsEmuTmomw6qEyOBTepaRs4B9nW/v/QTXbCny1l1dRCL/uhFDRW1PALE4xeOc8uFowGFgVyjGpE20nIGzxHRNuqncAZXyXUuXw/pXt853Ll1ZHhwRMZ1V2GzFGLT2/UjPT0kpo9O4cJTu4mmw7WMlacnjU7CMrQGaLI0tjZcR1e6A7yDMfaMRnMqlrbiOye/o0AW9HSHBjtpgdh6+kfCvewsNzO6zYxwrjd5jw7GF9XkqAQu2E0+cja4kUxCjBZHpeAG74Ib6E+nBvuhi+0lOrsbdRsOlfzhcoysW6NcTw5gqcicl3YOlAYj86mUvTxd0A0eCotzkOq/jsrv18hpl7nVzm76XK5gAyVit7YuwR+yWYmcezkk9ByGEXZzauNZKTpwt4vkmioc1eBWcku7HM9+W0vdpsYNicyurW1DHS2YzNa69s17W7dtbW3YRpHvvWYyrzuxD2LkEFE9MQ23CZJJyHVLkspFKdeqEBatF+uKbH/aIusVm98nnDDtuCabyAbHGmazG0uY7DLs5Y176knTbw93Hh7s5/AaptgEpj3GM5Ulnblm01/l/Sua/7fSWEewD+Mn31SfmYS19USlTTti4pMUnewpFT5Ip8GJvwdm90M4eDwLTAGrllSULl+yeJE5ZBXhWkQfEyo8mz6E1UenxcTmyNgH+UheEETVbUxJtOD97VH3s/H+DiQ89Pu34um4gQGCIlBWhfIXj0lOU873wur1Osx5F169JO2ng8TaFlk/CK6iGRmvfJD4FCd5GbiJEs5mLwMvoVmNQT4ZBhOQVX4v/7H1vmQbgyJhcB/1/ATk4G9Rsa3XO3s7G97/VNBUxwyikiKm348k/QPYwPcgh/owPn8vrINHcKN/FG7E325kyu7Wwa48ZBeaI8Cu5imv4hHvIC9X+SVR4ftKhUHHMYOp+gCz0F0yZbTpsfdUXNIXmKXXk5ZJA9/s2G+Lz0TY2G83LX9hfNJzbIr/Dpm0GYeC+K8KguHy3j0Ji+7lCuYYt/v4Ps8WeRApUZjsvIwU6kUIALEr72TMSir5oBzYVcWCVb9KohYDO1YI64myIuOz+k/xdT/9GRTXg6eM4RIc2Gewj1/BWfR5ZBC/wMNiA0uxm9Bu34VjKeodxodk67O5wrIkF6oPTcKSe9fidYV1SZd+X0PGykVFtt6Sh7bLK+u+Eu9siqtx9SSswKcd2HU02xY+b3ytYMK+ChoyYCXwdRybbyDn8E2kMr7F9Y7IFqyV1kBFsuhlRhXLnpY20ZEvE4PyT/JrMgrW0e39zLjdxSNl4Vo362WtjRRWYy3xWT8ENmW0wjt7HFYR91ZyAtynoc6y9CTMFLwc3Vrx1oG/NokWEvmaHyHJ/GOc3T/BMfkpftXPYAHyHHcz9rX1dShRlNfAp2TVq3h8AzwI12Luu9i9QsybzeegARnXTcS4Nk5Ac0uFt2UctpAhsHecLYiLYllLH7KWy2rsFT7kE7cxV/ibinHYHlmZAsnt11j/v+BG8htcmf+Kc+rfsKf/FTeY32Fv/57bV0juMX5i3HJUeEiFBhUeFsxNPscIJfa3W0YHFW3+hrTVHjgHu7DNuwmG9voJ2NuMvPo+b8sHyHWhu8PbMwG9L1MkFno8AX0tlrUlFfgdF3BDod8SfH5oOyPz/4ZejUOIYO9LxmHoOGRWGBOHU/ysItLjItrpH/DL/ojM6H/ifvNfyMT/CWnpP+PG+Sdogldx3/lvuB5eQ57uVWRuL8kvteN+o8Ku1yGT9p9XIZ9MowsIgiX6Sx/jyXRXLMLKzS9A3fNxW8A9mOV4VJQaKmAOix0Jpe0JjnPzYYmsPwfPg2dwszwJH4GPRfGHW+P4wwITADVzc9U406MriwyQZRZY0UnIRSoBn+ZQWMhoA9mWUMRrvk0G+WbqSW+72qlf5ZgEjqKSGaUNi1X3R2pjZpGedYlnFGGwRDUMgxIiV2aEehTYXH6ZjsaJoQYzDezvaaB7C9tPCjqoQ7K6u/mRpLPJ6NoJFQQHVKWRZaIpGa/UJTEmrhAsJoGjbKA7RmWhu/Uu7LEVGk6qWiQhu0O6TZ+Z2YAJkTsdI99rporsHms5W2YSEszcWHZNLFGux+1L61FK4+GjZgWbNuLKJmM09NQRLckQIqVPenRIuEQWam15qrzRZtBrzQc+tVmJocurbk66NSX6TUxt+ezhs92KO/gqA481gy12yS1AQeoR2JOX4NNi7wtj7q1sGb0erzdwWKgMplrK/UVkGV0xCepFyBxDuq9Sv/T5C6z6db7Y0usNy+Ye/HsA29aL53gfUiYHZT0NmGojnpmilnJp10xBZoii9BGZNQlFo0Zp4oAYkLk3E0oSnk8i9wuSrrmZcp8hmGcOwFVGBUXdPvokVCamyI9NoZ6GwOhpWDIal9k05TJOyS2qNzQGYaQUhvF+BFt5C9Kxt2Kr3wRDyI40Mqyd5b9hs2WB/JAmTz1+yLX4cRtijK/xKF8e//E34DuRqxm5HvrdYpx61W8snszCmJMnFA7qEKNijjUOUBGE9Fe0sXHT5va9rQ3bNjRsad8rDQk2122pJ0EHRXuJiYScn7DoDHZY7P9J4h46yUpfNXBG85M1D5d/T9+BXt0+MNWJSKd7oUawZKydF30SC7cYU7TJfiTbzmYjFAWDq947KOqW+7QrNsJFQUIhwnKXeoDciUjekkQm3MjHYGIBkcFIujdXmx3YKT4nRkASfc40plOO3qDVyfsyYfMKpDfhxN62mL06FPbWKJR+HFZDD11mrocuN9YNZS1iLrhMbjXE/mmBitOgjtOmlRPJIRwpKEadw1OHuRbJXHNlLpc/cBFykbQuSKzFQVS/TD9HErpOb8kkzH5BdyeJJCelZ4CzId0iQCuTelJMczEn9YcyxWoiSLhYX4up0KfiHKvikKOSQjqlmK8z2YjYrG3Cny5m6sxMhDGND6MEwkOO3TU9/DtD/opIICAnEbAngx5GiQbGZz6Z8oxxI2+KmRzbwxfn5qx+Ii4pHaoFXLrhDgEe9vicn3RXIJ0LjWwKv09711CQydDF5cnXdJJostFr+6ppZhcxZ9OLI+sgIepmpGcZvDLVJhgnTHRFvj/KJ1Kx6rCsqlxpFlY9Zki9cQZoPN4uHjkNsu0Oo8dnT9styRe/fq64P5JHXz9k0KevMxMuwauvoFJKWCpSxixPt1gu8tUV8XMqTuLnJNt+BRya6nf2hvqDunEpwROX9gyFDpcOBbuCfTcTJKDeP+LlcAhf4aQd4Fe3DPBTw9vJktzbSaz/hBczJGhwwoucKP+oXPOdwGcsb6K38yQcse4flS/KKYg0odDwjyoKs78tP59lTM8/pAUga6a9NPYBXxy8uQ6GrQPIssq6JObAHRgObugc6g9F6ChjGVwuArXLkGVkkij68nDrHeQi5U1sX5yT7pWDs3UZnrsp4WxdsVrzORH2ris00CUC1FdvDA0dagr1DbSGQv24JAh+MCRvFsTwo0nycHNYdb4Il/IgZ5yXRjYXOYiqApS+OsZSWW5SQito3PhiZC7yMZeiQ9Xm4Nu+fto6WodCXcFwODQU1iPmuAzUWvdg51Bnf3+wvy98mHZFG+/Vjz3yFkqkQ9G79490szsVu+0oTfTuGg35GCxA7Q0N9d1KTl0uQ/E+rZACrIgviZOaCdIhMnMaYDPNSdy015U3p5iVq6bGm6OG6oj2WQeGgsHuo5E57YvxZtYLdcFWaFXhOg22QZup2YPARGxsFJ3L4PXYN5k92LX7O7sOsTLWDbvIqm63RnC1OD4mNV0JoHcXoeCqsE8jEFtT2ErHAA5kO08jcvdSoVvX6UdAc4W3Uhf0ULcfkMJVlTBry1NuQvPbgp1DXb3tneFDKhxKCzXbBQfhMFUzkB5gIPWwjnw7RSgBq0C4dZCb/GA/4Yj2wi1UFQ7Xjji2Mf5LppxKJjU2kRforfAmFd6sEfStiTBW+F6Ze+9R3rdo8FZavtZw361BenCXBsfgbp3XNnfJV8kRKvWGRiNCO+DbNVLQ4boNHgl2xTidpcrJZ0MvvEuDd8P9UZbxSUS/D8YOvMk02YJEDpX4Hg0ehvfiloGE5PaBHqxSuJjRu0c1eIzeebvI27S/sWdLiOxBhoYJLrRXeD5hY6wHQ4S8+wA8ocGT8AEDU5XIuuGwDCv2AGn6T9CitN/Mz2kWMTjuGpkhNCJ8IOkFA+PSxhfm2SwdJmcKPNz3RuOWsi9RhZj0QQZAlmWFSfmOtyPhiuin1VjOJ2BUhec1OA0vTNu70iYthX9NpMGEBpPkBJQrIUyogtbgUBuyigMiXmU9tZqRc88bmMpXEoSUOutlDS7CJ6cwt7LXffnLQZDk/Wc1eAU+N6VRjn0d6J6kW+GLGnwJvkzr4qahYWFAVk+1f5UUpl8ngnhXa/PWbXXtjVu3CHY4V4/VsX57/aYG8nDZsrUt0cAnW0+2eeu2xt1bt0hsVJOQbR4K8ybCtrXWdWzduNG+Llc0kMXFU1FcKSXx2QQCsD76mJ1Lo596h8JWUrbN4gSmLI1TZ3FQFkHRNJSnQZmkUWS8388vTWP6qLQ2syNTVVooeQgqKPqcnCrSSHakDabmPvHcaOREInUO9j9yHS4WJXiQ1ictuwLfZB5gBd5/i20MvikRMvPh21H3/4SUK0511pripOPf7xBomnz/XSOcSYY0V4mIectlGOMaia65Wsr218n7D8v7Z+XvDn5OqyUTvk+YzWyra9UFWMWTYJkAp+BnfmgIvQIUyRAEuJDIc0Tqpddx/JNsvzd3EvLGoNg/CaVjsBB//OOwmOA1c2HFGNT6PZ4xEYu+zk/qd39gAjaNQVOkJmExTLFOZyFrNgf5p7nYo/OgDOnqSliG1OfVcA1+J/mq/Fi2Yp4Uvan+2VTHaFyzV2Ijaxn376cyQ5n0KHD7rUWTsIWaFJ9pLVBIJPJ++ZnMtFjW4qHmL/RbiznnsqicwqZkI1a3Ca8341OkxUTujPPgIEAN5Vn/i1DrfPgJKCA7jXZSt7fjo6ZAxRnYaYHRSbhhPVmw1HYut52DLgoYumwCgrWqRYZhWXYCKgvUc9DbgT14kN7XTQDZnoTGIZxnm4Cbz8DRDNjJgVa+xsFbCtQzcIeCBxSZGS0sUH2OM3BnBk62t43DvZzuR/aXXLUO53KnpcbtcxvpBzGtW6btrdV87sfBU6CNwzsvwgO1meR+gjcPPQ7r6feR42A/Ccvp8ji/t9Rk+bIoqlyBw5d1fVVB5ovwfl9W1b6tx7Ioqlyek548dXfncucxNz64Dz99TnC5m/rl6TxnJ6H54eUzeW68fIZis4zDR47DXLrynspzTsLH89y58OJhvMBZNn4//o7DWUuNUfEKqrjq8WRdzW/xT2bVh0D1ZdVkcrs+fxou+DKltQmN6kcZaacF5wNFqdmKK/A6nHHbcDW04Zpux5W4HemFdhiAnUiV7UJiYCc8AruRfNiDFMP18BzcAOdgL+M6fhnJ5h/CfpyK3fAb6IE/IvVrgR7FibRvLtLthUjVzoF+pQIOK8uRZK2DkLIDBpUb8HcfkqRdEFb6YVghO9Xb4WblPqQ1H4Wjyvvw+QfhzWxz3wbe2Zco+o1KXgO/UEGxWlW4lVFYlxJ63qswnz1xfmVVXiOD617vayQcfkC8K/oLuDjSXoP1dbApyjzPq+yM8mtstlgI0SLNp58zZr+QeZBZHZINMuk61hViFkz6jPPhxxmbkUAAn74vFz51iJ7eF/qE0dW6jcfPhUVR5hYL+/FcZVQcMQ5rPxVX8btxgf2GQAk5aYU02PJMwmdegAu58PlJ+MIL8JX4LW0m5s7HZftv3Ibfwu+4vAwc0Afg99KOpBfT/jv+PoC//wEuQzCzJU5uGO8tPSVMCDkMODQSTV0BhAhqjC7KydIdvJtDnWyYX5Do5i1ecTZdF6cihSyau8akzt1JSjBzIM8gNBsf5AnUnfpgV3/nEFkNG77aJFzek5AxuqghgXtQHZVpFYWDTBR4x4WeL0lZBp7nA8FbdJAZEgTtSdM+pzSVqo3BbKKgiHTUhpsjgBUmGDZR376hMzwclWIhcqvRHKBRXGy10RYvhnwutzyxY5HM8Wxq2NKAJGxD/d627Rs3Nu5K0/CkGudTvF7RUI9OX48YrWAoLW9vm0rtiHNSrqYqk+9KrmtcNQ1X8lpdRBELixGhYSNVko5jUSoNZ0J3kE6kfHVbrckbM5uP9NQnZlbndS4K3qhS6CYnofn8z7c634SDp8TPvbh4yE3pG5M3p29MbidLxJl8WBRIdD2pg4UMKwVdX4JPRJTjq7C3lyFVmsERkW/RnZiRJFHOkjbKilfuSZyFAct5yBiHHPyZOQ4FF2H2aPM5WEC2nGWjnGk+Luc58nceB1/WjV1rwI13WfjrRaJjAZ4+C5GmXSFOP5zBK2VjVuGBuzSGBVjLwXUdbL5DBjWbJeHfCNciUROxiqy6okieSTXMcTGEYmxBSmKY9ESjjczevpgw4gTNGWMFclnQnFmG0cffAJpzThIjkP9lmJtZPL0zcC2RQ4UBI8u4Al4Da9Mu0TjnRhAmDa3aPINkW4gpyyiwH1t7UPoOCbFZFngR1OMCRTOT4DUzK16B3Iroh0F8+LwE/NQN0AK4SiuwIVVQDNVY/BJ2kbdCxoxc/EvgBnqzoqA1M+ObdTWWVYPphR3J3DhozUwBrZkzauQSVGutp17akMyNh9YsiE9L3eXnttOGRL+Vxur1JkSgFhtmUFoDm5sKqLTQo4CkOg0ldXVEXx1RTpsSsemeWKn04SXNpm1oZ4BfrGGu+fuGfsYq4dMGW8kyNdIJmSbeFhwmfDhWLy+cIklrqL+vi2RP6rbtW9obWxoWCksDheeLouMu4whE2xgUsZUBvtuDWzILSbLpLkhqT2OgFvJApda1xql2p/ZfdqUlEXdia3UOwdHV29ffPRTE0V2wp3nqvKucwkGZ92kzEbjToPj1t1L6ysHCnZCv4eL3RkUe2yEF5U4o0nDJ5EW/klmlMF3YU6RnuZAovjMMTRJkd7q4zskiLDtuRMImyCs3Ja9AycbfAnlfLNX5wisMv00EoeHtbIfkiv14nFv8Hud5wF3C7be/5CJTWI4InCPuZoq7QrGDlBpn/MPYjvdiGx7BQ+1RnE2P4Z5AmChzuM65vBNQHfPlCe5kg7cIP3rbGzMKS+UG4eIdYFvEqdwBWRpOb8ymSWxZGQbPATM0sqESEOfbgjfhSOIuxG/10JA+wnvQg8SaxmfPionPzjhljSaBNGMiyHqjvDGYfO8kHXuoh9wwxEwpL0/tgaBnY8acI8nOi8DD15YnN8aOKcUIKGoEEaWGLtDwVCljbe4gn+2pMiRplGJEoRfqutnlpvW2jXCAviGuV9f5u0NDDf3hYHvvUOgWQuNPmdGERqAh15X/+nngTUxGg8va/xwhjd8ghP4Sksxh+EpoDFBgjHeumUKaJpMe1NYIdl9uqrs2hbF0UJhbPyGdmioSSbSjA5+mKX0xYVoM/MNNZu47sZSVpb19lREZIOl+NoUbiZmbwHTcEbgNBea9yO8SKMhy8dy6v49W/0zzrLux4cMhHd42CaWwbnV7emywiW0htmHtG2KPr3fBDXCjKmBgO2MQPSQr2Nx5eH83OU119ujMsftw9N2X/vascvovRZWp86Zirz2EgpCmd1q2DYK0oHo05Bm3eOj/umwHHGTI2Qg2rYQjxQ23NdSH5/CQIUrxAGsQo4s2S7YKx2nQRdYXKsEx1BMG7f98McbNRJfw9CznnXONsihBjHE0fTHGm9IXY1hLpWE8xSSwclA/hSUAGcj/W+kA52tylAEjAIJK5Cc0YcprWRUneJJssnD0Z4yBSg7tkv1pNhycD+DfIJIkvUhC9VmtNE2MqrbiOy+bTl4bJ8XPPGUUoyPCzeAwcRmctEMKU5b4A/5x8JyB3AyYhEL/WaKaxmH+WTKXH4cKCuMXOEMQMGMc+mzxqFGsYPFGkKS6Gcm3W/BMP4LM01HZslaszs8eTlTdFknCLcAilr/C2jIqbTmX/AHk4+hmHFbt1KvI4CqE2u82mAm3cxS86wS+VqmsYxuW2Qbt8uvnGRHaAmOw3Br5fsFF3o3NfRs+2Y70pMgwV3YXxea65ixFURyN67N3YPeKqnbCLv7tgN0C0g724L/90I3DQ1cUtPEwhDi+3C2SijwCt8Kbo+RAn2UGJTtqZ93A1jSKQVem9om9HDtUhahJG2QnN/ukuL7I4+ZQslxT0lZQtIohC3ILQYskPIlmVSLePakNuxTh7ZobwWh2GOSgPdTTFiRomLw4CwqZWyXrzxjpF24Z8pR0kUiA2qGL7NXelASQChVp2rgFwEvlVmskmSR0+ajw7GnYSF6VwoGKPp4pOi1i57aU6DgbrLx8W2BqrW4AmiUYxqnsJEkfv06FOo2k3KbhFmKBdcmucyPSZRoujsb0TBWvTWba78Lt0Et/tmi4m+XqEdndsVj2pqyMj4FsmqNCnAtLfF+5WXApKnGnRracAqEowgTh7I1bPVF0nZssDVQCYLoR9k4ZL2z6cb+o73XMJjM04alAiglTvkeFAxptQVMFV7APSVkxR/R2I4nRr5IN5wCE/naGrdTxN2kwROOYJ1CyBOvSavhS0PizxefNphHnqYQjGh4ttyayPrppdJMw3czXXUUIOf4tKrxVgzvhLlOf9FThyqm8uzXCcUnXYYRysI3mPTFeIvRl7yQQ+lyOXk/fRCN+vwYP0IgzDjU19SEN3gMP4zIL9UTLyE2shBV4hAbsUaYw0zMsvgOOa/A49R5BTkn5+ftxNPp0wKt1fQMDocFQf1+4amiEToQnNTyWb42Ka0EP2RTzrih2hLh5NsZ8JhWjV1bemGYkhmfJaDR0uFp6wFTrziyGSaD0ea1vaG3fbBI53fLrFNyfiueNOGDilZTPmwYSUcsbG8kyXPRaw+HOvv44Jik37ihPwSJNuuAMnFXJpvPD8NLfA+l9AbdNMT7lNEfWKBVGhCQzKvyT6VPhn54GMhX5es7AfyfZ2uQj7AT0URkW28vOgnRNmgP6XSSl/LoGj5SNwNI+G3sMnmLdgiBVHf4Zll/rQbLhOYOO9CAVP8PwVKIcCyQt7fQXTYI6oVPwkSy5eNCLuGfZMssqGfMsB0l/D1H9Pj+S2gVIiJZEMgsCu5A1H078giwk8L2s5Pk4hQg36hbhnmezYWBBfN3zse4FLEjVP7BDErdX+8/BfLJy803AwjEow9tAxwRUjkEVXi6lN1USDqBgnEzllo9BbaR4wZyU4yctwjb6YRmSShQS/VFRjdImIinC6dOw9jg4J6H+JJJodeegCStpJvzbcWgJvIL8xYtQhixGawbIGsvOwA4Fl8vuDOC8WadhH2YvDY5DN9nvyQwHLVBLnE5Zge0MDGYAFRg+DksKrKKMW4hneVOBNfA5UJWToAbG4fYxOFZgJfBlvLqXMrxDr+Hdeg0FNsF/PMeh4WiHq8Ker8a5tBjHYAnyIUvxa6/CObQMyaWrkR1bATcgdd+LnN4gDuzt+OZ+nF/Hkdd6EtbBh5AJ+gRsALLFugZUbZ31dbjGqkLTJcxgUwmX+A66xR+6xseW+McZ/Ds6w8MdfFqO4zIWkuPswln3IPYEfdZ7a+2EtfvYKWOYBAu1CYdiM1434tMX4C5ZQpFkgCze940aGcTkaAGyUtQTLpJrYgZO0CdoCMbhqbPwtM4wRbJdh7W9yN03htyjUI4jcwvnGQeMDq+L8Cn4TIQpUjLS8sGbSuDuIEVNoTkOYdX+vgGVaOyEPT4OMEEYqgz0hap7cHuvbqWgG7pAeNUUoQRiT7WYMlbFqdKjfMQaB3C7pAPOMdg5FBbIosnwCApjY/ZFfSADRw65YtGEpibKXVBgQCXYJBhCaRzRkQDn6CZZu2qwWd7Ez0WuYzhUtx8LHBkOigd55ab9QmUxJK1feBC2dhJVp5JMfUFsciMIQDUdvEbsBBcux6XIY2lkJZIwfpQUx2+GYJHr+4bYyqWPnukx12Lbs6c5rVrNB1klH5X82BdbB4MDW2XIoCUCIJdi7w4Eb4nG21RgU1rNiZSmtyAet9ZFAh5VuPjVTQlkzKR4ahDcDVCvQoMGG2kNmoKFshkE8rQMvBtl6cXaEAEhy3i715KJUGZndzdpQpD1DxMdlh891Y0czBQVC36wFadqaGSY3Zll7a24IvQ2OmCbAq0COJW8dfBhVy+VgaQIhTWmiA+sDqGXwq/ncLhCYNuW0vcjg0QezgvCpeX4bv9RzLPIRd3YrpGgyASYVYSJy4VdGsmCoq1g8mItQOTalp4/2evXRRz8OkhInuBAZOY2RPOmS4Nugu9lzzLWEphMFlrOB6BXhT4NDpIDX45Jf+GmOUh3PebBnJKTgHHdTh10mHbmAUNSVWC49nmDAyOHyTAzuE0fDQXmlKfcVRbt2e0krETVCHWWAjQcv6Jtc902EkUUNydPhq0cNuKgUeiWjSP9/bIAa/miPfVuPKrvUIXj3p0ywpNQ9IT5M2kEjUnOcKy8P8ZoS+NTrqJCj2lwN7xNbOrsoxuJFZMkF1EZ92rwdrgP24ZzcJi8lvfsNtVBYq7WoWA3hVIKcnXMXr4bewVnwzAdJteUT5lvitYo8IAGD8JDFM2tixQICtSV76lPPYZJKiUejSYEt/VhDd4Ljwh76AacHew5OkU+ml5r4DENKaodieDSa+B9GrwfnkiATKZXH9DgKQqHJsGTdbDyp+FDKnxYg2fonalXMGV+VkN+YkcUTDOpNT+mIUH0HGH4EYtKqsdC7JjYAOz0opPsZONcBj1xvrpkKBEOkVdchZmptHmZ1Bu5MKYheUVt65PML0UWO6PCWWreOVNzPVt5fT19fAEFEbsAL5MskzY27Eya2Xb6jD319OGf1Cj8VgLWdKbhlyfkUmQ6ksCBU+woExe8pEy5FdnqAdo7zYipHYms+tfMg+TFAFar8E1zsHMV/pGsZnarFKErYw8SVd/FY22PyaatwvfZvgbL6WfV5fxIX81fqkCAVkNiNpNHJD/Iii5j/hKa9FMsJtZjx2ZbzGO0u5H0wVPhaJtJIH7pgl/Br1X4F42cOf5PSeuB30oUeuyc39O6+HeNHNk8MIAP/kgP/lMjVzgP/FccqkVyx9pGzPpnyvoXDX4AP/TAfyuwqDz9mRInNPlr+jGpYFpw3gXMvGdAPvJin8Wsr/Dd5zhCVeT+H9gUTxhifSEOkkXKRb4YhbjkJE9fzIZJlV68I8u9C/4LT4LTT9DDNq/Tcp7stTOb/ResHwLNb106CTn4wlO+ZhKK1hdPwpxaG17NCS63I4O/gIQAZJJzHqomYfFOsvKumYQVtY4CW4FjHFYXOF6BhXS1/iTMqnXSba681WpdBc4C1zg0FjhfPg0t3usc58HaYSEmuW0SdrZ1kJch/tjy7Lmw5/Ak3NDWYQ+0daiBSdhPd+PQs/N5/JrtcD30IRE7CCNwhEET6Ztr2Z6tEHzIRJchtRrAzlkCs2AFcl/XYgdvhzmYby7mLIVjyGM9CPPxY+YhI7wAvkIQyeBw16ngfo0MthbWKZdgPbmVfZX8U5DtX4P/NpAMYNMlrMgR9wIf8zvHX7A1X5dYvd/AYUJeTg7VYWTEaYhXnoM1HYUT0N+M3xVqOQ3hcTi6xVJxYRJuO0Oy3IqzcA9g096RAZWBs3A/Xb8nAwKjxvAK7OVyHNBF2BY/fnIAP7oCmbdKWApVsByuxhRI+4mqM2aSMSTm+Kl/HB59ydocuPCSq8VCwbzIFdJW4bMesyp+lwsH5/GtgQpLlbW9hECgT1eUHLMoVTV2C8XXsp+AJ9kxEy/ut9Y4LTUunwuvr/X77D7M+mSNu8Dmw2c+9QNAP46nIMvic1u7J+HESVDxat9Wn5PSVGFDTuog27fXOI+5lJOXxnzOx8mrstJfYLNU3V1gs9IfW9Xd2KoaV8DnuupxmIE/1nbRYJ9rK/tz3nRMxb/7T17aEhByoi8yNCaBl6/GpbIGP30tdtM1MAOZsDyowxFZj522ARZDPc6OBnyyEZpwAFtwDuyARtiHd3finHkM75/Ep0/DFiRMWuEcXIfH8DZclG3wNczzbcz7A9gJP4ZdPINGIVtCXa9R4VsqfJuiF30b4HXwED63Q3kd3ArOqzmgxSZR+D8SKn0bX7tSv7YkeW3hy22YApIVoCh/wZn7Kix6FWx/ARshhyHZISaJclROkq/Zz0Nuh8UilqRVLEkb/TQH/GdJlDsJH7e/pLbY15bgnnHcHyixdi8dhxeXrLTmW7Mee4LG8LaslXaeKyUnoCDfnu0P+BycJtS10s6j9ivMdU++PbTSUWL/AMzAUvh9vgMLEPOixpXvyLfi7WKf6zgE2FsXiyutCPjclDY73+GXl0tCB7axX+1PKkaPWS6dvNRbEbBwmm0VkTmxg0W+nbhH7Mc50IULqBuqIQiroAdnxAEczT4c8YM4yocw1UF8chj3mAG4D0LwKF49hUtqAn/PQxh7rRu35Ztx3G/hsV8F7r9SpKrvqPA9HOtCy+tgs5CH6WtQZLGsw6GfoeDtXAq3hxvG92RK8lO1eVx0Msltolx6pnv8FfRhBH364pJJmDgVt7nvx1zCK5xy9eNTYmurcGC2cJA+XJiFlT6rP1Dss+LaXOK3LME+oth2vwwUV07CS+Nw8Xmja4RRbjXWvRgyedtcjF10FXuh0+dpkPE67Ybfw28oxpqFe/kX2PBC2HhY/UVXxbexEr9ERFT8Gbu5luL9L9gB9Xf4j67+A/6A/37BgbD+hH3xmpRJvg6XcMJGDDV+Hmfue1mWFzG2GylAVK8A+JcuxXRTjKvLBf/Kodi0seYJMdbEVw73yyHs0kumwP2ihLM1gnSdNjLVvKmRqeaS3bCbvEGvADKVIyIQPZxQV3J0qiwSf7qhkuQKKdtA41ONZH9P31BY4PK540SffzNQKgcs1/DcWoksb3ewq6+b5Ham0cXTKy7LsE3JFHbH0p0pqfXrDnesccqUBhgksePa+E2YpIyx7Hm/DPq+yh1rxpJrlohCLEkZUJGZDCdKgKODk0kBTqm5CXm07CYGnWxmkrKjBDsry1OXmLx9LpJmqob9S1FCOvnFjDVnHw4JzCtTqZWRkj9gj4Zk7g0sD+HHjIyaIo+p//feBLwtN9xoWMVIuScJXh0kB521PUxYlAOh0tBwb3CotKs31NcVNJTPtG3p1jASOck87J+DxKTZccVQxbpBTGrkrptiLZoiU86Fh7YR8EyfjMLOJGFBOEhL6aY9o3SQNw02V40+Lepx0YXJx10YSx2BN9GW8Wah9qL72zWydDG1m3Hi6zs1uAuOYUvCEdhuM+uVI/A2DTkBTGnfP9Q50NXrInGkCu/Q4J3wrsswoDkijFyOURA8odE7Iqxc3mxYwpCg8b0aBWOJOIMk8bwwHDho0rE1y/t0j48V6Xt8xC4KB0kNlVJaG7qgUCVMMrb+qInxT+/tHGojh5uBLtNVFpnfKjxtomikE4LljSenBZr+EfioKiSO7zJVgUbZ4WTAxzWSNqayw1mRGkAsFQDGIJzW4AV4UfgeRSTtbSIoXfmipsuNkZHKebGoOanXZRSwbxIv4DeK7BXvrJEppXF0ppIwrjDR+oorWJUgoMuWJ3JfMJxCPvdZF4GrqfB5Df4BvvB/8jkPfCkZ3iL21leIMvmqhpzRRQ/9/43pOFw86yFBcCDpACZ2D9b4Ty74DnwXmRJaZ9//e7Dg+iEe1jEUf7lBZZM1V+I+ZWbX9ZP07br+eVoiSgdL2MjPu5iDq5NT+5woKy4rbadsaELPxjnanZshkhQ4EwYCiCCM6XP496UEDDZlQo8KcN6wlPKBE/I4jybzNEkMtrmMwZbp93onIXcMCsnBYJb/HMxllLX5Y1AWKUs32rIjZ5sNRZCLzZ/DklMk9GW51YbjB2YPGMVGChFGO6VYFPnNko0bwWCIzF+Voexuq/gc+PxeNpgKKGdgsYXio49SkWQhNesMOfdtqTxDwL5n8VPgDGwhH492Nqy6CDeSCdYZ2Idb4FNAuGiF3u5x6PF7DxZYLWegn9IMjlOsdizUezNXU2FUw51+no2j3GyGZsUezoNydrlfgAO0GALY5Aok2iuhBZmVHbAUDuGTC4K/z3sd2jk8242M37dSflwP3rFZ2Tk40jEBt26pHIfbjkNhpdc7Bm+txH6/u7JiHO4dg3fjmwcrIu0Q8V9W4rSpxX5fhaO5GkdhDfJ5a7Fl67heByivkZv4ETZrepesc58cjWVGr8k+e5j67LEM8L5/Ep6UvXaiOYDJPjQOz54ls6dRY8iETKMecpCpKISNWOcm7IFGuAo2eVy0Tcnalkrcrmz/ODzvfPjJmNh/5w1hRoAbTEhd68g9/pP8+lPwael88hn890X4MnyNr74O34RvwbcZoOtHUqbxY/gp/CxKpjFr2lD8pdE8pXFqCgfKK47Kb98fFcTCruOYXBFM/bIkmPrx34S0TeRRqf7sCkDuL68j598uUW6op5Ta0h9EUqaUu48MUGjjFTYrpREHEwNlP+MyUPYjYPpeczD9HGOuzSZQMa7GZ4Dp54lyZuoF5kOBAaZfGJZQHPi85G+EchNt/yHFKSOHDc/fQf0JIcbGWfElxcdJHejkSuDdOP7GeDczxHfvDY8c/t8JduNICnYj/CunA3bjwpTuGLCbZgl2M5sAbchcOLNrDNSKV8DDD/DcyTwwJugGAXIjTKCz8ZD24NybgU3KYYAbCyizkuDbZI3phMe8KKREG66vaHybUtlyQiVVTbBtiqeBbWNNgW1zX9yaTS07jvdOzCCIRRs40xBfkjJYUyGTQsVkTyWcnba4d0YsxIYQakdEvR5wUP06ikrWUMz7ODYzNvMqN+18qrGur6j0cRbMVqFUo/AWb1z6OF/DebxwOnKUclikgl+jaRFXvW5shAMhzJxYInJ1+nKWKHslN4FkqLBYI4F1KimnCMZQUZ7E7MkMt8NFZLEKNRoshxVJYEpi0TmS4N7XJpflrTSAMpJJPkiKtU6DOlhvyH7nGKacyYW/VYQm2EBBNK6AfJcEQPOpzEYNSf1r37BozEVe5ips1aAVrrty8uIqw6HzDcmLdybIi2mRd2iwG/YYWo90A8UmOz/fsFroDSleEuVNReVNKQRO8ef1ZQigDlBwhj4VDmrkF/p/AigG1khfqDRIewX7uRKoUsxeUXfYsB2v95BaIC3RkySKPKQiSCoHO0oAabcy7oqHJOsppJLYxtupjXdo8BZ469S6CQ+ZB6VoqVlswljZ0NvSlw3dOy3ZkFvSgRmMBCc4lzxJ6wj67/ok9N8NBtW1C1N2MB7HjTL9KikimkkyFJUc8lz+c+AhFFGvEajyBoPuux6z3gBk1Z8He/HNbv5LBb0HiyFpwF4k31xnYCZJFEpIojCPzFnKzkAlCayuuggrx2HV+thEc84SqugZ2JCB6TfR1WaS2jSfgW0kf9jBLm85ZMa2a9RokDDR6kLysxvplCBSAj040AdgA67ozdAH2+Ggx0VzRDZwqfzSbKRpV80i8PAoIcQNBul4APZHCyG6+HU3BKVxRQ/+I8yLYb66mXRT8tltcCdHlieW9W64B94eJYjoZ4evVH7qlwPSFzANiIGkw+G+ruo6/iGHCra7dgm0Pg6PKHlP3CM1IuJZNTXC2pLK5mkUiYdSjo5SPWUOF04gWzSghms4NNzZLx1MytOsd5UBu4ElOJB44vgj9FCHbZP6ORPuUkajAZwU82C+akCoJY2Q1dREDiaLyOYooFHUVBP/ldwBPj639jQHO4nZ2x0congoBDXQ6NIhNDCjY/9I16Hg8NYeGgeO/r4Mu79voGuIMSfrBro3BYfFyDRRV9VQkuW6z5pX+FEtF+pZutfps0xpko8FtFEB3Ord9nUdejCaeUagM2tXkJy5ORgNtWIjFbmMGrlZg0ZqjzYyOBgcYrN/aqgitPsUeA1rbZGdTUWymxKjz/UNUFG6Ol8Yz9vKG5uIVfJSbLFtZLHPyAt0JG9fv3f99g3XNrTvXd/Y3pbMnN6KNUaStskgN5rMqZvYWy4mU3JPQ8FlgENMga0vTg45W73ktyd0BEhqyBA41K9NOsRLPEsvV7vO0iu8l6rIZhHEjgIdvMnsxvs9UffX4/0NUfc3siP0bBlLUsSUFM7eXloQLC+jUmlH3odXuyVgbBVDSJ4DZ8cMy8UJcI9BFt55OyZIAO+LXBaQiL9Y7PidhnR3LpYyC2uYDSXY8nIc/Ur2r17Mkv19HCbcyt9TMSsXSh9+P7icsyZh7r2nPNfgb3n3mlnFavdt93qyb1+LF9Z9Hk9vyT6x63YauoMyMifCY82PXxRA5rCCd2ELKNn4AienrKpdKifmFXo8J8BeePdzeNFv7V7t8eDF4L67i47WlbqKjna6gs/F1UAxYJZhD9Vg3y3H/lqh1+DkU2SHrCEsNQ2kTsiaPQlV47BkF3mEj8PVu4RX+Ir1s+c8/CQU0t2c2XiYPI4dKt+cvPTL542KRQeuBlqrubAWivGUq4J1eB6s58rxUHgNiq3kpk8HjGhANJ5V8agxGOJwamB1wXKZtNTw2uf2rXguLnUjy3fMUheYpG7hw69Xpn4Rn7rw90ZZ9vo5FG/D5nzONee+skO5cE1oEurux3FebnMuVy01Tp8TZ9cJqMgjjKssn3McGjqXq3lqnu3h94HH55yETf5xaJqElueOOZWTl75Bd5FBEiqVdhzt7Ujf7MBB2oVTrwNP9d041fZg710PG3GqteF9B7ZwP6MSWF8Dj/WvMNNqVfyv8rj1seH+Pu5SMf0XWVYXcdMoUEhWETas9ZiCDfgtfRneURCXAvqNH7hunC1BnPnduLYOYPf14gzt44qdNHAU3cSHdR3kbIeMs35DCvlSokeqiwNa9HSO9EsEzlQeMnEGlrOSuEYnCq/aL8vMMrXr25WxwSQReI5GcuhpSsAoo26maRsWnVmSssUqRXKdykSykCgJNwX+uCImkrqkK83gnW6SzKqwUCM5ajrASybiGUlDZBhirjgfQWpWlQbVsHhK5LIMg1SxhztJf0OAqabjaIaAVAPLVQOh9W9lrHn5JsTTCOixztQULLVDmqHNt7CmySddj0R89jksw7awDmsV/l3NR6A429x+th6PaOvX6OwbHoYuxWNo61czxoU4rmZLbT2e4F5/gXUM8vBcL2RVffEYzI4UxIehkosbkw/cSh4u3Jk42QlBZiVHNaNC34Qtp5Y04M6YJ/95LWdgHqOVeK3GlY2vxmER3lTiQbml8hVQK0/ycTibFOdXW0Boq9foHKRSjFxfCSzE3yXKLNzWWTP+GqxU4ZomlWOk1XGO9caG2hS3oeZFuZTKVSlEcangqIvNMfSEciYaOi+/2TzlKgOlGmlRW7eOA0hbsldDJjQ3xmhTJaH7vGh/N1yCW0eQAWDyOmy4Z5IYm8HMC1NZseVFXLBjbdR8FKfIRjy0OSnsImAMVcAN5iZFEhQbyQZdRSu9jGcb8nUnY28LQrkoDi0jWonmipWvm3BW5PeqeyTLbWih4GpUQhqMGlqxTuu6KBo0Dl95smGZnkFbOkq8pmbzCZYCBrnZvN3xqr2ZibtcCtnkGhdFW1FJzl5A0Bb/842vNpBHBa2E2lKlorQNVwteJEjQNqYvQds8TesqooAXU4gytiCgLUnoUK0s8lmKb6+SGLUWA6M2QCCwxQZG7TJDFnYK/z6HtODHcZv/BPH6sFAW0ClFTYuRxp2xpuh94Cgq/iB4z4Gvo6j4LAUCmoCilyUerDoOs4q7i/aNwzyxV0ZqeAEbhTQrjCFXMAFX6yxDlpLFtgy5sroySdlnEwSuLHESyk4Z7RUE/kueOmxjjcwUo0CtHI1LexLrXy7jjK7k31o8qAS20Wr8t54jhpKMoAHPoMYoUVe5O3a3vnxAfnfsDp4QnTpqu3VH7c2pLdiTG0u4o8LMTQMr04mcuL6BR0yDVFKcmgjxpgffmRQ7MnbDqkzsvBR71TR2y0TcybS2M7uAn6P/bFZFhLewkuGC+BXC6lJJCCksxhZK/VY5J2f5kcZQMqA5cAZUBZDvVEYDSIBkkjR4xmicLYJAe5uBqy8Hz5/5us1bjvDhXsC00lyOHqkIZDr/GRJcNhNGmoUw0l6EmaeMMoWgfDGutCUyNAauOGRzZmwgvnwhpyszZruTBbtmxK15iJwrQ/LGjEK+SeX6MCi8DYkYMwKZTmGTwQxwGJ9QFEde+cyU8rhEncHDg8NHxdLzliesVhZbJ4YsYEG1mTR72hEYYud8qpADYgcwVXtH4g8QTdM4MDhC5FXSBeEvT7mwpFGPf61YVlNFNChPN15BenEJ7HQcOHl8rVadKcjk0c3Ce2EjJ+5nsEkcRSLNYWNKIWKyIpchNv5cY+OfKXOQZCMP74TNXKFcOhmWU3HpyY4uM4a3Kfz/39B5iQ==",
+    };
+    static final String[] CLASS_NAMES = {"IlyaPoteminDecisionEvent","IlyaPoteminAbstractStrategy","IlyaPoteminVegetationTable","IlyaPoteminCachingStrategy","IlyaPoteminFieldState","IlyaPoteminEquilibriumTable$DefaultHolder","IlyaPoteminDecisionCache","IlyaPoteminSlidingWindowMetric","IlyaPoteminRandomStrategy","IlyaPoteminArrayHistory","IlyaPoteminBatchSimulation","IlyaPoteminReflectiveMetricInjector","IlyaPoteminMonteCarloStrategy$SearchTask","IlyaPoteminRingHistory","IlyaPoteminField","IlyaPoteminMetricFactory","IlyaPoteminRandom","IlyaPoteminLogWriter","IlyaPoteminMetricRegistry","IlyaPoteminMetricPlan","IlyaPoteminLogRecord","IlyaPoteminLogger","IlyaPoteminMarkovPredictor","IlyaPoteminMarkovStrategy","IlyaPoteminGameStateSimulationImpl","IlyaPoteminGameStateSimulation","IlyaPoteminOpponentFieldDistributionMetric","IlyaPoteminMetricUpdateEvent","IlyaPoteminLatency","IlyaPoteminEquilibriumTable","IlyaPoteminMostOpponentSelectedFieldMetric","IlyaPoteminMooseStrategyMetricInjector","IlyaPoteminRoundRecord","IlyaPoteminMetricRegistry$Definition","IlyaPoteminRoundEvent","IlyaPoteminMonteCarloStrategy","IlyaPoteminMetricInjector","IlyaPoteminFightPercentMetric","IlyaPoteminInjectedMetric","IlyaPoteminMonteCarloStrategy$Node","IlyaPoteminAbstractMetric","IlyaPoteminCode","IlyaPoteminEquilibriumSolver","IlyaPoteminMooseStrategy","IlyaPoteminSimulationUpdateEvent","IlyaPoteminPayoffSumMetric","IlyaPoteminMostPayoffStrategy","IlyaPoteminLatencyHistogram","IlyaPoteminEquilibriumStrategy","IlyaPoteminRingHistoryWindow","IlyaPoteminHistory","IlyaPoteminStrategy","IlyaPoteminMetric",};
+    static final int[] CLASS_LENGTHS = {643,3561,1263,1710,1711,1982,2816,1605,858,1383,2351,1793,3152,2194,1340,5953,802,3324,4014,4759,888,1742,1894,2076,6206,672,1069,534,5713,3616,1782,973,475,370,671,4505,1742,958,425,603,2630,3349,5268,4308,609,948,2676,2028,1361,1454,750,195,602,}; //@formatter:on
 }
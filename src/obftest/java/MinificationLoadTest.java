@@ -1,17 +1,97 @@
 import com.company.Player;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 public class MinificationLoadTest {
 
+    private static final String MINIFIED_SOURCE_PATH = "src/obfgenerated/java/IlyaPoteminCodeMinified.java";
+    private static final String CLASSES_PATH = "build/classes/java/main/";
+
+    /**
+     * Source size of classes embedded as decimal byte array literals, as it was done before compression
+     */
+    private static long literalEncodedSize() throws IOException {
+        long size = 0;
+        for (File classFile : Objects.requireNonNull(new File(CLASSES_PATH).listFiles())) {
+            for (byte b : Files.readAllBytes(classFile.toPath())) {
+                size += String.valueOf(b).length() + 1;
+            }
+        }
+        return size;
+    }
+
     @Test
     public void loadMinifiedPlayer() {
         System.out.println("Loading started");
-        long millisStart = System.currentTimeMillis();
+        long nanosStart = System.nanoTime();
         Player player = new IlyaPoteminCodeMinified();
-        long millisEnd = System.currentTimeMillis();
-        System.out.println("Millis load time = "+(millisEnd - millisStart));
+        long nanosEnd = System.nanoTime();
+        System.out.println("Millis load time = " + (nanosEnd - nanosStart) / 1e6);
         player.reset();
         player.move(0,1,2,3);
         player.move(1,1,2,3);
     }
+
+    @Test
+    public void embeddedClassesAreCompressed() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (String chunk : Implementation.DATA) {
+            builder.append(chunk);
+        }
+        byte[] compressed = Base64.getDecoder().decode(builder.toString());
+        int uncompressedLength = 0;
+        for (int length : Implementation.CLASS_LENGTHS) {
+            uncompressedLength += length;
+        }
+        long literalSize = literalEncodedSize();
+        System.out.println("Minified source size = " + new File(MINIFIED_SOURCE_PATH).length()
+                + ", embedded classes size = " + uncompressedLength
+                + ", compressed size = " + compressed.length
+                + ", byte literals size before compression = " + literalSize);
+        assertTrue("Encoded classes take " + builder.length() + " chars, byte literals took " + literalSize,
+                builder.length() < literalSize);
+    }
+
+    @Test
+    public void createPlayersConcurrently() throws Exception {
+        new IlyaPoteminCodeMinified();
+        int threadCount = 4;
+        int playersPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            long nanosStart = System.nanoTime();
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    int moves = 0;
+                    for (int j = 0; j < playersPerThread; j++) {
+                        Player player = new IlyaPoteminCodeMinified();
+                        moves += player.move(0, 1, 1, 1) > 0 ? 1 : 0;
+                    }
+                    return moves;
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                assertEquals(playersPerThread, (int) future.get());
+            }
+            long nanosEnd = System.nanoTime();
+            System.out.println("Micros per player creation = "
+                    + (nanosEnd - nanosStart) / 1e3 / (threadCount * playersPerThread));
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
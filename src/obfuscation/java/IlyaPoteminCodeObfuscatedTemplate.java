@@ -1,12 +1,11 @@
 import com.company.Player;
 
-import java.lang.annotation.ElementType;
-import java.lang.annotation.Retention;
-import java.lang.annotation.RetentionPolicy;
-import java.lang.annotation.Target;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 
 public class IlyaPoteminCodeObfuscatedTemplate implements Player {
 
@@ -35,64 +34,94 @@ public class IlyaPoteminCodeObfuscatedTemplate implements Player {
         implementationClassLoaderLoader = new ImplementationClassLoader();
     }
 
+    /**
+     * Defines embedded classes on demand, using class index generated at build time
+     * Loader is parallel capable and its state is not modified after construction, so players can be created
+     * from any thread through cached constructor handle
+     */
     private static class ImplementationClassLoader extends ClassLoader {
-        private Map<String, byte[]> bytecodeMap = new HashMap<>();
-        private Map<String, Class<?>> classMap = new HashMap<>();
+        private static final String PLAYER_CLASS_NAME = "IlyaPoteminCode";
+
+        private final byte[] classBuffer;
+        private final Map<String, Integer> classIndex = new HashMap<>();
+        private final int[] classOffsets = new int[Implementation.CLASS_NAMES.length];
+        private final MethodHandle playerConstructor;
+
+        static {
+            registerAsParallelCapable();
+        }
 
         public ImplementationClassLoader() {
             super();
-            List<Field> classFields = new ArrayList<>(40);
-            for (int i = 0; ; i++) {
-                try {
-                    Class<?> cl = Class.forName("Implementation$Implementation" + i);
-                    classFields.add(cl.getDeclaredFields()[0]);
-                } catch (ClassNotFoundException e) {
-                    break;
-                }
+            int offset = 0;
+            for (int i = 0; i < Implementation.CLASS_NAMES.length; i++) {
+                classIndex.put(Implementation.CLASS_NAMES[i], i);
+                classOffsets[i] = offset;
+                offset += Implementation.CLASS_LENGTHS[i];
             }
             try {
-                for (Field field : classFields) {
-                    String className = new String(field.getAnnotation(CompressedClassName.class).value());
-                    byte[] bytes = (byte[]) field.get(null);
-                    bytecodeMap.put(className, bytes);
+                classBuffer = decodeClassArchive(Implementation.DATA, offset);
+                Class<?> playerClass = loadClass(PLAYER_CLASS_NAME);
+                playerConstructor = MethodHandles.publicLookup()
+                        .findConstructor(playerClass, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Player.class));
+            } catch (DataFormatException | ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        /**
+         * Joins chunks and inflates them into single buffer, which holds bytecode of all classes
+         */
+        private static byte[] decodeClassArchive(String[] chunks, int length) throws DataFormatException {
+            StringBuilder builder = new StringBuilder(chunks.length * 60000);
+            for (String chunk : chunks) {
+                builder.append(chunk);
+            }
+            byte[] compressed = Base64.getDecoder().decode(builder.toString());
+            byte[] buffer = new byte[length];
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(compressed);
+                int inflated = 0;
+                while (inflated < length && !inflater.finished()) {
+                    int count = inflater.inflate(buffer, inflated, length - inflated);
+                    if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IllegalStateException("Class archive is truncated at " + inflated + " of " + length + " bytes");
+                    }
+                    inflated += count;
                 }
-                for (String className : bytecodeMap.keySet()) {
-                    loadClass(className);
+                if (inflated < length) {
+                    throw new IllegalStateException("Class archive is truncated at " + inflated + " of " + length + " bytes");
                 }
-            } catch (IllegalAccessException | ClassNotFoundException e) {
-                e.printStackTrace();
+            } finally {
+                inflater.end();
             }
+            return buffer;
         }
 
         @Override
         protected Class<?> findClass(String name) throws ClassNotFoundException {
-            if (bytecodeMap.containsKey(name)) {
-                byte[] classBytes = bytecodeMap.get(name);
-                Class<?> loadedClass = defineClass(name, classBytes, 0, classBytes.length);
-                classMap.put(name, loadedClass);
-                return loadedClass;
+            Integer index = classIndex.get(name);
+            if (index != null) {
+                return defineClass(name, classBuffer, classOffsets[index], Implementation.CLASS_LENGTHS[index]);
             }
             return super.findClass(name);
         }
 
         public Player loadedPlayer() {
             try {
-                Class<?> playerClass = Objects.requireNonNull(classMap.get("IlyaPoteminCode"));
-                return (Player) playerClass.getConstructor().newInstance();
-            } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
-                return null;
+                return (Player) playerConstructor.invokeExact();
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
             }
         }
     }
 }
 
-@Target(ElementType.FIELD)
-@Retention(RetentionPolicy.RUNTIME)
-@interface CompressedClassName {
-    byte[] value();
-}
-
 class Implementation {
     //@formatter:off
-/*IMPLEMENTATION*/ //@formatter:on
+    static final String[] DATA = {/*IMPLEMENTATION*/};
+    static final String[] CLASS_NAMES = {/*CLASS_NAMES*/};
+    static final int[] CLASS_LENGTHS = {/*CLASS_LENGTHS*/}; //@formatter:on
 }
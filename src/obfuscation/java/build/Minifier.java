@@ -1,14 +1,24 @@
 package build;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
 @SuppressWarnings("unused")
 public class Minifier implements Supplier<String> {
+    /**
+     * Chunk length is kept below 65535 bytes limit of class file string constant
+     */
+    public static final int CHUNK_LENGTH = 60000;
+
     private List<String> ignoreClassesList;
 
     public Minifier(String[] ignoreClasses) {
@@ -31,13 +41,47 @@ public class Minifier implements Supplier<String> {
         return file.getName().replace(".class", "");
     }
 
-    public String getClassNameAsByteArrayString(File file) {
-        byte[] classNameBytes = getClassName(file).getBytes();
-        StringBuilder stringBuilder = new StringBuilder(classNameBytes.length * 4).append("{");
-        for (byte b : classNameBytes) {
-            stringBuilder.append(b).append(",");
+    /**
+     * Concatenates bytecode of all classes into single deflated buffer,
+     * class names and lengths are written to the class index in the same order
+     */
+    public byte[] createClassArchive(List<File> classFiles) throws IOException {
+        ByteArrayOutputStream compressedStream = new ByteArrayOutputStream(1 << 16);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(compressedStream, deflater)) {
+            for (File classFile : classFiles) {
+                deflaterStream.write(readAllFileAsBytes(classFile.getPath()));
+            }
+        }
+        deflater.end();
+        return compressedStream.toByteArray();
+    }
+
+    public String createClassNameIndex(List<File> classFiles) {
+        StringBuilder builder = new StringBuilder(classFiles.size() * 40);
+        for (File classFile : classFiles) {
+            builder.append("\"").append(getClassName(classFile)).append("\",");
+        }
+        return builder.toString();
+    }
+
+    public String createClassLengthIndex(List<File> classFiles) {
+        StringBuilder builder = new StringBuilder(classFiles.size() * 8);
+        for (File classFile : classFiles) {
+            builder.append(classFile.length()).append(",");
         }
-        return stringBuilder.deleteCharAt(stringBuilder.length() - 1).append("}").toString();
+        return builder.toString();
+    }
+
+    public String encodeAsChunkedStrings(byte[] bytes) {
+        String encoded = Base64.getEncoder().encodeToString(bytes);
+        StringBuilder builder = new StringBuilder(encoded.length() + encoded.length() / CHUNK_LENGTH * 8 + 8);
+        for (int from = 0; from < encoded.length(); from += CHUNK_LENGTH) {
+            builder.append("\n        \"")
+                    .append(encoded, from, Math.min(encoded.length(), from + CHUNK_LENGTH))
+                    .append("\",");
+        }
+        return builder.append("\n    ").toString();
     }
 
     public String createMinifiedClass() throws Throwable {
@@ -46,31 +90,20 @@ public class Minifier implements Supplier<String> {
         File[] classFiles = Objects.requireNonNull(new File("build/classes/java/main/").listFiles());
         ilyaPoteminSourceStr = ilyaPoteminSourceStr.replace(
                 "IlyaPoteminCodeObfuscatedTemplate", "IlyaPoteminCodeMinified");
-        StringBuilder implementationBuilder = new StringBuilder(1000);
-        int counter = 0;
+        List<File> archivedClassFiles = new ArrayList<>(classFiles.length);
         for (File classFile : classFiles) {
-            if (ignoreClassesList.contains(classFile.getName())) {
+            if (ignoreClassesList.contains(classFile.getName()) || !classFile.getName().endsWith(".class")) {
                 System.out.println("Filtered out " + classFile.getAbsolutePath());
                 continue;
             }
-            FileInputStream classFis = new FileInputStream(classFile);
-            byte[] classBytes = classFis.readAllBytes();
-            classFis.close();
-            StringBuilder builder = new StringBuilder(128 + classBytes.length * 4);
-            builder.append("    public static class Implementation").append(counter).append(" {\n");
-            builder.append("        ").append("@SuppressWarnings(\"unused\") @CompressedClassName(")
-                    .append(getClassNameAsByteArrayString(classFile)).append(")\n");
-            builder.append("        ").append("public static final byte[] b").append(" = {");
-            for (byte b : classBytes) {
-                builder.append(b).append(",");
-            }
-            builder.deleteCharAt(builder.length() - 1);
-            builder.append("};\n");
-            builder.append("    }\n");
-            implementationBuilder.append(builder);
-            counter++;
+            archivedClassFiles.add(classFile);
         }
-        return ilyaPoteminSourceStr.replace("/*IMPLEMENTATION*/", implementationBuilder);
+        byte[] archive = createClassArchive(archivedClassFiles);
+        System.out.println("Archived " + archivedClassFiles.size() + " classes into " + archive.length + " bytes");
+        return ilyaPoteminSourceStr
+                .replace("/*IMPLEMENTATION*/", encodeAsChunkedStrings(archive))
+                .replace("/*CLASS_NAMES*/", createClassNameIndex(archivedClassFiles))
+                .replace("/*CLASS_LENGTHS*/", createClassLengthIndex(archivedClassFiles));
     }
 
     @Override
@@ -0,0 +1,144 @@
+package build;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates [StrategyClass]MetricInjector for each class with fields annotated by IlyaPoteminInjectedMetric,
+ * so strategies get their metrics by plain field assignments instead of reflection,
+ * metric names are resolved to registry handles once, when injector class is initialized
+ */
+@SupportedAnnotationTypes({"IlyaPoteminInjectedMetric", "com.company.IlyaPoteminInjectedMetric"})
+public class MetricInjectorProcessor extends AbstractProcessor {
+
+    private static final String INJECTOR_SUFFIX = "MetricInjector";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            Map<TypeElement, List<Element>> fieldsByClass = new LinkedHashMap<>();
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (isInjectable(element)) {
+                    fieldsByClass.computeIfAbsent((TypeElement) element.getEnclosingElement(), k -> new ArrayList<>())
+                            .add(element);
+                }
+            }
+            for (Map.Entry<TypeElement, List<Element>> entry : fieldsByClass.entrySet()) {
+                try {
+                    writeInjector(annotation, entry.getKey(), entry.getValue());
+                } catch (IOException exception) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "Unable to write metric injector: " + exception.getMessage(), entry.getKey());
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isInjectable(Element element) {
+        Set<Modifier> modifiers = element.getModifiers();
+        if (element.getKind() != ElementKind.FIELD
+                || modifiers.contains(Modifier.PRIVATE)
+                || modifiers.contains(Modifier.STATIC)
+                || modifiers.contains(Modifier.FINAL)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Injected metric should be non-private, non-static and non-final field", element);
+            return false;
+        }
+        return true;
+    }
+
+    private String metricName(TypeElement annotation, Element field) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().asElement().equals(annotation)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+                        : mirror.getElementValues().entrySet()) {
+                    if (value.getKey().getSimpleName().contentEquals("value")) {
+                        return (String) value.getValue().getValue();
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException("No metric name for " + field);
+    }
+
+    private void writeInjector(TypeElement annotation, TypeElement strategy, List<Element> fields) throws IOException {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(strategy);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(strategy).toString();
+        String injectorName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + INJECTOR_SUFFIX;
+        String strategyName = strategy.getQualifiedName().toString();
+        String qualifiedInjectorName = packageName.isEmpty() ? injectorName : packageName + "." + injectorName;
+        StringBuilder builder = new StringBuilder(512);
+        if (!packageName.isEmpty()) {
+            builder.append("package ").append(packageName).append(";\n\n");
+        }
+        builder.append("/* GENERATED BY ").append(getClass().getName()).append(" */\n");
+        builder.append("final class ").append(injectorName)
+                .append(" implements IlyaPoteminMetricInjector<").append(strategyName).append("> {\n");
+        for (Element field : fields) {
+            builder.append("    private static final int ").append(handleName(field))
+                    .append(" = IlyaPoteminMetricRegistry.resolve(\"")
+                    .append(escape(metricName(annotation, field))).append("\");\n");
+        }
+        builder.append("\n");
+        builder.append("    @Override\n");
+        builder.append("    public void inject(").append(strategyName)
+                .append(" strategy, IlyaPoteminMetricFactory metricFactory) {\n");
+        for (Element field : fields) {
+            builder.append("        strategy.").append(field.getSimpleName())
+                    .append(" = metricFactory.get(").append(handleName(field)).append(");\n");
+        }
+        builder.append("    }\n");
+        builder.append("}\n");
+        try (Writer writer = processingEnv.getFiler()
+                .createSourceFile(qualifiedInjectorName, fields.toArray(new Element[0]))
+                .openWriter()) {
+            writer.write(builder.toString());
+        }
+    }
+
+    /**
+     * @return constant name of field handle, e.g. FIGHT_PERCENT_METRIC_HANDLE for fightPercentMetric
+     */
+    private static String handleName(Element field) {
+        String name = field.getSimpleName().toString();
+        StringBuilder builder = new StringBuilder(name.length() + 8);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                builder.append('_');
+            }
+            builder.append(Character.toUpperCase(c));
+        }
+        return builder.append("_HANDLE").toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
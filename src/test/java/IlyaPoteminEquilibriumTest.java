@@ -0,0 +1,82 @@
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class IlyaPoteminEquilibriumTest {
+
+    @Test
+    public void stageEquilibriumTest() {
+        assertProbabilities(new double[]{1.0 / 3, 1.0 / 3, 1.0 / 3}, new double[]{2, 2, 2});
+        assertProbabilities(new double[]{1, 0, 0}, new double[]{3, 0, 0});
+        // against 1/2, 1/2 on A and B both pay 1, which is not worse than C paying 0.5
+        assertProbabilities(new double[]{0.5, 0.5, 0}, new double[]{2, 2, 0.5});
+        double[] values = {4, 3, 2};
+        double[] probabilities = IlyaPoteminEquilibriumSolver.solveStage(values);
+        double payoff = values[0] * (1 - probabilities[0]);
+        for (int field = 0; field < 3; field++) {
+            assertEquals(payoff, values[field] * (1 - probabilities[field]), 1e-9);
+        }
+    }
+
+    private static void assertProbabilities(double[] expected, double[] values) {
+        double[] probabilities = IlyaPoteminEquilibriumSolver.solveStage(values);
+        for (int field = 0; field < 3; field++) {
+            assertEquals(expected[field], probabilities[field], 1e-9);
+        }
+    }
+
+    @Test
+    public void reachableStatesTest() {
+        IlyaPoteminEquilibriumTable table = IlyaPoteminEquilibriumSolver.solve(8);
+        assertTrue(table.isSolved(table.index(1, 1, 1)));
+        assertTrue(table.isSolved(table.index(0, 0, 4)));
+        // at least one field is visited each round, so all steps can not grow together
+        assertFalse(table.isSolved(table.index(8, 8, 8)));
+        assertTrue(table.getSolvedCount() < table.getStateCount());
+    }
+
+    @Test
+    public void tableRoundTripTest() throws IOException {
+        IlyaPoteminEquilibriumTable table = IlyaPoteminEquilibriumSolver.solve(12);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        table.write(outputStream);
+        assertEquals(8 + table.getStateCount() * 4, outputStream.size());
+        IlyaPoteminEquilibriumTable read =
+                IlyaPoteminEquilibriumTable.read(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals(table.getSolvedCount(), read.getSolvedCount());
+        for (int index = 0; index < table.getStateCount(); index++) {
+            assertEquals(table.isSolved(index), read.isSolved(index));
+            if (table.isSolved(index)) {
+                long seed = index;
+                assertEquals(table.sample(index, IlyaPoteminRandom.ofSeed(seed)),
+                        read.sample(index, IlyaPoteminRandom.ofSeed(seed)));
+            }
+        }
+    }
+
+    @Test
+    public void equilibriumStrategyTest() {
+        IlyaPoteminGameStateSimulation simulation = new IlyaPoteminGameStateSimulationImpl();
+        IlyaPoteminEquilibriumStrategy strategy = new IlyaPoteminEquilibriumStrategy(simulation, 10,
+                IlyaPoteminRandom.ofSeed(1), IlyaPoteminEquilibriumSolver.solve(16));
+        IlyaPoteminHistory history = new IlyaPoteminRingHistory(10);
+        for (int round = 0; round < 100; round++) {
+            IlyaPoteminField move = strategy.move(history, null);
+            assertNotNull(move);
+            simulation.apply(move, IlyaPoteminField.values()[round % 3]);
+        }
+        // only A has vegetation, so pure equilibrium is to take it
+        simulation = new IlyaPoteminGameStateSimulationImpl();
+        simulation.apply(IlyaPoteminField.B, IlyaPoteminField.C);
+        strategy = new IlyaPoteminEquilibriumStrategy(simulation, 10,
+                IlyaPoteminRandom.ofSeed(1), IlyaPoteminEquilibriumSolver.solve(16));
+        assertEquals(IlyaPoteminField.A, strategy.move(history, null));
+    }
+}
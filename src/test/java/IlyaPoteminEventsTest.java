@@ -0,0 +1,48 @@
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IlyaPoteminEventsTest {
+
+    @Test
+    public void eventsAreRecordedWhenEnabledTest() throws IOException {
+        Path file = Files.createTempFile("ilya-potemin", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.company.IlyaPoteminRound");
+            recording.enable("com.company.IlyaPoteminSimulationUpdate");
+            recording.enable("com.company.IlyaPoteminMetricUpdate");
+            recording.enable("com.company.IlyaPoteminDecision");
+            recording.start();
+            IlyaPoteminCode player = new IlyaPoteminCode(10);
+            int opponentMove = 0;
+            for (int round = 0; round < 20; round++) {
+                player.move(opponentMove, 1, 1, 1);
+                opponentMove = round % 3 + 1;
+            }
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Map<String, Integer> counts = new HashMap<>();
+            for (RecordedEvent event : events) {
+                counts.merge(event.getEventType().getName(), 1, Integer::sum);
+            }
+            assertEquals(20, (int) counts.get("com.company.IlyaPoteminRound"));
+            assertEquals(19, (int) counts.get("com.company.IlyaPoteminSimulationUpdate"));
+            assertEquals(20, (int) counts.get("com.company.IlyaPoteminDecision"));
+            assertTrue(counts.get("com.company.IlyaPoteminMetricUpdate") > 0);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class IlyaPoteminHistoryTest {
+
+    private static void assertSameRecords(List<IlyaPoteminRoundRecord> expected, List<IlyaPoteminRoundRecord> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).round, actual.get(i).round);
+            assertSame(expected.get(i).playerMove, actual.get(i).playerMove);
+            assertSame(expected.get(i).opponentMove, actual.get(i).opponentMove);
+            assertEquals(expected.get(i).isBattle, actual.get(i).isBattle);
+        }
+    }
+
+    @Test
+    public void ringHistoryMatchesArrayHistoryTest() {
+        Random random = new Random(42);
+        for (int depth : new int[]{1, 3, 10, 64, 100}) {
+            IlyaPoteminHistory expected = new IlyaPoteminArrayHistory();
+            IlyaPoteminHistory actual = new IlyaPoteminRingHistory(depth);
+            assertNull(actual.getLastAction());
+            List<IlyaPoteminRoundRecord> window = actual.getLastActions(depth);
+            for (int round = 0; round < 500; round++) {
+                IlyaPoteminField playerMove = IlyaPoteminField.ofValue(random.nextInt(3) + 1);
+                IlyaPoteminField opponentMove = IlyaPoteminField.ofValue(random.nextInt(3) + 1);
+                expected.writeCurrentPlayerMove(playerMove);
+                actual.writeCurrentPlayerMove(playerMove);
+                expected.writeLastOpponentMove(opponentMove);
+                actual.writeLastOpponentMove(opponentMove);
+                assertSameRecords(expected.getLastActions(depth), window);
+                assertSameRecords(expected.getLastActions(1), actual.getLastActions(1));
+                assertEquals(expected.getLastAction().round, actual.getLastAction().round);
+            }
+            assertSame(window, actual.getLastActions(depth));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+import org.junit.Test;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import javax.management.RuntimeOperationsException;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class IlyaPoteminLatencyTest {
+
+    @Test
+    public void bucketBoundsTest() {
+        for (long nanos : new long[]{0, 1, 15, 16, 17, 31, 32, 33, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int bucket = IlyaPoteminLatencyHistogram.bucketOf(nanos);
+            assertTrue(bucket < IlyaPoteminLatencyHistogram.BUCKET_COUNT);
+            long upperBound = IlyaPoteminLatencyHistogram.upperBoundOf(bucket);
+            assertTrue(nanos + " in bucket up to " + upperBound, nanos <= upperBound);
+            assertTrue(upperBound - nanos <= nanos / IlyaPoteminLatencyHistogram.SUB_BUCKETS);
+            if (bucket > 0) {
+                assertTrue(IlyaPoteminLatencyHistogram.upperBoundOf(bucket - 1) < nanos);
+            }
+        }
+    }
+
+    @Test
+    public void percentileTest() {
+        IlyaPoteminLatencyHistogram histogram = new IlyaPoteminLatencyHistogram("Test");
+        assertEquals(0, histogram.getPercentileNanos(50));
+        for (long nanos = 1; nanos <= 10_000; nanos++) {
+            histogram.record(nanos * 100);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        assertEquals(500_000, histogram.getPercentileNanos(50), 500_000 / IlyaPoteminLatencyHistogram.SUB_BUCKETS);
+        assertEquals(990_000, histogram.getPercentileNanos(99), 990_000 / IlyaPoteminLatencyHistogram.SUB_BUCKETS);
+        assertEquals(1_000_000, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    public void mbeanTest() throws Exception {
+        assertTrue(IlyaPoteminLatency.register());
+        IlyaPoteminLatency.MOVE.record(1234);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(IlyaPoteminLatency.OBJECT_NAME);
+        assertTrue((Long) server.getAttribute(objectName, "MoveCount") > 0);
+        assertTrue((Long) server.getAttribute(objectName, "MoveMaxNanos") >= 1234);
+        assertEquals(12, server.getMBeanInfo(objectName).getAttributes().length);
+        server.invoke(objectName, "reset", null, null);
+        assertEquals(0L, server.getAttribute(objectName, "MoveCount"));
+        try {
+            server.invoke(objectName, "restart", null, null);
+            fail("Unknown operation should be rejected");
+        } catch (ReflectionException exception) {
+            assertTrue(exception.getCause() instanceof NoSuchMethodException);
+        }
+        AttributeList attributes = new AttributeList();
+        attributes.add(new Attribute("MoveCount", 0L));
+        try {
+            server.setAttributes(objectName, attributes);
+            fail("Read-only attributes should be rejected");
+        } catch (RuntimeOperationsException exception) {
+            assertTrue(exception.getCause() instanceof IllegalArgumentException);
+        }
+    }
+}
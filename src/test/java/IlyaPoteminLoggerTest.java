@@ -0,0 +1,37 @@
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.Assert.assertTrue;
+
+public class IlyaPoteminLoggerTest {
+
+    @Test
+    public void disabledLoggerTest() {
+        IlyaPoteminLogger logger = IlyaPoteminLogger.getLogger("test");
+        logger.info(() -> {
+            throw new AssertionError("Supplier should not be called");
+        });
+    }
+
+    @Test
+    public void asyncLoggerTest() {
+        PrintStream out = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer, true));
+        IlyaPoteminLogger.IS_LOGGING_ENABLED = true;
+        try {
+            IlyaPoteminLogger logger = IlyaPoteminLogger.getLogger("test");
+            logger.info("Applying round %d to simulation", 42);
+            logger.info(() -> "supplied message");
+            IlyaPoteminLogWriter.flush();
+        } finally {
+            IlyaPoteminLogger.IS_LOGGING_ENABLED = false;
+            System.setOut(out);
+        }
+        String output = buffer.toString();
+        assertTrue(output, output.contains("Applying round 42 to simulation"));
+        assertTrue(output, output.contains("supplied message"));
+    }
+}
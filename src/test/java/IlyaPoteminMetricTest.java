@@ -0,0 +1,221 @@
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class IlyaPoteminMetricTest {
+
+    /**
+     * Derived metric which counts its own updates
+     */
+    private static class CountingMetric implements IlyaPoteminMetric<Integer> {
+        private final List<IlyaPoteminMetric<?>> inputs = new java.util.ArrayList<>();
+        private int updateCount;
+
+        CountingMetric(IlyaPoteminMetric<?>... inputs) {
+            this.inputs.addAll(List.of(inputs));
+        }
+
+        public Integer update(IlyaPoteminHistory history) {
+            return ++updateCount;
+        }
+
+        public Integer get() {
+            return updateCount;
+        }
+
+        public List<IlyaPoteminMetric<?>> getInputs() {
+            return inputs;
+        }
+    }
+
+    private static double payoffSum(List<IlyaPoteminRoundRecord> recordList) {
+        return recordList.stream()
+                .map(IlyaPoteminRoundRecord::getComputedPlayerPayoff)
+                .reduce(Double::sum)
+                .orElse(0.0);
+    }
+
+    private static double fightPercent(List<IlyaPoteminRoundRecord> recordList) {
+        long hitRoundCount = recordList.stream()
+                .filter(record -> record.isBattle)
+                .count();
+        return ((double) hitRoundCount) / recordList.size();
+    }
+
+    private static double distribution(List<IlyaPoteminRoundRecord> recordList, IlyaPoteminField target) {
+        long fielded = recordList.stream()
+                .filter(record -> record.opponentMove == target)
+                .count();
+        return ((double) fielded) / recordList.size();
+    }
+
+    private void assertMatchesRescan(IlyaPoteminHistory history, int depth, long seed, int updatePercent) {
+        Random random = new Random(seed);
+        IlyaPoteminGameStateSimulation simulation = new IlyaPoteminGameStateSimulationImpl();
+        IlyaPoteminPayoffSumMetric payoffSumMetric = new IlyaPoteminPayoffSumMetric(depth);
+        IlyaPoteminFightPercentMetric fightPercentMetric = new IlyaPoteminFightPercentMetric(depth);
+        IlyaPoteminOpponentFieldDistributionMetric aMetric =
+                new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.A, depth);
+        IlyaPoteminOpponentFieldDistributionMetric cMetric =
+                new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.C, depth);
+        for (int round = 0; round < 5000; round++) {
+            history.writeCurrentPlayerMove(IlyaPoteminField.ofValue(random.nextInt(3) + 1));
+            history.writeLastOpponentMove(IlyaPoteminField.ofValue(random.nextInt(3) + 1));
+            simulation.simulateLastRound(history.getLastAction());
+            if (random.nextInt(100) >= updatePercent) {
+                continue;
+            }
+            List<IlyaPoteminRoundRecord> window = history.getLastActions(depth);
+            assertEquals(payoffSum(window), payoffSumMetric.update(history), 1e-9);
+            assertEquals(fightPercent(window), fightPercentMetric.update(history), 1e-12);
+            assertEquals(distribution(window, IlyaPoteminField.A), aMetric.update(history), 1e-12);
+            assertEquals(distribution(window, IlyaPoteminField.C), cMetric.update(history), 1e-12);
+        }
+    }
+
+    @Test
+    public void slidingWindowMatchesRescanTest() {
+        for (int depth : new int[]{1, 2, 7, 64, 1000}) {
+            assertMatchesRescan(new IlyaPoteminRingHistory(depth), depth, depth, 100);
+            assertMatchesRescan(new IlyaPoteminArrayHistory(), depth, depth, 100);
+        }
+    }
+
+    @Test
+    public void skippedRoundsMatchRescanTest() {
+        for (int depth : new int[]{1, 5, 100}) {
+            assertMatchesRescan(new IlyaPoteminRingHistory(depth), depth, 31 * depth, 60);
+        }
+    }
+
+    @Test
+    public void planOrderTest() {
+        IlyaPoteminOpponentFieldDistributionMetric aMetric =
+                new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.A, 10);
+        IlyaPoteminOpponentFieldDistributionMetric bMetric =
+                new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.B, 10);
+        IlyaPoteminOpponentFieldDistributionMetric cMetric =
+                new IlyaPoteminOpponentFieldDistributionMetric(IlyaPoteminField.C, 10);
+        IlyaPoteminMostOpponentSelectedFieldMetric mostMetric =
+                new IlyaPoteminMostOpponentSelectedFieldMetric(10, aMetric, bMetric, cMetric);
+        IlyaPoteminMetricFactory factory = new IlyaPoteminMetricFactory();
+        factory.set("most", mostMetric);
+        factory.set("c", cMetric);
+        factory.set("b", bMetric);
+        factory.set("a", aMetric);
+        assertEquals("most", factory.getPlan().getName(3));
+        IlyaPoteminHistory history = new IlyaPoteminRingHistory(10);
+        for (IlyaPoteminField opponentMove : new IlyaPoteminField[]{IlyaPoteminField.B, IlyaPoteminField.B,
+                IlyaPoteminField.C, IlyaPoteminField.B}) {
+            history.writeCurrentPlayerMove(IlyaPoteminField.A);
+            history.writeLastOpponentMove(opponentMove);
+            factory.update(history);
+        }
+        assertSame(IlyaPoteminField.B, mostMetric.get());
+    }
+
+    @Test
+    public void planSkipsUnchangedInputsTest() {
+        IlyaPoteminFightPercentMetric fightMetric = new IlyaPoteminFightPercentMetric(1);
+        CountingMetric derivedMetric = new CountingMetric(fightMetric);
+        IlyaPoteminMetricFactory factory = new IlyaPoteminMetricFactory();
+        factory.set("derived", derivedMetric);
+        factory.set("fight", fightMetric);
+        IlyaPoteminHistory history = new IlyaPoteminRingHistory(1);
+        IlyaPoteminField[] opponentMoves = {IlyaPoteminField.B, IlyaPoteminField.C, IlyaPoteminField.A,
+                IlyaPoteminField.A, IlyaPoteminField.B};
+        for (IlyaPoteminField opponentMove : opponentMoves) {
+            history.writeCurrentPlayerMove(IlyaPoteminField.A);
+            history.writeLastOpponentMove(opponentMove);
+            factory.update(history);
+            factory.update(history);
+        }
+        // fight percent is 0, 0, 1, 1, 0: derived metric is updated on first round and on each change only
+        assertEquals(3, (int) derivedMetric.get());
+    }
+
+    @Test
+    public void lazyEvaluationTest() {
+        IlyaPoteminMetricFactory eagerFactory = new IlyaPoteminMetricFactory()
+                .with("fight", () -> new IlyaPoteminFightPercentMetric(10))
+                .with("payoff", () -> new IlyaPoteminPayoffSumMetric(10));
+        IlyaPoteminMetricFactory lazyFactory = new IlyaPoteminMetricFactory()
+                .withLazyEvaluation(true)
+                .with("fight", () -> new IlyaPoteminFightPercentMetric(10))
+                .with("payoff", () -> new IlyaPoteminPayoffSumMetric(10));
+        int[] payoffUpdates = {0};
+        lazyFactory.set("payoff", new IlyaPoteminPayoffSumMetric(10) {
+            @Override
+            protected void slide(IlyaPoteminRoundRecord entering, IlyaPoteminRoundRecord leaving) {
+                payoffUpdates[0]++;
+                super.slide(entering, leaving);
+            }
+        });
+        Random random = new Random(7);
+        IlyaPoteminHistory history = new IlyaPoteminRingHistory(10);
+        IlyaPoteminGameStateSimulation simulation = new IlyaPoteminGameStateSimulationImpl();
+        for (int round = 0; round < 200; round++) {
+            history.writeCurrentPlayerMove(IlyaPoteminField.ofValue(random.nextInt(3) + 1));
+            history.writeLastOpponentMove(IlyaPoteminField.ofValue(random.nextInt(3) + 1));
+            simulation.simulateLastRound(history.getLastAction());
+            eagerFactory.update(history);
+            lazyFactory.update(history);
+            if (round % 7 == 0) {
+                // lazy metric read in the middle of round ignores record waiting for opponent move
+                history.writeCurrentPlayerMove(IlyaPoteminField.A);
+                assertEquals(eagerFactory.get("fight").get(), lazyFactory.get("fight").get());
+                history.writeLastOpponentMove(IlyaPoteminField.ofValue(random.nextInt(3) + 1));
+                simulation.simulateLastRound(history.getLastAction());
+                eagerFactory.update(history);
+                lazyFactory.update(history);
+                assertEquals(eagerFactory.get("fight").get(), lazyFactory.get("fight").get());
+            }
+        }
+        assertEquals(0, payoffUpdates[0]);
+        assertEquals((double) eagerFactory.<Double>get("payoff").get(),
+                (double) lazyFactory.<Double>get("payoff").get(), 1e-9);
+        assertEquals(10, payoffUpdates[0]);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void planCycleTest() {
+        CountingMetric first = new CountingMetric();
+        CountingMetric second = new CountingMetric(first);
+        first.inputs.add(second);
+        IlyaPoteminMetricFactory factory = new IlyaPoteminMetricFactory();
+        factory.set("first", first);
+        factory.set("second", second);
+        factory.getPlan();
+    }
+
+    @Test
+    public void registryHandlesTest() {
+        int handle = IlyaPoteminMetricRegistry.register("registry_test_metric", null);
+        assertEquals(handle, IlyaPoteminMetricRegistry.resolve("registry_test_metric"));
+        assertEquals(handle, IlyaPoteminMetricRegistry.handleOf("registry_test_metric"));
+        assertEquals(-1, IlyaPoteminMetricRegistry.handleOf("registry_unknown_metric"));
+        assertEquals(IlyaPoteminMetricRegistry.FIGHT_PERCENT,
+                IlyaPoteminMetricRegistry.handleOf(IlyaPoteminFightPercentMetric.NAME));
+
+        IlyaPoteminMetricFactory factory = new IlyaPoteminMetricFactory()
+                .withRegistered(10, IlyaPoteminMetricRegistry.DEFAULTS);
+        for (int defaultHandle : IlyaPoteminMetricRegistry.DEFAULTS) {
+            assertSame(factory.get(defaultHandle), factory.get(IlyaPoteminMetricRegistry.nameOf(defaultHandle)));
+        }
+        assertEquals(IlyaPoteminMetricRegistry.DEFAULTS.length, factory.getPlan().size());
+        IlyaPoteminMetric<Double> metric = new IlyaPoteminPayoffSumMetric(5);
+        factory.set(handle, metric);
+        assertSame(metric, factory.get("registry_test_metric"));
+        assertEquals(IlyaPoteminMetricRegistry.DEFAULTS.length + 1, factory.getPlan().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void registryMissingDefinitionTest() {
+        int handle = IlyaPoteminMetricRegistry.resolve("registry_undefined_metric");
+        new IlyaPoteminMetricFactory().withRegistered(10, handle);
+    }
+}
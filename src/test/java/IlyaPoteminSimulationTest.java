@@ -0,0 +1,138 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class IlyaPoteminSimulationTest {
+
+    @Test
+    public void vegetationTableMatchesExactTest() {
+        IlyaPoteminVegetationTable table = new IlyaPoteminVegetationTable();
+        for (long step : new long[]{0, 1, 2, 63, 64, 100, 511, 512, 700, 709, 710, 711, 100_000, -1}) {
+            double expected = (10.0 * Math.exp(step)) / (1.0 + Math.exp(step));
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(table.applyAsDouble(step)));
+        }
+    }
+
+    @Test
+    public void batchSimulationMatchesSimulationTest() {
+        int gameCount = 67;
+        int rounds = 800;
+        Random random = new Random(12);
+        IlyaPoteminBatchSimulation batch = new IlyaPoteminBatchSimulation(gameCount);
+        IlyaPoteminGameStateSimulation[] simulations = new IlyaPoteminGameStateSimulation[gameCount];
+        double[] playerPayoffs = new double[gameCount];
+        double[] opponentPayoffs = new double[gameCount];
+        for (int game = 0; game < gameCount; game++) {
+            simulations[game] = new IlyaPoteminGameStateSimulationImpl();
+        }
+        int[] playerMoves = new int[gameCount];
+        int[] opponentMoves = new int[gameCount];
+        for (int round = 1; round <= rounds; round++) {
+            for (int game = 0; game < gameCount; game++) {
+                // every third game never visits C, so its step saturates vegetation table
+                int fieldCount = game % 3 == 0 ? 2 : 3;
+                playerMoves[game] = random.nextInt(fieldCount);
+                opponentMoves[game] = random.nextInt(fieldCount);
+                IlyaPoteminRoundRecord record = new IlyaPoteminRoundRecord();
+                record.round = round;
+                record.playerMove = IlyaPoteminField.values()[playerMoves[game]];
+                record.opponentMove = IlyaPoteminField.values()[opponentMoves[game]];
+                record.isBattle = record.playerMove == record.opponentMove;
+                simulations[game].simulateLastRound(record);
+                playerPayoffs[game] += record.computedPlayerPayoff;
+                opponentPayoffs[game] += record.computedOpponentPayoff;
+            }
+            batch.advance(playerMoves, opponentMoves);
+            for (int game = 0; game < gameCount; game++) {
+                for (IlyaPoteminFieldState state : simulations[game].getFieldStates()) {
+                    assertEquals(state.getVegetationStep(), batch.getStep(state.getField().ordinal(), game));
+                }
+                assertEquals(Double.doubleToLongBits(playerPayoffs[game]),
+                        Double.doubleToLongBits(batch.getPlayerPayoff(game)));
+                assertEquals(Double.doubleToLongBits(opponentPayoffs[game]),
+                        Double.doubleToLongBits(batch.getOpponentPayoff(game)));
+            }
+        }
+    }
+
+    @Test
+    public void applyUndoRestoresSimulationTest() {
+        Random random = new Random(13);
+        IlyaPoteminGameStateSimulation simulation = new IlyaPoteminGameStateSimulationImpl();
+        IlyaPoteminGameStateSimulation replayed = new IlyaPoteminGameStateSimulationImpl();
+        for (int round = 1; round <= 50; round++) {
+            IlyaPoteminField playerMove = IlyaPoteminField.values()[random.nextInt(3)];
+            IlyaPoteminField opponentMove = IlyaPoteminField.values()[random.nextInt(3)];
+            simulation.apply(playerMove, opponentMove);
+            IlyaPoteminRoundRecord record = new IlyaPoteminRoundRecord();
+            record.round = round;
+            record.playerMove = playerMove;
+            record.opponentMove = opponentMove;
+            record.isBattle = playerMove == opponentMove;
+            replayed.simulateLastRound(record);
+        }
+        assertSameState(replayed, simulation);
+        int snapshot = simulation.snapshot();
+        for (int branch = 0; branch < 100; branch++) {
+            for (int depth = 0; depth < 20; depth++) {
+                simulation.apply(IlyaPoteminField.values()[random.nextInt(3)],
+                        IlyaPoteminField.values()[random.nextInt(3)]);
+            }
+            simulation.undo();
+            simulation.restore(snapshot);
+            assertSameState(replayed, simulation);
+        }
+    }
+
+    @Test
+    public void manyFieldsSimulationTest() {
+        int fieldCount = 7;
+        Random random = new Random(14);
+        IlyaPoteminGameStateSimulation simulation = new IlyaPoteminGameStateSimulationImpl(fieldCount);
+        long[] steps = new long[fieldCount];
+        Arrays.fill(steps, 1);
+        double amount0 = simulation.vegetationAmountFunction(0);
+        double playerPayoff = 0;
+        for (int round = 0; round < 200; round++) {
+            int playerField = random.nextInt(fieldCount);
+            int opponentField = random.nextInt(fieldCount);
+            if (playerField != opponentField) {
+                playerPayoff += simulation.vegetationAmountFunction(steps[playerField]) - amount0;
+            }
+            for (int field = 0; field < fieldCount; field++) {
+                boolean visited = field == playerField || field == opponentField;
+                steps[field] = visited ? Math.max(0, steps[field] - 1) : steps[field] + 1;
+            }
+            simulation.apply(playerField, opponentField);
+            for (int field = 0; field < fieldCount; field++) {
+                assertEquals(steps[field], simulation.getVegetationStep(field));
+            }
+            assertEquals(playerPayoff, simulation.getPlayerPayoff(), 1e-9);
+        }
+        assertEquals(IlyaPoteminField.COUNT, simulation.getFieldStates().size());
+        IlyaPoteminGameStateSimulation copy = new IlyaPoteminGameStateSimulationImpl(simulation);
+        assertEquals(fieldCount, copy.getFieldCount());
+        for (int field = 0; field < fieldCount; field++) {
+            assertEquals(steps[field], copy.getVegetationStep(field));
+        }
+        simulation.restore(0);
+        for (int field = 0; field < fieldCount; field++) {
+            assertEquals(1, simulation.getVegetationStep(field));
+        }
+    }
+
+    private static void assertSameState(IlyaPoteminGameStateSimulation expected, IlyaPoteminGameStateSimulation actual) {
+        long[] expectedSteps = new long[3];
+        for (IlyaPoteminFieldState state : expected.getFieldStates()) {
+            expectedSteps[state.getField().ordinal()] = state.getVegetationStep();
+        }
+        for (IlyaPoteminFieldState state : actual.getFieldStates()) {
+            assertEquals(expectedSteps[state.getField().ordinal()], state.getVegetationStep());
+        }
+        assertEquals(expected.getPlayerPayoff(), actual.getPlayerPayoff(), 0.0);
+        assertEquals(expected.getOpponentPayoff(), actual.getOpponentPayoff(), 0.0);
+    }
+}
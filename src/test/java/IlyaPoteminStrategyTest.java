@@ -0,0 +1,176 @@
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class IlyaPoteminStrategyTest {
+
+    @Test
+    public void generatedMetricInjectorTest() {
+        IlyaPoteminMetricInjector<Object> injector =
+                IlyaPoteminMetricInjector.forClass(IlyaPoteminMooseStrategy.class);
+        assertEquals(IlyaPoteminMooseStrategy.class.getName() + IlyaPoteminMetricInjector.GENERATED_SUFFIX,
+                injector.getClass().getName());
+        IlyaPoteminMooseStrategy strategy = new IlyaPoteminMooseStrategy(new IlyaPoteminGameStateSimulationImpl(), 10);
+        assertNotNull(strategy.fightPercentMetric);
+        assertSame(strategy.metricFactory.get(IlyaPoteminFightPercentMetric.NAME), strategy.fightPercentMetric);
+    }
+
+    @Test
+    public void mergedSourceHasGeneratedMetricInjectorTest() throws ClassNotFoundException {
+        // merged single file player is compiled without annotation processing, so injector comes from merged source
+        Class<?> injectorClass = Class.forName("com.company.IlyaPoteminMooseStrategy"
+                + IlyaPoteminMetricInjector.GENERATED_SUFFIX);
+        assertEquals(Class.forName("com.company.IlyaPoteminCode").getClassLoader(), injectorClass.getClassLoader());
+    }
+
+    @Test
+    public void reflectiveMetricInjectorTest() {
+        IlyaPoteminMooseStrategy strategy = new IlyaPoteminMooseStrategy(new IlyaPoteminGameStateSimulationImpl(), 10);
+        strategy.fightPercentMetric = null;
+        new IlyaPoteminReflectiveMetricInjector(IlyaPoteminMooseStrategy.class).inject(strategy, strategy.metricFactory);
+        assertSame(strategy.metricFactory.get(IlyaPoteminFightPercentMetric.NAME), strategy.fightPercentMetric);
+    }
+
+    @Test
+    public void monteCarloSearchWithinBudgetTest() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            IlyaPoteminMonteCarloStrategy strategy =
+                    new IlyaPoteminMonteCarloStrategy(new IlyaPoteminGameStateSimulationImpl(), 10)
+                            .withBudgetNanos(20_000_000L)
+                            .withPool(pool, 3);
+            IlyaPoteminHistory history = new IlyaPoteminRingHistory(10);
+            long nanosStart = System.nanoTime();
+            for (int round = 0; round < 5; round++) {
+                assertNotNull(strategy.move(history, round == 0 ? null : IlyaPoteminField.A));
+            }
+            long elapsedMillis = (System.nanoTime() - nanosStart) / 1_000_000;
+            assertTrue("5 moves took " + elapsedMillis + " ms", elapsedMillis < 5 * 20 + 500);
+            assertEquals(0, strategy.getFallbackCount());
+            assertTrue(strategy.getPlayoutCount() >= 5 * 3);
+            assertTrue(strategy.getPlayoutsPerSecond() > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void monteCarloSearchDoesNotWaitForBusyPoolTest() throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            pool.execute(() -> {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            blocked.await();
+            IlyaPoteminMonteCarloStrategy strategy =
+                    new IlyaPoteminMonteCarloStrategy(new IlyaPoteminGameStateSimulationImpl(), 10)
+                            .withBudgetNanos(20_000_000L)
+                            .withPool(pool, 4);
+            long nanosStart = System.nanoTime();
+            assertNotNull(strategy.move(new IlyaPoteminRingHistory(10), null));
+            long elapsedMillis = (System.nanoTime() - nanosStart) / 1_000_000;
+            assertTrue("Move took " + elapsedMillis + " ms", elapsedMillis < 20 + 500);
+            assertEquals(0, strategy.getFallbackCount());
+        } finally {
+            release.countDown();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void monteCarloFallsBackToGreedyTest() {
+        IlyaPoteminGameStateSimulation simulation = new IlyaPoteminGameStateSimulationImpl();
+        simulation.apply(IlyaPoteminField.B, IlyaPoteminField.C);
+        IlyaPoteminMonteCarloStrategy strategy = new IlyaPoteminMonteCarloStrategy(simulation, 10)
+                .withBudgetNanos(0);
+        assertEquals(IlyaPoteminField.A, strategy.move(new IlyaPoteminRingHistory(10), IlyaPoteminField.C));
+        assertEquals(1, strategy.getFallbackCount());
+    }
+
+    @Test
+    public void decisionCacheEvictionTest() {
+        IlyaPoteminDecisionCache cache = new IlyaPoteminDecisionCache(64);
+        assertEquals(64, cache.getCapacity());
+        long hot = IlyaPoteminDecisionCache.key(1, 1, 1, null);
+        cache.put(hot, IlyaPoteminField.B);
+        for (int step = 0; step < 1000; step++) {
+            assertEquals(IlyaPoteminField.B, cache.get(hot));
+            cache.put(IlyaPoteminDecisionCache.key(step, 2, 3, IlyaPoteminField.A), IlyaPoteminField.C);
+        }
+        assertEquals(1000, cache.getHitCount());
+        assertTrue(cache.getEvictionCount() >= 1000 - 64);
+        assertNull(cache.get(IlyaPoteminDecisionCache.key(0, 2, 3, IlyaPoteminField.A)));
+        assertEquals(IlyaPoteminField.C, cache.get(IlyaPoteminDecisionCache.key(999, 2, 3, IlyaPoteminField.A)));
+    }
+
+    @Test
+    public void cachingStrategyTest() {
+        IlyaPoteminGameStateSimulation simulation = new IlyaPoteminGameStateSimulationImpl();
+        IlyaPoteminMooseStrategy moose = new IlyaPoteminMooseStrategy(simulation, 10, IlyaPoteminRandom.ofSeed(1));
+        IlyaPoteminCachingStrategy strategy = new IlyaPoteminCachingStrategy(
+                new IlyaPoteminMostPayoffStrategy(moose, simulation), simulation, 256);
+        IlyaPoteminHistory history = new IlyaPoteminRingHistory(10);
+        IlyaPoteminField opponentMove = null;
+        for (int round = 0; round < 300; round++) {
+            IlyaPoteminField move = strategy.move(history, opponentMove);
+            opponentMove = IlyaPoteminField.values()[round % 3];
+            simulation.apply(move, opponentMove);
+        }
+        IlyaPoteminDecisionCache cache = strategy.getCache();
+        assertEquals(300, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.toString(), cache.getHitCount() > cache.getMissCount());
+    }
+
+    @Test
+    public void markovPredictorTest() {
+        IlyaPoteminMarkovPredictor predictor = new IlyaPoteminMarkovPredictor(2);
+        double[] probabilities = new double[3];
+        assertEquals(-1, predictor.predict(probabilities));
+        assertEquals(1.0 / 3, probabilities[0], 1e-9);
+        // opponent repeats player move of previous round
+        IlyaPoteminField opponentMove = IlyaPoteminField.A;
+        for (int round = 0; round < 100; round++) {
+            IlyaPoteminField playerMove = IlyaPoteminField.values()[(round * 7 / 3) % 3];
+            predictor.update(playerMove, opponentMove);
+            opponentMove = playerMove;
+        }
+        assertEquals(2, predictor.predict(probabilities));
+        assertEquals(1.0, probabilities[opponentMove.ordinal()], 1e-9);
+    }
+
+    @Test
+    public void markovStrategyAvoidsPredictedFieldTest() {
+        IlyaPoteminGameStateSimulation simulation = new IlyaPoteminGameStateSimulationImpl();
+        IlyaPoteminMarkovStrategy strategy =
+                new IlyaPoteminMarkovStrategy(simulation, 10, IlyaPoteminRandom.ofSeed(3));
+        IlyaPoteminHistory history = new IlyaPoteminRingHistory(10);
+        int battles = 0;
+        IlyaPoteminField opponentMove = null;
+        for (int round = 0; round < 300; round++) {
+            IlyaPoteminField move = strategy.move(history, opponentMove);
+            history.writeCurrentPlayerMove(move);
+            opponentMove = IlyaPoteminField.values()[round % 3];
+            history.writeLastOpponentMove(opponentMove);
+            simulation.simulateLastRound(history.getLastAction());
+            if (round >= 100 && move == opponentMove) {
+                battles++;
+            }
+        }
+        assertEquals(300, strategy.getPredictor().getRoundCount() + 1);
+        assertEquals(0, battles);
+    }
+}
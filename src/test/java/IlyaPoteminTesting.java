@@ -1,5 +1,9 @@
 import com.company.Player;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 public class IlyaPoteminTesting {
 
     /**
@@ -15,6 +19,7 @@ public class IlyaPoteminTesting {
             System.out.println("Round " + (i + 1)+" start");
             int player1moveNew = player1.move(player2move, 1, 2, 3);
             int player2moveNew = player2.move(player1move, 1, 2, 3);
+            IlyaPoteminLogWriter.flush();
             System.out.println("Round "+(i + 1)+" finished ->  PL1 = " + player1moveNew
                     + ", PL2 = " + player2moveNew
                     + (player1moveNew == player2moveNew ? "(collision)" : ""));
@@ -27,7 +32,103 @@ public class IlyaPoteminTesting {
         System.out.println("Rounds done");
     }
 
-    public static void main(String[] args) {
-        new IlyaPoteminTesting().tournament1();
+    /**
+     * Plays quiet round-robin tournament between copies of player with growing parallelism
+     * @param resultFile if not null, match outcomes of last tournament are written to it
+     */
+    public void tournament2(int entrantCount, int rounds, Path resultFile) throws IOException {
+        int maxParallelism = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; ; parallelism = Math.min(parallelism * 2, maxParallelism)) {
+            IlyaPoteminTournament tournament = new IlyaPoteminTournament(rounds).withParallelism(parallelism);
+            for (int i = 0; i < entrantCount; i++) {
+                tournament.with("IlyaPoteminCode#" + i, IlyaPoteminCode::new);
+            }
+            if (parallelism == maxParallelism && resultFile != null) {
+                try (IlyaPoteminResultWriter writer = new IlyaPoteminResultWriter(resultFile, false)) {
+                    System.out.println(tournament.withListener(writer).play().summary());
+                }
+                break;
+            }
+            System.out.println(tournament.play().summary());
+            if (parallelism == maxParallelism) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Records seeded tournament between copies of player to game log, log is appended if exists
+     */
+    public void record(int entrantCount, int rounds, long seed, Path logFile) throws IOException {
+        IlyaPoteminTournament tournament = new IlyaPoteminTournament(rounds).withSeed(seed);
+        for (int i = 0; i < entrantCount; i++) {
+            tournament.with("IlyaPoteminCode#" + i, IlyaPoteminCode::new, IlyaPoteminCode::setSeed);
+        }
+        try (IlyaPoteminGameLogWriter writer = new IlyaPoteminGameLogWriter(logFile)) {
+            System.out.println(tournament.withListener(writer).play().summary());
+        }
+    }
+
+    /**
+     * Replays all games of log through player several times, printing moves per second and divergences
+     */
+    public void replay(Path logFile, int repeats) throws IOException {
+        IlyaPoteminGameLogReplay replay = IlyaPoteminGameLogReplay.open(logFile);
+        long moves = 0;
+        for (int game = 0; game < replay.getGameCount(); game++) {
+            moves += replay.getRounds(game) * 2L;
+        }
+        IlyaPoteminCode player = new IlyaPoteminCode();
+        for (int repeat = 0; repeat < repeats; repeat++) {
+            long start = System.nanoTime();
+            long divergences = replay.replayAll(player, IlyaPoteminCode::setSeed);
+            long elapsed = System.nanoTime() - start;
+            System.out.println("Replayed " + replay.getGameCount() + " games, " + moves + " moves in "
+                    + elapsed / 1_000_000 + " ms (" + (long) (moves * 1e9 / elapsed) + " moves/s), "
+                    + divergences + " divergences");
+        }
+    }
+
+    /**
+     * Plays seeded round-robin between copies of player in process and then in worker processes of match server
+     */
+    public void server(int entrantCount, int rounds) throws IOException {
+        IlyaPoteminTournament tournament = new IlyaPoteminTournament(rounds).withSeed(42);
+        for (int i = 0; i < entrantCount; i++) {
+            tournament.with("IlyaPoteminCode#" + i, IlyaPoteminCode::new, IlyaPoteminCode::setSeed);
+        }
+        System.out.println(tournament.play().summary());
+        try (IlyaPoteminMatchServer server = new IlyaPoteminMatchServer(rounds).withSeed(42)) {
+            for (int i = 0; i < entrantCount; i++) {
+                server.with("IlyaPoteminCode#" + i, IlyaPoteminCode.class.getName());
+            }
+            server.start();
+            System.out.println(server.play().summary());
+            System.out.println("roundTrip=" + server.getLatency() + ", moveTime=" + server.getMoveTimeLatency()
+                    + ", timeouts=" + server.getTimeoutCount());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 3 && args[0].equals("record")) {
+            int entrantCount = Integer.parseInt(args[1]);
+            int rounds = Integer.parseInt(args[2]);
+            long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+            new IlyaPoteminTesting().record(entrantCount, rounds, seed, Paths.get(args[3]));
+        } else if (args.length > 1 && args[0].equals("replay")) {
+            int repeats = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+            new IlyaPoteminTesting().replay(Paths.get(args[1]), repeats);
+        } else if (args.length > 0 && args[0].equals("server")) {
+            int entrantCount = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+            int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+            new IlyaPoteminTesting().server(entrantCount, rounds);
+        } else if (args.length > 0 && args[0].equals("tournament")) {
+            int entrantCount = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+            int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+            Path resultFile = args.length > 3 ? Paths.get(args[3]) : null;
+            new IlyaPoteminTesting().tournament2(entrantCount, rounds, resultFile);
+        } else {
+            new IlyaPoteminTesting().tournament1();
+        }
     }
 }
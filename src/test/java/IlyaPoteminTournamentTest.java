@@ -0,0 +1,487 @@
+import com.company.Player;
+import org.junit.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IlyaPoteminTournamentTest {
+
+    /**
+     * Deterministic player, cycles over fields starting from given one
+     */
+    private static class CyclicPlayer implements Player {
+        private final int start;
+        private int next;
+
+        CyclicPlayer(int start) {
+            this.start = start;
+            reset();
+        }
+
+        public void reset() {
+            next = start;
+        }
+
+        public int move(int opponentLastMove, int xA, int xB, int xC) {
+            int move = next;
+            next = next % 3 + 1;
+            return move;
+        }
+
+        public String getEmail() {
+            return "cyclic" + start;
+        }
+    }
+
+    /**
+     * Player which stops answering after few rounds, it is run by match server in worker process
+     */
+    public static class StallingPlayer extends CyclicPlayer {
+        private int round;
+
+        public StallingPlayer() {
+            super(1);
+        }
+
+        @Override
+        public int move(int opponentLastMove, int xA, int xB, int xC) {
+            if (++round > 5) {
+                while (true) {
+                    Thread.onSpinWait();
+                }
+            }
+            return super.move(opponentLastMove, xA, xB, xC);
+        }
+    }
+
+    /**
+     * Player which crashes its process after few rounds, it is run by match server in worker process
+     */
+    public static class CrashingPlayer extends CyclicPlayer {
+        private int round;
+
+        public CrashingPlayer() {
+            super(2);
+        }
+
+        @Override
+        public int move(int opponentLastMove, int xA, int xB, int xC) {
+            if (++round > 3) {
+                Runtime.getRuntime().halt(1);
+            }
+            return super.move(opponentLastMove, xA, xB, xC);
+        }
+    }
+
+    /**
+     * Player which sleeps in each move, it is slow but answers within move timeout
+     */
+    public static class SleepingPlayer extends CyclicPlayer {
+        static final long SLEEP_MILLIS = 250;
+
+        public SleepingPlayer() {
+            super(3);
+        }
+
+        @Override
+        public int move(int opponentLastMove, int xA, int xB, int xC) {
+            try {
+                Thread.sleep(SLEEP_MILLIS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            return super.move(opponentLastMove, xA, xB, xC);
+        }
+    }
+
+    /**
+     * Player which class fails to initialize in worker process
+     */
+    public static class FailingInitPlayer extends CyclicPlayer {
+        private static final int START = fail();
+
+        public FailingInitPlayer() {
+            super(START);
+        }
+
+        private static int fail() {
+            throw new IllegalStateException("Player class is broken");
+        }
+    }
+
+    /**
+     * Player which class never completes initialization in worker process
+     */
+    public static class HangingInitPlayer extends CyclicPlayer {
+        private static final int START = hang();
+
+        public HangingInitPlayer() {
+            super(START);
+        }
+
+        private static int hang() {
+            while (true) {
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private IlyaPoteminTournament cyclicTournament(int parallelism) {
+        IlyaPoteminTournament tournament = new IlyaPoteminTournament(50)
+                .withParallelism(parallelism)
+                .withMatchesPerTask(1);
+        for (int i = 0; i < 12; i++) {
+            int start = i % 3 + 1;
+            tournament.with("cyclic#" + i, () -> new CyclicPlayer(start));
+        }
+        return tournament;
+    }
+
+    @Test
+    public void matchPayoffTest() {
+        IlyaPoteminMatch match = new IlyaPoteminMatch(2);
+        match.play(new CyclicPlayer(1), new CyclicPlayer(2), 0, null);
+        // round 1: A and B have vegetation 1, round 2: B and C have vegetation 0 and 2
+        assertEquals(IlyaPoteminMatch.payoff(1) + IlyaPoteminMatch.payoff(0), match.getFirstPayoff(), 1e-9);
+        assertEquals(IlyaPoteminMatch.payoff(1) + IlyaPoteminMatch.payoff(2), match.getSecondPayoff(), 1e-9);
+    }
+
+    @Test
+    public void parallelTournamentTest() {
+        IlyaPoteminLeaderboard sequential = cyclicTournament(1).play().getLeaderboard();
+        IlyaPoteminLeaderboard parallel = cyclicTournament(4).play().getLeaderboard();
+        assertEquals(66, sequential.getMatchCount());
+        assertEquals(66, parallel.getMatchCount());
+        for (int i = 0; i < 12; i++) {
+            assertEquals(sequential.getPayoff(i), parallel.getPayoff(i), 1e-6);
+            assertEquals(sequential.getWins(i), parallel.getWins(i));
+            assertEquals(sequential.getLosses(i), parallel.getLosses(i));
+        }
+    }
+
+    @Test
+    public void listenerTest() {
+        AtomicInteger rounds = new AtomicInteger();
+        AtomicInteger matches = new AtomicInteger();
+        new IlyaPoteminTournament(10)
+                .with("first", IlyaPoteminCode::new)
+                .with("second", IlyaPoteminCode::new)
+                .with("third", IlyaPoteminCode::new)
+                .withListener(new IlyaPoteminMatchListener() {
+                    @Override
+                    public void onRound(int matchIndex, int round, int firstMove, int secondMove,
+                                        double firstPayoff, double secondPayoff) {
+                        rounds.incrementAndGet();
+                    }
+
+                    @Override
+                    public void onMatchEnd(int matchIndex, int firstEntrant, int secondEntrant,
+                                           double firstPayoff, double secondPayoff) {
+                        matches.incrementAndGet();
+                    }
+
+                    @Override
+                    public boolean isRoundListener() {
+                        return true;
+                    }
+                })
+                .play();
+        assertEquals(3, matches.get());
+        assertEquals(30, rounds.get());
+    }
+
+    private double[] seededMatchPayoffs(int parallelism) {
+        IlyaPoteminTournament tournament = new IlyaPoteminTournament(100)
+                .withParallelism(parallelism)
+                .withMatchesPerTask(1)
+                .withSeed(42);
+        for (int i = 0; i < 6; i++) {
+            tournament.with("IlyaPoteminCode#" + i, IlyaPoteminCode::new, IlyaPoteminCode::setSeed);
+        }
+        double[] payoffs = new double[tournament.getMatchCount() * 2];
+        tournament.withListener(new IlyaPoteminMatchListener() {
+            @Override
+            public void onMatchEnd(int matchIndex, int firstEntrant, int secondEntrant,
+                                   double firstPayoff, double secondPayoff) {
+                payoffs[matchIndex * 2] = firstPayoff;
+                payoffs[matchIndex * 2 + 1] = secondPayoff;
+            }
+        }).play();
+        return payoffs;
+    }
+
+    @Test
+    public void seededTournamentIsReproducibleTest() {
+        double[] sequential = seededMatchPayoffs(1);
+        double[] parallel = seededMatchPayoffs(3);
+        double[] repeated = seededMatchPayoffs(3);
+        for (int i = 0; i < sequential.length; i++) {
+            assertEquals(Double.doubleToLongBits(sequential[i]), Double.doubleToLongBits(parallel[i]));
+            assertEquals(Double.doubleToLongBits(sequential[i]), Double.doubleToLongBits(repeated[i]));
+        }
+    }
+
+    @Test
+    public void resultWriterTest() throws IOException {
+        Path file = Files.createTempFile("ilya-potemin", ".results");
+        try {
+            IlyaPoteminTournament tournament = cyclicTournament(3);
+            int matchCount = tournament.getMatchCount();
+            try (IlyaPoteminResultWriter writer = new IlyaPoteminResultWriter(file, true, 64, 2)) {
+                tournament.withListener(writer).play();
+            }
+            assertEquals(IlyaPoteminResultWriter.HEADER_SIZE
+                    + matchCount * IlyaPoteminResultWriter.MATCH_RECORD_SIZE
+                    + matchCount * 50 * IlyaPoteminResultWriter.ROUND_RECORD_SIZE, Files.size(file));
+            double[] roundPayoffs = new double[matchCount * 2];
+            double[] matchPayoffs = new double[matchCount * 2];
+            try (DataInputStream input = new DataInputStream(Files.newInputStream(file))) {
+                assertEquals(IlyaPoteminResultWriter.MAGIC, input.readInt());
+                assertEquals(IlyaPoteminResultWriter.VERSION, input.readInt());
+                while (input.available() > 0) {
+                    byte tag = input.readByte();
+                    int matchIndex = input.readInt();
+                    if (tag == IlyaPoteminResultWriter.ROUND_TAG) {
+                        input.readInt();
+                        input.readShort();
+                        roundPayoffs[matchIndex * 2] += input.readDouble();
+                        roundPayoffs[matchIndex * 2 + 1] += input.readDouble();
+                    } else {
+                        assertEquals(IlyaPoteminResultWriter.MATCH_TAG, tag);
+                        input.readLong();
+                        matchPayoffs[matchIndex * 2] = input.readDouble();
+                        matchPayoffs[matchIndex * 2 + 1] = input.readDouble();
+                    }
+                }
+            }
+            for (int i = 0; i < matchPayoffs.length; i++) {
+                assertEquals(matchPayoffs[i], roundPayoffs[i], 1e-9);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void gameLogReplayTest() throws IOException {
+        Path file = Files.createTempFile("ilya-potemin", ".games");
+        Files.delete(file);
+        try {
+            IlyaPoteminTournament tournament = new IlyaPoteminTournament(200)
+                    .withParallelism(2)
+                    .withMatchesPerTask(1)
+                    .withSeed(7);
+            for (int i = 0; i < 4; i++) {
+                tournament.with("IlyaPoteminCode#" + i, IlyaPoteminCode::new, IlyaPoteminCode::setSeed);
+            }
+            for (int append = 0; append < 2; append++) {
+                try (IlyaPoteminGameLogWriter writer = new IlyaPoteminGameLogWriter(file)) {
+                    tournament.withListener(writer).play();
+                    assertEquals(tournament.getMatchCount(), writer.getGameCount());
+                }
+            }
+            // interrupted append leaves incomplete game
+            Files.write(file, new byte[5], StandardOpenOption.APPEND);
+            IlyaPoteminGameLogReplay replay = IlyaPoteminGameLogReplay.open(file);
+            assertEquals(tournament.getMatchCount() * 2, replay.getGameCount());
+            for (int game = 0; game < replay.getGameCount(); game++) {
+                assertEquals(200, replay.getRounds(game));
+                assertTrue(replay.isSeeded(game));
+            }
+            assertEquals(0, replay.replayAll(new IlyaPoteminCode(), IlyaPoteminCode::setSeed));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void gameLogAppendAfterTornTailTest() throws IOException {
+        Path file = Files.createTempFile("ilya-potemin", ".games");
+        Files.delete(file);
+        try {
+            IlyaPoteminTournament tournament = new IlyaPoteminTournament(100).withSeed(3);
+            for (int i = 0; i < 3; i++) {
+                tournament.with("IlyaPoteminCode#" + i, IlyaPoteminCode::new, IlyaPoteminCode::setSeed);
+            }
+            for (int append = 0; append < 3; append++) {
+                try (IlyaPoteminGameLogWriter writer = new IlyaPoteminGameLogWriter(file)) {
+                    tournament.withListener(writer).play();
+                }
+                long size = Files.size(file);
+                // crashed writer leaves header of game with only part of its rounds written
+                ByteBuffer torn = ByteBuffer.allocate(IlyaPoteminGameLogWriter.GAME_HEADER_SIZE
+                        + 3 * IlyaPoteminGameLogWriter.ROUND_RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                torn.putInt(IlyaPoteminGameLogWriter.ROUNDS_OFFSET, 100);
+                Files.write(file, append == 1 ? Arrays.copyOf(torn.array(), 7) : torn.array(),
+                        StandardOpenOption.APPEND);
+                assertEquals(size + (append == 1 ? 7 : torn.capacity()), Files.size(file));
+            }
+            IlyaPoteminGameLogReplay replay = IlyaPoteminGameLogReplay.open(file);
+            assertEquals(tournament.getMatchCount() * 3, replay.getGameCount());
+            for (int game = 0; game < replay.getGameCount(); game++) {
+                assertEquals(100, replay.getRounds(game));
+            }
+            assertEquals(0, replay.replayAll(new IlyaPoteminCode(), IlyaPoteminCode::setSeed));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void matchServerMatchesInProcessTournamentTest() throws IOException {
+        double[] inProcess = new double[3 * 2];
+        IlyaPoteminTournament tournament = new IlyaPoteminTournament(100).withSeed(5);
+        for (int i = 0; i < 3; i++) {
+            tournament.with("IlyaPoteminCode#" + i, IlyaPoteminCode::new, IlyaPoteminCode::setSeed);
+        }
+        tournament.withListener(payoffRecorder(inProcess)).play();
+        double[] served = new double[3 * 2];
+        try (IlyaPoteminMatchServer server = new IlyaPoteminMatchServer(100).withSeed(5)) {
+            for (int i = 0; i < 3; i++) {
+                server.with("IlyaPoteminCode#" + i, IlyaPoteminCode.class.getName());
+            }
+            server.withListener(payoffRecorder(served)).play();
+            assertEquals(3 * 2 * 100, server.getLatency().getCount());
+            assertEquals(3 * 2 * 100, server.getMoveTimeLatency().getCount());
+            assertEquals(0, server.getTimeoutCount());
+        }
+        for (int i = 0; i < served.length; i++) {
+            assertEquals(Double.doubleToLongBits(inProcess[i]), Double.doubleToLongBits(served[i]));
+        }
+    }
+
+    @Test
+    public void matchServerWritesReplayableGameLogTest() throws IOException {
+        Path file = Files.createTempFile("ilya-potemin", ".games");
+        Files.delete(file);
+        try (IlyaPoteminGameLogWriter writer = new IlyaPoteminGameLogWriter(file);
+             IlyaPoteminMatchServer server = new IlyaPoteminMatchServer(100)
+                     .withSeed(11)
+                     .withMaxConcurrentMatches(4)
+                     .withListener(writer)) {
+            for (int i = 0; i < 4; i++) {
+                server.with("IlyaPoteminCode#" + i, IlyaPoteminCode.class.getName());
+            }
+            server.play();
+            assertEquals(server.getMatchCount(), writer.getGameCount());
+        }
+        try {
+            IlyaPoteminGameLogReplay replay = IlyaPoteminGameLogReplay.open(file);
+            assertEquals(6, replay.getGameCount());
+            boolean[] seen = new boolean[6];
+            for (int game = 0; game < replay.getGameCount(); game++) {
+                assertEquals(100, replay.getRounds(game));
+                assertTrue(replay.isSeeded(game));
+                seen[replay.getMatchIndex(game)] = true;
+            }
+            assertArrayEquals(new boolean[]{true, true, true, true, true, true}, seen);
+            assertEquals(0, replay.replayAll(new IlyaPoteminCode(), IlyaPoteminCode::setSeed));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void matchServerIsolatesMisbehavingPlayersTest() throws IOException {
+        AtomicInteger rounds = new AtomicInteger();
+        try (IlyaPoteminMatchServer server = new IlyaPoteminMatchServer(20)
+                .withMoveTimeout(500, TimeUnit.MILLISECONDS)
+                .with("stalling", StallingPlayer.class.getName())
+                .with("crashing", CrashingPlayer.class.getName())
+                .with("code", IlyaPoteminCode.class.getName())
+                .withListener(roundCounter(rounds))) {
+            IlyaPoteminTournamentResult result = server.play();
+            assertEquals(3, result.getLeaderboard().getMatchCount());
+            assertEquals(3 * 20, rounds.get());
+            assertFalse(server.isAlive(0));
+            assertFalse(server.isAlive(1));
+            assertTrue(server.isAlive(2));
+            assertTrue(server.getTimeoutCount() > 0);
+        }
+    }
+
+    @Test
+    public void matchServerIsolatesBrokenPlayerClassesTest() throws IOException {
+        AtomicInteger rounds = new AtomicInteger();
+        try (IlyaPoteminMatchServer server = new IlyaPoteminMatchServer(10)
+                .withMoveTimeout(500, TimeUnit.MILLISECONDS)
+                .withStartupTimeout(5, TimeUnit.SECONDS)
+                .with("code", IlyaPoteminCode.class.getName())
+                .with("failing", FailingInitPlayer.class.getName())
+                .with("hanging", HangingInitPlayer.class.getName())
+                .withListener(roundCounter(rounds))) {
+            IlyaPoteminTournamentResult result = server.play();
+            assertEquals(3, result.getLeaderboard().getMatchCount());
+            assertEquals(3 * 10, rounds.get());
+            assertTrue(server.isAlive(0));
+            assertFalse(server.isAlive(1));
+            assertFalse(server.isAlive(2));
+        }
+    }
+
+    @Test
+    public void matchServerDoesNotChargeQueuedMovesTest() throws IOException {
+        AtomicInteger rounds = new AtomicInteger();
+        long timeoutMillis = SleepingPlayer.SLEEP_MILLIS * 4;
+        // five matches of sleeping player are queued to one worker, which answers them one by one,
+        // so last of them waits longer than move timeout, but each of them is answered in time
+        try (IlyaPoteminMatchServer server = new IlyaPoteminMatchServer(2)
+                .withMoveTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .with("sleeping", SleepingPlayer.class.getName())
+                .withListener(roundCounter(rounds))) {
+            for (int i = 0; i < 5; i++) {
+                server.with("IlyaPoteminCode#" + i, IlyaPoteminCode.class.getName());
+            }
+            server.play();
+            assertEquals(15 * 2, rounds.get());
+            assertTrue(server.isAlive(0));
+            assertEquals(0, server.getTimeoutCount());
+            assertTrue(server.getLatency().getMaxNanos() > TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+            assertTrue(server.getMoveTimeLatency().getMaxNanos()
+                    >= TimeUnit.MILLISECONDS.toNanos(SleepingPlayer.SLEEP_MILLIS));
+        }
+    }
+
+    private static IlyaPoteminMatchListener roundCounter(AtomicInteger rounds) {
+        return new IlyaPoteminMatchListener() {
+            @Override
+            public void onRound(int matchIndex, int round, int firstMove, int secondMove,
+                                double firstPayoff, double secondPayoff) {
+                rounds.incrementAndGet();
+            }
+
+            @Override
+            public boolean isRoundListener() {
+                return true;
+            }
+        };
+    }
+
+    private static IlyaPoteminMatchListener payoffRecorder(double[] payoffs) {
+        return new IlyaPoteminMatchListener() {
+            @Override
+            public void onMatchEnd(int matchIndex, int firstEntrant, int secondEntrant,
+                                   double firstPayoff, double secondPayoff) {
+                payoffs[matchIndex * 2] = firstPayoff;
+                payoffs[matchIndex * 2 + 1] = secondPayoff;
+            }
+        };
+    }
+}
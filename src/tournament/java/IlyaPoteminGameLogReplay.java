@@ -0,0 +1,175 @@
+import com.company.Player;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * GameLogReplay memory-maps log written by GameLogWriter and replays its games through any player:
+ * player is seeded with logged seed, reset and asked for moves with opponent moves and vegetation read
+ * straight from the mapped buffer, so replay is deterministic and needs no live opponent
+ * Replay is open loop: opponent keeps its logged moves even if replayed player diverges,
+ * divergences are counted, so deterministic player should reproduce its log without them
+ * Incomplete game at the end of log, left by interrupted writer, is ignored
+ */
+public class IlyaPoteminGameLogReplay {
+
+    private final MappedByteBuffer buffer;
+    private int[] gameOffsets = new int[64];
+    private int gameCount;
+
+    private IlyaPoteminGameLogReplay(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Maps whole log, so it should be smaller than 2 GiB
+     */
+    public static IlyaPoteminGameLogReplay open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            checkHeader(channel, path);
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Game log " + path + " is too large to map: " + channel.size());
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            IlyaPoteminGameLogReplay replay = new IlyaPoteminGameLogReplay(buffer);
+            walkGames(channel, replay::addGame);
+            return replay;
+        }
+    }
+
+    /**
+     * Walks games of log with checked header from its start, stops at first incomplete game
+     * @param gameConsumer receives offset of each complete game
+     * @return end offset of last complete game, where next game should be appended
+     */
+    static long walkGames(FileChannel channel, LongConsumer gameConsumer) throws IOException {
+        ByteBuffer rounds = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        long size = channel.size();
+        long offset = IlyaPoteminGameLogWriter.HEADER_SIZE;
+        while (offset + IlyaPoteminGameLogWriter.GAME_HEADER_SIZE <= size) {
+            rounds.clear();
+            while (rounds.hasRemaining()) {
+                if (channel.read(rounds, offset + IlyaPoteminGameLogWriter.ROUNDS_OFFSET + rounds.position()) < 0) {
+                    return offset;
+                }
+            }
+            long roundCount = rounds.getInt(0);
+            long next = offset + IlyaPoteminGameLogWriter.GAME_HEADER_SIZE
+                    + roundCount * IlyaPoteminGameLogWriter.ROUND_RECORD_SIZE;
+            if (roundCount < 0 || next > size) {
+                break;
+            }
+            gameConsumer.accept(offset);
+            offset = next;
+        }
+        return offset;
+    }
+
+    private void addGame(long offset) {
+        if (gameCount == gameOffsets.length) {
+            gameOffsets = Arrays.copyOf(gameOffsets, gameCount * 2);
+        }
+        gameOffsets[gameCount++] = (int) offset;
+    }
+
+    static void checkHeader(FileChannel channel, Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(IlyaPoteminGameLogWriter.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                break;
+            }
+        }
+        header.flip();
+        if (header.remaining() < IlyaPoteminGameLogWriter.HEADER_SIZE
+                || header.getInt() != IlyaPoteminGameLogWriter.MAGIC
+                || header.getInt() != IlyaPoteminGameLogWriter.VERSION) {
+            throw new IOException("File " + path + " is not game log of version " + IlyaPoteminGameLogWriter.VERSION);
+        }
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    public int getMatchIndex(int game) {
+        return buffer.getInt(gameOffsets[game]);
+    }
+
+    public int getEntrant(int game, boolean first) {
+        return buffer.getInt(gameOffsets[game] + (first ? 4 : 8));
+    }
+
+    public int getRounds(int game) {
+        return buffer.getInt(gameOffsets[game] + IlyaPoteminGameLogWriter.ROUNDS_OFFSET);
+    }
+
+    public boolean isSeeded(int game) {
+        return buffer.get(gameOffsets[game] + 16) != 0;
+    }
+
+    public long getSeed(int game, boolean first) {
+        return buffer.getLong(gameOffsets[game] + (first ? 17 : 25));
+    }
+
+    /**
+     * Replays one side of game through player
+     * @param first true to replay first entrant of game, false to replay second one
+     * @param seeder applied to player with logged seed if game is seeded, may be null
+     * @return number of rounds, where player moved not as logged
+     */
+    public <P extends Player> int replay(int game, boolean first, P player, ObjLongConsumer<? super P> seeder) {
+        if (seeder != null && isSeeded(game)) {
+            seeder.accept(player, getSeed(game, first));
+        }
+        player.reset();
+        int rounds = getRounds(game);
+        int offset = gameOffsets[game] + IlyaPoteminGameLogWriter.GAME_HEADER_SIZE;
+        int ownMoveOffset = first ? 0 : 1;
+        int opponentMoveOffset = first ? 1 : 0;
+        int opponentLastMove = 0;
+        int divergences = 0;
+        for (int round = 0; round < rounds; round++, offset += IlyaPoteminGameLogWriter.ROUND_RECORD_SIZE) {
+            int move = safeMove(player, opponentLastMove,
+                    buffer.getInt(offset + 2), buffer.getInt(offset + 6), buffer.getInt(offset + 10));
+            if (move != buffer.get(offset + ownMoveOffset)) {
+                divergences++;
+            }
+            opponentLastMove = buffer.get(offset + opponentMoveOffset);
+        }
+        return divergences;
+    }
+
+    /**
+     * Replays both sides of all games, player is reused for each of them
+     * @return total number of diverged rounds
+     */
+    public <P extends Player> long replayAll(P player, ObjLongConsumer<? super P> seeder) {
+        long divergences = 0;
+        for (int game = 0; game < gameCount; game++) {
+            divergences += replay(game, true, player, seeder);
+            divergences += replay(game, false, player, seeder);
+        }
+        return divergences;
+    }
+
+    /**
+     * Same as Match treats moves, so misbehaving player diverges instead of failing replay
+     */
+    private static int safeMove(Player player, int opponentLastMove, int xA, int xB, int xC) {
+        try {
+            int move = player.move(opponentLastMove, xA, xB, xC);
+            return move >= 1 && move <= IlyaPoteminMatch.FIELD_COUNT ? move : 0;
+        } catch (RuntimeException exception) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * GameLogWriter is match listener, which appends played games to log, so they can be replayed by GameLogReplay
+ * Each game is assembled in buffer of its thread and appended to file as one write when match ends,
+ * so games of concurrent matches never interleave and existing log is only extended
+ * Incomplete game left at the end of log by interrupted writer is truncated on reopening
+ * Rounds are stored in fixed size records with vegetation seen by players, so replay feeds players
+ * straight from the log without recomputing game rules
+ * Format (little endian): MAGIC, VERSION, then games:
+ * matchIndex:int firstEntrant:int secondEntrant:int rounds:int seeded:byte firstSeed:long secondSeed:long,
+ * then rounds times: firstMove:byte secondMove:byte xA:int xB:int xC:int
+ */
+public class IlyaPoteminGameLogWriter implements IlyaPoteminMatchListener, AutoCloseable {
+
+    public static final int MAGIC = 0x4950474C;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 8;
+    public static final int GAME_HEADER_SIZE = 33;
+    public static final int ROUND_RECORD_SIZE = 14;
+    static final int ROUNDS_OFFSET = 12;
+
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ThreadLocal<GameBuffer> gameBuffer = ThreadLocal.withInitial(GameBuffer::new);
+    private long gameCount;
+
+    /**
+     * Opens log for appending, header is written only if log is empty
+     */
+    public IlyaPoteminGameLogWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                        .putInt(MAGIC).putInt(VERSION);
+                header.flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+            } else {
+                IlyaPoteminGameLogReplay.checkHeader(channel, path);
+                long end = IlyaPoteminGameLogReplay.walkGames(channel, offset -> { });
+                channel.truncate(end);
+                channel.position(end);
+            }
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    @Override
+    public boolean isRoundListener() {
+        return true;
+    }
+
+    @Override
+    public void onMatchStart(int matchIndex, int firstEntrant, int secondEntrant,
+                             boolean seeded, long firstSeed, long secondSeed) {
+        GameBuffer game = gameBuffer.get();
+        game.start();
+        game.buffer.putInt(matchIndex)
+                .putInt(firstEntrant)
+                .putInt(secondEntrant)
+                .putInt(0)
+                .put((byte) (seeded ? 1 : 0))
+                .putLong(firstSeed)
+                .putLong(secondSeed);
+    }
+
+    @Override
+    public void onRound(int matchIndex, int round, int firstMove, int secondMove,
+                        double firstPayoff, double secondPayoff) {
+        GameBuffer game = gameBuffer.get();
+        int[] vegetation = game.vegetation;
+        game.reserve(ROUND_RECORD_SIZE).put((byte) firstMove)
+                .put((byte) secondMove)
+                .putInt(vegetation[0])
+                .putInt(vegetation[1])
+                .putInt(vegetation[2]);
+        IlyaPoteminMatch.advanceVegetation(vegetation, firstMove, secondMove);
+        game.rounds++;
+    }
+
+    @Override
+    public void onMatchEnd(int matchIndex, int firstEntrant, int secondEntrant,
+                           double firstPayoff, double secondPayoff) {
+        GameBuffer game = gameBuffer.get();
+        ByteBuffer buffer = game.buffer;
+        buffer.putInt(ROUNDS_OFFSET, game.rounds);
+        buffer.flip();
+        synchronized (this) {
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException exception) {
+                throw new IllegalStateException("Failed to append game " + matchIndex + " to log", exception);
+            }
+            gameCount++;
+        }
+    }
+
+    public synchronized long getGameCount() {
+        return gameCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private static class GameBuffer {
+        private final int[] vegetation = new int[IlyaPoteminMatch.FIELD_COUNT];
+        private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private int rounds;
+
+        void start() {
+            buffer.clear();
+            Arrays.fill(vegetation, IlyaPoteminMatch.INITIAL_VEGETATION);
+            rounds = 0;
+        }
+
+        ByteBuffer reserve(int size) {
+            if (buffer.remaining() < size) {
+                ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() * 2).order(ByteOrder.LITTLE_ENDIAN);
+                buffer.flip();
+                buffer = grown.put(buffer);
+            }
+            return buffer;
+        }
+    }
+}
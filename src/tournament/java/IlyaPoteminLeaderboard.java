@@ -0,0 +1,99 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Leaderboard accumulates per-entrant results
+ * Each tournament task fills its own leaderboard, which are merged while joining tasks,
+ * so no synchronization is needed while matches are played
+ */
+public class IlyaPoteminLeaderboard {
+
+    private final List<String> names;
+    private final double[] payoffs;
+    private final int[] wins;
+    private final int[] draws;
+    private final int[] losses;
+    private long matchCount;
+
+    public IlyaPoteminLeaderboard(List<String> names) {
+        this.names = names;
+        int size = names.size();
+        this.payoffs = new double[size];
+        this.wins = new int[size];
+        this.draws = new int[size];
+        this.losses = new int[size];
+    }
+
+    public void record(int first, int second, double firstPayoff, double secondPayoff) {
+        payoffs[first] += firstPayoff;
+        payoffs[second] += secondPayoff;
+        if (firstPayoff > secondPayoff) {
+            wins[first]++;
+            losses[second]++;
+        } else if (firstPayoff < secondPayoff) {
+            losses[first]++;
+            wins[second]++;
+        } else {
+            draws[first]++;
+            draws[second]++;
+        }
+        matchCount++;
+    }
+
+    public IlyaPoteminLeaderboard merge(IlyaPoteminLeaderboard other) {
+        for (int i = 0; i < payoffs.length; i++) {
+            payoffs[i] += other.payoffs[i];
+            wins[i] += other.wins[i];
+            draws[i] += other.draws[i];
+            losses[i] += other.losses[i];
+        }
+        matchCount += other.matchCount;
+        return this;
+    }
+
+    public long getMatchCount() {
+        return matchCount;
+    }
+
+    public String getName(int entrant) {
+        return names.get(entrant);
+    }
+
+    public double getPayoff(int entrant) {
+        return payoffs[entrant];
+    }
+
+    public int getWins(int entrant) {
+        return wins[entrant];
+    }
+
+    public int getDraws(int entrant) {
+        return draws[entrant];
+    }
+
+    public int getLosses(int entrant) {
+        return losses[entrant];
+    }
+
+    /**
+     * @return entrant indices sorted by total payoff, best first
+     */
+    public int[] ranking() {
+        return IntStream.range(0, payoffs.length)
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> payoffs[i]).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.stream(ranking())
+                .mapToObj(i -> String.format("%-30.30s payoff=%12.3f W/D/L=%d/%d/%d",
+                        names.get(i), payoffs[i], wins[i], draws[i], losses[i]))
+                .collect(Collectors.joining("\n"));
+    }
+}
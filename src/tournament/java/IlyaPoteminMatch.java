@@ -0,0 +1,117 @@
+import com.company.Player;
+
+import java.util.Arrays;
+
+/**
+ * Match plays two players against each other using moose game rules:
+ * each field starts with vegetation 1, visited fields lose one vegetation point (not less than zero),
+ * other fields gain one, payoff for visiting field with vegetation x is f(x) - f(0),
+ * where f(x) = 10 * e^x / (1 + e^x), and players visiting the same field get nothing
+ */
+public class IlyaPoteminMatch {
+
+    /**
+     * Player interface passes vegetation of exactly three fields
+     */
+    public static final int FIELD_COUNT = 3;
+    public static final int INITIAL_VEGETATION = 1;
+
+    private static final double[] PAYOFF_TABLE = new double[64];
+
+    static {
+        for (int x = 0; x < PAYOFF_TABLE.length; x++) {
+            PAYOFF_TABLE[x] = exactPayoff(x);
+        }
+    }
+
+    private static double exactPayoff(int vegetation) {
+        return (10.0 * Math.exp(vegetation)) / (1.0 + Math.exp(vegetation)) - 5.0;
+    }
+
+    public static double payoff(int vegetation) {
+        return vegetation < PAYOFF_TABLE.length ? PAYOFF_TABLE[vegetation] : exactPayoff(vegetation);
+    }
+
+    private final int rounds;
+    private final int[] vegetation = new int[FIELD_COUNT];
+    private double firstPayoff;
+    private double secondPayoff;
+
+    public IlyaPoteminMatch(int rounds) {
+        this.rounds = rounds;
+    }
+
+    /**
+     * Plays all rounds of the match, players are expected to be already reset
+     * @param listener receives rounds outcomes, may be null
+     */
+    public void play(Player first, Player second, int matchIndex, IlyaPoteminMatchListener listener) {
+        Arrays.fill(vegetation, INITIAL_VEGETATION);
+        firstPayoff = 0.0;
+        secondPayoff = 0.0;
+        boolean notifyRounds = listener != null && listener.isRoundListener();
+        int firstLastMove = 0;
+        int secondLastMove = 0;
+        for (int round = 1; round <= rounds; round++) {
+            int xA = vegetation[0];
+            int xB = vegetation[1];
+            int xC = vegetation[2];
+            int firstMove = safeMove(first, secondLastMove, xA, xB, xC);
+            int secondMove = safeMove(second, firstLastMove, xA, xB, xC);
+            double firstRoundPayoff = 0.0;
+            double secondRoundPayoff = 0.0;
+            if (firstMove != secondMove) {
+                if (firstMove != 0) {
+                    firstRoundPayoff = payoff(vegetation[firstMove - 1]);
+                }
+                if (secondMove != 0) {
+                    secondRoundPayoff = payoff(vegetation[secondMove - 1]);
+                }
+            }
+            advanceVegetation(vegetation, firstMove, secondMove);
+            firstPayoff += firstRoundPayoff;
+            secondPayoff += secondRoundPayoff;
+            if (notifyRounds) {
+                listener.onRound(matchIndex, round, firstMove, secondMove, firstRoundPayoff, secondRoundPayoff);
+            }
+            firstLastMove = firstMove;
+            secondLastMove = secondMove;
+        }
+    }
+
+    /**
+     * Applies round to vegetation of fields, moves are in range 0..3, where 0 is invalid move
+     */
+    public static void advanceVegetation(int[] vegetation, int firstMove, int secondMove) {
+        for (int field = 1; field <= FIELD_COUNT; field++) {
+            if (field == firstMove || field == secondMove) {
+                if (vegetation[field - 1] > 0) {
+                    vegetation[field - 1]--;
+                }
+            } else {
+                vegetation[field - 1]++;
+            }
+        }
+    }
+
+    /**
+     * Misbehaving player loses the round instead of the whole tournament
+     * @return move in range 1..3 or 0 if move was invalid
+     */
+    private static int safeMove(Player player, int opponentLastMove, int xA, int xB, int xC) {
+        try {
+            int move = player.move(opponentLastMove, xA, xB, xC);
+            return move >= 1 && move <= FIELD_COUNT ? move : 0;
+        } catch (RuntimeException exception) {
+            return 0;
+        }
+    }
+
+    public double getFirstPayoff() {
+        return firstPayoff;
+    }
+
+    public double getSecondPayoff() {
+        return secondPayoff;
+    }
+}
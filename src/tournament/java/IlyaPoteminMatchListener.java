@@ -0,0 +1,32 @@
+/**
+ * MatchListener receives outcomes of matches played by Tournament or MatchServer
+ * Called concurrently from tournament worker threads, so implementations have to be thread-safe
+ * Callbacks of one match come from one thread in order start, rounds, end, and this thread calls nothing else
+ * in between, so listener may keep game in progress per thread: Tournament calls them while match is played,
+ * MatchServer, which interleaves matches in single thread, calls them in one block after match ended
+ */
+public interface IlyaPoteminMatchListener {
+
+    /**
+     * Called before first round of match by thread, which then gets all its rounds
+     * @param seeded true if tournament is seeded, then seeds are given to entrants registered with seeder
+     */
+    default void onMatchStart(int matchIndex, int firstEntrant, int secondEntrant,
+                              boolean seeded, long firstSeed, long secondSeed) {
+    }
+
+    default void onRound(int matchIndex, int round, int firstMove, int secondMove,
+                         double firstPayoff, double secondPayoff) {
+    }
+
+    default void onMatchEnd(int matchIndex, int firstEntrant, int secondEntrant,
+                            double firstPayoff, double secondPayoff) {
+    }
+
+    /**
+     * @return true if onRound should be called, otherwise round loop stays free of listener calls
+     */
+    default boolean isRoundListener() {
+        return false;
+    }
+}
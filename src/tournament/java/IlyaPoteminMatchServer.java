@@ -0,0 +1,690 @@
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MatchServer plays round-robin schedule between players running in separate local worker processes,
+ * one PlayerWorker process per entrant, so misbehaving player can not stall or crash the whole tournament
+ * Server talks to workers by MoveProtocol over loopback sockets and multiplexes all concurrent matches
+ * in single selector thread, requests of many matches to one worker are batched into single write
+ * Worker, which misses move deadline, closes connection or breaks protocol, is killed and its further moves are invalid
+ * Seeded server derives seeds exactly as seeded Tournament, so same players produce same payoffs
+ */
+public class IlyaPoteminMatchServer implements AutoCloseable {
+
+    private static final long DEFAULT_MOVE_TIMEOUT_MILLIS = 1000;
+    private static final long DEFAULT_STARTUP_TIMEOUT_MILLIS = 30_000;
+    private static final int INITIAL_BUFFER_SIZE = 1 << 16;
+    private static final int PENDING = -1;
+
+    private final int rounds;
+    private final List<String> names = new ArrayList<>();
+    private final List<String> playerClassNames = new ArrayList<>();
+    private final List<String> jvmOptions = new ArrayList<>();
+    private long moveTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_MOVE_TIMEOUT_MILLIS);
+    private long startupTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_STARTUP_TIMEOUT_MILLIS);
+    private int maxConcurrentMatches = Integer.MAX_VALUE;
+    private IlyaPoteminMatchListener listener;
+    private Long seed;
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Worker[] workers;
+    private Process[] processes;
+    private final IlyaPoteminMoveLatency latency = new IlyaPoteminMoveLatency();
+    private final IlyaPoteminMoveLatency moveTimeLatency = new IlyaPoteminMoveLatency();
+    private final ArrayDeque<Match> finishedMatches = new ArrayDeque<>();
+    private long timeoutCount;
+
+    public IlyaPoteminMatchServer(int rounds) {
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("rounds should be positive, got " + rounds);
+        }
+        this.rounds = rounds;
+    }
+
+    /**
+     * @param playerClassName public Player class with public no-arg constructor on class path of this process
+     */
+    public IlyaPoteminMatchServer with(String name, String playerClassName) {
+        if (workers != null) {
+            throw new IllegalStateException("Entrants can not be added after workers are started");
+        }
+        names.add(name);
+        playerClassNames.add(playerClassName);
+        return this;
+    }
+
+    public IlyaPoteminMatchServer withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Worker, which does not answer move in time, is considered stalled and killed,
+     * first move of worker has startup timeout instead
+     */
+    public IlyaPoteminMatchServer withMoveTimeout(long timeout, TimeUnit unit) {
+        this.moveTimeoutNanos = unit.toNanos(timeout);
+        return this;
+    }
+
+    public IlyaPoteminMatchServer withStartupTimeout(long timeout, TimeUnit unit) {
+        this.startupTimeoutNanos = unit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * Options of worker JVMs, e.g. -Xmx64m to bound memory of each submission
+     */
+    public IlyaPoteminMatchServer withJvmOptions(String... options) {
+        jvmOptions.addAll(Arrays.asList(options));
+        return this;
+    }
+
+    public IlyaPoteminMatchServer withMaxConcurrentMatches(int maxConcurrentMatches) {
+        this.maxConcurrentMatches = Math.max(1, maxConcurrentMatches);
+        return this;
+    }
+
+    /**
+     * Listener is called from server thread, when match ends, with all callbacks of match in one block,
+     * so listener keeping game of its thread, like GameLogWriter, sees matches one by one
+     */
+    public IlyaPoteminMatchServer withListener(IlyaPoteminMatchListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    public int getMatchCount() {
+        return names.size() * (names.size() - 1) / 2;
+    }
+
+    /**
+     * Starts worker processes and waits until all of them connect, it is done by first play otherwise
+     * Entrant, which worker did not connect in startup timeout, plays with invalid moves only
+     */
+    public void start() throws IOException {
+        if (workers != null) {
+            return;
+        }
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        workers = new Worker[names.size()];
+        processes = new Process[names.size()];
+        for (int entrant = 0; entrant < names.size(); entrant++) {
+            processes[entrant] = startProcess(entrant);
+        }
+        int connected = 0;
+        long deadline = System.nanoTime() + startupTimeoutNanos;
+        while (connected < workers.length) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                break;
+            }
+            selector.select(remainingMillis);
+            for (SelectionKey key : selector.selectedKeys()) {
+                if (key.isValid() && key.isAcceptable()) {
+                    accept();
+                } else if (key.isValid() && key.isReadable() && readHello(key)) {
+                    connected++;
+                }
+            }
+            selector.selectedKeys().clear();
+        }
+        serverChannel.close();
+        for (SelectionKey key : selector.keys()) {
+            if (!(key.attachment() instanceof Worker)) {
+                key.channel().close();
+            }
+        }
+        for (int entrant = 0; entrant < workers.length; entrant++) {
+            if (workers[entrant] == null) {
+                System.err.println("Worker of " + names.get(entrant) + " did not connect in startup timeout");
+                workers[entrant] = new Worker(entrant, processes[entrant], null);
+                workers[entrant].kill();
+            }
+        }
+    }
+
+    private Process startProcess(int entrant) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(IlyaPoteminPlayerWorker.class.getName());
+        command.add(InetAddress.getLoopbackAddress().getHostAddress());
+        command.add(String.valueOf(serverChannel.socket().getLocalPort()));
+        command.add(String.valueOf(entrant));
+        command.add(playerClassNames.get(entrant));
+        return new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            channel.register(selector, SelectionKey.OP_READ, ByteBuffer.allocate(IlyaPoteminMoveProtocol.HELLO_SIZE));
+        }
+    }
+
+    /**
+     * HELLO is read without blocking, so worker, which connected and went silent, can not stall server
+     * @return true if connection became worker of its entrant
+     */
+    private boolean readHello(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        ByteBuffer hello = (ByteBuffer) key.attachment();
+        if (channel.read(hello) < 0) {
+            channel.close();
+            return false;
+        }
+        if (hello.hasRemaining()) {
+            return false;
+        }
+        int entrant = hello.getInt(0);
+        if (entrant < 0 || entrant >= workers.length || workers[entrant] != null) {
+            channel.close();
+            return false;
+        }
+        workers[entrant] = new Worker(entrant, processes[entrant], channel);
+        workers[entrant].key = key;
+        key.attach(workers[entrant]);
+        return true;
+    }
+
+    /**
+     * Plays all matches of round-robin schedule, at most maxConcurrentMatches of them at once
+     */
+    public IlyaPoteminTournamentResult play() throws IOException {
+        start();
+        int matchCount = getMatchCount();
+        Match[] matches = new Match[matchCount];
+        SplittableRandom tournamentRandom = seed == null ? null : new SplittableRandom(seed);
+        int matchIndex = 0;
+        for (int first = 0; first < names.size(); first++) {
+            for (int second = first + 1; second < names.size(); second++) {
+                long matchSeed = tournamentRandom == null ? 0 : tournamentRandom.split().nextLong();
+                matches[matchIndex] = new Match(matchIndex, workers[first], workers[second], matchSeed);
+                matchIndex++;
+            }
+        }
+        IlyaPoteminLeaderboard leaderboard = new IlyaPoteminLeaderboard(names);
+        int nextMatch = 0;
+        int activeCount = 0;
+        long nanosStart = System.nanoTime();
+        long selectMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(moveTimeoutNanos) / 4);
+        while (nextMatch < matchCount || activeCount > 0) {
+            while (nextMatch < matchCount && activeCount < maxConcurrentMatches) {
+                activeCount++;
+                matches[nextMatch++].begin();
+            }
+            for (Worker worker : workers) {
+                worker.flush();
+            }
+            selector.select(selectMillis);
+            for (SelectionKey key : selector.selectedKeys()) {
+                Worker worker = (Worker) key.attachment();
+                if (key.isValid() && key.isWritable()) {
+                    worker.flush();
+                }
+                if (key.isValid() && key.isReadable()) {
+                    worker.read();
+                }
+            }
+            selector.selectedKeys().clear();
+            long now = System.nanoTime();
+            for (Worker worker : workers) {
+                worker.checkStalled(now);
+            }
+            Match match;
+            while ((match = finishedMatches.poll()) != null) {
+                leaderboard.record(match.first.entrant, match.second.entrant,
+                        match.firstPayoff, match.secondPayoff);
+                if (listener != null) {
+                    match.notifyListener();
+                }
+                match.first.requestRelease(match.index);
+                match.second.requestRelease(match.index);
+                activeCount--;
+            }
+        }
+        long nanosEnd = System.nanoTime();
+        return new IlyaPoteminTournamentResult(leaderboard, workers.length, rounds, nanosEnd - nanosStart);
+    }
+
+    /**
+     * @return round trips of moves, from flush, which sent request, to reply, including time queued in worker
+     */
+    public IlyaPoteminMoveLatency getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return move times reported by workers, time spent by players only
+     */
+    public IlyaPoteminMoveLatency getMoveTimeLatency() {
+        return moveTimeLatency;
+    }
+
+    /**
+     * @return number of workers killed, as they did not answer move in time
+     */
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    /**
+     * @return true if worker of entrant is connected and was not killed
+     */
+    public boolean isAlive(int entrant) {
+        return workers != null && workers[entrant] != null && !workers[entrant].dead;
+    }
+
+    /**
+     * Asks workers to stop and kills ones, which did not stop in a second or never connected
+     */
+    @Override
+    public void close() throws IOException {
+        if (workers != null) {
+            for (Worker worker : workers) {
+                if (worker != null) {
+                    worker.shutdown();
+                }
+            }
+            for (Worker worker : workers) {
+                if (worker != null) {
+                    worker.awaitExit();
+                }
+            }
+        }
+        if (processes != null) {
+            for (Process process : processes) {
+                if (process != null && process.isAlive()) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+        if (selector != null) {
+            selector.close();
+        }
+    }
+
+    /**
+     * Worker is connection to worker process of one entrant
+     * Worker answers moves in request order, so only the oldest awaited move is timed, from answer to previous one
+     * or from request if nothing was awaited, and moves queued behind slow ones of other matches are not charged
+     */
+    private class Worker {
+        private final int entrant;
+        private final Process process;
+        private final SocketChannel channel;
+        private SelectionKey key;
+        private ByteBuffer output = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+        private final ByteBuffer input = ByteBuffer.allocateDirect(INITIAL_BUFFER_SIZE);
+        private final ArrayDeque<Match> awaited = new ArrayDeque<>();
+        /**
+         * Awaited matches, which move requests are still in output buffer, in request order
+         */
+        private final ArrayDeque<Match> unsent = new ArrayDeque<>();
+        private long sentBytes;
+        private long awaitedSinceNanos;
+        private boolean dead;
+        /**
+         * Until first answer move deadline is startup timeout, as player classes are loaded and compiled
+         */
+        private boolean answered;
+
+        Worker(int entrant, Process process, SocketChannel channel) {
+            this.entrant = entrant;
+            this.process = process;
+            this.channel = channel;
+        }
+
+        private ByteBuffer reserve() {
+            if (output.remaining() < IlyaPoteminMoveProtocol.REQUEST_SIZE) {
+                ByteBuffer grown = ByteBuffer.allocateDirect(output.capacity() * 2);
+                output.flip();
+                output = grown.put(output);
+            }
+            return output;
+        }
+
+        void requestReset(int slot, boolean seeded, long playerSeed) {
+            if (!dead) {
+                IlyaPoteminMoveProtocol.putReset(reserve(), slot, seeded, playerSeed);
+            }
+        }
+
+        /**
+         * @return false if worker is dead and move is invalid
+         */
+        boolean requestMove(Match match, int opponentLastMove, int[] vegetation) {
+            if (dead) {
+                return false;
+            }
+            IlyaPoteminMoveProtocol.putMove(reserve(), match.index, match.round, opponentLastMove,
+                    vegetation[0], vegetation[1], vegetation[2]);
+            match.setRequestEnd(this, sentBytes + output.position());
+            unsent.add(match);
+            if (awaited.isEmpty()) {
+                awaitedSinceNanos = System.nanoTime();
+            }
+            awaited.add(match);
+            return true;
+        }
+
+        void requestRelease(int slot) {
+            if (!dead) {
+                IlyaPoteminMoveProtocol.putRelease(reserve(), slot);
+            }
+        }
+
+        void flush() {
+            if (dead || output.position() == 0) {
+                return;
+            }
+            output.flip();
+            try {
+                sentBytes += channel.write(output);
+            } catch (IOException exception) {
+                kill();
+                return;
+            }
+            output.compact();
+            long now = System.nanoTime();
+            while (!unsent.isEmpty() && unsent.peek().getRequestEnd(this) <= sentBytes) {
+                unsent.poll().setSentNanos(this, now);
+            }
+            key.interestOps(output.position() > 0
+                    ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+
+        void read() {
+            int read;
+            try {
+                read = channel.read(input);
+            } catch (IOException exception) {
+                read = -1;
+            }
+            if (read < 0) {
+                kill();
+                return;
+            }
+            input.flip();
+            long now = System.nanoTime();
+            while (input.remaining() >= IlyaPoteminMoveProtocol.REPLY_SIZE) {
+                int slot = input.getInt();
+                int round = input.getInt();
+                int move = input.get();
+                long moveNanos = input.getLong();
+                Match match = awaited.poll();
+                if (match == null || match.index != slot || match.round != round
+                        || move < 0 || move > IlyaPoteminMatch.FIELD_COUNT) {
+                    // answers are out of request order or not moves at all, so worker is broken
+                    kill();
+                    return;
+                }
+                answered = true;
+                awaitedSinceNanos = now;
+                latency.record(now - match.getSentNanos(this));
+                moveTimeLatency.record(moveNanos);
+                match.accept(this, move);
+            }
+            input.compact();
+        }
+
+        /**
+         * Kills worker, if oldest awaited move is not answered in move timeout
+         */
+        void checkStalled(long now) {
+            if (dead || awaited.isEmpty()) {
+                return;
+            }
+            long timeoutNanos = answered ? moveTimeoutNanos : startupTimeoutNanos;
+            if (now - awaitedSinceNanos > timeoutNanos) {
+                timeoutCount++;
+                kill();
+            }
+        }
+
+        /**
+         * Closes connection and destroys process, so stalled or crashed player does not take resources
+         * Moves awaited from worker become invalid, so only its own matches are resolved
+         */
+        void kill() {
+            if (dead) {
+                return;
+            }
+            dead = true;
+            unsent.clear();
+            Match match;
+            while ((match = awaited.poll()) != null) {
+                match.resolveDead();
+            }
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException exception) {
+                // connection is dropped anyway
+            }
+            process.destroyForcibly();
+        }
+
+        void shutdown() {
+            if (dead) {
+                return;
+            }
+            IlyaPoteminMoveProtocol.putShutdown(reserve());
+            output.flip();
+            try {
+                // best effort, worker also stops at end of stream
+                channel.write(output);
+                channel.close();
+            } catch (IOException exception) {
+                kill();
+            }
+        }
+
+        void awaitExit() {
+            try {
+                if (!process.waitFor(1, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException exception) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Match is state of one match, round is played when both workers answered it
+     * Rules are same as Match has, so payoffs are same as of in-process match
+     */
+    private class Match {
+        private final int index;
+        private final Worker first;
+        private final Worker second;
+        private final long matchSeed;
+        private final int[] vegetation = new int[IlyaPoteminMatch.FIELD_COUNT];
+        /**
+         * Moves of both players by rounds, kept for round listener until match ends
+         */
+        private byte[] moves;
+        private long firstSeed;
+        private long secondSeed;
+        /**
+         * Offsets in output stream of worker, where move requests of current round end, and times they were sent
+         */
+        private long firstRequestEnd;
+        private long secondRequestEnd;
+        private long firstSentNanos;
+        private long secondSentNanos;
+        private int round;
+        private int firstMove;
+        private int secondMove;
+        private int firstLastMove;
+        private int secondLastMove;
+        private double firstPayoff;
+        private double secondPayoff;
+
+        Match(int index, Worker first, Worker second, long matchSeed) {
+            this.index = index;
+            this.first = first;
+            this.second = second;
+            this.matchSeed = matchSeed;
+        }
+
+        void begin() {
+            if (seed != null) {
+                SplittableRandom matchRandom = new SplittableRandom(matchSeed);
+                firstSeed = matchRandom.nextLong();
+                secondSeed = matchRandom.nextLong();
+            }
+            if (listener != null && listener.isRoundListener()) {
+                moves = new byte[2 * rounds];
+            }
+            first.requestReset(index, seed != null, firstSeed);
+            second.requestReset(index, seed != null, secondSeed);
+            Arrays.fill(vegetation, IlyaPoteminMatch.INITIAL_VEGETATION);
+            round = 1;
+            requestRound();
+        }
+
+        /**
+         * Requests moves of current round, rounds of dead workers are played at once with invalid moves
+         */
+        private void requestRound() {
+            while (round <= rounds) {
+                firstMove = first.requestMove(this, secondLastMove, vegetation) ? PENDING : 0;
+                secondMove = second.requestMove(this, firstLastMove, vegetation) ? PENDING : 0;
+                if (isPending()) {
+                    return;
+                }
+                playRound();
+            }
+            finishedMatches.add(this);
+        }
+
+        void accept(Worker worker, int move) {
+            if (worker == first) {
+                firstMove = move;
+            } else {
+                secondMove = move;
+            }
+            if (!isPending()) {
+                playRound();
+                requestRound();
+            }
+        }
+
+        /**
+         * Moves awaited from dead workers are invalid
+         */
+        void resolveDead() {
+            if (firstMove == PENDING && first.dead) {
+                firstMove = 0;
+            }
+            if (secondMove == PENDING && second.dead) {
+                secondMove = 0;
+            }
+            if (!isPending()) {
+                playRound();
+                requestRound();
+            }
+        }
+
+        private void playRound() {
+            firstPayoff += roundPayoff(vegetation, firstMove, secondMove);
+            secondPayoff += roundPayoff(vegetation, secondMove, firstMove);
+            IlyaPoteminMatch.advanceVegetation(vegetation, firstMove, secondMove);
+            if (moves != null) {
+                moves[2 * round - 2] = (byte) firstMove;
+                moves[2 * round - 1] = (byte) secondMove;
+            }
+            firstLastMove = firstMove;
+            secondLastMove = secondMove;
+            round++;
+        }
+
+        void setRequestEnd(Worker worker, long requestEnd) {
+            if (worker == first) {
+                firstRequestEnd = requestEnd;
+            } else {
+                secondRequestEnd = requestEnd;
+            }
+        }
+
+        long getRequestEnd(Worker worker) {
+            return worker == first ? firstRequestEnd : secondRequestEnd;
+        }
+
+        void setSentNanos(Worker worker, long sentNanos) {
+            if (worker == first) {
+                firstSentNanos = sentNanos;
+            } else {
+                secondSentNanos = sentNanos;
+            }
+        }
+
+        long getSentNanos(Worker worker) {
+            return worker == first ? firstSentNanos : secondSentNanos;
+        }
+
+        boolean isPending() {
+            return firstMove == PENDING || secondMove == PENDING;
+        }
+
+        /**
+         * Sends callbacks of ended match in order, round payoffs are recomputed from kept moves
+         */
+        void notifyListener() {
+            listener.onMatchStart(index, first.entrant, second.entrant, seed != null, firstSeed, secondSeed);
+            if (moves != null) {
+                Arrays.fill(vegetation, IlyaPoteminMatch.INITIAL_VEGETATION);
+                for (int played = 1; played <= rounds; played++) {
+                    int firstRoundMove = moves[2 * played - 2];
+                    int secondRoundMove = moves[2 * played - 1];
+                    listener.onRound(index, played, firstRoundMove, secondRoundMove,
+                            roundPayoff(vegetation, firstRoundMove, secondRoundMove),
+                            roundPayoff(vegetation, secondRoundMove, firstRoundMove));
+                    IlyaPoteminMatch.advanceVegetation(vegetation, firstRoundMove, secondRoundMove);
+                }
+                moves = null;
+            }
+            listener.onMatchEnd(index, first.entrant, second.entrant, firstPayoff, secondPayoff);
+        }
+    }
+
+    /**
+     * Same rules as Match has: players visiting the same field get nothing
+     */
+    private static double roundPayoff(int[] vegetation, int move, int otherMove) {
+        return move != 0 && move != otherMove ? IlyaPoteminMatch.payoff(vegetation[move - 1]) : 0.0;
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * MoveLatency counts move times in power of two nanosecond buckets
+ * Not thread-safe, it is filled by MatchServer thread
+ */
+public class IlyaPoteminMoveLatency {
+
+    private final long[] counts = new long[64];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    void record(long nanos) {
+        nanos = Math.max(0, nanos);
+        counts[64 - Long.numberOfLeadingZeros(nanos)]++;
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMeanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * @return upper bound of bucket containing requested percentile, but not more than max, 0 if empty
+     */
+    public long getPercentileNanos(double percentile) {
+        long target = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long cumulative = 0;
+        for (int bucket = 0; bucket < counts.length && count > 0; bucket++) {
+            cumulative += counts[bucket];
+            if (cumulative >= target) {
+                return Math.min(bucket == 0 ? 0 : (1L << bucket) - 1, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "MoveLatency(count=" + count + ", meanMicros=" + getMeanNanos() / 1000
+                + ", p50Micros=" + getPercentileNanos(50) / 1000 + ", p99Micros=" + getPercentileNanos(99) / 1000
+                + ", maxMicros=" + maxNanos / 1000 + ")";
+    }
+}
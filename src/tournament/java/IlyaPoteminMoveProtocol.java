@@ -0,0 +1,63 @@
+import java.nio.ByteBuffer;
+
+/**
+ * MoveProtocol is binary protocol between MatchServer and PlayerWorker processes
+ * Worker opens connection with HELLO: entrant:int, then server sends fixed size requests
+ * type:byte slot:int round:int payload, where slot identifies player instance of one match in worker:
+ * RESET payload is seeded:byte seed:long, worker creates or resets player of slot and seeds it,
+ * MOVE payload is opponentLastMove:byte xA:int xB:int xC:int,
+ * worker replies slot:int round:int move:byte moveNanos:long, where moveNanos is time spent in player move,
+ * RELEASE drops player of slot, SHUTDOWN stops worker
+ * Requests of one worker are handled in order, so RESET needs no reply and moves are answered in request order
+ */
+public final class IlyaPoteminMoveProtocol {
+
+    public static final int HELLO_SIZE = 4;
+    public static final int REQUEST_SIZE = 22;
+    public static final int REPLY_SIZE = 17;
+
+    public static final byte RESET = 1;
+    public static final byte MOVE = 2;
+    public static final byte RELEASE = 3;
+    public static final byte SHUTDOWN = 4;
+
+    private static final int PAYLOAD_SIZE = REQUEST_SIZE - 9;
+
+    private IlyaPoteminMoveProtocol() {
+    }
+
+    public static void putReset(ByteBuffer buffer, int slot, boolean seeded, long seed) {
+        buffer.put(RESET).putInt(slot).putInt(0)
+                .put((byte) (seeded ? 1 : 0))
+                .putLong(seed)
+                .putInt(0);
+    }
+
+    public static void putMove(ByteBuffer buffer, int slot, int round, int opponentLastMove, int xA, int xB, int xC) {
+        buffer.put(MOVE).putInt(slot).putInt(round)
+                .put((byte) opponentLastMove)
+                .putInt(xA)
+                .putInt(xB)
+                .putInt(xC);
+    }
+
+    public static void putRelease(ByteBuffer buffer, int slot) {
+        buffer.put(RELEASE).putInt(slot).putInt(0);
+        pad(buffer);
+    }
+
+    public static void putShutdown(ByteBuffer buffer) {
+        buffer.put(SHUTDOWN).putInt(0).putInt(0);
+        pad(buffer);
+    }
+
+    public static void putReply(ByteBuffer buffer, int slot, int round, int move, long moveNanos) {
+        buffer.putInt(slot).putInt(round).put((byte) move).putLong(moveNanos);
+    }
+
+    private static void pad(ByteBuffer buffer) {
+        for (int i = 0; i < PAYLOAD_SIZE; i++) {
+            buffer.put((byte) 0);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+import com.company.Player;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+
+/**
+ * PlayerWorker is main class of process started by MatchServer for one entrant
+ * It creates player instances of given class, one per match slot, and answers move requests of MoveProtocol
+ * Requests are read in batches, replies of batch are written at once, but at least once per FLUSH_INTERVAL_NANOS,
+ * so server sees progress of long batch and times each move from answer to previous one
+ * Worker connects before player class is loaded, so class, which fails or hangs in initialization,
+ * only makes moves of its entrant invalid
+ * Player is seeded by its public setSeed(long) method, if class has one
+ * Usage: PlayerWorker host port entrant playerClassName
+ */
+public class IlyaPoteminPlayerWorker {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long FLUSH_INTERVAL_NANOS = 1_000_000L;
+
+    private final Class<? extends Player> playerClass;
+    private final Method seedMethod;
+    private Player[] players = new Player[64];
+
+    IlyaPoteminPlayerWorker(Class<? extends Player> playerClass) {
+        this.playerClass = playerClass;
+        Method method;
+        try {
+            method = playerClass.getMethod("setSeed", long.class);
+        } catch (NoSuchMethodException exception) {
+            method = null;
+        }
+        this.seedMethod = method;
+    }
+
+    public static void main(String[] args) throws IOException {
+        String host = args[0];
+        int port = Integer.parseInt(args[1]);
+        int entrant = Integer.parseInt(args[2]);
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress(host, port))) {
+            channel.socket().setTcpNoDelay(true);
+            ByteBuffer hello = ByteBuffer.allocate(IlyaPoteminMoveProtocol.HELLO_SIZE).putInt(entrant);
+            hello.flip();
+            while (hello.hasRemaining()) {
+                channel.write(hello);
+            }
+            IlyaPoteminPlayerWorker worker;
+            try {
+                worker = new IlyaPoteminPlayerWorker(Class.forName(args[3]).asSubclass(Player.class));
+            } catch (ReflectiveOperationException | LinkageError | RuntimeException exception) {
+                // closed connection makes server treat moves of entrant as invalid
+                System.err.println("Worker " + entrant + " can not load player " + args[3] + ": " + exception);
+                return;
+            }
+            worker.serve(channel);
+        }
+    }
+
+    /**
+     * Serves requests until SHUTDOWN or end of stream
+     */
+    void serve(SocketChannel channel) throws IOException {
+        ByteBuffer input = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        ByteBuffer output = ByteBuffer.allocateDirect(BUFFER_SIZE / IlyaPoteminMoveProtocol.REQUEST_SIZE
+                * IlyaPoteminMoveProtocol.REPLY_SIZE + IlyaPoteminMoveProtocol.REPLY_SIZE);
+        while (channel.read(input) >= 0) {
+            input.flip();
+            long flushNanos = System.nanoTime();
+            while (input.remaining() >= IlyaPoteminMoveProtocol.REQUEST_SIZE) {
+                if (!handle(input, output)) {
+                    return;
+                }
+                long now = System.nanoTime();
+                if (now - flushNanos >= FLUSH_INTERVAL_NANOS) {
+                    write(channel, output);
+                    flushNanos = now;
+                }
+            }
+            input.compact();
+            write(channel, output);
+        }
+    }
+
+    private static void write(SocketChannel channel, ByteBuffer output) throws IOException {
+        output.flip();
+        while (output.hasRemaining()) {
+            channel.write(output);
+        }
+        output.clear();
+    }
+
+    /**
+     * @return false if SHUTDOWN was received
+     */
+    private boolean handle(ByteBuffer input, ByteBuffer output) {
+        int start = input.position();
+        byte type = input.get();
+        int slot = input.getInt();
+        int round = input.getInt();
+        switch (type) {
+            case IlyaPoteminMoveProtocol.RESET:
+                reset(slot, input.get() != 0, input.getLong());
+                break;
+            case IlyaPoteminMoveProtocol.MOVE:
+                int opponentLastMove = input.get();
+                int xA = input.getInt();
+                int xB = input.getInt();
+                int xC = input.getInt();
+                long nanosStart = System.nanoTime();
+                int move = move(slot, opponentLastMove, xA, xB, xC);
+                IlyaPoteminMoveProtocol.putReply(output, slot, round, move, System.nanoTime() - nanosStart);
+                break;
+            case IlyaPoteminMoveProtocol.RELEASE:
+                if (slot < players.length) {
+                    players[slot] = null;
+                }
+                break;
+            case IlyaPoteminMoveProtocol.SHUTDOWN:
+                return false;
+            default:
+                throw new IllegalStateException("Unknown request type " + type);
+        }
+        input.position(start + IlyaPoteminMoveProtocol.REQUEST_SIZE);
+        return true;
+    }
+
+    private void reset(int slot, boolean seeded, long seed) {
+        if (slot >= players.length) {
+            players = Arrays.copyOf(players, Math.max(players.length * 2, slot + 1));
+        }
+        try {
+            Player player = players[slot];
+            if (player == null) {
+                player = playerClass.getDeclaredConstructor().newInstance();
+                players[slot] = player;
+            }
+            if (seeded && seedMethod != null) {
+                seedMethod.invoke(player, seed);
+            }
+            player.reset();
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            players[slot] = null;
+        }
+    }
+
+    /**
+     * Same as Match treats moves, invalid move or failure is reported as 0
+     */
+    private int move(int slot, int opponentLastMove, int xA, int xB, int xC) {
+        Player player = slot < players.length ? players[slot] : null;
+        if (player == null) {
+            return 0;
+        }
+        try {
+            int move = player.move(opponentLastMove, xA, xB, xC);
+            return move >= 1 && move <= IlyaPoteminMatch.FIELD_COUNT ? move : 0;
+        } catch (RuntimeException exception) {
+            return 0;
+        }
+    }
+}
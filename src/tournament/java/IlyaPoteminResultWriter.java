@@ -0,0 +1,208 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * ResultWriter is match listener, which stores outcomes to file in compact binary format
+ * Game threads encode records into their own direct buffers, full buffers are written to FileChannel
+ * by single writer thread and then reused, so game threads neither lock nor do IO
+ * Each game thread owns one buffer and number of buffers in flight to writer is bounded,
+ * so if disk is slower than games, game threads wait for free buffer
+ * Format: MAGIC, VERSION, then records, each starting with tag byte:
+ * MATCH_TAG matchIndex:int firstEntrant:int secondEntrant:int firstPayoff:double secondPayoff:double
+ * ROUND_TAG matchIndex:int round:int firstMove:byte secondMove:byte firstPayoff:double secondPayoff:double
+ */
+public class IlyaPoteminResultWriter implements IlyaPoteminMatchListener, AutoCloseable {
+
+    public static final int MAGIC = 0x49505253;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 8;
+    public static final byte MATCH_TAG = 1;
+    public static final byte ROUND_TAG = 2;
+    public static final int MATCH_RECORD_SIZE = 29;
+    public static final int ROUND_RECORD_SIZE = 27;
+
+    static final int DEFAULT_BUFFER_SIZE = 1 << 18;
+    static final int DEFAULT_BUFFER_COUNT = 16;
+
+    private static final ByteBuffer END_OF_STREAM = ByteBuffer.allocate(0);
+
+    private final FileChannel channel;
+    private final boolean writeRounds;
+    private final int bufferSize;
+    private final int bufferCount;
+    private final BlockingQueue<ByteBuffer> freeBuffers;
+    private final BlockingQueue<ByteBuffer> filledBuffers = new LinkedBlockingQueue<>();
+    private final Queue<ThreadBuffer> threadBuffers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<ThreadBuffer> threadBuffer = ThreadLocal.withInitial(this::registerThreadBuffer);
+    private final Thread writerThread;
+    private int allocatedBuffers;
+    private volatile IOException writeException;
+    private long bytesWritten;
+
+    public IlyaPoteminResultWriter(Path path, boolean writeRounds) throws IOException {
+        this(path, writeRounds, DEFAULT_BUFFER_SIZE, DEFAULT_BUFFER_COUNT);
+    }
+
+    public IlyaPoteminResultWriter(Path path, boolean writeRounds, int bufferSize, int bufferCount)
+            throws IOException {
+        if (bufferSize < MATCH_RECORD_SIZE || bufferCount < 1) {
+            throw new IllegalArgumentException("Buffer should fit a record, got " + bufferCount + " x " + bufferSize);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.writeRounds = writeRounds;
+        this.bufferSize = bufferSize;
+        this.bufferCount = bufferCount;
+        this.freeBuffers = new LinkedBlockingQueue<>();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+        header.flip();
+        while (header.hasRemaining()) {
+            bytesWritten += channel.write(header);
+        }
+        writerThread = new Thread(this::drain, "IlyaPoteminResultWriter");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public boolean isRoundListener() {
+        return writeRounds;
+    }
+
+    @Override
+    public void onRound(int matchIndex, int round, int firstMove, int secondMove,
+                        double firstPayoff, double secondPayoff) {
+        ByteBuffer buffer = reserve(ROUND_RECORD_SIZE);
+        buffer.put(ROUND_TAG)
+                .putInt(matchIndex)
+                .putInt(round)
+                .put((byte) firstMove)
+                .put((byte) secondMove)
+                .putDouble(firstPayoff)
+                .putDouble(secondPayoff);
+    }
+
+    @Override
+    public void onMatchEnd(int matchIndex, int firstEntrant, int secondEntrant,
+                           double firstPayoff, double secondPayoff) {
+        ByteBuffer buffer = reserve(MATCH_RECORD_SIZE);
+        buffer.put(MATCH_TAG)
+                .putInt(matchIndex)
+                .putInt(firstEntrant)
+                .putInt(secondEntrant)
+                .putDouble(firstPayoff)
+                .putDouble(secondPayoff);
+    }
+
+    /**
+     * @return buffer of calling thread with at least size bytes remaining
+     */
+    private ByteBuffer reserve(int size) {
+        ThreadBuffer holder = threadBuffer.get();
+        if (holder.buffer.remaining() < size) {
+            submit(holder.buffer);
+            holder.buffer = takeFreeBuffer();
+        }
+        return holder.buffer;
+    }
+
+    private ThreadBuffer registerThreadBuffer() {
+        ThreadBuffer holder = new ThreadBuffer(ByteBuffer.allocateDirect(bufferSize));
+        threadBuffers.add(holder);
+        return holder;
+    }
+
+    private ByteBuffer takeFreeBuffer() {
+        ByteBuffer buffer = freeBuffers.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        synchronized (this) {
+            if (allocatedBuffers < bufferCount) {
+                allocatedBuffers++;
+                return ByteBuffer.allocateDirect(bufferSize);
+            }
+        }
+        try {
+            return freeBuffers.take();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for result buffer", exception);
+        }
+    }
+
+    private void submit(ByteBuffer buffer) {
+        buffer.flip();
+        filledBuffers.add(buffer);
+    }
+
+    private void drain() {
+        while (true) {
+            ByteBuffer buffer;
+            try {
+                buffer = filledBuffers.take();
+            } catch (InterruptedException exception) {
+                return;
+            }
+            if (buffer == END_OF_STREAM) {
+                return;
+            }
+            try {
+                while (buffer.hasRemaining() && writeException == null) {
+                    bytesWritten += channel.write(buffer);
+                }
+            } catch (IOException exception) {
+                // buffers are still recycled, so game threads are not blocked, error is thrown on close
+                writeException = exception;
+            }
+            buffer.clear();
+            freeBuffers.offer(buffer);
+        }
+    }
+
+    /**
+     * Writes records of all threads and closes file, should be called after tournament is played
+     */
+    @Override
+    public void close() throws IOException {
+        for (ThreadBuffer holder : threadBuffers) {
+            if (holder.buffer.position() > 0) {
+                submit(holder.buffer);
+                holder.buffer = END_OF_STREAM;
+            }
+        }
+        filledBuffers.add(END_OF_STREAM);
+        try {
+            writerThread.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            channel.close();
+        }
+        if (writeException != null) {
+            throw writeException;
+        }
+    }
+
+    /**
+     * @return bytes written to file, valid after close
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private static class ThreadBuffer {
+        private ByteBuffer buffer;
+
+        ThreadBuffer(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
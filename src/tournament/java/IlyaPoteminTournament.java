@@ -0,0 +1,200 @@
+import com.company.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Tournament plays round-robin schedule between all registered entrants
+ * Schedule is sharded across work-stealing ForkJoinPool, each worker thread reuses its own player instances
+ * (resetting them before each match) and fills its own leaderboard, all leaderboards are merged at the end
+ * Seeded tournament splits its seed into one stream per match in schedule order, so each match
+ * is replayed exactly regardless of parallelism
+ */
+public class IlyaPoteminTournament {
+
+    private static final int DEFAULT_MATCHES_PER_TASK = 16;
+
+    private final List<String> names = new ArrayList<>();
+    private final List<Supplier<? extends Player>> suppliers = new ArrayList<>();
+    private final List<ObjLongConsumer<Player>> seeders = new ArrayList<>();
+    private final int rounds;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int matchesPerTask = DEFAULT_MATCHES_PER_TASK;
+    private IlyaPoteminMatchListener listener;
+    private Long seed;
+
+    public IlyaPoteminTournament(int rounds) {
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("rounds should be positive, got " + rounds);
+        }
+        this.rounds = rounds;
+    }
+
+    public IlyaPoteminTournament with(String name, Supplier<? extends Player> playerSupplier) {
+        names.add(name);
+        suppliers.add(playerSupplier);
+        seeders.add(null);
+        return this;
+    }
+
+    /**
+     * Seeder is called before player reset with seed of player in current match, if tournament is seeded
+     */
+    @SuppressWarnings("unchecked")
+    public <P extends Player> IlyaPoteminTournament with(String name, Supplier<P> playerSupplier,
+                                                         ObjLongConsumer<? super P> seeder) {
+        names.add(name);
+        suppliers.add(playerSupplier);
+        seeders.add((player, playerSeed) -> seeder.accept((P) player, playerSeed));
+        return this;
+    }
+
+    public IlyaPoteminTournament withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public IlyaPoteminTournament withParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public IlyaPoteminTournament withMatchesPerTask(int matchesPerTask) {
+        this.matchesPerTask = Math.max(1, matchesPerTask);
+        return this;
+    }
+
+    /**
+     * Tournament without listener is quiet: no per-round work is done besides playing
+     */
+    public IlyaPoteminTournament withListener(IlyaPoteminMatchListener listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    public int getMatchCount() {
+        int size = names.size();
+        return size * (size - 1) / 2;
+    }
+
+    public IlyaPoteminTournamentResult play() {
+        int matchCount = getMatchCount();
+        int[] firstEntrants = new int[matchCount];
+        int[] secondEntrants = new int[matchCount];
+        long[] matchSeeds = new long[matchCount];
+        SplittableRandom tournamentRandom = seed == null ? null : new SplittableRandom(seed);
+        int matchIndex = 0;
+        for (int first = 0; first < names.size(); first++) {
+            for (int second = first + 1; second < names.size(); second++) {
+                firstEntrants[matchIndex] = first;
+                secondEntrants[matchIndex] = second;
+                if (tournamentRandom != null) {
+                    matchSeeds[matchIndex] = tournamentRandom.split().nextLong();
+                }
+                matchIndex++;
+            }
+        }
+        Queue<Worker> workers = new ConcurrentLinkedQueue<>();
+        ThreadLocal<Worker> threadWorker = ThreadLocal.withInitial(() -> {
+            Worker worker = new Worker();
+            workers.add(worker);
+            return worker;
+        });
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long nanosStart = System.nanoTime();
+            pool.invoke(new MatchRangeTask(threadWorker, firstEntrants, secondEntrants, matchSeeds, 0, matchCount));
+            long nanosEnd = System.nanoTime();
+            IlyaPoteminLeaderboard leaderboard = new IlyaPoteminLeaderboard(names);
+            for (Worker worker : workers) {
+                leaderboard.merge(worker.leaderboard);
+            }
+            return new IlyaPoteminTournamentResult(leaderboard, parallelism, rounds, nanosEnd - nanosStart);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Worker is confined to single pool thread
+     */
+    private class Worker {
+        private final Player[] players = new Player[suppliers.size()];
+        private final IlyaPoteminMatch match = new IlyaPoteminMatch(rounds);
+        private final IlyaPoteminLeaderboard leaderboard = new IlyaPoteminLeaderboard(names);
+
+        void play(int matchIndex, int first, int second, long matchSeed) {
+            long firstSeed = 0;
+            long secondSeed = 0;
+            if (seed != null) {
+                SplittableRandom matchRandom = new SplittableRandom(matchSeed);
+                firstSeed = matchRandom.nextLong();
+                secondSeed = matchRandom.nextLong();
+            }
+            if (listener != null) {
+                listener.onMatchStart(matchIndex, first, second, seed != null, firstSeed, secondSeed);
+            }
+            match.play(player(first, firstSeed), player(second, secondSeed), matchIndex, listener);
+            leaderboard.record(first, second, match.getFirstPayoff(), match.getSecondPayoff());
+            if (listener != null) {
+                listener.onMatchEnd(matchIndex, first, second, match.getFirstPayoff(), match.getSecondPayoff());
+            }
+        }
+
+        private Player player(int entrant, long playerSeed) {
+            Player player = players[entrant];
+            if (player == null) {
+                player = suppliers.get(entrant).get();
+                players[entrant] = player;
+            }
+            if (seed != null && seeders.get(entrant) != null) {
+                seeders.get(entrant).accept(player, playerSeed);
+            }
+            player.reset();
+            return player;
+        }
+    }
+
+    private class MatchRangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ThreadLocal<Worker> threadWorker;
+        private final int[] firstEntrants;
+        private final int[] secondEntrants;
+        private final long[] matchSeeds;
+        private final int from;
+        private final int to;
+
+        MatchRangeTask(ThreadLocal<Worker> threadWorker, int[] firstEntrants, int[] secondEntrants,
+                       long[] matchSeeds, int from, int to) {
+            this.threadWorker = threadWorker;
+            this.firstEntrants = firstEntrants;
+            this.secondEntrants = secondEntrants;
+            this.matchSeeds = matchSeeds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= matchesPerTask) {
+                Worker worker = threadWorker.get();
+                for (int matchIndex = from; matchIndex < to; matchIndex++) {
+                    worker.play(matchIndex, firstEntrants[matchIndex], secondEntrants[matchIndex],
+                            matchSeeds[matchIndex]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new MatchRangeTask(threadWorker, firstEntrants, secondEntrants, matchSeeds, from, middle),
+                    new MatchRangeTask(threadWorker, firstEntrants, secondEntrants, matchSeeds, middle, to));
+        }
+    }
+}
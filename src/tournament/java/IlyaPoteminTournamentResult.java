@@ -0,0 +1,50 @@
+/**
+ * TournamentResult holds final leaderboard together with throughput of the tournament
+ */
+public class IlyaPoteminTournamentResult {
+
+    private final IlyaPoteminLeaderboard leaderboard;
+    private final int parallelism;
+    private final int rounds;
+    private final long elapsedNanos;
+
+    public IlyaPoteminTournamentResult(IlyaPoteminLeaderboard leaderboard, int parallelism, int rounds,
+                                       long elapsedNanos) {
+        this.leaderboard = leaderboard;
+        this.parallelism = parallelism;
+        this.rounds = rounds;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public IlyaPoteminLeaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getMatchesPerSecond() {
+        return leaderboard.getMatchCount() * 1e9 / Math.max(1, elapsedNanos);
+    }
+
+    public double getRoundsPerSecond() {
+        return getMatchesPerSecond() * rounds;
+    }
+
+    public String summary() {
+        return String.format("Tournament(parallelism=%d, matches=%d, rounds=%d, millis=%.1f, "
+                        + "matches/s=%.1f, rounds/s=%.1f)",
+                parallelism, leaderboard.getMatchCount(), rounds, elapsedNanos / 1e6,
+                getMatchesPerSecond(), getRoundsPerSecond());
+    }
+
+    @Override
+    public String toString() {
+        return summary() + "\n" + leaderboard;
+    }
+}